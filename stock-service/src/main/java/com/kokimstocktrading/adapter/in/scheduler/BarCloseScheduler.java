@@ -0,0 +1,40 @@
+package com.kokimstocktrading.adapter.in.scheduler;
+
+import com.kokimstocktrading.application.candle.port.out.CloseElapsedBarPort;
+import com.kokimstocktrading.application.monitoring.MonitorPriceService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 봉 마감 스케줄러 - 마감 이후 체결이 없는 봉(장 마감, 체결 없는 분)의 종가 기준 조건 확인
+ * 실시간 봉 시계열의 일봉 이상도 함께 닫아, 종가 기준 값(이평선 터치 가격 등)을 다음 장 시작 전에 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BarCloseScheduler {
+
+  private final MonitorPriceService monitorPriceService;
+  private final CloseElapsedBarPort closeElapsedBarPort;
+
+  /**
+   * 평일 매분 1초에 마감 시각이 지난 봉을 닫음 (직전 분의 마지막 체결이 도착할 여유 1초)
+   * 일봉 이상은 종가 단일가 체결을 기다리므로 15:30:01 이 아니라 여유 시간이 지난 15:31:01 에 닫힘
+   */
+  @Scheduled(cron = "1 * * * * MON-FRI", zone = "Asia/Seoul")
+  public void closeElapsedBars() {
+    long nowMillis = System.currentTimeMillis();
+    try {
+      closeElapsedBarPort.closeElapsedBars(nowMillis);
+    } catch (Exception e) {
+      log.error("실시간 봉 마감 처리 중 예외 발생", e);
+    }
+    try {
+      monitorPriceService.closeElapsedBars(nowMillis);
+    } catch (Exception e) {
+      log.error("봉 마감 처리 중 예외 발생", e);
+    }
+  }
+}
@@ -1,13 +1,15 @@
 package com.kokimstocktrading.adapter.in.web.kiwoom;
 
 import com.common.WebAdapter;
+import com.kokimstocktrading.application.realtime.out.LoadLatestQuotePort;
+import com.kokimstocktrading.application.realtime.out.SubscribeOrderBookPort;
 import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
 import com.kokimstocktrading.config.SseConnectionManager;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.time.Duration;
-import java.util.Arrays;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,19 +31,23 @@ import reactor.core.publisher.Flux;
 public class KiwoomRealTimeController {
 
   private final SubscribeRealTimeQuotePort subscribeRealTimeQuotePort;
+  private final LoadLatestQuotePort loadLatestQuotePort;
+  private final SubscribeOrderBookPort subscribeOrderBookPort;
   private final SseConnectionManager sseConnectionManager;
 
   @GetMapping(value = "/quote", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-  @Operation(summary = "실시간 주식 시세 조회", description = "지정한 종목들의 실시간 시세를 Server-Sent Events로 제공합니다.")
+  @Operation(summary = "실시간 주식 시세 조회", description = "지정한 종목들의 실시간 시세를 Server-Sent Events로 제공합니다. 연결 직후 종목별 최신 시세를 하나씩 먼저 보냅니다.")
   public Flux<ServerSentEvent<RealTimeQuoteResponse>> getStockRealTimeQuote(
       @Parameter(description = "종목코드(여러 개인 경우 콤마로 구분)", example = "005930,035720")
-      @RequestParam String stockCodes) {
+      @RequestParam String stockCodes,
+      @Parameter(description = "전달 방식 (CONFLATED: 수신이 밀리면 종목별 최신 시세만 전달, STRICT: 모든 체결 전달 - 밀린 시세가 한도를 넘으면 스트림 종료)")
+      @RequestParam(defaultValue = "CONFLATED") QuoteDeliveryMode delivery) {
 
-    List<String> stockCodeList = Arrays.asList(stockCodes.split(","));
-    log.info("실시간 시세 구독 요청: {}", stockCodeList);
+    List<String> stockCodeList = StockCodeParameter.parse(stockCodes);
+    log.info("실시간 시세 구독 요청: {}, 전달 방식: {}", stockCodeList, delivery);
 
-    // 실시간 시세 구독 및 응답 변환
-    return subscribeRealTimeQuotePort.subscribeStockQuote(stockCodeList)
+    // 최신 시세로 시작하는 실시간 시세 구독 및 응답 변환
+    return subscribeRealTimeQuotePort.subscribeStockQuoteWithSnapshot(stockCodeList, delivery)
         .map(RealTimeQuoteResponse::from)
         .map(data -> ServerSentEvent.<RealTimeQuoteResponse>builder()
             .id(data.stockCode())
@@ -59,13 +65,50 @@ public class KiwoomRealTimeController {
         .doOnCancel(() -> log.info("실시간 시세 구독 취소: {}", stockCodeList));
   }
 
+  @GetMapping("/quote/snapshot")
+  @Operation(summary = "최신 시세 일괄 조회", description = "지정한 종목들의 마지막 수신 시세를 조회합니다. 수신한 적이 없는 종목은 제외됩니다.")
+  public List<RealTimeQuoteResponse> getLatestQuotes(
+      @Parameter(description = "종목코드(여러 개인 경우 콤마로 구분)", example = "005930,035720")
+      @RequestParam String stockCodes) {
+
+    List<String> stockCodeList = StockCodeParameter.parse(stockCodes);
+    return loadLatestQuotePort.findLatestQuotes(stockCodeList).stream()
+        .map(RealTimeQuoteResponse::from)
+        .toList();
+  }
+
+  @GetMapping(value = "/orderbook", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "실시간 호가잔량 조회", description = "지정한 종목들의 매도/매수 10단계 호가잔량을 Server-Sent Events로 제공합니다. 수신이 밀리면 종목별 최신 호가만 보냅니다.")
+  public Flux<ServerSentEvent<OrderBookResponse>> getOrderBook(
+      @Parameter(description = "종목코드(여러 개인 경우 콤마로 구분)", example = "005930,035720")
+      @RequestParam String stockCodes) {
+
+    List<String> stockCodeList = StockCodeParameter.parse(stockCodes);
+    log.info("실시간 호가잔량 구독 요청: {}", stockCodeList);
+
+    return subscribeOrderBookPort.subscribeOrderBook(stockCodeList)
+        .map(OrderBookResponse::from)
+        .map(data -> ServerSentEvent.<OrderBookResponse>builder()
+            .id(data.stockCode())
+            .event("orderbook")
+            .data(data)
+            .build())
+        .mergeWith(Flux.interval(Duration.ofSeconds(30))
+            .map(i -> ServerSentEvent.<OrderBookResponse>builder()
+                .event("heartbeat")
+                .build()))
+        .takeUntilOther(sseConnectionManager.getShutdownSignal())
+        .doOnComplete(() -> log.info("실시간 호가잔량 구독 종료: {}", stockCodeList))
+        .doOnCancel(() -> log.info("실시간 호가잔량 구독 취소: {}", stockCodeList));
+  }
+
   @DeleteMapping("/quote")
   @Operation(summary = "실시간 시세 구독 해지", description = "지정한 종목들의 실시간 시세 구독을 해지합니다.")
   public boolean unsubscribeStockQuote(
       @Parameter(description = "종목코드(여러 개인 경우 콤마로 구분)", example = "005930,035720")
       @RequestParam String stockCodes) {
 
-    List<String> stockCodeList = Arrays.asList(stockCodes.split(","));
+    List<String> stockCodeList = StockCodeParameter.parse(stockCodes);
     log.info("실시간 시세 구독 해지 요청: {}", stockCodeList);
 
     return subscribeRealTimeQuotePort.unsubscribeStockQuote(stockCodeList);
@@ -3,13 +3,11 @@ package com.kokimstocktrading.adapter.in.web.kiwoom;
 import com.common.WebAdapter;
 import com.kokimstocktrading.config.SseConnectionManager;
 import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.PostConstruct;
 import java.time.Duration;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
 import java.util.Map;
 import java.util.Random;
 import java.util.concurrent.ConcurrentHashMap;
@@ -33,6 +31,7 @@ import reactor.core.publisher.Sinks;
 public class MockRealTimeController {
 
   private final SseConnectionManager sseConnectionManager;
+  private final StockSymbolRegistry stockSymbolRegistry;
 
   private static final Map<String, StockMockData> STOCK_MOCKS = new ConcurrentHashMap<>();
   private static final String[] STOCK_CODES = {"005930", "035720", "000660", "373220", "207940"};
@@ -55,11 +54,21 @@ public class MockRealTimeController {
       .onBackpressureBuffer();
   private final Flux<RealTimeQuote> mockDataFlux = mockDataSink.asFlux().cache(100);
 
+  // 목 종목의 심볼 ID (고정된 목 종목만 등록)
+  private final Map<String, Integer> symbolIds = new ConcurrentHashMap<>();
+
   // 목 데이터 생성 상태
   private final AtomicInteger activeSubscribers = new AtomicInteger(0);
   private boolean isGeneratingData = false;
   private final Random random = new Random();
 
+  @PostConstruct
+  public void init() {
+    for (String stockCode : STOCK_CODES) {
+      symbolIds.put(stockCode, stockSymbolRegistry.idOf(stockCode));
+    }
+  }
+
   @GetMapping(value = "/realtime/quote", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
   @Operation(summary = "Mock 실시간 주식 시세 조회", description = "테스트용 목 실시간 주식 시세를 Server-Sent Events로 제공합니다.")
   public Flux<ServerSentEvent<RealTimeQuoteResponse>> getMockStockRealTimeQuote() {
@@ -147,25 +156,21 @@ public class MockRealTimeController {
     int bidPrice = currentPrice - 100;
     int tradingVolume = random.nextInt(500) + 10;
 
-    // 현재 시간
-    String tradeTime = LocalTime.now().format(DateTimeFormatter.ofPattern("HHmmss"));
-
     return RealTimeQuote.builder()
-        .type("0B")
-        .name(mockData.stockName)
+        .symbolId(symbolIds.get(stockCode))
         .item(stockCode)
-        .currentPrice(String.valueOf(currentPrice))
-        .priceChange(String.valueOf(dailyChange))
-        .changeRate(String.format("%.2f", changeRate))
-        .askPrice(String.valueOf(askPrice))
-        .bidPrice(String.valueOf(bidPrice))
-        .tradingVolume("+" + tradingVolume)
-        .accumulatedVolume(String.valueOf(mockData.totalVolume))
-        .accumulatedAmount(String.valueOf(mockData.totalVolume * currentPrice / 1000))
-        .openPrice(String.valueOf(mockData.basePrice))
-        .highPrice(String.valueOf(Math.max(currentPrice, mockData.basePrice)))
-        .lowPrice(String.valueOf(Math.min(currentPrice, mockData.basePrice)))
-        .tradeTime(parseTradeTime(tradeTime))
+        .currentPrice(currentPrice)
+        .priceChange(dailyChange)
+        .changeRateBasisPoints((int) Math.round(changeRate * 100))
+        .askPrice(askPrice)
+        .bidPrice(bidPrice)
+        .tradingVolume(tradingVolume)
+        .accumulatedVolume(mockData.totalVolume)
+        .accumulatedAmount((long) mockData.totalVolume * currentPrice / 1000)
+        .openPrice(mockData.basePrice)
+        .highPrice(Math.max(currentPrice, mockData.basePrice))
+        .lowPrice(Math.min(currentPrice, mockData.basePrice))
+        .tradeTimeEpochMillis(System.currentTimeMillis())
         .build();
   }
 
@@ -190,25 +195,4 @@ public class MockRealTimeController {
       this.updateCount = 0;
     }
   }
-
-  /**
-   * 체결시간 문자열(HHMMSS)을 LocalDateTime으로 변환
-   *
-   * @param tradeTimeStr 체결시간 (예: "161402")
-   * @return LocalDateTime (오늘 날짜 + 시분초)
-   */
-  private LocalDateTime parseTradeTime(String tradeTimeStr) {
-    if (tradeTimeStr == null || tradeTimeStr.length() != 6) {
-      return LocalDateTime.now(); // 기본값
-    }
-
-    try {
-      DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HHmmss");
-      LocalTime time = LocalTime.parse(tradeTimeStr, timeFormatter);
-      return LocalDateTime.of(LocalDate.now(), time);
-    } catch (Exception e) {
-      log.warn("체결시간 파싱 실패: {}", tradeTimeStr, e);
-      return LocalDateTime.now();
-    }
-  }
 }
@@ -0,0 +1,62 @@
+package com.kokimstocktrading.adapter.in.web.kiwoom;
+
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 호가잔량 응답 DTO
+ */
+public record OrderBookResponse(
+    @Schema(description = "종목코드", example = "005930")
+    String stockCode,
+
+    @Schema(description = "매도호가 (1단계부터)")
+    List<Level> asks,
+
+    @Schema(description = "매수호가 (1단계부터)")
+    List<Level> bids,
+
+    @Schema(description = "매도호가총잔량", example = "1254321")
+    long totalAskQuantity,
+
+    @Schema(description = "매수호가총잔량", example = "987654")
+    long totalBidQuantity,
+
+    @Schema(description = "호가시간", example = "2025-01-02T09:00:01")
+    String quoteTime
+) {
+
+  public record Level(
+      @Schema(description = "호가", example = "70100")
+      long price,
+
+      @Schema(description = "잔량", example = "1520")
+      long quantity
+  ) {
+
+  }
+
+  /**
+   * 도메인 모델에서 응답 DTO로 변환 (호가가 없는 단계는 제외)
+   */
+  public static OrderBookResponse from(OrderBook orderBook) {
+    return new OrderBookResponse(
+        orderBook.item(),
+        levels(orderBook.askPrices(), orderBook.askQuantities()),
+        levels(orderBook.bidPrices(), orderBook.bidQuantities()),
+        orderBook.totalAskQuantity(),
+        orderBook.totalBidQuantity(),
+        orderBook.quoteTime().toString()
+    );
+  }
+
+  private static List<Level> levels(long[] prices, long[] quantities) {
+    List<Level> levels = new ArrayList<>(prices.length);
+    for (int i = 0; i < prices.length && prices[i] > 0; i++) {
+      levels.add(new Level(prices[i], quantities[i]));
+    }
+    return levels;
+  }
+}
@@ -48,23 +48,39 @@ public record RealTimeQuoteResponse(
 ) {
 
   /**
-   * 도메인 모델에서 응답 DTO로 변환
+   * 도메인 모델에서 응답 DTO로 변환 - 키움 원본과 같이 가격은 전일 종가 대비 등락 부호(+/-), 거래량은 매수/매도 체결 부호를 붙임
    */
   public static RealTimeQuoteResponse from(RealTimeQuote quote) {
+    long previousClose = quote.currentPrice() - quote.priceChange();
     return new RealTimeQuoteResponse(
         quote.item(),
-        quote.currentPrice(),
-        quote.priceChange(),
-        quote.changeRate(),
-        quote.askPrice(),
-        quote.bidPrice(),
-        quote.tradingVolume(),
-        quote.accumulatedVolume(),
-        quote.accumulatedAmount(),
-        quote.openPrice(),
-        quote.highPrice(),
-        quote.lowPrice(),
+        signedPrice(quote.currentPrice(), previousClose),
+        signed(quote.priceChange()),
+        quote.changeRateBasisPoints() > 0
+            ? "+" + quote.changeRate().toPlainString() : quote.changeRate().toPlainString(),
+        signedPrice(quote.askPrice(), previousClose),
+        signedPrice(quote.bidPrice(), previousClose),
+        signed(quote.tradingVolume()),
+        String.valueOf(quote.accumulatedVolume()),
+        String.valueOf(quote.accumulatedAmount()),
+        signedPrice(quote.openPrice(), previousClose),
+        signedPrice(quote.highPrice(), previousClose),
+        signedPrice(quote.lowPrice(), previousClose),
         quote.tradeTime().toString()
     );
   }
+
+  private static String signed(long value) {
+    return value > 0 ? "+" + value : String.valueOf(value);
+  }
+
+  /**
+   * 전일 종가보다 높으면 +, 낮으면 - (같으면 부호 없음)
+   */
+  private static String signedPrice(long price, long previousClose) {
+    if (price == 0 || price == previousClose) {
+      return String.valueOf(price);
+    }
+    return (price > previousClose ? "+" : "-") + price;
+  }
 }
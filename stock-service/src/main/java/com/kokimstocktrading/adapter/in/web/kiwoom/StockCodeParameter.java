@@ -0,0 +1,40 @@
+package com.kokimstocktrading.adapter.in.web.kiwoom;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 파라미터의 종목코드 목록 검증 - 실시간 구독은 종목코드를 심볼 ID로 등록하므로, 형식이 맞는 코드만 넘김
+ */
+final class StockCodeParameter {
+
+  // KRX 단축코드 (숫자/영문 대문자 6자리)
+  private static final Pattern STOCK_CODE = Pattern.compile("[0-9A-Z]{6}");
+  // 한 요청에서 구독할 수 있는 최대 종목 수 (키움 그룹 하나의 등록 한도)
+  private static final int MAX_STOCK_CODES = 100;
+
+  private StockCodeParameter() {
+  }
+
+  /**
+   * 콤마로 구분된 종목코드 목록 (형식이 틀린 코드가 있으면 IllegalArgumentException)
+   */
+  static List<String> parse(String stockCodes) {
+    List<String> codes = Arrays.stream(stockCodes.split(","))
+        .map(String::trim)
+        .filter(code -> !code.isEmpty())
+        .distinct()
+        .toList();
+    if (codes.isEmpty() || codes.size() > MAX_STOCK_CODES) {
+      throw new IllegalArgumentException(
+          String.format("종목코드는 1~%d개까지 요청할 수 있습니다: %d개", MAX_STOCK_CODES, codes.size()));
+    }
+    for (String code : codes) {
+      if (!STOCK_CODE.matcher(code).matches()) {
+        throw new IllegalArgumentException("잘못된 종목코드: " + code);
+      }
+    }
+    return codes;
+  }
+}
@@ -1,5 +1,7 @@
 package com.kokimstocktrading.adapter.in.web.monitoring;
 
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.monitoring.PriceBasis;
 import com.kokimstocktrading.domain.monitoring.PriceCondition;
 import io.swagger.v3.oas.annotations.media.Schema;
 import java.util.UUID;
@@ -15,6 +17,12 @@ public record PriceConditionResponse(
     @Schema(description = "목표 가격", example = "75000")
     Long targetPrice,
 
+    @Schema(description = "기준 가격 (LAST_PRICE: 체결가, BEST_BID: 최우선 매수호가, BEST_ASK: 최우선 매도호가)", example = "LAST_PRICE")
+    PriceBasis priceBasis,
+
+    @Schema(description = "종가 기준 봉 단위 (현재가 기준이면 null)", example = "DAY")
+    CandleInterval closeInterval,
+
     @Schema(description = "조건 설명", example = "삼성전자 75000원 도달")
     String description
 ) {
@@ -24,6 +32,8 @@ public record PriceConditionResponse(
         condition.getId(),
         condition.getStockCode(),
         condition.getTargetPrice(),
+        condition.getPriceBasis(),
+        condition.getCloseInterval(),
         condition.getDescription()
     );
   }
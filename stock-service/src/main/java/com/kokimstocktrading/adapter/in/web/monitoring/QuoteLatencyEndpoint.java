@@ -0,0 +1,26 @@
+package com.kokimstocktrading.adapter.in.web.monitoring;
+
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder.StageSummary;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시세 지연 요약 actuator 엔드포인트 (GET /actuator/quotelatency)
+ * 구간/종목 등급별 건수, 평균, p50/p99/p99.9, 최대 지연(마이크로초)을 반환합니다.
+ */
+@Component
+@Endpoint(id = "quotelatency")
+@RequiredArgsConstructor
+public class QuoteLatencyEndpoint {
+
+  private final QuoteLatencyRecorder quoteLatencyRecorder;
+
+  @ReadOperation
+  public List<StageSummary> latency() {
+    return quoteLatencyRecorder.summary();
+  }
+}
@@ -0,0 +1,310 @@
+package com.kokimstocktrading.adapter.out.external.candle;
+
+import com.kokimstocktrading.domain.candle.BarBoundary;
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.ClosePriceSeries;
+import com.kokimstocktrading.domain.candle.StockCandle;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ *  종목 하나의 봉 시계열 - 원격 차트로 한 번 채운(seed) 과거 봉 위에 실시간 체결로 진행 중인 봉을 이어 붙입니다.
+ *  체결 하나로 1분봉과 일/주/월/년봉의 진행 중인 봉을 함께 갱신합니다. (1분봉을 모아 올리는 것과 같은 결과)
+ *  - 체결 시각이 진행 중인 봉의 다음 봉 시작 이후면 진행 중인 봉을 마감 봉으로 옮기고 새 봉 시작
+ *  - 일봉 이상은 15:30 종가 단일가 체결까지 넣고, 그 이후 체결(시간외)은 봉에 넣지 않음 (봉 경계는 BarBoundary)
+ *  - 일봉 이상은 종가 체결이나 마감 확인(closeElapsed)으로 다음 체결을 기다리지 않고 마감 (다음 장 시작 전에 종가 시계열 반영)
+ *  - 거래량은 누적 거래량의 증가분으로 계산 (병합된 시세도 빠짐없이 반영)
+ *
+ *  seed 된 봉 단위만 갱신하며, 보관 개수는 seed 개수로 유지합니다. (오래된 봉부터 버림)
+ *  봉 단위마다 종가 시계열(ClosePriceSeries)을 함께 갱신하며, 다시 seed 해도 같은 객체를 유지해 구독 중인 조건이 그대로 이어 받습니다.
+ *  시세 스레드(갱신)와 조회 스레드가 겹치므로 종목 단위로 동기화합니다.
+ * </pre>
+ */
+class LiveCandleSeries {
+
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+  /**
+   * 진행 중인 봉 (체결마다 갱신)
+   */
+  private static final class FormingBar {
+
+    private final LocalDateTime openTime;
+    private final Long previousClose;
+    private final long open;
+    private long high;
+    private long low;
+    private long close;
+    private long volume;
+
+    private FormingBar(LocalDateTime openTime, Long previousClose, long open, long high,
+        long low, long close, long volume) {
+      this.openTime = openTime;
+      this.previousClose = previousClose;
+      this.open = open;
+      this.high = high;
+      this.low = low;
+      this.close = close;
+      this.volume = volume;
+    }
+
+    private void update(long price, long lowestPrice, long highestPrice, long volumeDelta) {
+      high = Math.max(high, highestPrice);
+      low = Math.min(low, lowestPrice);
+      close = price;
+      volume += volumeDelta;
+    }
+
+    private StockCandle toCandle(String stockCode, CandleInterval interval) {
+      return StockCandle.builder()
+          .code(stockCode)
+          .candleInterval(interval)
+          .currentPrice(close)
+          .previousPrice(previousClose)
+          .volume(volume)
+          .openPrice(open)
+          .highPrice(high)
+          .lowPrice(low)
+          .closePrice(close)
+          .openTime(openTime)
+          .build();
+    }
+  }
+
+  /**
+   * 봉 단위 하나의 마감 봉(오래된 순)과 진행 중인 봉
+   */
+  private static final class Bars {
+
+    private final ArrayDeque<StockCandle> closed = new ArrayDeque<>();
+    private final int capacity;
+    // 이 시각 이후에 시작한 봉은 빠짐없이 보관 중 (더 과거 봉이 없으면 LocalDateTime.MIN)
+    private LocalDateTime coveredFrom;
+    private FormingBar forming;
+    // 진행 중인 봉의 시간 경계
+    private final BarBoundary boundary;
+    // 다음 봉 시작 전에 마감함 (늦게 도착한 체결로 같은 봉을 다시 만들지 않음)
+    private boolean sealed;
+
+    private Bars(CandleInterval interval, int capacity, LocalDateTime coveredFrom) {
+      this.capacity = capacity;
+      this.coveredFrom = coveredFrom;
+      this.boundary = new BarBoundary(interval);
+    }
+
+    private Long lastClose() {
+      return closed.isEmpty() ? null : closed.peekLast().getClosePrice();
+    }
+  }
+
+  private final String stockCode;
+  private final Map<CandleInterval, Bars> barsByInterval = new EnumMap<>(CandleInterval.class);
+  private final Map<CandleInterval, ClosePriceSeries> closesByInterval =
+      new EnumMap<>(CandleInterval.class);
+  // 직전 체결의 누적 거래량 (거래량 증가분 계산용, 아직 없으면 -1)
+  private long lastAccumulatedVolume = -1;
+
+  LiveCandleSeries(String stockCode) {
+    this.stockCode = stockCode;
+  }
+
+  /**
+   * 원격 차트 봉으로 봉 단위 하나를 채움 (이미 있으면 교체)
+   *
+   * @param newestFirst 최신 봉부터 정렬된 봉 목록
+   * @param coveredFrom 이 시각 이후에 시작한 봉이 목록에 모두 있음 (더 과거 봉이 없으면 LocalDateTime.MIN)
+   * @param capacity    보관할 최소 봉 개수
+   * @param now         현재 시각 - 최신 봉이 현재 봉이면 진행 중인 봉으로 이어서 갱신
+   */
+  synchronized void seed(CandleInterval interval, List<StockCandle> newestFirst,
+      LocalDateTime coveredFrom, int capacity, LocalDateTime now) {
+    Bars bars = new Bars(interval, Math.max(capacity, newestFirst.size()), coveredFrom);
+    for (int i = newestFirst.size() - 1; i >= 0; i--) {
+      bars.closed.addLast(newestFirst.get(i));
+    }
+
+    StockCandle newest = bars.closed.peekLast();
+    if (newest != null && newest.getOpenTime().equals(interval.openTimeOf(now))) {
+      bars.closed.pollLast();
+      bars.forming = new FormingBar(newest.getOpenTime(), newest.getPreviousPrice(),
+          newest.getOpenPrice(), newest.getHighPrice(), newest.getLowPrice(),
+          newest.getClosePrice(), newest.getVolume() != null ? newest.getVolume() : 0L);
+      bars.boundary.moveTo(newest.getOpenTime());
+    }
+    barsByInterval.put(interval, bars);
+
+    long[] closes = bars.closed.stream().mapToLong(StockCandle::getClosePrice).toArray();
+    closesByInterval.computeIfAbsent(interval, key -> new ClosePriceSeries(stockCode, key))
+        .reset(closes, bars.forming != null ? bars.forming.close : 0L, bars.capacity);
+  }
+
+  /**
+   * 체결 반영
+   *
+   * @param tradeTimeMillis   체결 시각 (epoch millis)
+   * @param price             체결가
+   * @param lowestPrice       직전 반영 이후 최저 체결가 (병합된 시세)
+   * @param highestPrice      직전 반영 이후 최고 체결가 (병합된 시세)
+   * @param accumulatedVolume 당일 누적 거래량
+   */
+  synchronized void onTrade(long tradeTimeMillis, long price, long lowestPrice,
+      long highestPrice, long accumulatedVolume) {
+    long volumeDelta = 0L;
+    if (lastAccumulatedVolume >= 0) {
+      // 누적 거래량이 줄었으면 새 거래일
+      volumeDelta = accumulatedVolume >= lastAccumulatedVolume
+          ? accumulatedVolume - lastAccumulatedVolume : accumulatedVolume;
+    }
+    lastAccumulatedVolume = accumulatedVolume;
+
+    LocalDateTime tradeTime = null;
+    for (Map.Entry<CandleInterval, Bars> entry : barsByInterval.entrySet()) {
+      CandleInterval interval = entry.getKey();
+      Bars bars = entry.getValue();
+      ClosePriceSeries closes = closesByInterval.get(interval);
+      if (bars.boundary.startsNextBar(tradeTimeMillis)) {
+        closeForming(interval, bars, closes);
+        if (tradeTime == null) {
+          tradeTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(tradeTimeMillis), KST);
+        }
+        bars.boundary.moveTo(tradeTime);
+        bars.sealed = false;
+      }
+      // 정규장 마감 이후 체결(시간외)은 일봉 이상에 넣지 않음 (종가 단일가 체결은 포함)
+      if (bars.sealed || !bars.boundary.includes(tradeTimeMillis)) {
+        continue;
+      }
+
+      if (bars.forming == null) {
+        if (tradeTime == null) {
+          tradeTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(tradeTimeMillis), KST);
+        }
+        bars.forming = new FormingBar(interval.openTimeOf(tradeTime), bars.lastClose(), price,
+            highestPrice, lowestPrice, price, volumeDelta);
+      } else {
+        bars.forming.update(price, lowestPrice, highestPrice, volumeDelta);
+      }
+      closes.updateForming(price);
+
+      // 종가 단일가 체결이면 바로 마감
+      if (interval != CandleInterval.MINUTE && bars.boundary.isClosingTrade(tradeTimeMillis)) {
+        closeForming(interval, bars, closes);
+        bars.sealed = true;
+      }
+    }
+  }
+
+  /**
+   * 마감 시각이 지난 일봉 이상의 진행 중인 봉을 마감 (종가 체결 없이 장이 끝난 경우)
+   * 분봉은 직전 분의 체결이 늦게 도착할 수 있으므로 다음 분의 첫 체결에서 마감합니다.
+   *
+   * @param nowMillis 현재 시각 (epoch millis)
+   */
+  synchronized void closeElapsed(long nowMillis) {
+    for (Map.Entry<CandleInterval, Bars> entry : barsByInterval.entrySet()) {
+      CandleInterval interval = entry.getKey();
+      Bars bars = entry.getValue();
+      if (interval == CandleInterval.MINUTE || bars.forming == null
+          || !bars.boundary.isElapsed(nowMillis)) {
+        continue;
+      }
+      closeForming(interval, bars, closesByInterval.get(interval));
+      bars.sealed = true;
+    }
+  }
+
+  /**
+   * 진행 중인 봉을 마감 봉으로 옮김 (보관 개수를 넘으면 가장 오래된 봉부터 버림)
+   */
+  private void closeForming(CandleInterval interval, Bars bars, ClosePriceSeries closes) {
+    if (bars.forming == null) {
+      return;
+    }
+    bars.closed.addLast(bars.forming.toCandle(stockCode, interval));
+    closes.append(bars.forming.close);
+    bars.forming = null;
+    while (bars.closed.size() > bars.capacity) {
+      bars.closed.pollFirst();
+      bars.coveredFrom = bars.closed.peekFirst().getOpenTime();
+    }
+  }
+
+  /**
+   * from 이전에 시작한 봉을 최신 순으로 count 개 조회 (보관 중인 봉으로 부족하면 null)
+   */
+  synchronized List<StockCandle> newestFirst(CandleInterval interval, LocalDateTime from,
+      long count) {
+    Bars bars = barsByInterval.get(interval);
+    if (bars == null) {
+      return null;
+    }
+
+    List<StockCandle> candles = new ArrayList<>((int) Math.min(count, bars.closed.size() + 1));
+    if (bars.forming != null && !bars.forming.openTime.isAfter(from)) {
+      candles.add(bars.forming.toCandle(stockCode, interval));
+    }
+    Iterator<StockCandle> iterator = bars.closed.descendingIterator();
+    while (candles.size() < count && iterator.hasNext()) {
+      StockCandle candle = iterator.next();
+      if (!candle.getOpenTime().isAfter(from)) {
+        candles.add(candle);
+      }
+    }
+    return candles.size() >= count || bars.coveredFrom.equals(LocalDateTime.MIN) ? candles : null;
+  }
+
+  /**
+   * to ~ from 사이에 시작한 봉을 최신 순으로 조회 (보관 중인 봉이 to 까지 닿지 않으면 null)
+   */
+  synchronized List<StockCandle> newestFirst(CandleInterval interval, LocalDateTime from,
+      LocalDateTime to) {
+    Bars bars = barsByInterval.get(interval);
+    if (bars == null) {
+      return null;
+    }
+    if (to.isBefore(bars.coveredFrom)) {
+      return null;
+    }
+
+    List<StockCandle> candles = new ArrayList<>();
+    if (bars.forming != null && isWithin(bars.forming.openTime, from, to)) {
+      candles.add(bars.forming.toCandle(stockCode, interval));
+    }
+    Iterator<StockCandle> iterator = bars.closed.descendingIterator();
+    while (iterator.hasNext()) {
+      StockCandle candle = iterator.next();
+      if (candle.getOpenTime().isBefore(to)) {
+        break;
+      }
+      if (!candle.getOpenTime().isAfter(from)) {
+        candles.add(candle);
+      }
+    }
+    return candles;
+  }
+
+  /**
+   * 봉 단위의 종가 시계열 조회 (seed 전이거나 보관 중인 마감 봉이 closedBars 보다 적으면 null)
+   */
+  synchronized ClosePriceSeries closePrices(CandleInterval interval, int closedBars) {
+    Bars bars = barsByInterval.get(interval);
+    if (bars == null) {
+      return null;
+    }
+    ClosePriceSeries closes = closesByInterval.get(interval);
+    return closes.closedCount() >= closedBars || bars.coveredFrom.equals(LocalDateTime.MIN)
+        ? closes : null;
+  }
+
+  private static boolean isWithin(LocalDateTime time, LocalDateTime from, LocalDateTime to) {
+    return !time.isAfter(from) && !time.isBefore(to);
+  }
+}
@@ -0,0 +1,238 @@
+package com.kokimstocktrading.adapter.out.external.candle;
+
+import com.kokimstocktrading.application.candle.port.out.CloseElapsedBarPort;
+import com.kokimstocktrading.application.candle.port.out.LoadClosePriceSeriesPort;
+import com.kokimstocktrading.application.candle.port.out.LoadStockCandlePort;
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
+import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.ClosePriceSeries;
+import com.kokimstocktrading.domain.candle.StockCandle;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+/**
+ * <pre>
+ *  실시간 체결로 만든 봉을 제공하는 캔들 조회 어댑터 (기본 LoadStockCandlePort)
+ *  종목/봉 단위를 처음 조회할 때 토스 차트로 한 번 채우고(seed), 그 종목을 실시간 시세에 추가해 이후 봉은 체결로 이어 붙입니다.
+ *  이평선/추세선 갱신처럼 장중 반복되는 조회는 메모리에서 응답하므로 원격 호출은 종목/봉 단위당 seed 한 번입니다.
+ *  보관 중인 봉보다 과거를 요청하면 더 많이 다시 채우고, 그래도 부족하면 원격 조회 결과를 그대로 돌려줍니다.
+ *  이평선 계산용 종가 시계열(LoadClosePriceSeriesPort)도 같은 봉에서 갱신되는 공유 객체를 돌려줍니다.
+ *  일봉 이상은 장 마감 후 마감 확인(CloseElapsedBarPort)으로 닫아, 다음 장 시작 전에 종가 기준 값이 갱신됩니다.
+ *
+ *  메트릭: candle.remote.requests(reason=seed|fallback)
+ * </pre>
+ */
+@Component
+@Primary
+@Slf4j
+public class LiveStockCandleAdapter implements LoadStockCandlePort, LoadClosePriceSeriesPort,
+    CloseElapsedBarPort, DisposableBean {
+
+  // 한 번에 채우는 최소 봉 개수 (토스 차트 한 페이지)
+  private static final long MIN_SEED_COUNT = 300;
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+  private final TossInvestChartClient tossInvestChartClient;
+  private final SubscribeRealTimeQuotePort subscribeRealTimeQuotePort;
+  private final Counter seedCounter;
+  private final Counter fallbackCounter;
+
+  // 종목별 봉 시계열
+  private final Map<String, LiveCandleSeries> seriesByCode = new ConcurrentHashMap<>();
+  // 진행 중인 seed (같은 종목/봉 단위를 동시에 조회해도 원격 호출은 한 번)
+  private final Map<String, Mono<LiveCandleSeries>> seeding = new ConcurrentHashMap<>();
+
+  // 봉을 이어 붙일 종목의 시세 구독 (처음 seed 할 때 생성)
+  private RealTimeQuoteStream quoteStream;
+  private Disposable quoteSubscription;
+
+  public LiveStockCandleAdapter(TossInvestChartClient tossInvestChartClient,
+      SubscribeRealTimeQuotePort subscribeRealTimeQuotePort, MeterRegistry meterRegistry) {
+    this.tossInvestChartClient = tossInvestChartClient;
+    this.subscribeRealTimeQuotePort = subscribeRealTimeQuotePort;
+    this.seedCounter = Counter.builder("candle.remote.requests")
+        .description("원격 차트 조회 수")
+        .tag("reason", "seed")
+        .register(meterRegistry);
+    this.fallbackCounter = Counter.builder("candle.remote.requests")
+        .description("원격 차트 조회 수")
+        .tag("reason", "fallback")
+        .register(meterRegistry);
+  }
+
+  @Override
+  public Mono<List<StockCandle>> loadStockCandleListBy(String stockCode,
+      CandleInterval candleInterval, LocalDateTime fromDateTime, LocalDateTime toDateTime) {
+    List<StockCandle> local = findLocal(stockCode,
+        series -> series.newestFirst(candleInterval, fromDateTime, toDateTime));
+    if (local != null) {
+      return Mono.just(local);
+    }
+
+    // 보관 중인 봉이 to 까지 닿지 않으면 현재 ~ to 로 다시 채움
+    return seed(stockCode, candleInterval,
+        now -> tossInvestChartClient.loadCandles(stockCode, candleInterval, now, toDateTime),
+        candles -> toDateTime)
+        .flatMap(series -> {
+          List<StockCandle> seeded = series.newestFirst(candleInterval, fromDateTime,
+              toDateTime);
+          return seeded != null ? Mono.just(seeded)
+              : loadRemote(stockCode, candleInterval, fromDateTime, toDateTime);
+        })
+        .onErrorResume(error -> loadRemote(stockCode, candleInterval, fromDateTime,
+            toDateTime));
+  }
+
+  @Override
+  public Mono<List<StockCandle>> loadStockCandleListBy(String stockCode,
+      CandleInterval candleInterval, LocalDateTime fromDateTime, Long count) {
+    List<StockCandle> local = findLocal(stockCode,
+        series -> series.newestFirst(candleInterval, fromDateTime, count));
+    if (local != null) {
+      return Mono.just(local);
+    }
+
+    // 보관 중인 봉이 모자라면 요청 개수로 다시 채움 (요청보다 적게 오면 더 과거 봉이 없는 것)
+    long seedCount = Math.max(count, MIN_SEED_COUNT);
+    return seed(stockCode, candleInterval,
+        now -> tossInvestChartClient.loadCandles(stockCode, candleInterval, now, seedCount),
+        candles -> candles.size() < seedCount ? LocalDateTime.MIN
+            : candles.get(candles.size() - 1).getOpenTime())
+        .flatMap(series -> {
+          List<StockCandle> seeded = series.newestFirst(candleInterval, fromDateTime, count);
+          return seeded != null ? Mono.just(seeded)
+              : loadRemote(stockCode, candleInterval, fromDateTime, count);
+        })
+        .onErrorResume(error -> loadRemote(stockCode, candleInterval, fromDateTime, count));
+  }
+
+  @Override
+  public Mono<ClosePriceSeries> loadClosePriceSeries(String stockCode,
+      CandleInterval candleInterval, int closedBars) {
+    LiveCandleSeries local = seriesByCode.get(stockCode);
+    ClosePriceSeries closes = local != null ? local.closePrices(candleInterval, closedBars) : null;
+    if (closes != null) {
+      return Mono.just(closes);
+    }
+
+    // 진행 중인 봉까지 한 개 더 채움 (요청보다 적게 오면 더 과거 봉이 없는 것)
+    long seedCount = Math.max(closedBars + 1L, MIN_SEED_COUNT);
+    return seed(stockCode, candleInterval,
+        now -> tossInvestChartClient.loadCandles(stockCode, candleInterval, now, seedCount),
+        candles -> candles.size() < seedCount ? LocalDateTime.MIN
+            : candles.get(candles.size() - 1).getOpenTime())
+        .map(series -> series.closePrices(candleInterval, 0));
+  }
+
+  @Override
+  public void closeElapsedBars(long nowMillis) {
+    seriesByCode.values().forEach(series -> series.closeElapsed(nowMillis));
+  }
+
+  /**
+   * 체결을 종목 봉 시계열에 반영
+   */
+  void onQuote(RealTimeQuote quote) {
+    LiveCandleSeries series = seriesByCode.get(quote.item());
+    if (series == null || quote.currentPrice() <= 0) {
+      return;
+    }
+    series.onTrade(quote.tradeTimeEpochMillis(), quote.currentPrice(), quote.lowSinceLastRead(),
+        quote.highSinceLastRead(), quote.accumulatedVolume());
+  }
+
+  private List<StockCandle> findLocal(String stockCode,
+      Function<LiveCandleSeries, List<StockCandle>> query) {
+    LiveCandleSeries series = seriesByCode.get(stockCode);
+    return series != null ? query.apply(series) : null;
+  }
+
+  /**
+   * 토스 차트로 종목/봉 단위를 채우고 실시간 시세에 종목 추가 (실패하면 채우지 않음)
+   *
+   * @param loader      현재 시각으로 원격 봉을 조회 (최신 순)
+   * @param coveredFrom 조회 결과가 빠짐없이 담고 있는 가장 과거 시각
+   */
+  private Mono<LiveCandleSeries> seed(String stockCode, CandleInterval candleInterval,
+      Function<LocalDateTime, Mono<List<StockCandle>>> loader,
+      Function<List<StockCandle>, LocalDateTime> coveredFrom) {
+    String key = stockCode + ":" + candleInterval;
+    return seeding.computeIfAbsent(key, k -> {
+      LocalDateTime now = LocalDateTime.now(KST);
+      seedCounter.increment();
+      return loader.apply(now)
+          .map(candles -> {
+            LiveCandleSeries series = seriesByCode.computeIfAbsent(stockCode,
+                LiveCandleSeries::new);
+            series.seed(candleInterval, candles, coveredFrom.apply(candles),
+                (int) MIN_SEED_COUNT, now);
+            quoteStream().addStocks(List.of(stockCode));
+            log.info("캔들 seed 완료: 종목={}, 봉={}, 개수={}", stockCode, candleInterval,
+                candles.size());
+            return series;
+          })
+          .doFinally(signal -> seeding.remove(k))
+          .cache();
+    });
+  }
+
+  private Mono<List<StockCandle>> loadRemote(String stockCode, CandleInterval candleInterval,
+      LocalDateTime fromDateTime, LocalDateTime toDateTime) {
+    fallbackCounter.increment();
+    return tossInvestChartClient.loadCandles(stockCode, candleInterval, fromDateTime, toDateTime)
+        .onErrorResume(error -> {
+          log.error("Failed to load chart data for stock {}: {}", stockCode, error.getMessage());
+          return Mono.just(List.of());
+        });
+  }
+
+  private Mono<List<StockCandle>> loadRemote(String stockCode, CandleInterval candleInterval,
+      LocalDateTime fromDateTime, Long count) {
+    fallbackCounter.increment();
+    return tossInvestChartClient.loadCandles(stockCode, candleInterval, fromDateTime, count)
+        .onErrorResume(error -> {
+          log.error("Failed to load chart data for stock {}: {}", stockCode, error.getMessage());
+          return Mono.just(List.of());
+        });
+  }
+
+  /**
+   * 봉 시계열용 시세 구독 (없으면 열고 연결)
+   */
+  private synchronized RealTimeQuoteStream quoteStream() {
+    if (quoteStream == null) {
+      RealTimeQuoteStream stream = subscribeRealTimeQuotePort.openQuoteStream(
+          QuoteDeliveryMode.CONFLATED);
+      quoteSubscription = stream.quotes()
+          .doOnNext(this::onQuote)
+          .doOnError(error -> log.error("실시간 봉 갱신 중 오류 발생", error))
+          .subscribe();
+      quoteStream = stream;
+    }
+    return quoteStream;
+  }
+
+  @Override
+  public synchronized void destroy() {
+    if (quoteSubscription != null) {
+      quoteSubscription.dispose();
+      quoteSubscription = null;
+      quoteStream = null;
+    }
+  }
+}
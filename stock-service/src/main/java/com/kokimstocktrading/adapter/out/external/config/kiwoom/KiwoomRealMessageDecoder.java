@@ -0,0 +1,321 @@
+package com.kokimstocktrading.adapter.out.external.config.kiwoom;
+
+/**
+ * <pre>
+ *  키움 실시간(trnm=REAL) 메시지 전용 스트리밍 디코더
+ *  Gson으로 Map 트리를 만들지 않고 원본 문자열을 한 번 훑으면서 필요한 FID 위치만 재사용 프레임에 기록합니다.
+ *  LOGIN/REG/PING 등 나머지 메시지는 false를 반환하므로 호출자가 기존 Map 경로로 처리합니다.
+ *
+ *  스레드 하나에서만 사용해야 합니다. (프레임 재사용)
+ * </pre>
+ */
+public final class KiwoomRealMessageDecoder {
+
+  private static final String REAL_TIME_MESSAGE_TYPE = "REAL";
+
+  /**
+   * data 항목 하나가 디코딩될 때마다 호출되는 리스너 - 프레임은 콜백이 끝나면 재사용됩니다.
+   */
+  @FunctionalInterface
+  public interface FrameListener {
+
+    void onFrame(KiwoomRealQuoteFrame frame);
+  }
+
+  private final KiwoomRealQuoteFrame frame = new KiwoomRealQuoteFrame();
+
+  private String src;
+  private long receivedNanos;
+  private int pos;
+  private int len;
+
+  /**
+   * REAL 메시지인지 빠르게 확인 (전체를 파싱하지 않고 trnm 값만 확인) - 소켓 스레드에서 분기용
+   */
+  public static boolean isRealMessage(String message) {
+    int keyIndex = message.indexOf("\"trnm\"");
+    if (keyIndex < 0) {
+      return false;
+    }
+    int pos = keyIndex + 6;
+    while (pos < message.length()
+        && (message.charAt(pos) == ':' || Character.isWhitespace(message.charAt(pos)))) {
+      pos++;
+    }
+    return message.startsWith("\"" + REAL_TIME_MESSAGE_TYPE + "\"", pos);
+  }
+
+  /**
+   * 실시간 메시지 디코딩
+   *
+   * @param message  WebSocket 수신 메시지
+   * @param listener data 항목별 콜백
+   * @return REAL 메시지였으면 true (처리 완료), 아니면 false
+   */
+  public boolean decode(String message, FrameListener listener) {
+    return decode(message, System.nanoTime(), listener);
+  }
+
+  /**
+   * 소켓 수신 시각을 지정한 실시간 메시지 디코딩 (수신 스레드와 디코딩 스레드가 다를 때)
+   *
+   * @param message       WebSocket 수신 메시지
+   * @param receivedNanos 소켓 수신 시각 (System.nanoTime)
+   * @param listener      data 항목별 콜백
+   * @return REAL 메시지였으면 true (처리 완료), 아니면 false
+   */
+  public boolean decode(String message, long receivedNanos, FrameListener listener) {
+    this.receivedNanos = receivedNanos;
+    src = message;
+    pos = 0;
+    len = message.length();
+
+    try {
+      skipWhitespace();
+      if (pos >= len || src.charAt(pos) != '{') {
+        return false;
+      }
+      pos++;
+
+      boolean isRealMessage = false;
+      int dataPosition = -1;
+
+      while (true) {
+        skipWhitespace();
+        if (peek() == '}') {
+          break;
+        }
+        int keyStart = pos + 1;
+        int keyEnd = readString();
+        expectColon();
+
+        if (keyEquals(keyStart, keyEnd, "trnm")) {
+          int valueStart = pos + 1;
+          int valueEnd = readString();
+          isRealMessage = keyEquals(valueStart, valueEnd, REAL_TIME_MESSAGE_TYPE);
+        } else if (keyEquals(keyStart, keyEnd, "data")) {
+          dataPosition = pos;
+          skipValue();
+        } else {
+          skipValue();
+        }
+        skipComma();
+      }
+
+      if (!isRealMessage) {
+        return false;
+      }
+      if (dataPosition >= 0) {
+        pos = dataPosition;
+        decodeDataArray(listener);
+      }
+      return true;
+    } finally {
+      src = null;
+    }
+  }
+
+  private void decodeDataArray(FrameListener listener) {
+    skipWhitespace();
+    if (peek() != '[') {
+      skipValue();
+      return;
+    }
+    pos++;
+
+    while (true) {
+      skipWhitespace();
+      if (peek() == ']') {
+        pos++;
+        return;
+      }
+      decodeDataEntry(listener);
+      skipComma();
+    }
+  }
+
+  private void decodeDataEntry(FrameListener listener) {
+    if (peek() != '{') {
+      skipValue();
+      return;
+    }
+    pos++;
+    frame.reset(src, receivedNanos);
+
+    while (true) {
+      skipWhitespace();
+      if (peek() == '}') {
+        pos++;
+        break;
+      }
+      int keyStart = pos + 1;
+      int keyEnd = readString();
+      expectColon();
+
+      if (keyEquals(keyStart, keyEnd, "type") && peek() == '"') {
+        int valueStart = pos + 1;
+        frame.type(valueStart, readString());
+      } else if (keyEquals(keyStart, keyEnd, "name") && peek() == '"') {
+        int valueStart = pos + 1;
+        frame.name(valueStart, readString());
+      } else if (keyEquals(keyStart, keyEnd, "item") && peek() == '"') {
+        int valueStart = pos + 1;
+        frame.item(valueStart, readString());
+      } else if (keyEquals(keyStart, keyEnd, "values") && peek() == '{') {
+        decodeValues();
+      } else {
+        skipValue();
+      }
+      skipComma();
+    }
+
+    listener.onFrame(frame);
+  }
+
+  private void decodeValues() {
+    pos++; // '{'
+    while (true) {
+      skipWhitespace();
+      if (peek() == '}') {
+        pos++;
+        return;
+      }
+      int keyStart = pos + 1;
+      int keyEnd = readString();
+      expectColon();
+
+      int slot = KiwoomRealQuoteFrame.slotOf(parseFid(keyStart, keyEnd));
+      if (slot >= 0 && peek() == '"') {
+        int valueStart = pos + 1;
+        frame.value(slot, valueStart, readString());
+      } else {
+        skipValue();
+      }
+      skipComma();
+    }
+  }
+
+  /**
+   * FID 키("10", "20" 등)를 숫자로 변환 - 숫자가 아니면 -1
+   */
+  private int parseFid(int start, int end) {
+    if (end - start <= 0 || end - start > 4) {
+      return -1;
+    }
+    int fid = 0;
+    for (int i = start; i < end; i++) {
+      char c = src.charAt(i);
+      if (c < '0' || c > '9') {
+        return -1;
+      }
+      fid = fid * 10 + (c - '0');
+    }
+    return fid;
+  }
+
+  /**
+   * 현재 위치의 문자열을 건너뛰고 닫는 따옴표 위치(내용 끝)를 반환
+   */
+  private int readString() {
+    if (peek() != '"') {
+      throw malformed();
+    }
+    pos++;
+    while (pos < len) {
+      char c = src.charAt(pos);
+      if (c == '\\') {
+        pos += 2;
+        continue;
+      }
+      if (c == '"') {
+        int end = pos;
+        pos++;
+        skipWhitespace();
+        return end;
+      }
+      pos++;
+    }
+    throw malformed();
+  }
+
+  private void skipValue() {
+    char c = peek();
+    if (c == '"') {
+      readString();
+    } else if (c == '{' || c == '[') {
+      skipContainer();
+    } else {
+      while (pos < len) {
+        char ch = src.charAt(pos);
+        if (ch == ',' || ch == '}' || ch == ']') {
+          break;
+        }
+        pos++;
+      }
+    }
+    skipWhitespace();
+  }
+
+  private void skipContainer() {
+    int depth = 0;
+    while (pos < len) {
+      char c = src.charAt(pos);
+      if (c == '"') {
+        readString();
+        continue;
+      }
+      if (c == '{' || c == '[') {
+        depth++;
+      } else if (c == '}' || c == ']') {
+        depth--;
+        if (depth == 0) {
+          pos++;
+          return;
+        }
+      }
+      pos++;
+    }
+    throw malformed();
+  }
+
+  private void expectColon() {
+    skipWhitespace();
+    if (peek() != ':') {
+      throw malformed();
+    }
+    pos++;
+    skipWhitespace();
+  }
+
+  private void skipComma() {
+    skipWhitespace();
+    if (pos < len && src.charAt(pos) == ',') {
+      pos++;
+    }
+  }
+
+  private void skipWhitespace() {
+    while (pos < len) {
+      char c = src.charAt(pos);
+      if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+        return;
+      }
+      pos++;
+    }
+  }
+
+  private char peek() {
+    if (pos >= len) {
+      throw malformed();
+    }
+    return src.charAt(pos);
+  }
+
+  private boolean keyEquals(int start, int end, String expected) {
+    return end - start == expected.length() && src.regionMatches(start, expected, 0, end - start);
+  }
+
+  private IllegalStateException malformed() {
+    return new IllegalStateException("실시간 메시지 형식이 올바르지 않습니다. 위치: " + pos);
+  }
+}
@@ -0,0 +1,267 @@
+package com.kokimstocktrading.adapter.out.external.config.kiwoom;
+
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.util.Arrays;
+
+/**
+ * REAL 메시지의 data 항목 하나를 담는 재사용 버퍼
+ *
+ * <pre>
+ *  문자열을 잘라내지 않고 원본 메시지 안의 위치(start/end)만 기록하고, 숫자 값은 읽을 때 바로 변환합니다.
+ *  디코더가 data 항목마다 reset 후 다시 채우므로, 리스너는 콜백 안에서만 값을 읽어야 합니다.
+ * </pre>
+ */
+public final class KiwoomRealQuoteFrame {
+
+  // FID -> 슬롯 매핑 (필요한 FID만 기록)
+  static final int MAX_FID = 128;
+  private static final int[] FID_SLOTS = new int[MAX_FID];
+
+  public static final int CURRENT_PRICE = 0;       // 10: 현재가
+  public static final int PRICE_CHANGE = 1;        // 11: 전일대비
+  public static final int CHANGE_RATE = 2;         // 12: 등락율
+  public static final int ACCUMULATED_VOLUME = 3;  // 13: 누적거래량
+  public static final int ACCUMULATED_AMOUNT = 4;  // 14: 누적거래대금
+  public static final int TRADING_VOLUME = 5;      // 15: 거래량
+  public static final int OPEN_PRICE = 6;          // 16: 시가
+  public static final int HIGH_PRICE = 7;          // 17: 고가
+  public static final int LOW_PRICE = 8;           // 18: 저가
+  public static final int TRADE_TIME = 9;          // 20: 체결시간
+  public static final int ASK_PRICE = 10;          // 27: 최우선 매도호가
+  public static final int BID_PRICE = 11;          // 28: 최우선 매수호가
+
+  // 0D 주식호가잔량 (호가 단계별 슬롯은 시작 슬롯 + 단계(0~9))
+  public static final int DEPTH_LEVELS = 10;
+  public static final int QUOTE_TIME = 12;           // 21: 호가시간
+  public static final int TOTAL_ASK_QUANTITY = 13;   // 121: 매도호가총잔량
+  public static final int TOTAL_BID_QUANTITY = 14;   // 125: 매수호가총잔량
+  public static final int ASK_PRICES = 15;           // 41~50: 매도호가1~10
+  public static final int BID_PRICES = ASK_PRICES + DEPTH_LEVELS;          // 51~60: 매수호가1~10
+  public static final int ASK_QUANTITIES = BID_PRICES + DEPTH_LEVELS;      // 61~70: 매도호가수량1~10
+  public static final int BID_QUANTITIES = ASK_QUANTITIES + DEPTH_LEVELS;  // 71~80: 매수호가수량1~10
+  static final int SLOT_COUNT = BID_QUANTITIES + DEPTH_LEVELS;
+
+  static {
+    Arrays.fill(FID_SLOTS, -1);
+    FID_SLOTS[10] = CURRENT_PRICE;
+    FID_SLOTS[11] = PRICE_CHANGE;
+    FID_SLOTS[12] = CHANGE_RATE;
+    FID_SLOTS[13] = ACCUMULATED_VOLUME;
+    FID_SLOTS[14] = ACCUMULATED_AMOUNT;
+    FID_SLOTS[15] = TRADING_VOLUME;
+    FID_SLOTS[16] = OPEN_PRICE;
+    FID_SLOTS[17] = HIGH_PRICE;
+    FID_SLOTS[18] = LOW_PRICE;
+    FID_SLOTS[20] = TRADE_TIME;
+    FID_SLOTS[27] = ASK_PRICE;
+    FID_SLOTS[28] = BID_PRICE;
+    FID_SLOTS[21] = QUOTE_TIME;
+    FID_SLOTS[121] = TOTAL_ASK_QUANTITY;
+    FID_SLOTS[125] = TOTAL_BID_QUANTITY;
+    for (int level = 0; level < DEPTH_LEVELS; level++) {
+      FID_SLOTS[41 + level] = ASK_PRICES + level;
+      FID_SLOTS[51 + level] = BID_PRICES + level;
+      FID_SLOTS[61 + level] = ASK_QUANTITIES + level;
+      FID_SLOTS[71 + level] = BID_QUANTITIES + level;
+    }
+  }
+
+  private final int[] valueStart = new int[SLOT_COUNT];
+  private final int[] valueEnd = new int[SLOT_COUNT];
+
+  private String source;
+  private long receivedNanos;
+  private int typeStart = -1;
+  private int typeEnd = -1;
+  private int nameStart = -1;
+  private int nameEnd = -1;
+  private int itemStart = -1;
+  private int itemEnd = -1;
+
+  static int slotOf(int fid) {
+    return fid >= 0 && fid < MAX_FID ? FID_SLOTS[fid] : -1;
+  }
+
+  void reset(String source, long receivedNanos) {
+    this.source = source;
+    this.receivedNanos = receivedNanos;
+    typeStart = typeEnd = nameStart = nameEnd = itemStart = itemEnd = -1;
+    Arrays.fill(valueStart, -1);
+    Arrays.fill(valueEnd, -1);
+  }
+
+  void type(int start, int end) {
+    typeStart = start;
+    typeEnd = end;
+  }
+
+  void name(int start, int end) {
+    nameStart = start;
+    nameEnd = end;
+  }
+
+  void item(int start, int end) {
+    itemStart = start;
+    itemEnd = end;
+  }
+
+  void value(int slot, int start, int end) {
+    valueStart[slot] = start;
+    valueEnd[slot] = end;
+  }
+
+  /**
+   * 실시간 항목 유형 비교 (예: "0B") - 문자열 생성 없이 비교
+   */
+  public boolean isType(String type) {
+    return typeStart >= 0 && source.regionMatches(typeStart, type, 0, type.length())
+           && typeEnd - typeStart == type.length();
+  }
+
+  /**
+   * 이 메시지를 소켓에서 받은 시각 (System.nanoTime)
+   */
+  public long receivedNanos() {
+    return receivedNanos;
+  }
+
+  public boolean hasItem() {
+    return itemStart >= 0;
+  }
+
+  public boolean hasValue(int slot) {
+    return valueStart[slot] >= 0;
+  }
+
+  /**
+   * 실시간 항목명 (예: "주식체결", 호출 시 문자열 생성) - 없으면 null
+   */
+  public String name() {
+    return nameStart >= 0 ? source.substring(nameStart, nameEnd) : null;
+  }
+
+  /**
+   * 종목코드 (호출 시 문자열 생성)
+   */
+  public String item() {
+    return itemStart >= 0 ? source.substring(itemStart, itemEnd) : null;
+  }
+
+  /**
+   * FID 값 원문 (호출 시 문자열 생성)
+   */
+  public String text(int slot) {
+    return valueStart[slot] >= 0 ? source.substring(valueStart[slot], valueEnd[slot]) : null;
+  }
+
+  /**
+   * 종목코드의 심볼 ID (문자열 생성 없음) - 구독으로 등록되지 않은 종목이면 -1 (등록하지 않음)
+   */
+  public int symbolId(StockSymbolRegistry registry) {
+    return itemStart >= 0 ? registry.findId(source, itemStart, itemEnd) : -1;
+  }
+
+  /**
+   * 등락 부호(+/-)를 제거한 정수 값 (가격) - 값이 없으면 0
+   */
+  public long absoluteLong(int slot) {
+    return Math.abs(signedLong(slot));
+  }
+
+  /**
+   * 부호를 포함한 정수 값 (전일대비, 거래량) - 값이 없으면 0
+   */
+  public long signedLong(int slot) {
+    int start = valueStart[slot];
+    int end = valueEnd[slot];
+    if (start < 0 || start == end) {
+      return 0L;
+    }
+
+    boolean negative = source.charAt(start) == '-';
+    if (negative || source.charAt(start) == '+') {
+      start++;
+    }
+
+    long value = 0L;
+    for (int i = start; i < end; i++) {
+      char c = source.charAt(i);
+      if (c < '0' || c > '9') {
+        throw invalidNumber(slot);
+      }
+      value = value * 10 + (c - '0');
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * 소수 둘째 자리까지의 고정소수점 값 (등락율, 예: "-0.24" -> -24) - 값이 없으면 0
+   */
+  public int fixedPoint2(int slot) {
+    int start = valueStart[slot];
+    int end = valueEnd[slot];
+    if (start < 0 || start == end) {
+      return 0;
+    }
+
+    boolean negative = source.charAt(start) == '-';
+    if (negative || source.charAt(start) == '+') {
+      start++;
+    }
+
+    int value = 0;
+    int fractionDigits = -1;
+    for (int i = start; i < end; i++) {
+      char c = source.charAt(i);
+      if (c == '.' && fractionDigits < 0) {
+        fractionDigits = 0;
+        continue;
+      }
+      if (c < '0' || c > '9') {
+        throw invalidNumber(slot);
+      }
+      if (fractionDigits >= 2) {
+        continue; // 셋째 자리 이하 버림
+      }
+      value = value * 10 + (c - '0');
+      if (fractionDigits >= 0) {
+        fractionDigits++;
+      }
+    }
+    for (int digits = Math.max(fractionDigits, 0); digits < 2; digits++) {
+      value *= 10;
+    }
+    return negative ? -value : value;
+  }
+
+  /**
+   * HHMMSS 형식 시간을 자정 이후 초로 변환 - 형식이 다르면 -1
+   */
+  public int secondsOfDay(int slot) {
+    int start = valueStart[slot];
+    if (start < 0 || valueEnd[slot] - start != 6) {
+      return -1;
+    }
+
+    int hours = twoDigits(start);
+    int minutes = twoDigits(start + 2);
+    int seconds = twoDigits(start + 4);
+    if (hours < 0 || hours > 23 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+      return -1;
+    }
+    return hours * 3600 + minutes * 60 + seconds;
+  }
+
+  private int twoDigits(int index) {
+    char tens = source.charAt(index);
+    char ones = source.charAt(index + 1);
+    if (tens < '0' || tens > '9' || ones < '0' || ones > '9') {
+      return -1;
+    }
+    return (tens - '0') * 10 + (ones - '0');
+  }
+
+  private NumberFormatException invalidNumber(int slot) {
+    return new NumberFormatException("숫자 형식이 아닌 실시간 값: " + text(slot));
+  }
+}
@@ -12,25 +12,44 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.java_websocket.client.WebSocketClient;
 import org.java_websocket.handshake.ServerHandshake;
-import reactor.core.publisher.Sinks;
 
 @Slf4j
 public class KiwoomWebSocketClient extends WebSocketClient {
 
+  // 실시간 항목 유형 (0B: 주식체결, 0D: 주식호가잔량)
+  public static final String STOCK_EXECUTION_TYPE = "0B";
+  public static final String STOCK_ORDER_BOOK_TYPE = "0D";
+
   private final String accessToken;
+  // REG/REMOVE 시 등록할 실시간 항목 유형
+  private final List<String> realTypes;
   private final Gson gson = new Gson();
-  private boolean isConnected = false;
+  private volatile boolean isConnected = false;
+  private volatile boolean loginRejected = false;
   private final CountDownLatch loginLatch = new CountDownLatch(1);
+
+  // 실시간(REAL) 메시지 전용 디코더 - 소켓 읽기 스레드에서만 사용
+  private final KiwoomRealMessageDecoder realMessageDecoder = new KiwoomRealMessageDecoder();
+  // 디코딩한 프레임 전달 (메시지마다 메서드 참조를 새로 만들지 않도록 한 번만 생성)
+  private final KiwoomRealMessageDecoder.FrameListener realFrameDispatcher =
+      this::dispatchRealFrame;
+  @Setter
+  private KiwoomRealMessageDecoder.FrameListener frameListener;
+  // 실시간 메시지 원본 전달 (설정되면 소켓 스레드에서 디코딩하지 않고 넘기기만 함)
+  @Setter
+  private Consumer<String> realMessageHandler;
+  // 연결 종료 알림 (재연결 감시용)
   @Setter
-  private Sinks.Many<Map<String, Object>> messageSink;
+  private Runnable closeListener;
 
   // 현재 구독 중인 그룹 관리
   private final Map<String, List<String>> subscribedGroups = new ConcurrentHashMap<>();
-  private int currentGroupNo = 1;  // 그룹 번호 시작값
 
   // Heartbeat 관리
   private final ScheduledExecutorService heartbeatScheduler = Executors.newSingleThreadScheduledExecutor();
@@ -38,8 +57,13 @@ public class KiwoomWebSocketClient extends WebSocketClient {
   private static final long HEARTBEAT_INTERVAL = 30; // 30초마다 ping 전송
 
   public KiwoomWebSocketClient(URI serverUri, String accessToken) {
+    this(serverUri, accessToken, List.of(STOCK_EXECUTION_TYPE));
+  }
+
+  public KiwoomWebSocketClient(URI serverUri, String accessToken, List<String> realTypes) {
     super(serverUri);
     this.accessToken = accessToken;
+    this.realTypes = List.copyOf(realTypes);
   }
 
   @Override
@@ -53,6 +77,19 @@ public class KiwoomWebSocketClient extends WebSocketClient {
   public void onMessage(String message) {
     try {
       log.debug("WebSocket 메시지 수신: {}", message);
+
+      // 실시간 시세는 원본 그대로 처리 스레드로 넘기고 바로 다음 읽기로 (PING 등 제어 메시지가 밀리지 않도록)
+      Consumer<String> handler = realMessageHandler;
+      if (handler != null && KiwoomRealMessageDecoder.isRealMessage(message)) {
+        handler.accept(message);
+        return;
+      }
+
+      // 실시간 시세는 Map 변환 없이 바로 디코딩
+      if (realMessageDecoder.decode(message, realFrameDispatcher)) {
+        return;
+      }
+
       @SuppressWarnings("unchecked")
       Map<String, Object> response = gson.fromJson(message, Map.class);
       String trnm = (String) response.get("trnm");
@@ -61,6 +98,7 @@ public class KiwoomWebSocketClient extends WebSocketClient {
         double returnCode = ((Double) response.get("return_code"));
         if (returnCode != 0) {
           log.error("로그인 실패: {}", response.get("return_msg"));
+          loginRejected = true;
           close();
         } else {
           log.info("로그인 성공");
@@ -70,11 +108,6 @@ public class KiwoomWebSocketClient extends WebSocketClient {
       } else if ("PING".equals(trnm)) {
         // PING 메시지 그대로 응답
         send(message);
-      } else if ("REAL".equals(trnm)) {
-        // 실시간 데이터 메시지 처리
-        if (messageSink != null) {
-          messageSink.tryEmitNext(response);
-        }
       } else if ("REG".equals(trnm) || "REMOVE".equals(trnm)) {
         double returnCode = ((Double) response.get("return_code"));
         if (returnCode != 0) {
@@ -88,11 +121,20 @@ public class KiwoomWebSocketClient extends WebSocketClient {
     }
   }
 
+  private void dispatchRealFrame(KiwoomRealQuoteFrame frame) {
+    if (frameListener != null) {
+      frameListener.onFrame(frame);
+    }
+  }
+
   @Override
   public void onClose(int code, String reason, boolean remote) {
     log.info("WebSocket 연결 종료: 코드={}, 이유={}, 원격={}", code, reason, remote);
     isConnected = false;
     stopHeartbeat();
+    if (closeListener != null) {
+      closeListener.run();
+    }
   }
 
   @Override
@@ -112,38 +154,56 @@ public class KiwoomWebSocketClient extends WebSocketClient {
   }
 
   /**
-   * 종목 실시간 시세 구독 등록
+   * 로그인 완료 대기
    *
-   * @param stockCodes 종목 코드 목록
-   * @return 그룹 번호
+   * @param timeout 최대 대기 시간
+   * @param unit    시간 단위
+   * @return 로그인 성공 여부
    */
-  public String subscribeStocks(List<String> stockCodes) {
-    // 연결 상태 확인 및 대기
+  public boolean awaitLogin(long timeout, TimeUnit unit) {
     try {
-      if (!isConnected && !loginLatch.await(5, TimeUnit.SECONDS)) {
-        log.error("WebSocket 연결 또는 로그인 대기 시간 초과");
-        return null;
-      }
+      return (isConnected || loginLatch.await(timeout, unit)) && isConnected;
     } catch (InterruptedException e) {
       Thread.currentThread().interrupt();
-      log.error("WebSocket 연결 대기 중 인터럽트 발생", e);
-      return null;
+      log.error("WebSocket 로그인 대기 중 인터럽트 발생", e);
+      return false;
     }
+  }
 
-    String groupNo = String.valueOf(currentGroupNo++);
+  /**
+   * 로그인이 토큰 문제로 거부되었는지 여부 (재연결 시 토큰 재발급 판단용)
+   */
+  public boolean isLoginRejected() {
+    return loginRejected;
+  }
+
+  /**
+   * 종목 실시간 시세 구독 등록 (그룹 번호는 호출자가 관리)
+   *
+   * @param groupNo    그룹 번호
+   * @param stockCodes 종목 코드 목록
+   * @param refresh    기존 등록 유지 여부 (false면 그룹의 기존 종목을 대체)
+   * @return 전송 성공 여부
+   */
+  public boolean subscribeStocks(String groupNo, List<String> stockCodes, boolean refresh) {
+    // 연결 상태 확인 및 대기
+    if (!awaitLogin(5, TimeUnit.SECONDS)) {
+      log.error("WebSocket 연결 또는 로그인 대기 시간 초과");
+      return false;
+    }
 
     JsonObject registerMessage = new JsonObject();
     registerMessage.addProperty("trnm", "REG");
     registerMessage.addProperty("grp_no", groupNo);
-    registerMessage.addProperty("refresh", "1");  // 기존 등록 유지
+    registerMessage.addProperty("refresh", refresh ? "1" : "0");  // 1: 기존 등록 유지
 
     // 종목 코드 배열 생성
     JsonArray itemArray = new JsonArray();
     stockCodes.forEach(itemArray::add);
 
-    // 실시간 항목 유형 설정 (0B: 주식체결)
+    // 실시간 항목 유형 설정 (연결별로 지정, 기본 0B: 주식체결)
     JsonArray typeArray = new JsonArray();
-    typeArray.add("0B");
+    realTypes.forEach(typeArray::add);
 
     // 데이터 객체 생성
     JsonObject dataObject = new JsonObject();
@@ -157,12 +217,14 @@ public class KiwoomWebSocketClient extends WebSocketClient {
 
     // 메시지 전송
     send(gson.toJson(registerMessage));
-    log.info("실시간 시세 구독 등록 메시지 전송. 그룹번호: {}, 종목: {}", groupNo, stockCodes);
+    log.info("실시간 시세 구독 등록 메시지 전송. 그룹번호: {}, 종목 수: {}", groupNo, stockCodes.size());
 
     // 구독 정보 저장
-    subscribedGroups.put(groupNo, stockCodes);
+    subscribedGroups.merge(groupNo, List.copyOf(stockCodes), (previous, added) -> refresh
+        ? Stream.concat(previous.stream(), added.stream()).distinct().toList()
+        : added);
 
-    return groupNo;
+    return true;
   }
 
   /**
@@ -190,6 +252,46 @@ public class KiwoomWebSocketClient extends WebSocketClient {
     return true;
   }
 
+  /**
+   * 그룹에서 일부 종목만 구독 해지 (그룹의 나머지 종목은 유지)
+   *
+   * @param groupNo    그룹 번호
+   * @param stockCodes 해지할 종목 코드 목록
+   * @return 성공 여부
+   */
+  public boolean unsubscribeStocks(String groupNo, List<String> stockCodes) {
+    if (!isConnected) {
+      log.error("WebSocket 연결이 끊어진 상태에서 구독 해지 시도");
+      return false;
+    }
+
+    JsonObject removeMessage = new JsonObject();
+    removeMessage.addProperty("trnm", "REMOVE");
+    removeMessage.addProperty("grp_no", groupNo);
+
+    JsonArray itemArray = new JsonArray();
+    stockCodes.forEach(itemArray::add);
+    JsonArray typeArray = new JsonArray();
+    realTypes.forEach(typeArray::add);
+
+    JsonObject dataObject = new JsonObject();
+    dataObject.add("item", itemArray);
+    dataObject.add("type", typeArray);
+    JsonArray dataArray = new JsonArray();
+    dataArray.add(dataObject);
+    removeMessage.add("data", dataArray);
+
+    send(gson.toJson(removeMessage));
+    log.info("실시간 시세 일부 종목 해지 메시지 전송. 그룹번호: {}, 종목 수: {}", groupNo, stockCodes.size());
+
+    subscribedGroups.computeIfPresent(groupNo, (key, stocks) -> {
+      List<String> remaining = stocks.stream().filter(code -> !stockCodes.contains(code)).toList();
+      return remaining.isEmpty() ? null : remaining;
+    });
+
+    return true;
+  }
+
   /**
    * 모든 그룹 구독 해지
    *
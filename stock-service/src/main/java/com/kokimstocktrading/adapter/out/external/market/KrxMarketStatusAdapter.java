@@ -1,10 +1,15 @@
 package com.kokimstocktrading.adapter.out.external.market;
 
+import com.kokimstocktrading.application.market.port.out.LoadMarketCalendarPort;
 import com.kokimstocktrading.application.market.port.out.LoadMarketStatusPort;
 import com.kokimstocktrading.domain.market.MarketStatus;
+import com.kokimstocktrading.domain.market.MonthlyOpenDays;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -19,11 +24,14 @@ import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
 /**
- * KRX 시장 상태 조회 어댑터
+ * <pre>
+ *  KRX 시장 상태 조회 어댑터
+ *  KRX 휴장일 달력은 한 번 요청에 한 달치가 오므로, 달력 캐시(LoadMarketCalendarPort)는 월 단위로 파싱해 받아 갑니다.
+ * </pre>
  */
 @Component
 @Slf4j
-public class KrxMarketStatusAdapter implements LoadMarketStatusPort {
+public class KrxMarketStatusAdapter implements LoadMarketStatusPort, LoadMarketCalendarPort {
 
   private final WebClient webClient;
 
@@ -60,6 +68,14 @@ public class KrxMarketStatusAdapter implements LoadMarketStatusPort {
     return loadMarketStatus(LocalDate.now());
   }
 
+  @Override
+  public Mono<MonthlyOpenDays> loadMonthlyOpenDays(YearMonth month) {
+    log.debug("KRX 월 달력 조회 요청: {}", month);
+    return requestKrxCalendar(month.atDay(1))
+        .switchIfEmpty(Mono.error(() -> new IllegalStateException("KRX 달력 응답 없음: " + month)))
+        .map(html -> parseMonthlyOpenDays(html, month));
+  }
+
   /**
    * KRX 캘린더 API 요청
    */
@@ -151,6 +167,35 @@ public class KrxMarketStatusAdapter implements LoadMarketStatusPort {
     }
   }
 
+  /**
+   * HTML에서 한 달의 개장일 파싱 - 1일부터 말일까지 차례로 나오는 셀만 읽음 (앞뒤 달 날짜 셀 제외)
+   * 달력을 끝까지 읽지 못하면 기본값(개장)으로 채우지 않고 실패 처리
+   */
+  private MonthlyOpenDays parseMonthlyOpenDays(String html, YearMonth month) {
+    Elements cells = Jsoup.parse(html).select("#calBig > table > tbody td");
+    List<Integer> openDays = new ArrayList<>();
+    int expectedDay = 1;
+    for (Element cell : cells) {
+      if (expectedDay > month.lengthOfMonth()) {
+        break;
+      }
+      String dayText = extractDayFromCell(cell);
+      if (dayText == null || !dayText.trim().equals(String.valueOf(expectedDay))) {
+        continue;
+      }
+      if (analyzeCell(cell, month.atDay(expectedDay)).isOpen()) {
+        openDays.add(expectedDay);
+      }
+      expectedDay++;
+    }
+
+    if (expectedDay <= month.lengthOfMonth()) {
+      throw new IllegalStateException(
+          String.format("KRX 달력 파싱 실패: %s (%d일까지 확인)", month, expectedDay - 1));
+    }
+    return MonthlyOpenDays.of(month, openDays);
+  }
+
   /**
    * 셀에서 날짜 추출
    */
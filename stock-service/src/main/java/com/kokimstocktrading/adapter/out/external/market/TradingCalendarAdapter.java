@@ -0,0 +1,246 @@
+package com.kokimstocktrading.adapter.out.external.market;
+
+import com.kokimstocktrading.application.market.port.out.LoadMarketCalendarPort;
+import com.kokimstocktrading.application.market.port.out.LoadTradingCalendarPort;
+import com.kokimstocktrading.domain.market.MonthlyOpenDays;
+import com.kokimstocktrading.domain.market.TradingCalendar;
+import com.kokimstocktrading.domain.market.TradingSession;
+import jakarta.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * <pre>
+ *  KRX 휴장일 달력을 월 단위로 받아 두는 거래일 달력 어댑터
+ *  달력 조회는 메모리의 불변 스냅샷을 돌려주므로 원격 호출 없이 O(1) 입니다.
+ *  - 시작: 로컬 파일에 저장해 둔 월별 개장일을 읽고, 백그라운드로 작년 1월부터 올해(12월이면 내년까지) 빠진 달을 받음
+ *  - 사용 중인 기준 날짜(추세선 시작일 등)가 더 과거면 그 달부터 빠진 달을 받음 (requestCoverageFrom)
+ *  - 매일 06:00: 이번 달/다음 달을 다시 받고, 빠진 달이 남아 있으면 함께 받음 (임시 휴장일 반영)
+ *  - KRX 에서 받은 달은 KRX 개장일을, 받지 못한 달은 설정된 휴장일을 사용 (KRX 장애 중에도 마지막 달력 유지)
+ *
+ *  market.calendar.holidays          휴장일 (yyyy-MM-dd, 쉼표 구분 - 주말은 적지 않아도 됨)
+ *  market.calendar.special-sessions  특별 정규장 (yyyy-MM-dd HH:mm-HH:mm, 쉼표 구분 - 수능일 등)
+ *  market.calendar.cache-file        월별 개장일 저장 파일 (한 줄에 "yyyy-MM 개장일비트(16진수)")
+ *  market.calendar.backfill-years    올해 이전에 받아 둘 햇수 (기본 1 - 작년부터)
+ * </pre>
+ */
+@Component
+@Slf4j
+public class TradingCalendarAdapter implements LoadTradingCalendarPort {
+
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+  private final LoadMarketCalendarPort loadMarketCalendarPort;
+  private final Path cacheFile;
+  private final List<LocalDate> configuredHolidays;
+  private final Map<LocalDate, TradingSession> specialSessions;
+  private final int backfillYears;
+
+  // KRX 에서 받은 월별 개장일
+  private final Map<YearMonth, MonthlyOpenDays> krxMonths = new ConcurrentHashMap<>();
+  // 진행 중인 갱신 (겹치면 건너뜀)
+  private final AtomicBoolean refreshing = new AtomicBoolean();
+  // 사용 중인 가장 과거 기준 날짜의 달 (없으면 null)
+  private final AtomicReference<YearMonth> earliestInUse = new AtomicReference<>();
+  private volatile TradingCalendar tradingCalendar;
+
+  public TradingCalendarAdapter(LoadMarketCalendarPort loadMarketCalendarPort,
+      @Value("${market.calendar.holidays:}") String[] holidays,
+      @Value("${market.calendar.special-sessions:}") String[] specialSessions,
+      @Value("${market.calendar.cache-file:./data/krx-calendar.txt}") String cacheFile,
+      @Value("${market.calendar.backfill-years:1}") int backfillYears) {
+    this.loadMarketCalendarPort = loadMarketCalendarPort;
+    this.cacheFile = Path.of(cacheFile);
+    this.backfillYears = Math.max(backfillYears, 0);
+    this.configuredHolidays = Arrays.stream(holidays)
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .map(LocalDate::parse)
+        .toList();
+    this.specialSessions = Arrays.stream(specialSessions)
+        .map(String::trim)
+        .filter(value -> !value.isEmpty())
+        .collect(Collectors.toMap(
+            value -> LocalDate.parse(value.substring(0, value.indexOf(' '))),
+            TradingCalendarAdapter::parseSession));
+    loadCache();
+    rebuild();
+    log.info("거래일 달력 구성: 설정 휴장일 {}개, 특별 정규장 {}개, 저장된 KRX 달력 {}개월",
+        configuredHolidays.size(), this.specialSessions.size(), krxMonths.size());
+  }
+
+  @Override
+  public TradingCalendar loadTradingCalendar() {
+    return tradingCalendar;
+  }
+
+  @Override
+  public void requestCoverageFrom(LocalDate date) {
+    YearMonth month = YearMonth.from(date);
+    YearMonth previous = earliestInUse.getAndAccumulate(month,
+        (current, requested) -> current == null || requested.isBefore(current)
+            ? requested : current);
+    if ((previous == null || month.isBefore(previous)) && !krxMonths.containsKey(month)) {
+      // 갱신 중이면 건너뛰고 다음 정기 갱신에서 받음
+      refresh(LocalDate.now(KST)).subscribe();
+    }
+  }
+
+  /**
+   * 초기화 - 앱 시작 시 빠진 달 백그라운드 조회
+   */
+  @PostConstruct
+  public void init() {
+    refresh(LocalDate.now(KST)).subscribe();
+  }
+
+  /**
+   * 매일 이번 달/다음 달 달력 갱신
+   */
+  @Scheduled(cron = "0 0 6 * * *", zone = "Asia/Seoul")
+  public void scheduledRefresh() {
+    refresh(LocalDate.now(KST)).subscribe();
+  }
+
+  /**
+   * KRX 달력 조회 후 스냅샷 교체 및 저장 (실패한 달은 기존 값 유지)
+   */
+  Mono<Void> refresh(LocalDate today) {
+    return Mono.defer(() -> {
+      if (!refreshing.compareAndSet(false, true)) {
+        return Mono.empty();
+      }
+      return Flux.fromIterable(monthsToRefresh(today))
+          .concatMap(month -> loadMarketCalendarPort.loadMonthlyOpenDays(month)
+              .onErrorResume(error -> {
+                log.warn("KRX 달력 조회 실패, 기존 달력 유지: {} - {}", month, error.getMessage());
+                return Mono.empty();
+              }))
+          .collectList()
+          .publishOn(Schedulers.boundedElastic())
+          .doOnNext(this::apply)
+          .doFinally(signal -> refreshing.set(false))
+          .then();
+    });
+  }
+
+  /**
+   * 작년 1월(또는 사용 중인 가장 과거 기준 달)부터 올해(12월이면 내년까지) 중 아직 없는 달 + 이번 달/다음 달
+   */
+  private NavigableSet<YearMonth> monthsToRefresh(LocalDate today) {
+    YearMonth current = YearMonth.from(today);
+    int lastYear = current.getMonthValue() == 12 ? current.getYear() + 1 : current.getYear();
+    YearMonth first = YearMonth.of(current.getYear() - backfillYears, 1);
+    YearMonth earliest = earliestInUse.get();
+    if (earliest != null && earliest.isBefore(first)) {
+      first = earliest;
+    }
+    NavigableSet<YearMonth> months = new TreeSet<>();
+    for (YearMonth month = first; month.getYear() <= lastYear; month = month.plusMonths(1)) {
+      if (!krxMonths.containsKey(month)) {
+        months.add(month);
+      }
+    }
+    months.add(current);
+    months.add(current.plusMonths(1));
+    return months;
+  }
+
+  private void apply(List<MonthlyOpenDays> loaded) {
+    if (loaded.isEmpty()) {
+      return;
+    }
+    for (MonthlyOpenDays month : loaded) {
+      krxMonths.put(month.month(), month);
+    }
+    rebuild();
+    saveCache();
+    log.info("KRX 달력 갱신: {}개월 ({} ~ {})", loaded.size(), loaded.get(0).month(),
+        loaded.get(loaded.size() - 1).month());
+  }
+
+  private void rebuild() {
+    List<LocalDate> holidays = Stream.concat(
+            configuredHolidays.stream()
+                .filter(date -> !krxMonths.containsKey(YearMonth.from(date))),
+            krxMonths.values().stream().flatMap(MonthlyOpenDays::weekdayHolidays))
+        .toList();
+    tradingCalendar = new TradingCalendar(holidays, specialSessions);
+  }
+
+  private void loadCache() {
+    if (!Files.exists(cacheFile)) {
+      return;
+    }
+    try {
+      for (String line : Files.readAllLines(cacheFile, StandardCharsets.UTF_8)) {
+        String[] fields = line.trim().split("\\s+");
+        if (fields.length != 2) {
+          continue;
+        }
+        try {
+          YearMonth month = YearMonth.parse(fields[0]);
+          krxMonths.put(month,
+              new MonthlyOpenDays(month, Integer.parseUnsignedInt(fields[1], 16)));
+        } catch (RuntimeException e) {
+          log.warn("저장된 KRX 달력 줄을 건너뜁니다: {}", line);
+        }
+      }
+    } catch (IOException e) {
+      log.warn("저장된 KRX 달력을 읽지 못했습니다: {}", cacheFile, e);
+    }
+  }
+
+  /**
+   * 임시 파일에 쓴 뒤 교체 (쓰는 중 종료돼도 이전 파일 유지)
+   */
+  private void saveCache() {
+    List<String> lines = krxMonths.values().stream()
+        .sorted(Comparator.comparing(MonthlyOpenDays::month))
+        .map(month -> String.format("%s %08x", month.month(), month.openDayBits()))
+        .toList();
+    try {
+      Path directory = cacheFile.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      Path temp = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+      Files.write(temp, lines, StandardCharsets.UTF_8);
+      Files.move(temp, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+          StandardCopyOption.ATOMIC_MOVE);
+    } catch (IOException e) {
+      log.warn("KRX 달력 저장 실패: {}", cacheFile, e);
+    }
+  }
+
+  /**
+   * "yyyy-MM-dd HH:mm-HH:mm" 의 정규장 부분
+   */
+  private static TradingSession parseSession(String value) {
+    String[] hours = value.substring(value.indexOf(' ') + 1).trim().split("-");
+    return new TradingSession(LocalTime.parse(hours[0].trim()), LocalTime.parse(hours[1].trim()));
+  }
+}
@@ -1,6 +1,8 @@
 package com.kokimstocktrading.adapter.out.external.market;
 
 import com.kokimstocktrading.application.condition.port.out.TradingTimePort;
+import com.kokimstocktrading.application.market.port.out.LoadTradingCalendarPort;
+import java.time.LocalDate;
 import java.time.LocalTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -14,7 +16,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class TradingTimeAdapter implements TradingTimePort {
 
-  private final KrxMarketStatusAdapter krxMarketStatusAdapter;
+  private final LoadTradingCalendarPort loadTradingCalendarPort;
 
   // 한국 주식시장 운영 시간
   private static final LocalTime MARKET_OPEN_TIME = LocalTime.of(9, 0);    // 09:00
@@ -36,19 +38,10 @@ public class TradingTimeAdapter implements TradingTimePort {
       return false;
     }
 
-    // 2. 휴장일 체크 (동기적으로 캐시된 값 사용 또는 간단한 체크)
-    try {
-      return Boolean.TRUE.equals(krxMarketStatusAdapter.loadTodayMarketStatus()
-          .map(status -> {
-            boolean isOpen = status.isOpen();
-            log.debug("오늘 시장 상태: {}", isOpen ? "개장" : "휴장");
-            return isOpen;
-          })
-          .block()); // 동기 처리 (실제로는 캐싱 권장)
-    } catch (Exception e) {
-      log.warn("시장 상태 조회 실패, 시간 기반으로 판단", e);
-      return true; // 오류 시 기본값: 거래 가능
-    }
+    // 2. 휴장일 체크 (KRX 달력 캐시 - 원격 호출 없음)
+    boolean isOpen = loadTradingCalendarPort.loadTradingCalendar().isTradingDay(LocalDate.now());
+    log.debug("오늘 시장 상태: {}", isOpen ? "개장" : "휴장");
+    return isOpen;
   }
 
   @Override
@@ -0,0 +1,361 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *  키움 실시간 WebSocket 연결 풀
+ *  종목을 그룹(최대 maxItemsPerGroup)에, 그룹을 연결(최대 maxGroupsPerConnection)에 채워 넣습니다.
+ *  - 새 종목은 빈 자리가 있는 첫 번째 연결의 그룹에 채워 넣고, 가득 찬 경우에만 다음 연결을 엶 (연결 수 최소화)
+ *  - 그룹 번호는 연결마다 1부터 관리하며, 비워진 번호는 재사용
+ *  - 종목 추가/삭제는 해당 그룹에만 REG/REMOVE 를 보내므로 다른 연결/그룹에는 영향이 없음
+ *
+ *  연결마다 별도의 소켓 읽기 스레드에서 메시지를 파싱하므로 수신은 연결 수만큼 병렬로 처리됩니다.
+ *  새 연결의 접속/로그인은 풀 잠금 밖에서 기다리므로 그동안 다른 연결의 추가/삭제를 막지 않습니다.
+ * </pre>
+ */
+@Slf4j
+public class KiwoomRealTimeConnectionPool {
+
+  private final int maxConnections;
+  private final int maxGroupsPerConnection;
+  private final int maxItemsPerGroup;
+  private final IntFunction<KiwoomRealTimeSession> sessionFactory;
+
+  private final Shard[] shards;
+  // 종목코드 -> 배치 위치
+  private final Map<String, Placement> placements = new HashMap<>();
+
+  private record Placement(int shardIndex, int groupNo) {
+
+  }
+
+  private static final class Shard {
+
+    private KiwoomRealTimeSession session;
+    // 그룹번호 -> 종목코드 (번호 순)
+    private final TreeMap<Integer, LinkedHashSet<String>> groups = new TreeMap<>();
+    private int stockCount;
+  }
+
+  public KiwoomRealTimeConnectionPool(int maxConnections, int maxGroupsPerConnection,
+      int maxItemsPerGroup, IntFunction<KiwoomRealTimeSession> sessionFactory) {
+    if (maxConnections < 1 || maxGroupsPerConnection < 1 || maxItemsPerGroup < 1) {
+      throw new IllegalArgumentException("연결/그룹/종목 한도는 1 이상이어야 합니다.");
+    }
+    this.maxConnections = maxConnections;
+    this.maxGroupsPerConnection = maxGroupsPerConnection;
+    this.maxItemsPerGroup = maxItemsPerGroup;
+    this.sessionFactory = sessionFactory;
+    this.shards = new Shard[maxConnections];
+    for (int i = 0; i < maxConnections; i++) {
+      shards[i] = new Shard();
+    }
+  }
+
+  /**
+   * 종목 추가 - 이미 등록된 종목은 무시하고, 그룹별로 묶어 REG 1건씩 전송
+   *
+   * @return 새로 배치된 종목 목록 (한도 초과로 배치하지 못한 종목 제외)
+   */
+  public List<String> add(Collection<String> stockCodes) {
+    Map<Placement, List<String>> batches = new LinkedHashMap<>();
+    Map<Integer, KiwoomRealTimeSession> sessions = new LinkedHashMap<>();
+    synchronized (this) {
+      List<String> rejected = new ArrayList<>();
+      for (String stockCode : new LinkedHashSet<>(stockCodes)) {
+        if (placements.containsKey(stockCode)) {
+          continue;
+        }
+        Placement placement = place(stockCode);
+        if (placement == null) {
+          rejected.add(stockCode);
+          continue;
+        }
+        batches.computeIfAbsent(placement, key -> new ArrayList<>()).add(stockCode);
+        sessions.computeIfAbsent(placement.shardIndex(), this::sessionOf);
+      }
+
+      if (!rejected.isEmpty()) {
+        log.error("실시간 구독 한도 초과로 배치하지 못한 종목 {}개 (한도: {}연결 x {}그룹 x {}종목)",
+            rejected.size(), maxConnections, maxGroupsPerConnection, maxItemsPerGroup);
+      }
+    }
+
+    // 접속/로그인 대기는 잠금 밖에서 (이미 연결됐거나 재연결 중이면 바로 반환)
+    sessions.values().forEach(this::connect);
+
+    List<String> added = new ArrayList<>();
+    synchronized (this) {
+      batches.forEach((placement, batch) -> {
+        KiwoomRealTimeSession session = shards[placement.shardIndex()].session;
+        // 연결을 기다리는 사이 제거되었거나 풀이 종료된 종목은 등록하지 않음
+        List<String> placed = batch.stream()
+            .filter(stockCode -> placement.equals(placements.get(stockCode)))
+            .toList();
+        if (placed.isEmpty()) {
+          return;
+        }
+        if (session == sessions.get(placement.shardIndex())
+            && session.subscribe(String.valueOf(placement.groupNo()), placed)) {
+          added.addAll(placed);
+        } else {
+          placed.forEach(this::release);
+          log.error("[{}] 종목 실시간 시세 구독 실패: 그룹={}, 종목={}",
+              sessions.get(placement.shardIndex()).getName(), placement.groupNo(), placed);
+        }
+      });
+    }
+    return added;
+  }
+
+  /**
+   * 종목 제거 - 그룹이 비면 그룹 해지, 아니면 해당 종목만 해지
+   *
+   * @return 제거된 종목 목록
+   */
+  public synchronized List<String> remove(Collection<String> stockCodes) {
+    Map<Placement, List<String>> batches = new LinkedHashMap<>();
+    for (String stockCode : new LinkedHashSet<>(stockCodes)) {
+      Placement placement = placements.get(stockCode);
+      if (placement != null) {
+        batches.computeIfAbsent(placement, key -> new ArrayList<>()).add(stockCode);
+      }
+    }
+
+    List<String> removed = new ArrayList<>();
+    batches.forEach((placement, batch) -> {
+      KiwoomRealTimeSession session = shards[placement.shardIndex()].session;
+      batch.forEach(this::release);
+      boolean groupEmpty = !shards[placement.shardIndex()].groups.containsKey(placement.groupNo());
+      String groupNo = String.valueOf(placement.groupNo());
+      boolean result = groupEmpty ? session.unsubscribe(groupNo) : session.unsubscribe(groupNo, batch);
+      if (!result) {
+        log.warn("[{}] 종목 실시간 시세 해지 메시지 전송 실패 (재연결 시 반영): 그룹={}, 종목={}",
+            session.getName(), groupNo, batch);
+      }
+      removed.addAll(batch);
+    });
+    return removed;
+  }
+
+  /**
+   * 모든 종목 제거
+   */
+  public synchronized boolean removeAll() {
+    boolean allSuccess = true;
+    for (Shard shard : shards) {
+      if (shard.session != null && !shard.groups.isEmpty()) {
+        allSuccess &= shard.session.unsubscribeAll();
+      }
+      shard.groups.clear();
+      shard.stockCount = 0;
+    }
+    placements.clear();
+    return allSuccess;
+  }
+
+  /**
+   * 그룹 압축 - 연결마다 덜 찬 그룹의 종목을 다른 덜 찬 그룹으로 옮겨 그룹 수를 최소화
+   *
+   * <p>새 그룹에 먼저 REG 한 뒤 기존 그룹에서 REMOVE 하므로 이동 중에도 시세가 끊기지 않습니다.
+   * 연결 사이로는 옮기지 않습니다.</p>
+   *
+   * @return 이동한 종목 수
+   */
+  public synchronized int compact() {
+    int moved = 0;
+    for (int shardIndex = 0; shardIndex < shards.length; shardIndex++) {
+      moved += compact(shardIndex);
+    }
+    return moved;
+  }
+
+  private int compact(int shardIndex) {
+    Shard shard = shards[shardIndex];
+    if (shard.session == null || shard.groups.size() < 2) {
+      return 0;
+    }
+
+    Map<Integer, List<String>> registers = new LinkedHashMap<>();
+    Map<Integer, List<String>> removes = new LinkedHashMap<>();
+    while (true) {
+      List<Integer> openGroups = shard.groups.entrySet().stream()
+          .filter(entry -> entry.getValue().size() < maxItemsPerGroup)
+          .sorted(Map.Entry.comparingByValue((a, b) -> Integer.compare(a.size(), b.size())))
+          .map(Map.Entry::getKey)
+          .toList();
+      if (openGroups.size() < 2) {
+        break;
+      }
+
+      int sourceGroupNo = openGroups.get(0);
+      int targetGroupNo = openGroups.get(openGroups.size() - 1);
+      LinkedHashSet<String> source = shard.groups.get(sourceGroupNo);
+      LinkedHashSet<String> target = shard.groups.get(targetGroupNo);
+
+      List<String> moving = source.stream()
+          .limit(maxItemsPerGroup - target.size())
+          .toList();
+      for (String stockCode : moving) {
+        source.remove(stockCode);
+        target.add(stockCode);
+        placements.put(stockCode, new Placement(shardIndex, targetGroupNo));
+        registers.computeIfAbsent(targetGroupNo, key -> new ArrayList<>()).add(stockCode);
+        removes.computeIfAbsent(sourceGroupNo, key -> new ArrayList<>()).add(stockCode);
+      }
+      if (source.isEmpty()) {
+        shard.groups.remove(sourceGroupNo);
+      }
+    }
+
+    KiwoomRealTimeSession session = shard.session;
+    registers.forEach((groupNo, stocks) -> session.subscribe(String.valueOf(groupNo), stocks));
+    removes.forEach((groupNo, stocks) -> {
+      if (shard.groups.containsKey(groupNo)) {
+        session.unsubscribe(String.valueOf(groupNo), stocks);
+      } else {
+        session.unsubscribe(String.valueOf(groupNo));
+      }
+    });
+
+    int moved = removes.values().stream().mapToInt(List::size).sum();
+    if (moved > 0) {
+      log.info("[{}] 그룹 압축: {}개 종목 이동, 그룹 {}개 사용 중", session.getName(), moved,
+          shard.groups.size());
+    }
+    return moved;
+  }
+
+  public synchronized boolean contains(String stockCode) {
+    return placements.containsKey(stockCode);
+  }
+
+  public synchronized Set<String> stockCodes() {
+    return Set.copyOf(placements.keySet());
+  }
+
+  /**
+   * 연결별 종목 수 (연결 이름 -> 종목 수)
+   */
+  public synchronized Map<String, Integer> connectionLoads() {
+    Map<String, Integer> loads = new LinkedHashMap<>();
+    for (Shard shard : shards) {
+      if (shard.session != null) {
+        loads.put(shard.session.getName(), shard.stockCount);
+      }
+    }
+    return loads;
+  }
+
+  /**
+   * 연결별 그룹 번호 목록 (테스트/모니터링용)
+   */
+  synchronized Map<Integer, Set<Integer>> groupNumbers() {
+    Map<Integer, Set<Integer>> groupNumbers = new LinkedHashMap<>();
+    for (int i = 0; i < shards.length; i++) {
+      if (!shards[i].groups.isEmpty()) {
+        groupNumbers.put(i, Set.copyOf(shards[i].groups.keySet()));
+      }
+    }
+    return groupNumbers;
+  }
+
+  /**
+   * 열린 연결이 하나라도 있는지 여부
+   */
+  public synchronized boolean isAnyConnected() {
+    for (Shard shard : shards) {
+      if (shard.session != null && shard.session.isConnected()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public synchronized void shutdown() {
+    for (Shard shard : shards) {
+      if (shard.session != null) {
+        shard.session.shutdown();
+        shard.session = null;
+      }
+    }
+  }
+
+  private Placement place(String stockCode) {
+    // 앞 연결부터 채움 - 빈 자리가 있는 첫 연결
+    int shardIndex = 0;
+    while (shardIndex < shards.length && !hasCapacity(shards[shardIndex])) {
+      shardIndex++;
+    }
+    if (shardIndex == shards.length) {
+      return null;
+    }
+
+    Shard shard = shards[shardIndex];
+    int groupNo = findGroupWithSpace(shard);
+    shard.groups.computeIfAbsent(groupNo, key -> new LinkedHashSet<>()).add(stockCode);
+    shard.stockCount++;
+
+    Placement placement = new Placement(shardIndex, groupNo);
+    placements.put(stockCode, placement);
+    return placement;
+  }
+
+  private void release(String stockCode) {
+    Placement placement = placements.remove(stockCode);
+    if (placement == null) {
+      return;
+    }
+    Shard shard = shards[placement.shardIndex()];
+    Set<String> group = shard.groups.get(placement.groupNo());
+    if (group != null && group.remove(stockCode)) {
+      shard.stockCount--;
+      if (group.isEmpty()) {
+        shard.groups.remove(placement.groupNo());
+      }
+    }
+  }
+
+  private boolean hasCapacity(Shard shard) {
+    return shard.stockCount < maxGroupsPerConnection * maxItemsPerGroup;
+  }
+
+  // 빈 자리가 있는 가장 낮은 번호의 그룹, 없으면 사용하지 않는 가장 낮은 번호
+  private int findGroupWithSpace(Shard shard) {
+    for (Map.Entry<Integer, LinkedHashSet<String>> entry : shard.groups.entrySet()) {
+      if (entry.getValue().size() < maxItemsPerGroup) {
+        return entry.getKey();
+      }
+    }
+    int groupNo = 1;
+    while (shard.groups.containsKey(groupNo)) {
+      groupNo++;
+    }
+    return groupNo;
+  }
+
+  private KiwoomRealTimeSession sessionOf(int shardIndex) {
+    Shard shard = shards[shardIndex];
+    if (shard.session == null) {
+      shard.session = sessionFactory.apply(shardIndex);
+    }
+    return shard.session;
+  }
+
+  private void connect(KiwoomRealTimeSession session) {
+    if (!session.isConnected() && !session.connect()) {
+      log.warn("[{}] WebSocket 연결 실패 - 재연결 후 구독이 복구됩니다.", session.getName());
+    }
+  }
+}
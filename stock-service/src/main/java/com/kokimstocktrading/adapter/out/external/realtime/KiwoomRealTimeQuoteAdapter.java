@@ -1,299 +1,322 @@
 package com.kokimstocktrading.adapter.out.external.realtime;
 
 import com.common.ExternalSystemAdapter;
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.KiwoomRealQuoteFrame;
 import com.kokimstocktrading.adapter.out.external.config.kiwoom.KiwoomWebSocketClient;
 import com.kokimstocktrading.adapter.out.external.config.kiwoom.auth.KiwoomAuthAdapter;
+import com.kokimstocktrading.adapter.out.journal.TickJournalWriter;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder;
+import com.kokimstocktrading.application.realtime.out.LoadLatestQuotePort;
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
+import com.kokimstocktrading.application.realtime.out.SubscribeOrderBookPort;
 import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
 import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URI;
+import java.time.Duration;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.time.ZoneId;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.IntFunction;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import reactor.core.publisher.Flux;
-import reactor.core.publisher.Sinks;
 
 @ExternalSystemAdapter
 @Slf4j
-public class KiwoomRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort, DisposableBean {
+public class KiwoomRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort, LoadLatestQuotePort,
+    SubscribeOrderBookPort, DisposableBean {
 
-  private static final String REAL_TIME_MESSAGE_TYPE = "REAL";
-  private static final String STOCK_EXECUTION_TYPE = "0B";
-  private static final int QUOTE_CACHE_SIZE = 100;
+  private static final String STOCK_EXECUTION_TYPE = KiwoomWebSocketClient.STOCK_EXECUTION_TYPE;
+  private static final String STOCK_ORDER_BOOK_TYPE = KiwoomWebSocketClient.STOCK_ORDER_BOOK_TYPE;
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
-  private final String webSocketUrl;
-  private final KiwoomAuthAdapter kiwoomAuthAdapter;
-  private final Sinks.Many<RealTimeQuote> quoteSink;
-  private final Flux<RealTimeQuote> quoteFlux;
+  private final StockSymbolRegistry stockSymbolRegistry;
+  // 수신 체결 저널 (비활성화면 null)
+  private final TickJournalWriter tickJournal;
+  private final QuoteLatencyRecorder quoteLatencyRecorder;
+  private final RealTimeQuoteRouter quoteRouter;
+  // 종목별 마지막 시세 (라우팅 전에 갱신)
+  private final LatestQuoteStore latestQuoteStore = new LatestQuoteStore();
 
-  // 종목코드 -> 그룹번호 매핑
-  private final Map<String, String> stockGroupMap = new ConcurrentHashMap<>();
-  // 그룹번호 -> 종목코드 리스트 매핑
-  private final Map<String, List<String>> groupStocksMap = new ConcurrentHashMap<>();
+  private final KiwoomRealTimeConnectionPool connectionPool;
+  // 구독자 수요 변경 -> 키움 REG/REMOVE 일괄 반영
+  private final RealTimeSubscriptionCoalescer subscriptionCoalescer;
 
-  private KiwoomWebSocketClient webSocketClient;
-  private boolean isInitialized = false;
+  // 호가잔량(0D)은 체결보다 트래픽이 훨씬 많아 별도 연결 풀로 받음 (호가 폭주가 체결 수신을 밀지 않도록)
+  private final OrderBookStore orderBookStore = new OrderBookStore();
+  private final OrderBookRouter orderBookRouter;
+  private final KiwoomRealTimeConnectionPool orderBookConnectionPool;
+  private final RealTimeSubscriptionCoalescer orderBookSubscriptionCoalescer;
 
-  public KiwoomRealTimeQuoteAdapter(
-      @Value("${kiwoom.websocket.url:wss://api.kiwoom.com:10000/api/dostk/websocket}") String webSocketUrl,
-      KiwoomAuthAdapter kiwoomAuthAdapter) {
-    this.webSocketUrl = webSocketUrl;
-    this.kiwoomAuthAdapter = kiwoomAuthAdapter;
-    this.quoteSink = Sinks.many().multicast().onBackpressureBuffer();
-    this.quoteFlux = quoteSink.asFlux().cache(QUOTE_CACHE_SIZE);
-  }
-
-  private synchronized void initializeWebSocketIfNeeded() {
-    if (isWebSocketConnected()) {
-      return;
-    }
-
-    try {
-      String token = acquireAuthToken();
-      closeExistingConnection();
-      createAndConnectWebSocket(token);
+  // 구독하지 않은 종목코드로 들어와 버린 프레임 수
+  private final Counter unknownQuoteFrames;
+  private final Counter unknownOrderBookFrames;
 
-      log.info("Kiwoom WebSocket 연결 초기화 완료");
-    } catch (Exception e) {
-      log.error("WebSocket 초기화 중 오류 발생", e);
-      isInitialized = false;
-    }
-  }
+  private volatile TradingDay tradingDay;
 
-  private boolean isWebSocketConnected() {
-    return isInitialized && webSocketClient != null && webSocketClient.isConnected();
-  }
-
-  private String acquireAuthToken() {
-    String token = kiwoomAuthAdapter.getValidToken().block();
-    if (token == null) {
-      throw new IllegalStateException("실시간 시세 연결을 위한 토큰을 획득할 수 없습니다.");
-    }
-    return token;
+  public KiwoomRealTimeQuoteAdapter(
+      @Value("${kiwoom.websocket.url:wss://api.kiwoom.com:10000/api/dostk/websocket}") String webSocketUrl,
+      KiwoomAuthAdapter kiwoomAuthAdapter,
+      StockSymbolRegistry stockSymbolRegistry,
+      Optional<TickJournalWriter> tickJournal,
+      QuoteLatencyRecorder quoteLatencyRecorder,
+      ApplicationEventPublisher eventPublisher,
+      MeterRegistry meterRegistry,
+      @Value("${kiwoom.websocket.max-connections:5}") int maxConnections,
+      @Value("${kiwoom.websocket.max-groups-per-connection:20}") int maxGroupsPerConnection,
+      @Value("${kiwoom.websocket.max-items-per-group:100}") int maxItemsPerGroup,
+      @Value("${kiwoom.websocket.subscription-coalesce-window-ms:200}") long coalesceWindowMillis,
+      @Value("${kiwoom.websocket.group-compaction-interval-seconds:60}") long compactionIntervalSeconds,
+      @Value("${kiwoom.websocket.ring-buffer-size:8192}") int ringBufferSize,
+      @Value("${kiwoom.websocket.wait-strategy:BLOCKING}") RealTimeFrameRingBuffer.WaitStrategy waitStrategy,
+      @Value("${kiwoom.websocket.order-book-max-connections:1}") int orderBookMaxConnections,
+      @Value("${kiwoom.websocket.strict-buffer-size:8192}") int strictBufferSize) {
+    this.stockSymbolRegistry = stockSymbolRegistry;
+    this.tickJournal = tickJournal.orElse(null);
+    this.quoteLatencyRecorder = quoteLatencyRecorder;
+    URI serverUri = URI.create(webSocketUrl);
+    this.connectionPool = new KiwoomRealTimeConnectionPool(maxConnections, maxGroupsPerConnection,
+        maxItemsPerGroup, index -> new KiwoomRealTimeSession("ws-" + (index + 1), serverUri,
+        kiwoomAuthAdapter, this::processQuoteFrame, eventPublisher::publishEvent, meterRegistry,
+        ringBufferSize, waitStrategy));
+
+    // 라우터가 구독자 참조 카운트를 관리하고, 0 <-> 1 변경만 키움 구독에 반영
+    this.subscriptionCoalescer = new RealTimeSubscriptionCoalescer(connectionPool,
+        stockSymbolRegistry, this::demandedSymbolIds,
+        Duration.ofMillis(coalesceWindowMillis), Duration.ofSeconds(compactionIntervalSeconds));
+    this.quoteRouter = new RealTimeQuoteRouter(subscriptionCoalescer, strictBufferSize);
+
+    this.orderBookConnectionPool = new KiwoomRealTimeConnectionPool(orderBookMaxConnections,
+        maxGroupsPerConnection, maxItemsPerGroup,
+        index -> new KiwoomRealTimeSession("depth-ws-" + (index + 1), serverUri, kiwoomAuthAdapter,
+            this::processOrderBookFrame,
+            event -> log.info("호가잔량 연결 복구: 종목 {}개, 공백 {}ms", event.stockCodes().size(),
+                event.gap().toMillis()),
+            meterRegistry, ringBufferSize, waitStrategy, List.of(STOCK_ORDER_BOOK_TYPE)));
+    this.orderBookSubscriptionCoalescer = new RealTimeSubscriptionCoalescer(
+        orderBookConnectionPool, stockSymbolRegistry, this::orderBookDemandedSymbolIds,
+        Duration.ofMillis(coalesceWindowMillis), Duration.ofSeconds(compactionIntervalSeconds));
+    this.orderBookRouter = new OrderBookRouter(
+        symbolId -> orderBookStore.snapshot(symbolId, stockSymbolRegistry.codeOf(symbolId)),
+        orderBookSubscriptionCoalescer);
+
+    FunctionCounter.builder("realtime.quote.conflated", quoteRouter,
+            RealTimeQuoteRouter::conflatedTickCount)
+        .description("느린 구독자에게 개별 전달되지 않고 병합된 시세 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("realtime.quote.strict.overflows", quoteRouter,
+            RealTimeQuoteRouter::overflowedSubscriptionCount)
+        .description("밀린 시세가 버퍼 한도를 넘어 오류로 끝난 STRICT 구독 수")
+        .register(meterRegistry);
+    this.unknownQuoteFrames = Counter.builder("realtime.frames.unknown-symbol")
+        .description("구독하지 않은 종목코드라 버린 실시간 프레임 수")
+        .tag("type", STOCK_EXECUTION_TYPE)
+        .register(meterRegistry);
+    this.unknownOrderBookFrames = Counter.builder("realtime.frames.unknown-symbol")
+        .description("구독하지 않은 종목코드라 버린 실시간 프레임 수")
+        .tag("type", STOCK_ORDER_BOOK_TYPE)
+        .register(meterRegistry);
   }
 
-  private void closeExistingConnection() {
-    if (webSocketClient != null) {
-      try {
-        webSocketClient.shutdown();
-      } catch (Exception e) {
-        log.warn("이전 WebSocket 연결 종료 중 오류 발생", e);
-      }
-    }
+  private int[] demandedSymbolIds() {
+    return quoteRouter.demandedSymbolIds();
   }
 
-  private void createAndConnectWebSocket(String token) throws Exception {
-    URI uri = new URI(webSocketUrl);
-    webSocketClient = new KiwoomWebSocketClient(uri, token);
-
-    Sinks.Many<Map<String, Object>> messageSink = Sinks.many().unicast().onBackpressureBuffer();
-    messageSink.asFlux().subscribe(this::processWebSocketMessage);
-    webSocketClient.setMessageSink(messageSink);
-
-    webSocketClient.connectBlocking();
-    isInitialized = true;
+  private int[] orderBookDemandedSymbolIds() {
+    return orderBookRouter.demandedSymbolIds();
   }
 
-  @SuppressWarnings("unchecked")
-  private void processWebSocketMessage(Map<String, Object> message) {
+  /**
+   * 디코딩된 실시간 프레임 처리 (연결별 처리 스레드에서 호출, 프레임은 재사용되므로 여기서 값을 복사)
+   */
+  private void processQuoteFrame(KiwoomRealQuoteFrame frame) {
     try {
-      if (!isRealTimeMessage(message)) {
+      if (!frame.isType(STOCK_EXECUTION_TYPE) || !frame.hasItem()) {
         return;
       }
 
-      List<Map<String, Object>> dataList = (List<Map<String, Object>>) message.get("data");
-      if (dataList == null || dataList.isEmpty()) {
+      // 구독 중인 종목만 처리 (소켓에서 받은 코드는 심볼 테이블에 등록하지 않음)
+      int symbolId = frame.symbolId(stockSymbolRegistry);
+      if (symbolId < 0) {
+        unknownQuoteFrames.increment();
         return;
       }
 
-      dataList.forEach(this::processQuoteData);
+      RealTimeQuote quote = buildRealTimeQuote(symbolId, frame);
+      quoteLatencyRecorder.recordDecoded(quote);
+      latestQuoteStore.update(quote);
+      if (tickJournal != null) {
+        tickJournal.append(quote);
+      }
+      quoteRouter.route(quote);
+      if (log.isDebugEnabled()) {
+        // 항목명은 키움이 보낸 값 그대로 (디버그 로그일 때만 문자열 생성)
+        log.debug("실시간 시세 수신: 항목={}, 종목={}, 현재가={}, 등락율={}bp, 거래량={}",
+            frame.name(), quote.item(), quote.currentPrice(), quote.changeRateBasisPoints(),
+            quote.tradingVolume());
+      }
     } catch (Exception e) {
       log.error("실시간 시세 처리 중 오류 발생", e);
     }
   }
 
-  private boolean isRealTimeMessage(Map<String, Object> message) {
-    return REAL_TIME_MESSAGE_TYPE.equals(message.get("trnm"));
-  }
-
-  @SuppressWarnings("unchecked")
-  private void processQuoteData(Map<String, Object> data) {
-    String type = (String) data.get("type");
-    if (!STOCK_EXECUTION_TYPE.equals(type)) {
-      return;
-    }
-
-    String name = (String) data.get("name");
-    String item = (String) data.get("item");
-    Map<String, Object> values = (Map<String, Object>) data.get("values");
+  /**
+   * 디코딩된 호가잔량 프레임 처리 (호가 연결의 처리 스레드) - 저장소를 제자리 갱신하고 구독자에게 표시만 남김 (객체 생성 없음)
+   */
+  private void processOrderBookFrame(KiwoomRealQuoteFrame frame) {
+    try {
+      if (!frame.isType(STOCK_ORDER_BOOK_TYPE) || !frame.hasItem()) {
+        return;
+      }
 
-    if (values == null) {
-      return;
+      int symbolId = frame.symbolId(stockSymbolRegistry);
+      if (symbolId < 0) {
+        unknownOrderBookFrames.increment();
+        return;
+      }
+      orderBookStore.update(symbolId, frame,
+          toTradeTimeEpochMillis(frame.secondsOfDay(KiwoomRealQuoteFrame.QUOTE_TIME)));
+      orderBookRouter.updated(symbolId);
+    } catch (Exception e) {
+      log.error("실시간 호가잔량 처리 중 오류 발생", e);
     }
-
-    RealTimeQuote quote = buildRealTimeQuote(type, name, item, values);
-    emitQuote(quote);
   }
 
-  private RealTimeQuote buildRealTimeQuote(String type, String name, String item,
-      Map<String, Object> values) {
-    String tradeTimeStr = (String) values.get("20");
-    LocalDateTime tradeTime = parseTradeTime(tradeTimeStr);
-
+  private RealTimeQuote buildRealTimeQuote(int symbolId, KiwoomRealQuoteFrame frame) {
     return RealTimeQuote.builder()
-        .type(type)
-        .name(name)
-        .item(item)
-        .currentPrice((String) values.get("10"))
-        .priceChange((String) values.get("11"))
-        .changeRate((String) values.get("12"))
-        .askPrice((String) values.get("27"))
-        .bidPrice((String) values.get("28"))
-        .tradingVolume((String) values.get("15"))
-        .accumulatedVolume((String) values.get("13"))
-        .accumulatedAmount((String) values.get("14"))
-        .openPrice((String) values.get("16"))
-        .highPrice((String) values.get("17"))
-        .lowPrice((String) values.get("18"))
-        .tradeTime(tradeTime)
+        .symbolId(symbolId)
+        .item(stockSymbolRegistry.codeOf(symbolId))
+        .currentPrice(frame.absoluteLong(KiwoomRealQuoteFrame.CURRENT_PRICE))
+        .priceChange(frame.signedLong(KiwoomRealQuoteFrame.PRICE_CHANGE))
+        .changeRateBasisPoints(frame.fixedPoint2(KiwoomRealQuoteFrame.CHANGE_RATE))
+        .askPrice(frame.absoluteLong(KiwoomRealQuoteFrame.ASK_PRICE))
+        .bidPrice(frame.absoluteLong(KiwoomRealQuoteFrame.BID_PRICE))
+        .tradingVolume(frame.signedLong(KiwoomRealQuoteFrame.TRADING_VOLUME))
+        .accumulatedVolume(frame.absoluteLong(KiwoomRealQuoteFrame.ACCUMULATED_VOLUME))
+        .accumulatedAmount(frame.absoluteLong(KiwoomRealQuoteFrame.ACCUMULATED_AMOUNT))
+        .openPrice(frame.absoluteLong(KiwoomRealQuoteFrame.OPEN_PRICE))
+        .highPrice(frame.absoluteLong(KiwoomRealQuoteFrame.HIGH_PRICE))
+        .lowPrice(frame.absoluteLong(KiwoomRealQuoteFrame.LOW_PRICE))
+        .tradeTimeEpochMillis(
+            toTradeTimeEpochMillis(frame.secondsOfDay(KiwoomRealQuoteFrame.TRADE_TIME)))
+        .receivedNanos(frame.receivedNanos())
+        .decodedNanos(System.nanoTime())
         .build();
   }
 
-  private void emitQuote(RealTimeQuote quote) {
-    quoteSink.tryEmitNext(quote);
-    log.debug("실시간 시세 수신: 종목={}, 현재가={}, 등락율={}, 거래량={}",
-        quote.item(), quote.currentPrice(), quote.changeRate(), quote.tradingVolume());
+  /**
+   * 종목 실시간 시세 구독 - 첫 구독자가 생긴 종목만 잠시 모았다가 키움에 일괄 등록하고, 구독 취소(dispose) 시 마지막 구독자가 빠지면 자동 해지
+   */
+  @Override
+  public Flux<RealTimeQuote> subscribeStockQuote(List<String> stockCodes) {
+    return subscribeStockQuote(stockCodes, QuoteDeliveryMode.STRICT);
   }
 
   @Override
-  public Flux<RealTimeQuote> subscribeStockQuote(List<String> stockCodes) {
-    if (stockCodes == null || stockCodes.isEmpty()) {
-      return Flux.empty();
-    }
+  public Flux<RealTimeQuote> subscribeStockQuote(List<String> stockCodes,
+      QuoteDeliveryMode deliveryMode) {
+    return subscribe(stockCodes, deliveryMode, null);
+  }
 
-    initializeWebSocketIfNeeded();
+  /**
+   * 최신 시세 스냅샷으로 시작하는 구독 - 라우터 등록 직후 종목별 마지막 시세를 먼저 전달
+   */
+  @Override
+  public Flux<RealTimeQuote> subscribeStockQuoteWithSnapshot(List<String> stockCodes,
+      QuoteDeliveryMode deliveryMode) {
+    return subscribe(stockCodes, deliveryMode, latestQuoteStore::get);
+  }
 
-    if (!isInitialized) {
-      log.error("WebSocket 초기화 실패로 인해 실시간 시세를 구독할 수 없습니다.");
+  private Flux<RealTimeQuote> subscribe(List<String> stockCodes, QuoteDeliveryMode deliveryMode,
+      IntFunction<RealTimeQuote> snapshot) {
+    if (stockCodes == null || stockCodes.isEmpty()) {
       return Flux.empty();
     }
 
-    List<String> unsubscribedStocks = findUnsubscribedStocks(stockCodes);
-    if (!unsubscribedStocks.isEmpty()) {
-      subscribeNewStocks(unsubscribedStocks);
-    }
-
-    return quoteFlux.filter(quote -> stockCodes.contains(quote.item()));
+    int[] symbolIds = stockCodes.stream()
+        .mapToInt(stockSymbolRegistry::idOf)
+        .toArray();
+    return quoteRouter.subscribe(deliveryMode, snapshot, symbolIds);
   }
 
-  private List<String> findUnsubscribedStocks(List<String> stockCodes) {
-    return stockCodes.stream()
-        .filter(stockCode -> !stockGroupMap.containsKey(stockCode))
-        .toList();
+  /**
+   * 종목을 늘리고 줄일 수 있는 시세 스트림 - 종목 변경은 라우터 수요 변경으로 키움 REG/REMOVE 에 일괄 반영
+   */
+  @Override
+  public RealTimeQuoteStream openQuoteStream(QuoteDeliveryMode deliveryMode) {
+    return new RouterQuoteStream(quoteRouter, stockSymbolRegistry, deliveryMode);
   }
 
-  private void subscribeNewStocks(List<String> stockCodes) {
-    String groupNo = webSocketClient.subscribeStocks(stockCodes);
-
-    if (groupNo != null) {
-      stockCodes.forEach(stockCode -> stockGroupMap.put(stockCode, groupNo));
-      groupStocksMap.put(groupNo, stockCodes);
-      log.info("종목 실시간 시세 구독 완료: {} (그룹: {})", stockCodes, groupNo);
-    } else {
-      log.error("종목 실시간 시세 구독 실패: {}", stockCodes);
-    }
+  @Override
+  public Optional<RealTimeQuote> findLatestQuote(String stockCode) {
+    return Optional.ofNullable(latestQuoteStore.get(stockSymbolRegistry.findId(stockCode)));
   }
 
+  /**
+   * 실시간 호가잔량 구독 - 첫 구독자가 생긴 종목만 호가 연결 풀에 일괄 등록하고, 마지막 구독자가 빠지면 자동 해지
+   */
   @Override
-  public boolean unsubscribeStockQuote(List<String> stockCodes) {
-    if (stockCodes == null || stockCodes.isEmpty() || !isInitialized) {
-      return false;
-    }
-
-    List<String> subscribedStocks = findSubscribedStocks(stockCodes);
-    if (subscribedStocks.isEmpty()) {
-      log.warn("구독되지 않은 종목에 대한 구독 해지 요청: {}", stockCodes);
-      return false;
+  public Flux<OrderBook> subscribeOrderBook(List<String> stockCodes) {
+    if (stockCodes == null || stockCodes.isEmpty()) {
+      return Flux.empty();
     }
 
-    return unsubscribeStocksByGroup(subscribedStocks);
+    int[] symbolIds = stockCodes.stream()
+        .mapToInt(stockSymbolRegistry::idOf)
+        .toArray();
+    return orderBookRouter.subscribe(symbolIds);
   }
 
-  private List<String> findSubscribedStocks(List<String> stockCodes) {
-    return stockCodes.stream()
-        .filter(stockGroupMap::containsKey)
-        .toList();
+  @Override
+  public Optional<OrderBook> findOrderBook(String stockCode) {
+    int symbolId = stockSymbolRegistry.findId(stockCode);
+    return Optional.ofNullable(orderBookStore.snapshot(symbolId, stockCode));
   }
 
-  private boolean unsubscribeStocksByGroup(List<String> stockCodes) {
-    Map<String, List<String>> groupedStocks = groupStocksByGroupNumber(stockCodes);
-    boolean allSuccess = true;
-
-    for (Map.Entry<String, List<String>> entry : groupedStocks.entrySet()) {
-      String groupNo = entry.getKey();
-      List<String> stocks = entry.getValue();
-
-      if (shouldUnsubscribeGroup(groupNo, stocks)) {
-        allSuccess &= unsubscribeGroup(groupNo, stocks);
-      } else {
-        removeStocksFromGroup(groupNo, stocks);
-      }
+  @Override
+  public boolean unsubscribeStockQuote(List<String> stockCodes) {
+    if (stockCodes == null || stockCodes.isEmpty()) {
+      return false;
     }
 
-    return allSuccess;
-  }
-
-  private Map<String, List<String>> groupStocksByGroupNumber(List<String> stockCodes) {
-    return stockCodes.stream()
-        .collect(Collectors.groupingBy(stockGroupMap::get));
-  }
-
-  private boolean shouldUnsubscribeGroup(String groupNo, List<String> stocksToRemove) {
-    List<String> allStocksInGroup = groupStocksMap.get(groupNo);
-    return allStocksInGroup != null && allStocksInGroup.size() == stocksToRemove.size();
-  }
-
-  private boolean unsubscribeGroup(String groupNo, List<String> stocks) {
-    boolean result = webSocketClient.unsubscribeStocks(groupNo);
-
-    if (result) {
-      stocks.forEach(stockGroupMap::remove);
-      groupStocksMap.remove(groupNo);
-      log.info("종목 실시간 시세 구독 해지 완료: {} (그룹: {})", stocks, groupNo);
-    } else {
-      log.error("종목 실시간 시세 구독 해지 실패: {} (그룹: {})", stocks, groupNo);
+    // 다른 구독자가 아직 사용 중인 종목은 유지
+    List<String> idleStocks = stockCodes.stream()
+        .filter(stockCode -> quoteRouter.subscriberCount(stockSymbolRegistry.findId(stockCode)) == 0)
+        .toList();
+    if (idleStocks.size() < stockCodes.size()) {
+      log.info("구독자가 남아 있는 종목은 해지하지 않음: 요청={}, 해지 대상={}", stockCodes, idleStocks);
     }
 
-    return result;
-  }
-
-  private void removeStocksFromGroup(String groupNo, List<String> stocks) {
-    stocks.forEach(stockGroupMap::remove);
-    List<String> remainingStocks = groupStocksMap.get(groupNo);
-    if (remainingStocks != null) {
-      remainingStocks.removeAll(stocks);
+    List<String> removed = connectionPool.remove(idleStocks);
+    if (removed.isEmpty()) {
+      log.warn("해지할 수 있는 구독 종목이 없음: {}", stockCodes);
+      return false;
     }
-    log.info("그룹에서 일부 종목 제거: {} (그룹: {})", stocks, groupNo);
+
+    log.info("종목 실시간 시세 구독 해지 완료: {}", removed);
+    return true;
   }
 
   @Override
   public boolean unsubscribeAllStockQuotes() {
-    if (!isInitialized) {
-      return false;
-    }
-
-    boolean result = webSocketClient.unsubscribeAllGroups();
+    // 구독자가 없는 종목만 해지
+    List<String> idleStocks = connectionPool.stockCodes().stream()
+        .filter(stockCode -> quoteRouter.subscriberCount(stockSymbolRegistry.findId(stockCode)) == 0)
+        .toList();
+    boolean result = idleStocks.isEmpty()
+        || connectionPool.remove(idleStocks).size() == idleStocks.size();
 
     if (result) {
-      clearAllSubscriptions();
-      log.info("모든 종목 실시간 시세 구독 해지 완료");
+      log.info("구독자가 없는 종목 실시간 시세 구독 해지 완료: {}개", idleStocks.size());
     } else {
       log.error("모든 종목 실시간 시세 구독 해지 실패");
     }
@@ -301,42 +324,49 @@ public class KiwoomRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort, D
     return result;
   }
 
-  private void clearAllSubscriptions() {
-    stockGroupMap.clear();
-    groupStocksMap.clear();
-  }
-
   @Override
   public void destroy() {
     try {
-      if (webSocketClient != null) {
-        unsubscribeAllStockQuotes();
-        webSocketClient.shutdown();
-        log.info("WebSocket 연결 종료 완료");
-      }
+      subscriptionCoalescer.shutdown();
+      orderBookSubscriptionCoalescer.shutdown();
+      connectionPool.removeAll();
+      connectionPool.shutdown();
+      orderBookConnectionPool.removeAll();
+      orderBookConnectionPool.shutdown();
+      quoteRouter.completeAll();
+      orderBookRouter.completeAll();
+      log.info("WebSocket 연결 종료 완료");
     } catch (Exception e) {
       log.error("WebSocket 연결 종료 중 오류 발생", e);
     }
   }
 
   /**
-   * 체결시간 문자열(HHMMSS)을 LocalDateTime으로 변환
+   * 체결시간(자정 이후 초)을 epoch millis로 변환 - 당일 자정 값은 날짜가 바뀔 때만 다시 계산
    *
-   * @param tradeTimeStr 체결시간 (예: "161402")
-   * @return LocalDateTime (오늘 날짜 + 시분초)
+   * @param secondsOfDay 체결시간 (예: 161402 -> 58442), 형식 오류면 -1
+   * @return epoch millis (형식 오류면 현재 시각)
    */
-  private LocalDateTime parseTradeTime(String tradeTimeStr) {
-    if (tradeTimeStr == null || tradeTimeStr.length() != 6) {
-      return LocalDateTime.now(); // 기본값
+  private long toTradeTimeEpochMillis(int secondsOfDay) {
+    long now = System.currentTimeMillis();
+    TradingDay day = tradingDay;
+    if (day == null || now >= day.nextMidnightMillis()) {
+      day = TradingDay.of(LocalDate.now(KST));
+      tradingDay = day;
     }
 
-    try {
-      DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HHmmss");
-      LocalTime time = LocalTime.parse(tradeTimeStr, timeFormatter);
-      return LocalDateTime.of(LocalDate.now(), time);
-    } catch (Exception e) {
-      log.warn("체결시간 파싱 실패: {}", tradeTimeStr, e);
-      return LocalDateTime.now();
+    if (secondsOfDay < 0) {
+      log.warn("체결시간 파싱 실패, 현재 시각 사용");
+      return now;
+    }
+    return day.midnightMillis() + secondsOfDay * 1000L;
+  }
+
+  private record TradingDay(long midnightMillis, long nextMidnightMillis) {
+
+    private static TradingDay of(LocalDate date) {
+      return new TradingDay(date.atStartOfDay(KST).toInstant().toEpochMilli(),
+          date.plusDays(1).atStartOfDay(KST).toInstant().toEpochMilli());
     }
   }
 }
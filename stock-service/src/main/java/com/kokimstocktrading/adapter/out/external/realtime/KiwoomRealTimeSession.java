@@ -0,0 +1,432 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.KiwoomRealMessageDecoder;
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.KiwoomWebSocketClient;
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.auth.KiwoomAuthAdapter;
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.auth.OAuthTokenResponse;
+import com.kokimstocktrading.application.realtime.event.RealTimeFeedGapEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.net.URI;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *  감시(supervised) 되는 키움 실시간 WebSocket 세션
+ *  - 연결이 끊기면 지수 백오프로 재연결하고, 토큰을 새로 받아 로그인합니다.
+ *  - 재연결 후 유지 중인 모든 REG 그룹을 묶음 단위로 다시 등록합니다.
+ *  - 복구가 끝나면 시세 공백 이벤트(RealTimeFeedGapEvent)를 발행하고 복구 시간을 기록합니다.
+ *  - 처리가 밀려 링 버퍼에서 메시지를 버린 경우에도 같은 공백 이벤트를 발행합니다. (소켓 스레드는 기다리지 않음)
+ *  - 실시간 메시지는 링 버퍼를 거쳐 전용 처리 스레드에서 디코딩/전달합니다. (소켓 스레드는 수신만)
+ *  - 연결/로그인 대기(최대 수 초)는 잠금 밖에서 하고, 클라이언트 교체와 상태 변경만 잠금 안에서 합니다.
+ *    (대기 중에도 다른 스레드의 연결 요청, 연결 끊김 처리가 밀리지 않음)
+ * </pre>
+ */
+@Slf4j
+public class KiwoomRealTimeSession {
+
+  private static final long LOGIN_TIMEOUT_SECONDS = 5;
+  private static final long INITIAL_BACKOFF_MILLIS = 1_000;
+  private static final long MAX_BACKOFF_MILLIS = 30_000;
+  private static final int REPLAY_BATCH_SIZE = 100;  // 재등록 REG 메시지 1건당 최대 종목 수
+  private static final int DEFAULT_RING_BUFFER_SIZE = 8192;
+
+  private final String name;
+  private final URI serverUri;
+  private final KiwoomAuthAdapter kiwoomAuthAdapter;
+  // 이 세션이 등록하는 실시간 항목 유형 (예: 0B 체결, 0D 호가잔량)
+  private final List<String> realTypes;
+  // 소켓 스레드 -> 처리 스레드 전달 버퍼 (디코더는 처리 스레드 전용)
+  private final KiwoomRealMessageDecoder realMessageDecoder = new KiwoomRealMessageDecoder();
+  private final RealTimeFrameRingBuffer frameRingBuffer;
+  private final Consumer<RealTimeFeedGapEvent> feedGapListener;
+  private final Timer reconnectTimer;
+  private final Counter reconnectFailureCounter;
+  private final ScheduledExecutorService supervisor;
+
+  // 재연결 시 복구할 구독 상태 (그룹번호 -> 종목코드)
+  private final Map<String, List<String>> activeGroups = new ConcurrentHashMap<>();
+
+  private volatile KiwoomWebSocketClient client;
+  private volatile boolean closed = false;
+  // 로그인 거부 후에는 새 토큰으로 연결
+  private volatile boolean forceNewToken = false;
+
+  // 연결 진행 상태 (synchronized 에서만 변경)
+  private boolean connecting = false;
+  private boolean reconnecting = false;
+  private int attempt = 0;
+  private Instant disconnectedAt;
+  private long disconnectedNanos;
+
+  public KiwoomRealTimeSession(String name, URI serverUri, KiwoomAuthAdapter kiwoomAuthAdapter,
+      KiwoomRealMessageDecoder.FrameListener frameListener,
+      Consumer<RealTimeFeedGapEvent> feedGapListener, MeterRegistry meterRegistry) {
+    this(name, serverUri, kiwoomAuthAdapter, frameListener, feedGapListener, meterRegistry,
+        DEFAULT_RING_BUFFER_SIZE, RealTimeFrameRingBuffer.WaitStrategy.BLOCKING);
+  }
+
+  public KiwoomRealTimeSession(String name, URI serverUri, KiwoomAuthAdapter kiwoomAuthAdapter,
+      KiwoomRealMessageDecoder.FrameListener frameListener,
+      Consumer<RealTimeFeedGapEvent> feedGapListener, MeterRegistry meterRegistry,
+      int ringBufferSize, RealTimeFrameRingBuffer.WaitStrategy waitStrategy) {
+    this(name, serverUri, kiwoomAuthAdapter, frameListener, feedGapListener, meterRegistry,
+        ringBufferSize, waitStrategy, List.of(KiwoomWebSocketClient.STOCK_EXECUTION_TYPE));
+  }
+
+  public KiwoomRealTimeSession(String name, URI serverUri, KiwoomAuthAdapter kiwoomAuthAdapter,
+      KiwoomRealMessageDecoder.FrameListener frameListener,
+      Consumer<RealTimeFeedGapEvent> feedGapListener, MeterRegistry meterRegistry,
+      int ringBufferSize, RealTimeFrameRingBuffer.WaitStrategy waitStrategy,
+      List<String> realTypes) {
+    this.name = name;
+    this.serverUri = serverUri;
+    this.kiwoomAuthAdapter = kiwoomAuthAdapter;
+    this.realTypes = List.copyOf(realTypes);
+    this.frameRingBuffer = new RealTimeFrameRingBuffer(name, ringBufferSize, waitStrategy,
+        (message, receivedNanos) -> realMessageDecoder.decode(message, receivedNanos,
+            frameListener), this::onFramesDropped, meterRegistry);
+    this.feedGapListener = feedGapListener;
+    this.reconnectTimer = Timer.builder("kiwoom.websocket.reconnect")
+        .description("연결 끊김부터 재연결 및 구독 복구 완료까지 걸린 시간")
+        .tag("connection", name)
+        .register(meterRegistry);
+    this.reconnectFailureCounter = Counter.builder("kiwoom.websocket.reconnect.failures")
+        .description("실패한 재연결 시도 수")
+        .tag("connection", name)
+        .register(meterRegistry);
+    this.supervisor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "kiwoom-ws-supervisor-" + name);
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * 최초 연결 - 실패하면 백그라운드 재연결을 시작하고 false 반환
+   * 다른 스레드가 연결 중이면 기다리지 않고 false 반환 (등록한 그룹은 연결 후 등록됨)
+   */
+  public boolean connect() {
+    synchronized (this) {
+      if (closed) {
+        return false;
+      }
+      if (isConnected() || reconnecting || connecting) {
+        return isConnected();
+      }
+      connecting = true;
+    }
+
+    boolean connected;
+    try {
+      connected = install(open(false));
+    } finally {
+      synchronized (this) {
+        connecting = false;
+      }
+    }
+    if (connected) {
+      // 연결하는 동안 등록된 그룹
+      replayGroups();
+      return true;
+    }
+    startReconnect();
+    return false;
+  }
+
+  public boolean isConnected() {
+    KiwoomWebSocketClient current = client;
+    return current != null && current.isConnected();
+  }
+
+  /**
+   * 그룹 구독 등록 - 연결이 끊긴 상태면 재연결 후 자동으로 등록됩니다.
+   *
+   * @return 지금 등록 메시지를 보냈거나 재연결 후 등록 예정이면 true
+   */
+  public boolean subscribe(String groupNo, List<String> stockCodes) {
+    if (closed) {
+      return false;
+    }
+
+    // 상태를 먼저 기록해야 재연결 중인 경우에도 복구 대상에 포함됨
+    activeGroups.merge(groupNo, List.copyOf(stockCodes), KiwoomRealTimeSession::union);
+    if (!isConnected()) {
+      log.warn("[{}] 연결 복구 후 등록 예정: 그룹={}, 종목 수={}", name, groupNo, stockCodes.size());
+      return true;
+    }
+    return send(() -> client.subscribeStocks(groupNo, stockCodes, true));
+  }
+
+  /**
+   * 그룹 구독 해지
+   */
+  public boolean unsubscribe(String groupNo) {
+    activeGroups.remove(groupNo);
+    if (!isConnected()) {
+      return !closed;
+    }
+    return send(() -> client.unsubscribeStocks(groupNo));
+  }
+
+  /**
+   * 그룹에서 일부 종목 구독 해지 - 그룹의 나머지 종목은 유지
+   */
+  public boolean unsubscribe(String groupNo, List<String> stockCodes) {
+    List<String> remaining = activeGroups.computeIfPresent(groupNo, (key, stocks) -> {
+      List<String> left = stocks.stream().filter(code -> !stockCodes.contains(code)).toList();
+      return left.isEmpty() ? null : left;
+    });
+    if (remaining == null) {
+      return unsubscribe(groupNo);
+    }
+    if (!isConnected()) {
+      return !closed;
+    }
+    return send(() -> client.unsubscribeStocks(groupNo, stockCodes));
+  }
+
+  /**
+   * 유지 중인 종목 수
+   */
+  public int stockCount() {
+    return activeGroups.values().stream().mapToInt(List::size).sum();
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * 모든 그룹 구독 해지
+   */
+  public boolean unsubscribeAll() {
+    activeGroups.clear();
+    if (!isConnected()) {
+      return false;
+    }
+    return send(() -> client.unsubscribeAllGroups());
+  }
+
+  /**
+   * 세션 종료 - 이후 재연결하지 않음
+   */
+  public void shutdown() {
+    closed = true;
+    supervisor.shutdownNow();
+    KiwoomWebSocketClient current = client;
+    if (current != null) {
+      current.shutdown();
+    }
+    frameRingBuffer.shutdown();
+  }
+
+  /**
+   * 새 클라이언트로 연결 및 로그인 (잠금 밖에서 호출 - 최대 수 초 대기)
+   *
+   * @return 로그인까지 끝난 클라이언트, 실패하면 null
+   */
+  private KiwoomWebSocketClient open(boolean newToken) {
+    KiwoomWebSocketClient newClient = null;
+    try {
+      String token = acquireToken(newToken);
+      newClient = new KiwoomWebSocketClient(serverUri, token, realTypes);
+      newClient.setRealMessageHandler(frameRingBuffer::publish);
+      KiwoomWebSocketClient source = newClient;
+      newClient.setCloseListener(() -> onClosed(source));
+
+      if (!newClient.connectBlocking(LOGIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+          || !newClient.awaitLogin(LOGIN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+        forceNewToken = newClient.isLoginRejected();
+        closeQuietly(newClient);
+        log.warn("[{}] WebSocket 연결 또는 로그인 실패", name);
+        return null;
+      }
+      return newClient;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      closeQuietly(newClient);
+      return null;
+    } catch (Exception e) {
+      log.error("[{}] WebSocket 연결 중 오류 발생", name, e);
+      closeQuietly(newClient);
+      return null;
+    }
+  }
+
+  /**
+   * 연결된 클라이언트로 교체 (세션이 닫혔거나 그 사이 연결이 끊겼으면 버리고 false)
+   */
+  private synchronized boolean install(KiwoomWebSocketClient newClient) {
+    if (newClient == null) {
+      return false;
+    }
+    if (closed || !newClient.isConnected()) {
+      closeQuietly(newClient);
+      return false;
+    }
+
+    KiwoomWebSocketClient previous = client;
+    client = newClient;
+    closeQuietly(previous);
+    log.info("[{}] Kiwoom WebSocket 연결 완료", name);
+    return true;
+  }
+
+  private String acquireToken(boolean newToken) {
+    String token = newToken
+        ? kiwoomAuthAdapter.requestAccessToken().map(OAuthTokenResponse::token).block()
+        : kiwoomAuthAdapter.getValidToken().block();
+    if (token == null) {
+      throw new IllegalStateException("실시간 시세 연결을 위한 토큰을 획득할 수 없습니다.");
+    }
+    return token;
+  }
+
+  private void onClosed(KiwoomWebSocketClient source) {
+    if (closed || source != client) {
+      return;
+    }
+    log.warn("[{}] WebSocket 연결이 끊어졌습니다. 재연결을 시작합니다.", name);
+    startReconnect();
+  }
+
+  private synchronized void startReconnect() {
+    if (closed || reconnecting) {
+      return;
+    }
+    reconnecting = true;
+    attempt = 0;
+    disconnectedAt = Instant.now();
+    disconnectedNanos = System.nanoTime();
+    scheduleReconnect();
+  }
+
+  private void scheduleReconnect() {
+    long delayMillis = backoffMillis(attempt);
+    log.info("[{}] {}ms 후 재연결 시도 (시도 {}회차)", name, delayMillis, attempt + 1);
+    try {
+      supervisor.schedule(this::reconnect, delayMillis, TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      log.debug("[{}] 세션 종료로 재연결 예약 취소", name);
+    }
+  }
+
+  private void reconnect() {
+    boolean newToken;
+    synchronized (this) {
+      if (closed) {
+        return;
+      }
+      attempt++;
+      // 첫 시도는 캐시된 유효 토큰, 이후 또는 로그인 거부 시에는 새 토큰 발급
+      newToken = forceNewToken || attempt > 1;
+    }
+
+    if (!install(open(newToken))) {
+      if (!closed) {
+        reconnectFailureCounter.increment();
+        scheduleReconnect();
+      }
+      return;
+    }
+
+    List<String> replayedStocks = replayGroups();
+    RealTimeFeedGapEvent event;
+    int attempts;
+    synchronized (this) {
+      reconnectTimer.record(System.nanoTime() - disconnectedNanos, TimeUnit.NANOSECONDS);
+      reconnecting = false;
+      forceNewToken = false;
+      attempts = attempt;
+      event = new RealTimeFeedGapEvent(replayedStocks, disconnectedAt, Instant.now());
+    }
+
+    log.info("[{}] 재연결 및 구독 복구 완료: 그룹 {}개, 종목 {}개, 공백 {}ms, 시도 {}회", name,
+        activeGroups.size(), replayedStocks.size(), event.gap().toMillis(), attempts);
+    publishFeedGap(event);
+  }
+
+  /**
+   * 링 버퍼에서 메시지를 버린 구간을 유지 중인 전체 종목의 시세 공백으로 알림 (처리 스레드)
+   */
+  private void onFramesDropped(long droppedMessages, Instant firstDroppedAt, Instant reportedAt) {
+    List<String> stockCodes = activeGroups.values().stream()
+        .flatMap(List::stream)
+        .distinct()
+        .toList();
+    publishFeedGap(new RealTimeFeedGapEvent(stockCodes, firstDroppedAt, reportedAt));
+  }
+
+  private void publishFeedGap(RealTimeFeedGapEvent event) {
+    try {
+      feedGapListener.accept(event);
+    } catch (Exception e) {
+      log.error("[{}] 시세 공백 이벤트 처리 중 오류 발생", name, e);
+    }
+  }
+
+  private List<String> replayGroups() {
+    List<String> replayedStocks = new ArrayList<>();
+    for (Map.Entry<String, List<String>> entry : activeGroups.entrySet()) {
+      List<String> stockCodes = entry.getValue();
+      for (int from = 0; from < stockCodes.size(); from += REPLAY_BATCH_SIZE) {
+        List<String> batch = stockCodes.subList(from,
+            Math.min(from + REPLAY_BATCH_SIZE, stockCodes.size()));
+        send(() -> client.subscribeStocks(entry.getKey(), batch, true));
+      }
+      replayedStocks.addAll(stockCodes);
+    }
+    return replayedStocks;
+  }
+
+  private boolean send(SendAction action) {
+    try {
+      return action.send();
+    } catch (Exception e) {
+      // 전송 직전에 연결이 끊긴 경우 - 상태는 activeGroups에 남아 재연결 시 복구됨
+      log.warn("[{}] WebSocket 메시지 전송 실패: {}", name, e.getMessage());
+      return false;
+    }
+  }
+
+  private static long backoffMillis(int attempt) {
+    long base = Math.min(MAX_BACKOFF_MILLIS, INITIAL_BACKOFF_MILLIS << Math.min(attempt, 16));
+    // 여러 연결이 동시에 재시도하지 않도록 최대 20% 지터
+    return base + ThreadLocalRandom.current().nextLong(base / 5 + 1);
+  }
+
+  private static List<String> union(List<String> previous, List<String> added) {
+    List<String> merged = new ArrayList<>(previous);
+    for (String stockCode : added) {
+      if (!merged.contains(stockCode)) {
+        merged.add(stockCode);
+      }
+    }
+    return List.copyOf(merged);
+  }
+
+  private static void closeQuietly(KiwoomWebSocketClient target) {
+    if (target != null) {
+      target.setCloseListener(null);
+      target.shutdown();
+    }
+  }
+
+  @FunctionalInterface
+  private interface SendAction {
+
+    boolean send();
+  }
+}
@@ -0,0 +1,87 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <pre>
+ *  심볼 ID별 마지막 시세 저장소
+ *  수신 처리 스레드가 라우팅 직전에 덮어쓰고, 조회는 락 없이 배열 한 칸을 읽습니다. (O(1))
+ *
+ *  1024개 단위 청크로 나눠 두고 디렉터리만 늘립니다. 청크는 옮기지 않으므로
+ *  확장 중에 다른 종목의 쓰기가 유실되지 않습니다.
+ * </pre>
+ */
+public class LatestQuoteStore {
+
+  private static final int CHUNK_BITS = 10;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  private static final int INITIAL_CHUNKS = 4;
+
+  private volatile AtomicReferenceArray<AtomicReferenceArray<RealTimeQuote>> chunks =
+      new AtomicReferenceArray<>(INITIAL_CHUNKS);
+
+  /**
+   * 마지막 시세 갱신 (종목별로 한 스레드에서만 호출)
+   */
+  public void update(RealTimeQuote quote) {
+    int symbolId = quote.symbolId();
+    if (symbolId < 0) {
+      return;
+    }
+    chunkFor(symbolId).setRelease(symbolId & CHUNK_MASK, quote);
+  }
+
+  /**
+   * 마지막 시세 조회 (수신한 적이 없으면 null)
+   */
+  public RealTimeQuote get(int symbolId) {
+    if (symbolId < 0) {
+      return null;
+    }
+    AtomicReferenceArray<AtomicReferenceArray<RealTimeQuote>> current = chunks;
+    int chunkIndex = symbolId >>> CHUNK_BITS;
+    if (chunkIndex >= current.length()) {
+      return null;
+    }
+    AtomicReferenceArray<RealTimeQuote> chunk = current.get(chunkIndex);
+    return chunk == null ? null : chunk.getAcquire(symbolId & CHUNK_MASK);
+  }
+
+  private AtomicReferenceArray<RealTimeQuote> chunkFor(int symbolId) {
+    int chunkIndex = symbolId >>> CHUNK_BITS;
+    AtomicReferenceArray<AtomicReferenceArray<RealTimeQuote>> current = chunks;
+    if (chunkIndex < current.length()) {
+      AtomicReferenceArray<RealTimeQuote> chunk = current.get(chunkIndex);
+      if (chunk != null) {
+        return chunk;
+      }
+    }
+    return createChunk(chunkIndex);
+  }
+
+  private synchronized AtomicReferenceArray<RealTimeQuote> createChunk(int chunkIndex) {
+    AtomicReferenceArray<AtomicReferenceArray<RealTimeQuote>> current = chunks;
+    if (chunkIndex >= current.length()) {
+      int capacity = current.length();
+      while (capacity <= chunkIndex) {
+        capacity *= 2;
+      }
+      AtomicReferenceArray<AtomicReferenceArray<RealTimeQuote>> grown =
+          new AtomicReferenceArray<>(capacity);
+      for (int i = 0; i < current.length(); i++) {
+        grown.set(i, current.get(i));
+      }
+      chunks = grown;
+      current = grown;
+    }
+
+    AtomicReferenceArray<RealTimeQuote> chunk = current.get(chunkIndex);
+    if (chunk == null) {
+      chunk = new AtomicReferenceArray<>(CHUNK_SIZE);
+      current.set(chunkIndex, chunk);
+    }
+    return chunk;
+  }
+}
@@ -0,0 +1,221 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * <pre>
+ *  심볼 ID별 호가잔량 구독자 라우팅 테이블
+ *  호가는 체결보다 훨씬 자주 바뀌므로 갱신마다 객체를 만들어 넘기지 않습니다.
+ *  갱신 시에는 구독자별로 "바뀐 종목" 표시만 남기고(중복 표시 없음), 구독자가 요청(request)한 만큼만
+ *  저장소에서 최신 스냅샷을 복사해 전달합니다. 소비가 밀리면 종목별 최신 호가 하나로 자연스럽게 병합됩니다.
+ *
+ *  요청량 안에서만 전달하므로 Flux.create 자체 버퍼는 쓰지 않고, 구독자별 대기열도 구독 종목 수로 고정됩니다.
+ *
+ *  구독 테이블은 RealTimeQuoteRouter 와 같은 copy-on-write 방식이며, 0 -> 1 / 1 -> 0 변경을 DemandListener 에 알립니다.
+ * </pre>
+ */
+@Slf4j
+public class OrderBookRouter {
+
+  private static final int INITIAL_CAPACITY = 4096;
+  private static final Route[] NO_ROUTES = new Route[0];
+
+  private final IntFunction<OrderBook> snapshot;
+  private final RealTimeQuoteRouter.DemandListener demandListener;
+
+  // 심볼 ID -> 구독자 배열 (null 또는 빈 배열 = 구독자 없음)
+  private volatile AtomicReferenceArray<Route[]> routes =
+      new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+  /**
+   * 구독자 하나 - 바뀐 종목을 구독 종목 순번으로 원형 큐에 쌓아 두고 요청량만큼 스냅샷으로 전달
+   */
+  private static final class Route {
+
+    private final FluxSink<OrderBook> sink;
+    private final IntFunction<OrderBook> snapshot;
+    private final int[] symbolIds;       // 정렬된 구독 심볼 ID
+    private final boolean[] dirty;       // 순번별 전달 대기 여부
+    private final int[] queue;           // 전달 대기 순번 (종목당 최대 하나)
+    private int head;
+    private int size;
+
+    private Route(FluxSink<OrderBook> sink, IntFunction<OrderBook> snapshot, int[] symbolIds) {
+      this.sink = sink;
+      this.snapshot = snapshot;
+      this.symbolIds = symbolIds;
+      this.dirty = new boolean[symbolIds.length];
+      this.queue = new int[symbolIds.length];
+    }
+
+    synchronized void markUpdated(int symbolId) {
+      int index = Arrays.binarySearch(symbolIds, symbolId);
+      if (index >= 0 && !dirty[index]) {
+        dirty[index] = true;
+        queue[(head + size++) % queue.length] = index;
+      }
+      drain();
+    }
+
+    synchronized void drain() {
+      while (size > 0 && sink.requestedFromDownstream() > 0) {
+        int index = queue[head];
+        head = (head + 1) % queue.length;
+        size--;
+        dirty[index] = false;
+
+        OrderBook orderBook = snapshot.apply(symbolIds[index]);
+        if (orderBook != null) {
+          sink.next(orderBook);
+        }
+      }
+    }
+  }
+
+  public OrderBookRouter(IntFunction<OrderBook> snapshot,
+      RealTimeQuoteRouter.DemandListener demandListener) {
+    this.snapshot = snapshot;
+    this.demandListener = demandListener;
+  }
+
+  /**
+   * 심볼 ID 목록의 호가 스트림 구독 - 등록 직후 저장된 호가가 있는 종목은 바로 한 번 전달
+   */
+  public Flux<OrderBook> subscribe(int... symbolIds) {
+    int[] distinctIds = Arrays.stream(symbolIds).filter(id -> id >= 0).distinct().sorted()
+        .toArray();
+
+    return Flux.create(sink -> {
+      Route route = new Route(sink, snapshot, distinctIds);
+      register(distinctIds, route);
+      for (int symbolId : distinctIds) {
+        route.markUpdated(symbolId);
+      }
+      sink.onRequest(requested -> route.drain());
+      sink.onDispose(() -> unregister(distinctIds, route));
+    }, FluxSink.OverflowStrategy.ERROR);
+  }
+
+  /**
+   * 호가 갱신 알림 - 저장소 갱신 후 호출 (구독자 표시만 남기고 객체를 만들지 않음)
+   */
+  public void updated(int symbolId) {
+    AtomicReferenceArray<Route[]> current = routes;
+    if (symbolId < 0 || symbolId >= current.length()) {
+      return;
+    }
+    Route[] subscribers = current.get(symbolId);
+    if (subscribers == null) {
+      return;
+    }
+    for (Route subscriber : subscribers) {
+      subscriber.markUpdated(symbolId);
+    }
+  }
+
+  /**
+   * 해당 종목의 현재 구독자 수
+   */
+  public int subscriberCount(int symbolId) {
+    AtomicReferenceArray<Route[]> current = routes;
+    if (symbolId < 0 || symbolId >= current.length()) {
+      return 0;
+    }
+    Route[] subscribers = current.get(symbolId);
+    return subscribers == null ? 0 : subscribers.length;
+  }
+
+  /**
+   * 구독자가 있는 심볼 ID 목록
+   */
+  public int[] demandedSymbolIds() {
+    AtomicReferenceArray<Route[]> current = routes;
+    int[] symbolIds = new int[current.length()];
+    int count = 0;
+    for (int symbolId = 0; symbolId < current.length(); symbolId++) {
+      Route[] subscribers = current.get(symbolId);
+      if (subscribers != null && subscribers.length > 0) {
+        symbolIds[count++] = symbolId;
+      }
+    }
+    return Arrays.copyOf(symbolIds, count);
+  }
+
+  /**
+   * 모든 구독 스트림 완료 처리
+   */
+  public synchronized void completeAll() {
+    AtomicReferenceArray<Route[]> current = routes;
+    for (int symbolId = 0; symbolId < current.length(); symbolId++) {
+      Route[] subscribers = current.getAndSet(symbolId, null);
+      if (subscribers != null) {
+        for (Route subscriber : subscribers) {
+          subscriber.sink.complete();
+        }
+      }
+    }
+  }
+
+  private synchronized void register(int[] symbolIds, Route route) {
+    for (int symbolId : symbolIds) {
+      AtomicReferenceArray<Route[]> current = ensureCapacity(symbolId);
+      Route[] subscribers = current.get(symbolId);
+      Route[] updated = subscribers == null
+          ? new Route[1] : Arrays.copyOf(subscribers, subscribers.length + 1);
+      updated[updated.length - 1] = route;
+      current.set(symbolId, updated);
+      if (updated.length == 1) {
+        demandListener.onDemandAdded(symbolId);
+      }
+    }
+  }
+
+  private synchronized void unregister(int[] symbolIds, Route route) {
+    AtomicReferenceArray<Route[]> current = routes;
+    for (int symbolId : symbolIds) {
+      if (symbolId >= current.length()) {
+        continue;
+      }
+      Route[] subscribers = current.get(symbolId);
+      if (subscribers == null) {
+        continue;
+      }
+
+      Route[] updated = Arrays.stream(subscribers)
+          .filter(subscriber -> subscriber != route)
+          .toArray(Route[]::new);
+      if (updated.length == subscribers.length) {
+        continue;
+      }
+      current.set(symbolId, updated.length == 0 ? NO_ROUTES : updated);
+      if (updated.length == 0) {
+        demandListener.onDemandRemoved(symbolId);
+      }
+    }
+  }
+
+  private AtomicReferenceArray<Route[]> ensureCapacity(int symbolId) {
+    AtomicReferenceArray<Route[]> current = routes;
+    if (symbolId < current.length()) {
+      return current;
+    }
+
+    int capacity = current.length();
+    while (capacity <= symbolId) {
+      capacity *= 2;
+    }
+    AtomicReferenceArray<Route[]> grown = new AtomicReferenceArray<>(capacity);
+    for (int i = 0; i < current.length(); i++) {
+      grown.set(i, current.get(i));
+    }
+    routes = grown;
+    log.debug("호가잔량 라우팅 테이블 확장: {} -> {}", current.length(), capacity);
+    return grown;
+  }
+}
@@ -0,0 +1,198 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.KiwoomRealQuoteFrame;
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <pre>
+ *  심볼 ID별 호가잔량(0D) 저장소
+ *  종목마다 long 48칸(384바이트)을 미리 잡아 두고 수신 프레임 값을 제자리에 덮어씁니다. (갱신마다 객체 생성 없음)
+ *
+ *  종목별 버전 칸으로 seqlock 을 구성합니다.
+ *  - 쓰기(종목당 처리 스레드 하나): 버전을 홀수로 올리고 -> 값 기록 -> 짝수로 올려 공개
+ *  - 읽기: 짝수 버전을 읽고 값을 복사한 뒤 버전이 그대로인지 확인, 바뀌었으면 다시 읽음 (락 없음)
+ *
+ *  256종목 단위 청크로 나눠 두고 디렉터리만 늘립니다. 청크는 옮기지 않으므로 확장 중에도 쓰기가 유실되지 않습니다.
+ * </pre>
+ */
+public class OrderBookStore {
+
+  private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+
+  private static final int LEVELS = KiwoomRealQuoteFrame.DEPTH_LEVELS;
+
+  // 종목 한 칸의 배치 (long 단위)
+  private static final int VERSION = 0;
+  private static final int QUOTE_TIME = 1;
+  private static final int RECEIVED_NANOS = 2;
+  private static final int TOTAL_ASK_QUANTITY = 3;
+  private static final int TOTAL_BID_QUANTITY = 4;
+  private static final int ASK_PRICES = 8;
+  private static final int ASK_QUANTITIES = ASK_PRICES + LEVELS;
+  private static final int BID_PRICES = ASK_QUANTITIES + LEVELS;
+  private static final int BID_QUANTITIES = BID_PRICES + LEVELS;
+  private static final int STRIDE = BID_QUANTITIES + LEVELS;
+
+  private static final int CHUNK_BITS = 8;
+  private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+  private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+  private static final int INITIAL_CHUNKS = 16;
+
+  private volatile AtomicReferenceArray<long[]> chunks = new AtomicReferenceArray<>(INITIAL_CHUNKS);
+
+  /**
+   * 0D 프레임 값으로 호가를 제자리 갱신 (종목별로 한 스레드에서만 호출)
+   *
+   * @param symbolId             심볼 ID
+   * @param frame                디코딩된 0D 프레임
+   * @param quoteTimeEpochMillis 호가시간 (epoch millis)
+   */
+  public void update(int symbolId, KiwoomRealQuoteFrame frame, long quoteTimeEpochMillis) {
+    if (symbolId < 0) {
+      return;
+    }
+    long[] chunk = chunkFor(symbolId);
+    int base = (symbolId & CHUNK_MASK) * STRIDE;
+
+    long version = (long) SLOTS.getOpaque(chunk, base + VERSION);
+    SLOTS.setOpaque(chunk, base + VERSION, version + 1);
+    VarHandle.storeStoreFence();
+
+    SLOTS.setOpaque(chunk, base + QUOTE_TIME, quoteTimeEpochMillis);
+    SLOTS.setOpaque(chunk, base + RECEIVED_NANOS, frame.receivedNanos());
+    SLOTS.setOpaque(chunk, base + TOTAL_ASK_QUANTITY,
+        frame.absoluteLong(KiwoomRealQuoteFrame.TOTAL_ASK_QUANTITY));
+    SLOTS.setOpaque(chunk, base + TOTAL_BID_QUANTITY,
+        frame.absoluteLong(KiwoomRealQuoteFrame.TOTAL_BID_QUANTITY));
+    for (int level = 0; level < LEVELS; level++) {
+      SLOTS.setOpaque(chunk, base + ASK_PRICES + level,
+          frame.absoluteLong(KiwoomRealQuoteFrame.ASK_PRICES + level));
+      SLOTS.setOpaque(chunk, base + ASK_QUANTITIES + level,
+          frame.absoluteLong(KiwoomRealQuoteFrame.ASK_QUANTITIES + level));
+      SLOTS.setOpaque(chunk, base + BID_PRICES + level,
+          frame.absoluteLong(KiwoomRealQuoteFrame.BID_PRICES + level));
+      SLOTS.setOpaque(chunk, base + BID_QUANTITIES + level,
+          frame.absoluteLong(KiwoomRealQuoteFrame.BID_QUANTITIES + level));
+    }
+
+    SLOTS.setRelease(chunk, base + VERSION, version + 2);
+  }
+
+  /**
+   * 호가 변경 버전 (수신한 적이 없으면 0) - 값이 바뀌었는지만 확인할 때 사용
+   */
+  public long version(int symbolId) {
+    long[] chunk = chunkOf(symbolId);
+    return chunk == null ? 0L
+        : (long) SLOTS.getAcquire(chunk, (symbolId & CHUNK_MASK) * STRIDE + VERSION);
+  }
+
+  /**
+   * 최우선 매도호가 (없으면 0)
+   */
+  public long bestAsk(int symbolId) {
+    return readSlot(symbolId, ASK_PRICES);
+  }
+
+  /**
+   * 최우선 매수호가 (없으면 0)
+   */
+  public long bestBid(int symbolId) {
+    return readSlot(symbolId, BID_PRICES);
+  }
+
+  /**
+   * 일관된 호가 스냅샷 복사 (수신한 적이 없으면 null)
+   *
+   * @param symbolId 심볼 ID
+   * @param item     종목코드 (스냅샷에 그대로 기록)
+   */
+  public OrderBook snapshot(int symbolId, String item) {
+    long[] chunk = chunkOf(symbolId);
+    if (chunk == null) {
+      return null;
+    }
+    int base = (symbolId & CHUNK_MASK) * STRIDE;
+    long[] copy = new long[STRIDE];
+
+    while (true) {
+      long version = (long) SLOTS.getAcquire(chunk, base + VERSION);
+      if (version == 0) {
+        return null;
+      }
+      if ((version & 1) != 0) {
+        Thread.onSpinWait();
+        continue;
+      }
+      for (int offset = VERSION + 1; offset < STRIDE; offset++) {
+        copy[offset] = (long) SLOTS.getOpaque(chunk, base + offset);
+      }
+      VarHandle.loadLoadFence();
+      if ((long) SLOTS.getOpaque(chunk, base + VERSION) == version) {
+        return toOrderBook(symbolId, item, copy);
+      }
+    }
+  }
+
+  private long readSlot(int symbolId, int offset) {
+    long[] chunk = chunkOf(symbolId);
+    return chunk == null ? 0L
+        : (long) SLOTS.getOpaque(chunk, (symbolId & CHUNK_MASK) * STRIDE + offset);
+  }
+
+  private static OrderBook toOrderBook(int symbolId, String item, long[] copy) {
+    return OrderBook.builder()
+        .symbolId(symbolId)
+        .item(item)
+        .askPrices(Arrays.copyOfRange(copy, ASK_PRICES, ASK_PRICES + LEVELS))
+        .askQuantities(Arrays.copyOfRange(copy, ASK_QUANTITIES, ASK_QUANTITIES + LEVELS))
+        .bidPrices(Arrays.copyOfRange(copy, BID_PRICES, BID_PRICES + LEVELS))
+        .bidQuantities(Arrays.copyOfRange(copy, BID_QUANTITIES, BID_QUANTITIES + LEVELS))
+        .totalAskQuantity(copy[TOTAL_ASK_QUANTITY])
+        .totalBidQuantity(copy[TOTAL_BID_QUANTITY])
+        .quoteTimeEpochMillis(copy[QUOTE_TIME])
+        .receivedNanos(copy[RECEIVED_NANOS])
+        .build();
+  }
+
+  private long[] chunkOf(int symbolId) {
+    if (symbolId < 0) {
+      return null;
+    }
+    AtomicReferenceArray<long[]> current = chunks;
+    int chunkIndex = symbolId >>> CHUNK_BITS;
+    return chunkIndex < current.length() ? current.get(chunkIndex) : null;
+  }
+
+  private long[] chunkFor(int symbolId) {
+    long[] chunk = chunkOf(symbolId);
+    return chunk != null ? chunk : createChunk(symbolId >>> CHUNK_BITS);
+  }
+
+  private synchronized long[] createChunk(int chunkIndex) {
+    AtomicReferenceArray<long[]> current = chunks;
+    if (chunkIndex >= current.length()) {
+      int capacity = current.length();
+      while (capacity <= chunkIndex) {
+        capacity *= 2;
+      }
+      AtomicReferenceArray<long[]> grown = new AtomicReferenceArray<>(capacity);
+      for (int i = 0; i < current.length(); i++) {
+        grown.set(i, current.get(i));
+      }
+      chunks = grown;
+      current = grown;
+    }
+
+    long[] chunk = current.get(chunkIndex);
+    if (chunk == null) {
+      chunk = new long[CHUNK_SIZE * STRIDE];
+      current.set(chunkIndex, chunk);
+    }
+    return chunk;
+  }
+}
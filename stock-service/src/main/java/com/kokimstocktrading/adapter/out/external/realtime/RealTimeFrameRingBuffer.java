@@ -0,0 +1,311 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.ObjLongConsumer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *  소켓 읽기 스레드와 시세 처리 스레드 사이의 단일 생산자/단일 소비자 링 버퍼 (Disruptor 방식)
+ *  - 소켓 읽기 스레드는 원본 메시지를 미리 할당된 슬롯에 넣고 바로 다음 읽기로 돌아갑니다.
+ *  - 전용 소비 스레드가 디코딩, 라우팅, 구독자 처리까지 수행합니다.
+ *
+ *  생산자/소비자 시퀀스만으로 동기화하며 락을 쓰지 않습니다.
+ *  버퍼가 가득 차도 생산자(소켓 스레드)는 기다리지 않고 메시지를 버립니다. (PING/LOGIN 응답이 밀려 연결이 끊기지 않도록)
+ *  버린 메시지가 있으면 소비 스레드가 다음 처리 후 공백(GapListener)을 알려, 놓친 시세를 다시 확인하게 합니다.
+ *  생산자는 연결 하나의 소켓 읽기 스레드뿐이어야 합니다.
+ * </pre>
+ */
+@Slf4j
+public final class RealTimeFrameRingBuffer {
+
+  /**
+   * 소비 스레드의 대기 방식
+   */
+  public enum WaitStrategy {
+    BUSY_SPIN,   // 계속 확인 (지연 최소, CPU 코어 하나 점유)
+    YIELDING,    // 잠시 spin 후 yield
+    SLEEPING,    // spin/yield 후 짧게 park
+    BLOCKING     // 생산자가 깨울 때까지 park (CPU 사용 최소)
+  }
+
+  /**
+   * 버퍼가 가득 차 메시지를 버린 구간 알림 (소비 스레드에서 호출)
+   */
+  @FunctionalInterface
+  public interface GapListener {
+
+    void onGap(long droppedMessages, Instant firstDroppedAt, Instant reportedAt);
+  }
+
+  private static final int SPIN_TRIES = 100;
+  private static final long SLEEP_NANOS = 50_000;
+  private static final long BLOCKING_TIMEOUT_NANOS = 1_000_000;
+
+  private final String name;
+  private final String[] messages;
+  private final long[] publishedNanos;
+  private final int mask;
+  private final WaitStrategy waitStrategy;
+  // (메시지, 소켓 수신 시각 nanoTime)
+  private final ObjLongConsumer<String> handler;
+  private final GapListener gapListener;
+
+  // 마지막으로 발행/처리한 시퀀스
+  private final Sequence producerSequence = new Sequence();
+  private final Sequence consumerSequence = new Sequence();
+  // 생산자 스레드 전용 - 소비자 위치 캐시 (매번 volatile 읽기를 피함)
+  private long cachedConsumerSequence = -1;
+
+  // 아직 알리지 않은 버린 메시지 수와 그 중 첫 메시지를 버린 시각 (생산자 기록, 소비자 보고)
+  private final AtomicLong droppedSinceReport = new AtomicLong();
+  private volatile long firstDroppedAtMillis;
+
+  private volatile boolean consumerWaiting = false;
+  private volatile boolean running = true;
+  private final Thread consumerThread;
+
+  private final Timer latencyTimer;
+  private final Counter droppedCounter;
+
+  public RealTimeFrameRingBuffer(String name, int capacity, WaitStrategy waitStrategy,
+      ObjLongConsumer<String> handler, MeterRegistry meterRegistry) {
+    this(name, capacity, waitStrategy, handler, (dropped, from, to) -> {
+    }, meterRegistry);
+  }
+
+  public RealTimeFrameRingBuffer(String name, int capacity, WaitStrategy waitStrategy,
+      ObjLongConsumer<String> handler, GapListener gapListener, MeterRegistry meterRegistry) {
+    if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+      throw new IllegalArgumentException("링 버퍼 크기는 2의 거듭제곱이어야 합니다: " + capacity);
+    }
+    this.name = name;
+    this.messages = new String[capacity];
+    this.publishedNanos = new long[capacity];
+    this.mask = capacity - 1;
+    this.waitStrategy = waitStrategy;
+    this.handler = handler;
+    this.gapListener = gapListener;
+
+    this.latencyTimer = Timer.builder("kiwoom.realtime.frame.latency")
+        .description("소켓 수신부터 디코딩 및 구독자 전달 완료까지 걸린 시간")
+        .tag("connection", name)
+        .publishPercentiles(0.5, 0.99, 0.999)
+        .register(meterRegistry);
+    this.droppedCounter = Counter.builder("kiwoom.realtime.ring.dropped")
+        .description("링 버퍼가 가득 차 버린 실시간 메시지 수")
+        .tag("connection", name)
+        .register(meterRegistry);
+    Gauge.builder("kiwoom.realtime.ring.depth", this, RealTimeFrameRingBuffer::depth)
+        .description("처리 대기 중인 실시간 메시지 수")
+        .tag("connection", name)
+        .register(meterRegistry);
+
+    this.consumerThread = new Thread(this::consume, "kiwoom-ws-consumer-" + name);
+    consumerThread.setDaemon(true);
+    consumerThread.start();
+  }
+
+  /**
+   * 메시지 발행 (소켓 읽기 스레드에서만 호출) - 기다리지 않음
+   *
+   * @return 버퍼가 가득 차 버렸거나 종료되어 발행하지 못했으면 false
+   */
+  public boolean publish(String message) {
+    if (!running) {
+      return false;
+    }
+    long next = producerSequence.getPlain() + 1;
+    long wrapPoint = next - messages.length;
+    if (cachedConsumerSequence < wrapPoint) {
+      cachedConsumerSequence = consumerSequence.getAcquire();
+      if (cachedConsumerSequence < wrapPoint) {
+        drop();
+        return false;
+      }
+    }
+
+    int index = (int) next & mask;
+    messages[index] = message;
+    publishedNanos[index] = System.nanoTime();
+    if (waitStrategy == WaitStrategy.BLOCKING) {
+      // 아래 consumerWaiting 읽기보다 먼저 보이도록 volatile 쓰기
+      producerSequence.setVolatile(next);
+      if (consumerWaiting) {
+        LockSupport.unpark(consumerThread);
+      }
+    } else {
+      producerSequence.setRelease(next);
+    }
+    return true;
+  }
+
+  private void drop() {
+    droppedCounter.increment();
+    if (droppedSinceReport.get() == 0) {
+      firstDroppedAtMillis = System.currentTimeMillis();
+    }
+    droppedSinceReport.incrementAndGet();
+  }
+
+  /**
+   * 처리 대기 중인 메시지 수
+   */
+  public long depth() {
+    return Math.max(0, producerSequence.getAcquire() - consumerSequence.getAcquire());
+  }
+
+  public int capacity() {
+    return messages.length;
+  }
+
+  /**
+   * 소비 스레드 종료 - 처리되지 않은 메시지는 버림
+   */
+  public void shutdown() {
+    running = false;
+    LockSupport.unpark(consumerThread);
+    try {
+      consumerThread.join(TimeUnit.SECONDS.toMillis(1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void consume() {
+    long next = 0;
+    int idleCount = 0;
+    while (running) {
+      long available = producerSequence.getAcquire();
+      if (available < next) {
+        idleCount = idle(next, idleCount);
+        continue;
+      }
+
+      for (long sequence = next; sequence <= available; sequence++) {
+        int index = (int) sequence & mask;
+        String message = messages[index];
+        long published = publishedNanos[index];
+        messages[index] = null;
+        try {
+          handler.accept(message, published);
+        } catch (Exception e) {
+          log.error("[{}] 실시간 메시지 처리 중 오류 발생", name, e);
+        }
+        latencyTimer.record(System.nanoTime() - published, TimeUnit.NANOSECONDS);
+      }
+      consumerSequence.setRelease(available);
+      next = available + 1;
+      idleCount = 0;
+      if (droppedSinceReport.get() > 0) {
+        reportGap();
+      }
+    }
+    log.info("[{}] 실시간 메시지 소비 스레드 종료", name);
+  }
+
+  /**
+   * 버린 메시지 구간 알림 (소비 스레드)
+   */
+  private void reportGap() {
+    Instant firstDroppedAt = Instant.ofEpochMilli(firstDroppedAtMillis);
+    long dropped = droppedSinceReport.getAndSet(0);
+    log.warn("[{}] 링 버퍼가 가득 차 실시간 메시지 {}개를 버렸습니다. (첫 유실 {})", name, dropped,
+        firstDroppedAt);
+    try {
+      gapListener.onGap(dropped, firstDroppedAt, Instant.now());
+    } catch (Exception e) {
+      log.error("[{}] 실시간 메시지 유실 처리 중 오류 발생", name, e);
+    }
+  }
+
+  private int idle(long next, int idleCount) {
+    switch (waitStrategy) {
+      case BUSY_SPIN -> Thread.onSpinWait();
+      case YIELDING -> {
+        if (idleCount < SPIN_TRIES) {
+          Thread.onSpinWait();
+        } else {
+          Thread.yield();
+        }
+      }
+      case SLEEPING -> {
+        if (idleCount < SPIN_TRIES) {
+          Thread.onSpinWait();
+        } else if (idleCount < SPIN_TRIES * 2) {
+          Thread.yield();
+        } else {
+          LockSupport.parkNanos(SLEEP_NANOS);
+        }
+      }
+      case BLOCKING -> {
+        consumerWaiting = true;
+        // 대기 표시 후 다시 확인해야 깨우기 신호를 놓치지 않음 (시간 제한은 안전장치)
+        if (producerSequence.getVolatile() < next && running) {
+          LockSupport.parkNanos(this, BLOCKING_TIMEOUT_NANOS);
+        }
+        consumerWaiting = false;
+      }
+    }
+    return idleCount + 1;
+  }
+
+  /**
+   * 캐시 라인 공유(false sharing)를 피하도록 앞뒤를 채운 시퀀스
+   */
+  @SuppressWarnings("unused")
+  private static class SequenceLeftPadding {
+
+    protected long p1, p2, p3, p4, p5, p6, p7;
+  }
+
+  private static class SequenceValue extends SequenceLeftPadding {
+
+    protected long value = -1;
+  }
+
+  @SuppressWarnings("unused")
+  private static final class Sequence extends SequenceValue {
+
+    private static final VarHandle VALUE;
+
+    static {
+      try {
+        VALUE = MethodHandles.lookup().findVarHandle(SequenceValue.class, "value", long.class);
+      } catch (ReflectiveOperationException e) {
+        throw new ExceptionInInitializerError(e);
+      }
+    }
+
+    protected long p9, p10, p11, p12, p13, p14, p15;
+
+    long getPlain() {
+      return (long) VALUE.get(this);
+    }
+
+    long getAcquire() {
+      return (long) VALUE.getAcquire(this);
+    }
+
+    long getVolatile() {
+      return (long) VALUE.getVolatile(this);
+    }
+
+    void setRelease(long newValue) {
+      VALUE.setRelease(this, newValue);
+    }
+
+    void setVolatile(long newValue) {
+      VALUE.setVolatile(this, newValue);
+    }
+  }
+}
@@ -0,0 +1,467 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+
+/**
+ * <pre>
+ *  심볼 ID별 구독자 라우팅 테이블
+ *  틱마다 해당 종목을 구독한 구독자에게만 전달합니다. (전체 구독자 filter 대신 심볼 ID 인덱스 조회 O(1))
+ *
+ *  라우팅(연결별 처리 스레드)은 락 없이 배열을 읽기만 하고,
+ *  구독/해지 시에만 동기화 후 해당 심볼의 구독자 배열을 새로 만들어 교체합니다. (copy-on-write)
+ *
+ *  심볼별 구독자 배열의 길이가 곧 참조 카운트이며, 0 -> 1 / 1 -> 0 으로 바뀔 때 DemandListener 에 알립니다.
+ *
+ *  스냅샷을 지정한 구독은 등록 직후 종목별 최신 시세 하나씩을 먼저 받습니다. (저장소 갱신이 라우팅보다 먼저이므로 사이 시세 누락 없음)
+ *
+ *  SymbolSetSubscription 은 구독자 하나를 유지한 채 종목만 추가/제거합니다. (종목이 바뀔 때마다 다시 구독하지 않음)
+ *
+ *  CONFLATED 구독자는 소비가 밀리는 동안 종목별 최신 시세 하나만 보관하고(밀린 구간 고가/저가 포함),
+ *  요청(request)이 들어오면 보관한 시세를 전달합니다. 느린 구독자 때문에 버퍼가 무한히 늘어나지 않습니다.
+ *
+ *  STRICT 구독자는 모든 시세를 순서대로 받되, 밀린 시세는 strictBufferSize 건까지만 보관합니다.
+ *  넘치면 시세를 빠뜨리는 대신 오버플로 오류로 구독을 끝냅니다. (구독 해지, 오버플로 구독 수 집계)
+ *  두 방식 모두 요청량 안에서만 전달하므로 Flux.create 자체 버퍼는 쓰지 않습니다. (OverflowStrategy.ERROR)
+ * </pre>
+ */
+@Slf4j
+public class RealTimeQuoteRouter {
+
+  private static final int INITIAL_CAPACITY = 4096;
+  private static final int DEFAULT_STRICT_BUFFER_SIZE = 8192;
+  private static final Route[] NO_ROUTES = new Route[0];
+
+  private final DemandListener demandListener;
+  private final int strictBufferSize;
+
+  // 심볼 ID -> 구독자 배열 (null 또는 빈 배열 = 구독자 없음)
+  private volatile AtomicReferenceArray<Route[]> routes =
+      new AtomicReferenceArray<>(INITIAL_CAPACITY);
+
+  // 병합되어 개별 전달되지 않은 시세 수 (전체 구독자 합계)
+  private final LongAdder conflatedTicks = new LongAdder();
+  // 밀린 시세가 한도를 넘어 오류로 끝난 STRICT 구독 수
+  private final LongAdder overflowedSubscriptions = new LongAdder();
+
+  /**
+   * 모든 시세 구독자 - 요청량이 남아 있으면 바로 전달하고, 밀리면 한도까지 순서대로 보관 (넘치면 오류로 종료)
+   */
+  private static class Route {
+
+    protected final FluxSink<RealTimeQuote> sink;
+    // 전달 대기 중인 시세 (수신 순서)
+    private final ArrayDeque<RealTimeQuote> buffered = new ArrayDeque<>();
+    private final int bufferSize;
+    private final LongAdder overflowedSubscriptions;
+    private boolean overflowed;
+
+    private Route(FluxSink<RealTimeQuote> sink) {
+      this(sink, 0, null);
+    }
+
+    private Route(FluxSink<RealTimeQuote> sink, int bufferSize, LongAdder overflowedSubscriptions) {
+      this.sink = sink;
+      this.bufferSize = bufferSize;
+      this.overflowedSubscriptions = overflowedSubscriptions;
+    }
+
+    synchronized void offer(RealTimeQuote quote) {
+      if (overflowed) {
+        return;
+      }
+      if (buffered.isEmpty() && sink.requestedFromDownstream() > 0) {
+        sink.next(quote);
+        return;
+      }
+      if (buffered.size() >= bufferSize) {
+        overflowed = true;
+        buffered.clear();
+        overflowedSubscriptions.increment();
+        log.warn("STRICT 구독 버퍼 초과({}건)로 구독을 종료합니다.", bufferSize);
+        sink.error(Exceptions.failWithOverflow(
+            "STRICT 구독자가 밀린 시세 " + bufferSize + "건을 넘었습니다. CONFLATED 구독을 사용하세요."));
+        return;
+      }
+      buffered.add(quote);
+      drain();
+    }
+
+    synchronized void drain() {
+      while (!buffered.isEmpty() && sink.requestedFromDownstream() > 0) {
+        sink.next(buffered.poll());
+      }
+    }
+
+    /**
+     * 등록 직후 종목별 최신 시세를 먼저 전달 - offer 와 같은 락 안에서 읽으므로 스냅샷보다 오래된 실시간 시세가 뒤따르지 않음
+     */
+    synchronized void seed(int[] symbolIds, IntFunction<RealTimeQuote> snapshot) {
+      for (int symbolId : symbolIds) {
+        RealTimeQuote latest = snapshot.apply(symbolId);
+        if (latest != null) {
+          offer(latest);
+        }
+      }
+    }
+  }
+
+  /**
+   * 최신 시세 병합 구독자 - 요청량이 남아 있으면 바로 전달하고, 밀리면 종목별로 병합해 보관
+   */
+  private static final class ConflatingRoute extends Route {
+
+    private final LongAdder conflatedTicks;
+    // 전달 대기 중인 종목별 시세 (처음 밀린 순서 유지)
+    private final LinkedHashMap<Integer, RealTimeQuote> pending = new LinkedHashMap<>();
+    private long mergedTicks;
+
+    private ConflatingRoute(FluxSink<RealTimeQuote> sink, LongAdder conflatedTicks) {
+      super(sink);
+      this.conflatedTicks = conflatedTicks;
+    }
+
+    @Override
+    synchronized void offer(RealTimeQuote quote) {
+      if (pending.isEmpty() && sink.requestedFromDownstream() > 0) {
+        sink.next(quote);
+        return;
+      }
+
+      RealTimeQuote previous = pending.get(quote.symbolId());
+      if (previous == null) {
+        pending.put(quote.symbolId(), quote);
+      } else {
+        pending.put(quote.symbolId(), quote.conflateWith(previous));
+        mergedTicks++;
+        conflatedTicks.increment();
+      }
+      drain();
+    }
+
+    @Override
+    synchronized void drain() {
+      // 전달 중 재진입(onRequest)해도 안전하도록 매번 새 iterator 사용
+      while (!pending.isEmpty() && sink.requestedFromDownstream() > 0) {
+        Iterator<RealTimeQuote> iterator = pending.values().iterator();
+        RealTimeQuote next = iterator.next();
+        iterator.remove();
+        sink.next(next);
+      }
+    }
+
+    private synchronized long mergedTicks() {
+      return mergedTicks;
+    }
+  }
+
+  /**
+   * 심볼별 수요(구독자 유무) 변경 알림 - 라우팅 테이블 락 안에서 호출되므로 빠르게 반환해야 함
+   */
+  public interface DemandListener {
+
+    void onDemandAdded(int symbolId);
+
+    void onDemandRemoved(int symbolId);
+  }
+
+  public RealTimeQuoteRouter() {
+    this(new DemandListener() {
+      @Override
+      public void onDemandAdded(int symbolId) {
+      }
+
+      @Override
+      public void onDemandRemoved(int symbolId) {
+      }
+    });
+  }
+
+  public RealTimeQuoteRouter(DemandListener demandListener) {
+    this(demandListener, DEFAULT_STRICT_BUFFER_SIZE);
+  }
+
+  /**
+   * @param strictBufferSize STRICT 구독자별로 보관할 밀린 시세 최대 건수
+   */
+  public RealTimeQuoteRouter(DemandListener demandListener, int strictBufferSize) {
+    if (strictBufferSize < 1) {
+      throw new IllegalArgumentException("STRICT 구독 버퍼 크기는 1 이상이어야 합니다: " + strictBufferSize);
+    }
+    this.demandListener = demandListener;
+    this.strictBufferSize = strictBufferSize;
+  }
+
+  /**
+   * 심볼 ID 목록의 시세 스트림 구독 (모든 시세 전달, 밀린 시세가 한도를 넘으면 오류) - 구독이 취소되면 라우팅 테이블에서 제거
+   */
+  public Flux<RealTimeQuote> subscribe(int... symbolIds) {
+    return subscribe(QuoteDeliveryMode.STRICT, symbolIds);
+  }
+
+  /**
+   * 전달 방식을 지정한 시세 스트림 구독
+   */
+  public Flux<RealTimeQuote> subscribe(QuoteDeliveryMode deliveryMode, int... symbolIds) {
+    return subscribe(deliveryMode, null, symbolIds);
+  }
+
+  /**
+   * 최신 시세 스냅샷으로 시작하는 시세 스트림 구독
+   *
+   * @param snapshot 심볼 ID -> 최신 시세 (없으면 null), null 이면 스냅샷 없이 구독
+   */
+  public Flux<RealTimeQuote> subscribe(QuoteDeliveryMode deliveryMode,
+      IntFunction<RealTimeQuote> snapshot, int... symbolIds) {
+    int[] distinctIds = Arrays.stream(symbolIds).distinct().toArray();
+
+    return Flux.create(sink -> {
+      Route route = newRoute(deliveryMode, sink);
+      register(distinctIds, route);
+      if (snapshot != null) {
+        route.seed(distinctIds, snapshot);
+      }
+      sink.onRequest(requested -> route.drain());
+      sink.onDispose(() -> {
+        unregister(distinctIds, route);
+        if (route instanceof ConflatingRoute conflating && conflating.mergedTicks() > 0) {
+          log.info("병합 구독 종료: 종목 수={}, 병합된 시세={}건", distinctIds.length,
+              conflating.mergedTicks());
+        }
+      });
+    }, FluxSink.OverflowStrategy.ERROR);
+  }
+
+  /**
+   * 종목이 비어 있는 구독 열기 - 이후 add/remove 로 종목 변경
+   */
+  public SymbolSetSubscription openSymbolSet(QuoteDeliveryMode deliveryMode) {
+    return new SymbolSetSubscription(deliveryMode);
+  }
+
+  /**
+   * 종목을 늘리고 줄일 수 있는 구독 하나
+   * 구독자(Route)는 그대로 두고 추가/제거한 심볼의 구독자 배열만 교체하므로, 남은 종목의 시세는 끊기지 않습니다.
+   */
+  public final class SymbolSetSubscription {
+
+    private final BitSet symbolIds = new BitSet();
+    private final Flux<RealTimeQuote> flux;
+    private Route route;
+
+    private SymbolSetSubscription(QuoteDeliveryMode deliveryMode) {
+      this.flux = Flux.create(sink -> {
+        Route created = newRoute(deliveryMode, sink);
+        synchronized (this) {
+          if (route != null) {
+            sink.error(new IllegalStateException("이미 구독 중인 종목 구독입니다."));
+            return;
+          }
+          route = created;
+          register(symbolIds.stream().toArray(), created);
+        }
+        sink.onRequest(requested -> created.drain());
+        sink.onDispose(() -> detach(created));
+      }, FluxSink.OverflowStrategy.ERROR);
+    }
+
+    public Flux<RealTimeQuote> flux() {
+      return flux;
+    }
+
+    public synchronized void add(int symbolId) {
+      if (symbolId < 0 || symbolIds.get(symbolId)) {
+        return;
+      }
+      symbolIds.set(symbolId);
+      if (route != null) {
+        register(new int[]{symbolId}, route);
+      }
+    }
+
+    public synchronized void remove(int symbolId) {
+      if (symbolId < 0 || !symbolIds.get(symbolId)) {
+        return;
+      }
+      symbolIds.clear(symbolId);
+      if (route != null) {
+        unregister(new int[]{symbolId}, route);
+      }
+    }
+
+    public synchronized int[] symbolIds() {
+      return symbolIds.stream().toArray();
+    }
+
+    private synchronized void detach(Route detached) {
+      if (route == detached) {
+        unregister(symbolIds.stream().toArray(), detached);
+        route = null;
+      }
+    }
+  }
+
+  /**
+   * 시세를 해당 종목 구독자에게만 전달
+   */
+  public void route(RealTimeQuote quote) {
+    AtomicReferenceArray<Route[]> current = routes;
+    int symbolId = quote.symbolId();
+    if (symbolId < 0 || symbolId >= current.length()) {
+      return;
+    }
+
+    Route[] subscribers = current.get(symbolId);
+    if (subscribers == null) {
+      return;
+    }
+    for (Route subscriber : subscribers) {
+      subscriber.offer(quote);
+    }
+  }
+
+  /**
+   * 해당 종목의 현재 구독자 수
+   */
+  public int subscriberCount(int symbolId) {
+    AtomicReferenceArray<Route[]> current = routes;
+    if (symbolId < 0 || symbolId >= current.length()) {
+      return 0;
+    }
+    Route[] subscribers = current.get(symbolId);
+    return subscribers == null ? 0 : subscribers.length;
+  }
+
+  /**
+   * 병합 구독자에게 개별 전달되지 않고 병합된 시세 수 (누적)
+   */
+  public long conflatedTickCount() {
+    return conflatedTicks.sum();
+  }
+
+  /**
+   * 밀린 시세가 한도를 넘어 오류로 끝난 STRICT 구독 수 (누적)
+   */
+  public long overflowedSubscriptionCount() {
+    return overflowedSubscriptions.sum();
+  }
+
+  /**
+   * 구독자가 있는 심볼 ID 목록
+   */
+  public int[] demandedSymbolIds() {
+    AtomicReferenceArray<Route[]> current = routes;
+    int[] symbolIds = new int[current.length()];
+    int count = 0;
+    for (int symbolId = 0; symbolId < current.length(); symbolId++) {
+      Route[] subscribers = current.get(symbolId);
+      if (subscribers != null && subscribers.length > 0) {
+        symbolIds[count++] = symbolId;
+      }
+    }
+    return Arrays.copyOf(symbolIds, count);
+  }
+
+  /**
+   * 모든 구독 스트림 완료 처리
+   */
+  public synchronized void completeAll() {
+    AtomicReferenceArray<Route[]> current = routes;
+    for (int symbolId = 0; symbolId < current.length(); symbolId++) {
+      Route[] subscribers = current.getAndSet(symbolId, null);
+      if (subscribers != null) {
+        for (Route subscriber : subscribers) {
+          subscriber.sink.complete();
+        }
+      }
+    }
+  }
+
+  private Route newRoute(QuoteDeliveryMode deliveryMode, FluxSink<RealTimeQuote> sink) {
+    return deliveryMode == QuoteDeliveryMode.CONFLATED
+        ? new ConflatingRoute(sink, conflatedTicks)
+        : new Route(sink, strictBufferSize, overflowedSubscriptions);
+  }
+
+  private synchronized void register(int[] symbolIds, Route route) {
+    for (int symbolId : symbolIds) {
+      AtomicReferenceArray<Route[]> current = ensureCapacity(symbolId);
+      Route[] subscribers = current.get(symbolId);
+      Route[] updated = subscribers == null
+          ? new Route[1] : Arrays.copyOf(subscribers, subscribers.length + 1);
+      updated[updated.length - 1] = route;
+      current.set(symbolId, updated);
+      if (updated.length == 1) {
+        demandListener.onDemandAdded(symbolId);
+      }
+    }
+  }
+
+  private synchronized void unregister(int[] symbolIds, Route route) {
+    AtomicReferenceArray<Route[]> current = routes;
+    for (int symbolId : symbolIds) {
+      if (symbolId >= current.length()) {
+        continue;
+      }
+      Route[] subscribers = current.get(symbolId);
+      if (subscribers == null) {
+        continue;
+      }
+
+      int index = indexOf(subscribers, route);
+      if (index < 0) {
+        continue;
+      }
+      if (subscribers.length == 1) {
+        current.set(symbolId, NO_ROUTES);
+        demandListener.onDemandRemoved(symbolId);
+        continue;
+      }
+
+      Route[] updated = new Route[subscribers.length - 1];
+      System.arraycopy(subscribers, 0, updated, 0, index);
+      System.arraycopy(subscribers, index + 1, updated, index, updated.length - index);
+      current.set(symbolId, updated);
+    }
+  }
+
+  private AtomicReferenceArray<Route[]> ensureCapacity(int symbolId) {
+    AtomicReferenceArray<Route[]> current = routes;
+    if (symbolId < current.length()) {
+      return current;
+    }
+
+    int capacity = current.length();
+    while (capacity <= symbolId) {
+      capacity *= 2;
+    }
+    AtomicReferenceArray<Route[]> grown = new AtomicReferenceArray<>(capacity);
+    for (int i = 0; i < current.length(); i++) {
+      grown.set(i, current.get(i));
+    }
+    routes = grown;
+    log.debug("실시간 시세 라우팅 테이블 확장: {} -> {}", current.length(), capacity);
+    return grown;
+  }
+
+  private static int indexOf(Route[] subscribers, Route route) {
+    for (int i = 0; i < subscribers.length; i++) {
+      if (subscribers[i] == route) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
@@ -0,0 +1,158 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *  실시간 구독 수요 변경을 모아서 키움 연결 풀에 반영
+ *  - 짧은 구간(window) 안의 추가/해지를 모아 그룹별 REG/REMOVE 한 건으로 전송 (추가 후 곧바로 해지되면 상쇄)
+ *  - 주기적으로 그룹을 압축하고, 실제 수요와 키움 등록 상태가 어긋난 종목을 바로잡음
+ * </pre>
+ */
+@Slf4j
+public class RealTimeSubscriptionCoalescer implements RealTimeQuoteRouter.DemandListener {
+
+  private final KiwoomRealTimeConnectionPool connectionPool;
+  private final StockSymbolRegistry stockSymbolRegistry;
+  private final Supplier<int[]> demandedSymbolIds;
+  private final Duration window;
+  private final ScheduledExecutorService scheduler;
+
+  // 반영 대기 중인 변경 (synchronized)
+  private final Set<String> pendingAdds = new LinkedHashSet<>();
+  private final Set<String> pendingRemoves = new LinkedHashSet<>();
+  private boolean flushScheduled = false;
+
+  public RealTimeSubscriptionCoalescer(KiwoomRealTimeConnectionPool connectionPool,
+      StockSymbolRegistry stockSymbolRegistry, Supplier<int[]> demandedSymbolIds,
+      Duration window, Duration maintenanceInterval) {
+    this.connectionPool = connectionPool;
+    this.stockSymbolRegistry = stockSymbolRegistry;
+    this.demandedSymbolIds = demandedSymbolIds;
+    this.window = window;
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+      Thread thread = new Thread(runnable, "kiwoom-subscription-coalescer");
+      thread.setDaemon(true);
+      return thread;
+    });
+    scheduler.scheduleWithFixedDelay(this::maintain, maintenanceInterval.toMillis(),
+        maintenanceInterval.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public synchronized void onDemandAdded(int symbolId) {
+    String stockCode = stockSymbolRegistry.codeOf(symbolId);
+    if (!pendingRemoves.remove(stockCode)) {
+      pendingAdds.add(stockCode);
+    }
+    scheduleFlush();
+  }
+
+  @Override
+  public synchronized void onDemandRemoved(int symbolId) {
+    String stockCode = stockSymbolRegistry.codeOf(symbolId);
+    if (!pendingAdds.remove(stockCode)) {
+      pendingRemoves.add(stockCode);
+    }
+    scheduleFlush();
+  }
+
+  /**
+   * 대기 중인 변경을 즉시 반영
+   */
+  public void flush() {
+    List<String> adds;
+    List<String> removes;
+    synchronized (this) {
+      flushScheduled = false;
+      adds = new ArrayList<>(pendingAdds);
+      removes = new ArrayList<>(pendingRemoves);
+      pendingAdds.clear();
+      pendingRemoves.clear();
+    }
+
+    try {
+      if (!removes.isEmpty()) {
+        List<String> removed = connectionPool.remove(removes);
+        log.info("수요가 없어진 종목 실시간 시세 해지: {}개", removed.size());
+      }
+      if (!adds.isEmpty()) {
+        List<String> added = connectionPool.add(adds);
+        log.info("종목 실시간 시세 구독 완료: {}개 (연결별 종목 수: {})", added.size(),
+            connectionPool.connectionLoads());
+      }
+    } catch (Exception e) {
+      log.error("실시간 구독 변경 반영 중 오류 발생", e);
+    }
+  }
+
+  /**
+   * 수요와 키움 등록 상태 맞추기 + 그룹 압축
+   */
+  public void maintain() {
+    try {
+      flush();
+      reconcile();
+      connectionPool.compact();
+    } catch (Exception e) {
+      log.error("실시간 구독 그룹 정리 중 오류 발생", e);
+    }
+  }
+
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+
+  private void reconcile() {
+    Set<String> demanded = new HashSet<>();
+    for (int symbolId : demandedSymbolIds.get()) {
+      demanded.add(stockSymbolRegistry.codeOf(symbolId));
+    }
+
+    Set<String> subscribed = connectionPool.stockCodes();
+    List<String> missing;
+    List<String> orphaned;
+    synchronized (this) {
+      // 아직 반영 대기 중인 변경은 다음 flush 에서 처리
+      missing = demanded.stream()
+          .filter(code -> !subscribed.contains(code) && !pendingAdds.contains(code))
+          .toList();
+      orphaned = subscribed.stream()
+          .filter(code -> !demanded.contains(code) && !pendingRemoves.contains(code))
+          .toList();
+    }
+
+    if (!orphaned.isEmpty()) {
+      log.info("수요 없이 등록된 종목 정리: {}개", orphaned.size());
+      connectionPool.remove(orphaned);
+    }
+    if (!missing.isEmpty()) {
+      log.info("수요가 있으나 등록되지 않은 종목 재등록: {}개", missing.size());
+      connectionPool.add(missing);
+    }
+  }
+
+  private void scheduleFlush() {
+    if (flushScheduled) {
+      return;
+    }
+    flushScheduled = true;
+    try {
+      scheduler.schedule(this::flush, window.toMillis(), TimeUnit.MILLISECONDS);
+    } catch (Exception e) {
+      flushScheduled = false;
+      log.debug("구독 변경 반영 예약 실패 (종료 중)");
+    }
+  }
+}
@@ -0,0 +1,53 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+import java.util.stream.Collectors;
+import reactor.core.publisher.Flux;
+
+/**
+ * 라우터의 종목 구독 하나를 종목코드로 다루는 시세 스트림 (키움/리플레이 어댑터 공용)
+ * 종목 추가/제거는 라우터 수요 변경으로 이어지므로, 키움 등록도 바뀐 종목만 일괄 반영됩니다.
+ */
+public class RouterQuoteStream implements RealTimeQuoteStream {
+
+  private final StockSymbolRegistry stockSymbolRegistry;
+  private final RealTimeQuoteRouter.SymbolSetSubscription subscription;
+
+  public RouterQuoteStream(RealTimeQuoteRouter quoteRouter,
+      StockSymbolRegistry stockSymbolRegistry, QuoteDeliveryMode deliveryMode) {
+    this.stockSymbolRegistry = stockSymbolRegistry;
+    this.subscription = quoteRouter.openSymbolSet(deliveryMode);
+  }
+
+  @Override
+  public Flux<RealTimeQuote> quotes() {
+    return subscription.flux();
+  }
+
+  @Override
+  public void addStocks(Collection<String> stockCodes) {
+    for (String stockCode : stockCodes) {
+      subscription.add(stockSymbolRegistry.idOf(stockCode));
+    }
+  }
+
+  @Override
+  public void removeStocks(Collection<String> stockCodes) {
+    for (String stockCode : stockCodes) {
+      subscription.remove(stockSymbolRegistry.findId(stockCode));
+    }
+  }
+
+  @Override
+  public Set<String> stockCodes() {
+    return Arrays.stream(subscription.symbolIds())
+        .mapToObj(stockSymbolRegistry::codeOf)
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,15 @@
+package com.kokimstocktrading.adapter.out.journal;
+
+/**
+ * 저널에 기록된 체결 한 건
+ */
+public record JournaledTick(
+    int symbolId,                 // 기록 당시 심볼 ID (프로세스마다 다를 수 있으므로 stockCode 사용 권장)
+    String stockCode,             // 종목코드
+    long price,                   // 체결가
+    long volume,                  // 체결량 (+매수체결, -매도체결)
+    long tradeTimeEpochMillis,    // 체결시간 (epoch millis)
+    long receiveEpochNanos        // 수신 시각 (epoch nanos)
+) {
+
+}
@@ -0,0 +1,77 @@
+package com.kokimstocktrading.adapter.out.journal;
+
+import java.nio.ByteOrder;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * <pre>
+ *  틱 저널 파일 형식
+ *  {root}/{yyyyMMdd}/ticks-{NNNNNN}.dat      : 세그먼트 (헤더 64바이트 + 고정 길이 레코드)
+ *  {root}/{yyyyMMdd}/ticks-{NNNNNN}.symbols  : 세그먼트에서 사용한 심볼 ID -> 종목코드 (한 줄에 "id,code")
+ *
+ *  헤더: magic(int) | version(int) | recordSize(int) | reserved(int) | committedCount(long) | createdEpochMillis(long)
+ *  레코드(40바이트): receiveEpochNanos | tradeTimeEpochMillis | price | volume (long) | symbolId | reserved (int)
+ *  committedCount 는 group commit 시점에만 갱신되므로, 읽는 쪽은 이 값까지만 유효한 레코드로 봅니다.
+ * </pre>
+ */
+final class TickJournalFormat {
+
+  static final ZoneId KST = ZoneId.of("Asia/Seoul");
+  static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+  static final int MAGIC = 0x4B544A31;  // "KTJ1"
+  static final int VERSION = 1;
+  static final int HEADER_SIZE = 64;
+  static final int RECORD_SIZE = 40;
+
+  static final int MAGIC_OFFSET = 0;
+  static final int VERSION_OFFSET = 4;
+  static final int RECORD_SIZE_OFFSET = 8;
+  static final int COMMITTED_COUNT_OFFSET = 16;
+  static final int CREATED_AT_OFFSET = 24;
+
+  static final int RECEIVE_NANOS_OFFSET = 0;
+  static final int TRADE_TIME_OFFSET = 8;
+  static final int PRICE_OFFSET = 16;
+  static final int VOLUME_OFFSET = 24;
+  static final int SYMBOL_ID_OFFSET = 32;
+
+  static final String SEGMENT_SUFFIX = ".dat";
+  static final String SYMBOLS_SUFFIX = ".symbols";
+
+  private static final String SEGMENT_PREFIX = "ticks-";
+  private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+  private TickJournalFormat() {
+  }
+
+  static Path dayDirectory(Path root, LocalDate day) {
+    return root.resolve(DAY_FORMAT.format(day));
+  }
+
+  static LocalDate parseDay(String directoryName) {
+    return LocalDate.parse(directoryName, DAY_FORMAT);
+  }
+
+  static String segmentName(int segmentNo) {
+    return String.format("%s%06d", SEGMENT_PREFIX, segmentNo);
+  }
+
+  /**
+   * 세그먼트 파일명에서 번호 추출 - 세그먼트 파일이 아니면 -1
+   */
+  static int segmentNo(String fileName) {
+    if (!fileName.startsWith(SEGMENT_PREFIX) || !fileName.endsWith(SEGMENT_SUFFIX)) {
+      return -1;
+    }
+    try {
+      return Integer.parseInt(
+          fileName.substring(SEGMENT_PREFIX.length(), fileName.length() - SEGMENT_SUFFIX.length()));
+    } catch (NumberFormatException e) {
+      return -1;
+    }
+  }
+}
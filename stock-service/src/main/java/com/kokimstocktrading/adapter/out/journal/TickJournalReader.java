@@ -0,0 +1,159 @@
+package com.kokimstocktrading.adapter.out.journal;
+
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.COMMITTED_COUNT_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.HEADER_SIZE;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.MAGIC;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.MAGIC_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.PRICE_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.RECEIVE_NANOS_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.RECORD_SIZE;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.RECORD_SIZE_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.SYMBOL_ID_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.TRADE_TIME_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.VERSION;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.VERSION_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.VOLUME_OFFSET;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * 틱 저널 읽기 - 하루치 세그먼트를 기록 순서대로 읽습니다. (commit 된 레코드까지만)
+ */
+public final class TickJournalReader {
+
+  private final List<Path> segments;
+
+  private TickJournalReader(List<Path> segments) {
+    this.segments = segments;
+  }
+
+  /**
+   * 저널이 있는 일자 목록 (오름차순)
+   */
+  public static List<LocalDate> availableDays(Path root) throws IOException {
+    if (!Files.isDirectory(root)) {
+      return List.of();
+    }
+    try (Stream<Path> directories = Files.list(root)) {
+      List<LocalDate> days = new ArrayList<>();
+      directories.filter(Files::isDirectory).forEach(directory -> {
+        try {
+          days.add(TickJournalFormat.parseDay(directory.getFileName().toString()));
+        } catch (DateTimeParseException ignored) {
+          // 저널 디렉터리가 아님
+        }
+      });
+      days.sort(Comparator.naturalOrder());
+      return days;
+    }
+  }
+
+  /**
+   * 특정 일자의 저널 열기 (저널이 없으면 빈 reader)
+   */
+  public static TickJournalReader open(Path root, LocalDate day) throws IOException {
+    Path dayDirectory = TickJournalFormat.dayDirectory(root, day);
+    if (!Files.isDirectory(dayDirectory)) {
+      return new TickJournalReader(List.of());
+    }
+    try (Stream<Path> files = Files.list(dayDirectory)) {
+      List<Path> segments = files
+          .filter(path -> TickJournalFormat.segmentNo(path.getFileName().toString()) >= 0)
+          .sorted(Comparator.comparingInt(
+              path -> TickJournalFormat.segmentNo(path.getFileName().toString())))
+          .toList();
+      return new TickJournalReader(segments);
+    }
+  }
+
+  /**
+   * commit 된 전체 체결 수
+   */
+  public long tickCount() throws IOException {
+    long count = 0;
+    for (Path segmentPath : segments) {
+      count += recordCount(map(segmentPath), segmentPath);
+    }
+    return count;
+  }
+
+  /**
+   * 기록 순서대로 모든 체결 읽기
+   */
+  public void forEach(Consumer<JournaledTick> consumer) throws IOException {
+    for (Path segmentPath : segments) {
+      MappedByteBuffer segment = map(segmentPath);
+      long count = recordCount(segment, segmentPath);
+      Map<Integer, String> symbols = readSymbols(segmentPath);
+
+      for (long i = 0; i < count; i++) {
+        int position = (int) (HEADER_SIZE + i * RECORD_SIZE);
+        int symbolId = segment.getInt(position + SYMBOL_ID_OFFSET);
+        consumer.accept(new JournaledTick(
+            symbolId,
+            symbols.get(symbolId),
+            segment.getLong(position + PRICE_OFFSET),
+            segment.getLong(position + VOLUME_OFFSET),
+            segment.getLong(position + TRADE_TIME_OFFSET),
+            segment.getLong(position + RECEIVE_NANOS_OFFSET)));
+      }
+    }
+  }
+
+  private static MappedByteBuffer map(Path segmentPath) throws IOException {
+    try (FileChannel channel = FileChannel.open(segmentPath, StandardOpenOption.READ)) {
+      MappedByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      segment.order(TickJournalFormat.BYTE_ORDER);
+      return segment;
+    }
+  }
+
+  private static long recordCount(MappedByteBuffer segment, Path segmentPath) throws IOException {
+    // 쓰기 스레드가 파일만 만들고 아직 헤더를 다 쓰지 않은 세그먼트 - commit 된 레코드 없음
+    if (segment.capacity() < HEADER_SIZE || segment.getInt(MAGIC_OFFSET) == 0
+        || segment.getInt(VERSION_OFFSET) == 0 || segment.getInt(RECORD_SIZE_OFFSET) == 0) {
+      return 0L;
+    }
+    if (segment.getInt(MAGIC_OFFSET) != MAGIC
+        || segment.getInt(VERSION_OFFSET) != VERSION
+        || segment.getInt(RECORD_SIZE_OFFSET) != RECORD_SIZE) {
+      throw new IOException("틱 저널 세그먼트 형식이 올바르지 않습니다: " + segmentPath);
+    }
+    long capacity = (segment.capacity() - HEADER_SIZE) / RECORD_SIZE;
+    return Math.min(segment.getLong(COMMITTED_COUNT_OFFSET), capacity);
+  }
+
+  private static Map<Integer, String> readSymbols(Path segmentPath) throws IOException {
+    String segmentFileName = segmentPath.getFileName().toString();
+    String segmentName = segmentFileName.substring(0,
+        segmentFileName.length() - TickJournalFormat.SEGMENT_SUFFIX.length());
+    Path symbolsPath = segmentPath.resolveSibling(segmentName + TickJournalFormat.SYMBOLS_SUFFIX);
+
+    Map<Integer, String> symbols = new HashMap<>();
+    if (!Files.exists(symbolsPath)) {
+      return symbols;
+    }
+    for (String line : Files.readAllLines(symbolsPath, StandardCharsets.UTF_8)) {
+      int comma = line.indexOf(',');
+      if (comma > 0) {
+        symbols.put(Integer.parseInt(line.substring(0, comma)), line.substring(comma + 1));
+      }
+    }
+    return symbols;
+  }
+}
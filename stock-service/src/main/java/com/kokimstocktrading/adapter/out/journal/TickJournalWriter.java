@@ -0,0 +1,322 @@
+package com.kokimstocktrading.adapter.out.journal;
+
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.COMMITTED_COUNT_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.CREATED_AT_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.HEADER_SIZE;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.KST;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.MAGIC;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.MAGIC_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.PRICE_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.RECEIVE_NANOS_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.RECORD_SIZE;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.RECORD_SIZE_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.SYMBOL_ID_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.TRADE_TIME_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.VERSION;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.VERSION_OFFSET;
+import static com.kokimstocktrading.adapter.out.journal.TickJournalFormat.VOLUME_OFFSET;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.BitSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * <pre>
+ *  수신한 체결을 일자별 메모리 맵 세그먼트 파일에 고정 길이 레코드로 추가 기록하는 저널
+ *
+ *  시세 처리 스레드는 미리 할당된 스테이징 배열에 숫자 5개를 쓰고 바로 돌아갑니다. (락/할당 없음)
+ *  전용 기록 스레드가 스테이징 배열을 비워 세그먼트에 쓰고, commit 주기마다 헤더의 레코드 수를 갱신한 뒤 디스크에 반영합니다. (group commit)
+ *  기록 스레드가 따라가지 못해 스테이징 배열이 가득 차면 시세 처리를 막지 않고 해당 체결의 기록을 건너뜁니다. (dropped 카운터)
+ *  수신 시각은 기록 시점이 아니라 소켓 수신 시각(receivedNanos)을 epoch 나노초로 바꿔 남깁니다. (없으면 기록 시점)
+ * </pre>
+ */
+@Slf4j
+public class TickJournalWriter implements AutoCloseable {
+
+  private static final int FIELDS = 5;
+  private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final Path root;
+  private final StockSymbolRegistry stockSymbolRegistry;
+  private final int recordsPerSegment;
+  private final long commitIntervalNanos;
+
+  // 스테이징 (여러 처리 스레드 -> 기록 스레드)
+  private final int mask;
+  private final long[] staging;
+  private final AtomicLongArray published;
+  private final AtomicLong claimSequence = new AtomicLong();
+  private volatile long drainedSequence = 0;
+
+  private final LongAdder dropped = new LongAdder();
+  private final AtomicLong written = new AtomicLong();
+
+  // epoch nanos 계산 기준 (System.nanoTime 은 단조 증가하지만 기준점이 없음)
+  private final long baseEpochNanos;
+  private final long baseNanoTime;
+
+  private volatile boolean running = true;
+  private volatile boolean failed = false;
+  private final Thread writerThread;
+
+  // 기록 스레드 전용 상태
+  private LocalDate currentDay;
+  private long dayStartEpochNanos;
+  private long dayEndEpochNanos;
+  private int segmentNo;
+  private MappedByteBuffer segment;
+  private long segmentCount;
+  private BitSet segmentSymbols;
+  private BufferedWriter symbolsWriter;
+  private boolean dirty;
+  private long lastCommitNanos;
+
+  public TickJournalWriter(Path root, StockSymbolRegistry stockSymbolRegistry,
+      int stagingCapacity, long segmentSizeBytes, long commitIntervalMillis,
+      MeterRegistry meterRegistry) {
+    if (stagingCapacity < 2 || Integer.bitCount(stagingCapacity) != 1) {
+      throw new IllegalArgumentException("스테이징 크기는 2의 거듭제곱이어야 합니다: " + stagingCapacity);
+    }
+    if (segmentSizeBytes < HEADER_SIZE + RECORD_SIZE) {
+      throw new IllegalArgumentException("세그먼트 크기가 너무 작습니다: " + segmentSizeBytes);
+    }
+    this.root = root;
+    this.stockSymbolRegistry = stockSymbolRegistry;
+    // 매핑 하나는 2GB 를 넘을 수 없음
+    this.recordsPerSegment = (int) Math.min((Integer.MAX_VALUE - HEADER_SIZE) / RECORD_SIZE,
+        (segmentSizeBytes - HEADER_SIZE) / RECORD_SIZE);
+    this.commitIntervalNanos = TimeUnit.MILLISECONDS.toNanos(commitIntervalMillis);
+
+    this.mask = stagingCapacity - 1;
+    this.staging = new long[stagingCapacity * FIELDS];
+    this.published = new AtomicLongArray(stagingCapacity);
+    for (int i = 0; i < stagingCapacity; i++) {
+      published.set(i, -1);
+    }
+
+    this.baseEpochNanos = TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+    this.baseNanoTime = System.nanoTime();
+
+    FunctionCounter.builder("tick.journal.written", written, AtomicLong::get)
+        .description("저널에 기록한 체결 수")
+        .register(meterRegistry);
+    FunctionCounter.builder("tick.journal.dropped", dropped, LongAdder::sum)
+        .description("스테이징이 가득 차 기록하지 못한 체결 수")
+        .register(meterRegistry);
+
+    this.writerThread = new Thread(this::run, "tick-journal-writer");
+    writerThread.setDaemon(true);
+    writerThread.start();
+    log.info("틱 저널 기록 시작: {}", root.toAbsolutePath());
+  }
+
+  /**
+   * 체결 기록 요청 (시세 처리 스레드에서 호출, 대기하지 않음)
+   *
+   * @return 스테이징에 들어갔으면 true, 가득 찼거나 종료/오류 상태면 false
+   */
+  public boolean append(RealTimeQuote quote) {
+    if (failed || !running) {
+      return false;
+    }
+    long receivedNanos = quote.receivedNanos() != 0 ? quote.receivedNanos() : System.nanoTime();
+    long receiveEpochNanos = baseEpochNanos + (receivedNanos - baseNanoTime);
+
+    long sequence;
+    do {
+      sequence = claimSequence.get();
+      if (sequence - drainedSequence > mask) {
+        dropped.increment();
+        return false;
+      }
+    } while (!claimSequence.compareAndSet(sequence, sequence + 1));
+
+    int index = (int) sequence & mask;
+    int base = index * FIELDS;
+    staging[base] = receiveEpochNanos;
+    staging[base + 1] = quote.tradeTimeEpochMillis();
+    staging[base + 2] = quote.currentPrice();
+    staging[base + 3] = quote.tradingVolume();
+    staging[base + 4] = quote.symbolId();
+    published.lazySet(index, sequence);
+    return true;
+  }
+
+  public long writtenCount() {
+    return written.get();
+  }
+
+  public long droppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * 남은 스테이징을 모두 기록하고 commit 한 뒤 종료
+   */
+  @Override
+  public void close() {
+    running = false;
+    LockSupport.unpark(writerThread);
+    try {
+      writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void run() {
+    try {
+      lastCommitNanos = System.nanoTime();
+      while (running) {
+        int drained = drain();
+        if (dirty && System.nanoTime() - lastCommitNanos >= commitIntervalNanos) {
+          commit();
+        }
+        if (drained == 0) {
+          LockSupport.parkNanos(IDLE_PARK_NANOS);
+        }
+      }
+      drain();
+      if (dirty) {
+        commit();
+      }
+      closeSymbolsWriter();
+      log.info("틱 저널 기록 종료: {}건 기록, {}건 누락", written.get(), dropped.sum());
+    } catch (IOException | RuntimeException e) {
+      failed = true;
+      log.error("틱 저널 기록 중 오류 발생 - 이후 체결은 기록하지 않음", e);
+    }
+  }
+
+  private int drain() throws IOException {
+    long sequence = drainedSequence;
+    int count = 0;
+    while (count <= mask) {
+      int index = (int) sequence & mask;
+      if (published.get(index) != sequence) {
+        break;
+      }
+      int base = index * FIELDS;
+      write(staging[base], staging[base + 1], staging[base + 2], staging[base + 3],
+          (int) staging[base + 4]);
+      sequence++;
+      count++;
+    }
+    if (count > 0) {
+      drainedSequence = sequence;
+      written.addAndGet(count);
+    }
+    return count;
+  }
+
+  private void write(long receiveEpochNanos, long tradeTimeEpochMillis, long price, long volume,
+      int symbolId) throws IOException {
+    if (segment == null || receiveEpochNanos >= dayEndEpochNanos
+        || receiveEpochNanos < dayStartEpochNanos) {
+      openDay(LocalDate.ofInstant(Instant.ofEpochSecond(0, receiveEpochNanos), KST));
+    } else if (segmentCount == recordsPerSegment) {
+      commit();
+      openSegment(segmentNo + 1);
+    }
+
+    if (symbolId >= 0 && !segmentSymbols.get(symbolId)) {
+      segmentSymbols.set(symbolId);
+      symbolsWriter.write(symbolId + "," + stockSymbolRegistry.codeOf(symbolId));
+      symbolsWriter.newLine();
+    }
+
+    int position = (int) (HEADER_SIZE + segmentCount * RECORD_SIZE);
+    segment.putLong(position + RECEIVE_NANOS_OFFSET, receiveEpochNanos);
+    segment.putLong(position + TRADE_TIME_OFFSET, tradeTimeEpochMillis);
+    segment.putLong(position + PRICE_OFFSET, price);
+    segment.putLong(position + VOLUME_OFFSET, volume);
+    segment.putInt(position + SYMBOL_ID_OFFSET, symbolId);
+    segmentCount++;
+    dirty = true;
+  }
+
+  /**
+   * 헤더의 레코드 수를 갱신하고 디스크에 반영 (종목 목록을 먼저 반영해야 읽는 쪽이 항상 종목코드를 찾을 수 있음)
+   */
+  private void commit() throws IOException {
+    symbolsWriter.flush();
+    segment.putLong(COMMITTED_COUNT_OFFSET, segmentCount);
+    segment.force();
+    dirty = false;
+    lastCommitNanos = System.nanoTime();
+  }
+
+  private void openDay(LocalDate day) throws IOException {
+    if (segment != null && dirty) {
+      commit();
+    }
+    currentDay = day;
+    dayStartEpochNanos = TimeUnit.SECONDS.toNanos(day.atStartOfDay(KST).toEpochSecond());
+    dayEndEpochNanos = TimeUnit.SECONDS.toNanos(day.plusDays(1).atStartOfDay(KST).toEpochSecond());
+
+    Path dayDirectory = TickJournalFormat.dayDirectory(root, day);
+    Files.createDirectories(dayDirectory);
+    // 같은 날 재시작한 경우 기존 세그먼트 다음 번호부터 (심볼 ID는 프로세스마다 달라지므로 세그먼트를 공유하지 않음)
+    int lastSegmentNo;
+    try (Stream<Path> files = Files.list(dayDirectory)) {
+      lastSegmentNo = files
+          .mapToInt(path -> TickJournalFormat.segmentNo(path.getFileName().toString()))
+          .max()
+          .orElse(-1);
+    }
+    openSegment(lastSegmentNo + 1);
+  }
+
+  private void openSegment(int newSegmentNo) throws IOException {
+    closeSymbolsWriter();
+
+    Path dayDirectory = TickJournalFormat.dayDirectory(root, currentDay);
+    String name = TickJournalFormat.segmentName(newSegmentNo);
+    long size = HEADER_SIZE + (long) recordsPerSegment * RECORD_SIZE;
+    try (FileChannel channel = FileChannel.open(
+        dayDirectory.resolve(name + TickJournalFormat.SEGMENT_SUFFIX),
+        StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+    }
+    segment.order(TickJournalFormat.BYTE_ORDER);
+    segment.putInt(MAGIC_OFFSET, MAGIC);
+    segment.putInt(VERSION_OFFSET, VERSION);
+    segment.putInt(RECORD_SIZE_OFFSET, RECORD_SIZE);
+    segment.putLong(COMMITTED_COUNT_OFFSET, 0);
+    segment.putLong(CREATED_AT_OFFSET, System.currentTimeMillis());
+
+    symbolsWriter = Files.newBufferedWriter(
+        dayDirectory.resolve(name + TickJournalFormat.SYMBOLS_SUFFIX), StandardCharsets.UTF_8,
+        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    segmentNo = newSegmentNo;
+    segmentCount = 0;
+    segmentSymbols = new BitSet();
+    log.info("틱 저널 세그먼트 생성: {}/{}", dayDirectory.getFileName(), name);
+  }
+
+  private void closeSymbolsWriter() throws IOException {
+    if (symbolsWriter != null) {
+      symbolsWriter.close();
+      symbolsWriter = null;
+    }
+  }
+}
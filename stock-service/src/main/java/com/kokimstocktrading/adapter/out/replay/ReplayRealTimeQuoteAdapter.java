@@ -0,0 +1,252 @@
+package com.kokimstocktrading.adapter.out.replay;
+
+import com.kokimstocktrading.adapter.out.external.realtime.LatestQuoteStore;
+import com.kokimstocktrading.adapter.out.external.realtime.RealTimeQuoteRouter;
+import com.kokimstocktrading.adapter.out.external.realtime.RouterQuoteStream;
+import com.kokimstocktrading.adapter.out.journal.JournaledTick;
+import com.kokimstocktrading.adapter.out.journal.TickJournalReader;
+import com.kokimstocktrading.application.realtime.out.LoadLatestQuotePort;
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
+import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+
+/**
+ * <pre>
+ *  기록된 체결(틱 저널)을 재생하는 실시간 시세 포트 구현
+ *  키움 어댑터와 같은 라우터로 구독자에게 전달하므로 모니터링 서비스를 그대로 붙여 하루치 장을 재현할 수 있습니다.
+ *
+ *  - replay() 를 호출한 스레드에서 순서대로 재생합니다. (같은 입력이면 항상 같은 순서로 전달)
+ *  - 체결마다 가상 시계를 체결 수신 시각으로 옮깁니다. 시계 리스너로 가상 시간 스케줄러를 함께 움직일 수 있습니다.
+ *  - 배속(ReplaySpeed)에 맞춰 기록된 체결 간격만큼 대기하고, MAX 면 대기 없이 재생합니다.
+ * </pre>
+ */
+@Slf4j
+public class ReplayRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort, LoadLatestQuotePort {
+
+  /**
+   * 재생할 체결 원본 (기록 순서대로 전달)
+   */
+  @FunctionalInterface
+  public interface TickSource {
+
+    void forEach(Consumer<JournaledTick> consumer) throws IOException;
+
+    /**
+     * 틱 저널의 하루치 체결
+     */
+    static TickSource journal(Path root, LocalDate day) {
+      return consumer -> TickJournalReader.open(root, day).forEach(consumer);
+    }
+  }
+
+  private final TickSource tickSource;
+  private final ReplaySpeed speed;
+  private final VirtualClock clock;
+  private final StockSymbolRegistry stockSymbolRegistry;
+  private final RealTimeQuoteRouter quoteRouter = new RealTimeQuoteRouter();
+  private final LatestQuoteStore latestQuoteStore = new LatestQuoteStore();
+  private final AtomicBoolean replaying = new AtomicBoolean(false);
+
+  // 재생 스레드 전용 - 종목별 당일 시가/고가/저가/누적거래량
+  private final Map<Integer, DayState> dayStates = new HashMap<>();
+
+  public ReplayRealTimeQuoteAdapter(TickSource tickSource, ReplaySpeed speed,
+      VirtualClock clock, StockSymbolRegistry stockSymbolRegistry) {
+    this.tickSource = tickSource;
+    this.speed = speed;
+    this.clock = clock;
+    this.stockSymbolRegistry = stockSymbolRegistry;
+  }
+
+  private static final class DayState {
+
+    private long openPrice;
+    private long highPrice;
+    private long lowPrice;
+    private long accumulatedVolume;
+    private long accumulatedAmount;
+  }
+
+  /**
+   * 처음부터 끝까지 재생 (재생이 끝날 때까지 반환하지 않음)
+   *
+   * @return 재생 결과 (체결 수, 소요 시간, 처리량)
+   */
+  public ReplayReport replay() {
+    if (!replaying.compareAndSet(false, true)) {
+      throw new IllegalStateException("이미 재생 중입니다.");
+    }
+
+    Player player = new Player();
+    try {
+      tickSource.forEach(player);
+    } catch (IOException e) {
+      throw new UncheckedIOException("체결 기록을 읽지 못했습니다.", e);
+    } finally {
+      replaying.set(false);
+    }
+
+    ReplayReport report = player.report();
+    log.info("체결 리플레이 완료: 배속={}, {}", speed.multiplier(), report);
+    return report;
+  }
+
+  /**
+   * 모든 구독 스트림 완료 처리 (재생 종료 후 구독자 정리용)
+   */
+  public void complete() {
+    quoteRouter.completeAll();
+  }
+
+  @Override
+  public Flux<RealTimeQuote> subscribeStockQuote(List<String> stockCodes) {
+    return subscribeStockQuote(stockCodes, QuoteDeliveryMode.STRICT);
+  }
+
+  @Override
+  public Flux<RealTimeQuote> subscribeStockQuote(List<String> stockCodes,
+      QuoteDeliveryMode deliveryMode) {
+    return subscribe(stockCodes, deliveryMode, null);
+  }
+
+  @Override
+  public Flux<RealTimeQuote> subscribeStockQuoteWithSnapshot(List<String> stockCodes,
+      QuoteDeliveryMode deliveryMode) {
+    return subscribe(stockCodes, deliveryMode, latestQuoteStore::get);
+  }
+
+  @Override
+  public RealTimeQuoteStream openQuoteStream(QuoteDeliveryMode deliveryMode) {
+    return new RouterQuoteStream(quoteRouter, stockSymbolRegistry, deliveryMode);
+  }
+
+  private Flux<RealTimeQuote> subscribe(List<String> stockCodes, QuoteDeliveryMode deliveryMode,
+      IntFunction<RealTimeQuote> snapshot) {
+    if (stockCodes == null || stockCodes.isEmpty()) {
+      return Flux.empty();
+    }
+
+    int[] symbolIds = stockCodes.stream()
+        .mapToInt(stockSymbolRegistry::idOf)
+        .toArray();
+    return quoteRouter.subscribe(deliveryMode, snapshot, symbolIds);
+  }
+
+  /**
+   * 재생 중 마지막으로 전달한 시세
+   */
+  @Override
+  public Optional<RealTimeQuote> findLatestQuote(String stockCode) {
+    return Optional.ofNullable(latestQuoteStore.get(stockSymbolRegistry.findId(stockCode)));
+  }
+
+  /**
+   * 리플레이에는 해지할 외부 등록이 없음 - 구독 스트림 dispose 로 충분
+   */
+  @Override
+  public boolean unsubscribeStockQuote(List<String> stockCodes) {
+    return stockCodes != null && !stockCodes.isEmpty();
+  }
+
+  @Override
+  public boolean unsubscribeAllStockQuotes() {
+    return true;
+  }
+
+  /**
+   * 한 번의 재생 상태 (재생 스레드 전용)
+   */
+  private final class Player implements Consumer<JournaledTick> {
+
+    private final long wallStartNanos = System.nanoTime();
+    private long firstTickNanos;
+    private long lastTickNanos;
+    private long ticks;
+
+    @Override
+    public void accept(JournaledTick tick) {
+      long tickNanos = tick.receiveEpochNanos();
+      if (ticks == 0) {
+        firstTickNanos = tickNanos;
+      }
+      if (speed.isPaced()) {
+        pace(tickNanos - firstTickNanos);
+      }
+
+      clock.advanceTo(tickNanos);
+      RealTimeQuote quote = toQuote(tick);
+      latestQuoteStore.update(quote);
+      quoteRouter.route(quote);
+      lastTickNanos = tickNanos;
+      ticks++;
+    }
+
+    private void pace(long recordedOffsetNanos) {
+      long deadline = wallStartNanos + (long) (recordedOffsetNanos / speed.multiplier());
+      long remaining;
+      while ((remaining = deadline - System.nanoTime()) > 0) {
+        LockSupport.parkNanos(remaining);
+      }
+    }
+
+    private ReplayReport report() {
+      return new ReplayReport(ticks,
+          Duration.ofNanos(System.nanoTime() - wallStartNanos),
+          Duration.ofNanos(ticks == 0 ? 0 : lastTickNanos - firstTickNanos));
+    }
+  }
+
+  private RealTimeQuote toQuote(JournaledTick tick) {
+    int symbolId = stockSymbolRegistry.idOf(tick.stockCode());
+    long price = tick.price();
+
+    DayState state = dayStates.computeIfAbsent(symbolId, id -> new DayState());
+    if (state.openPrice == 0) {
+      state.openPrice = price;
+      state.highPrice = price;
+      state.lowPrice = price;
+    }
+    state.highPrice = Math.max(state.highPrice, price);
+    state.lowPrice = Math.min(state.lowPrice, price);
+    state.accumulatedVolume += Math.abs(tick.volume());
+    state.accumulatedAmount += Math.abs(tick.volume()) * price;
+
+    // 저널에는 전일 종가가 없으므로 등락은 당일 시가 기준
+    long priceChange = price - state.openPrice;
+    return RealTimeQuote.builder()
+        .symbolId(symbolId)
+        .item(tick.stockCode())
+        .currentPrice(price)
+        .priceChange(priceChange)
+        .changeRateBasisPoints((int) (priceChange * 10_000 / state.openPrice))
+        .askPrice(price)
+        .bidPrice(price)
+        .tradingVolume(tick.volume())
+        .accumulatedVolume(state.accumulatedVolume)
+        .accumulatedAmount(state.accumulatedAmount / 1_000_000)
+        .openPrice(state.openPrice)
+        .highPrice(state.highPrice)
+        .lowPrice(state.lowPrice)
+        .tradeTimeEpochMillis(tick.tradeTimeEpochMillis() != 0
+            ? tick.tradeTimeEpochMillis() : TimeUnit.NANOSECONDS.toMillis(tick.receiveEpochNanos()))
+        .build();
+  }
+}
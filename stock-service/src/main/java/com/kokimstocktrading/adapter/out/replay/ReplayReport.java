@@ -0,0 +1,35 @@
+package com.kokimstocktrading.adapter.out.replay;
+
+import java.time.Duration;
+
+/**
+ * 리플레이 결과
+ *
+ * @param ticks       재생한 체결 수
+ * @param elapsed     실제 소요 시간
+ * @param virtualSpan 재생한 구간의 길이 (첫 체결 ~ 마지막 체결)
+ */
+public record ReplayReport(long ticks, Duration elapsed, Duration virtualSpan) {
+
+  /**
+   * 초당 재생 체결 수
+   */
+  public double ticksPerSecond() {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : ticks * 1_000_000_000.0 / nanos;
+  }
+
+  /**
+   * 실제 시간 대비 배속
+   */
+  public double speedup() {
+    long nanos = elapsed.toNanos();
+    return nanos == 0 ? 0 : (double) virtualSpan.toNanos() / nanos;
+  }
+
+  @Override
+  public String toString() {
+    return String.format("체결 %,d건, 소요 %dms, 구간 %s, 초당 %,.0f건, %.0f배속",
+        ticks, elapsed.toMillis(), virtualSpan, ticksPerSecond(), speedup());
+  }
+}
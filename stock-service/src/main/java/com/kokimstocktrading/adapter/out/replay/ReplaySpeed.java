@@ -0,0 +1,29 @@
+package com.kokimstocktrading.adapter.out.replay;
+
+/**
+ * 리플레이 속도 (기록된 체결 간격 대비 배속)
+ *
+ * @param multiplier 배속 (1 = 실제 속도, 무한대 = 대기 없이 최대 속도)
+ */
+public record ReplaySpeed(double multiplier) {
+
+  public static final ReplaySpeed REAL_TIME = new ReplaySpeed(1);
+  public static final ReplaySpeed MAX = new ReplaySpeed(Double.POSITIVE_INFINITY);
+
+  public ReplaySpeed {
+    if (!(multiplier > 0)) {
+      throw new IllegalArgumentException("리플레이 배속은 0보다 커야 합니다: " + multiplier);
+    }
+  }
+
+  public static ReplaySpeed times(double multiplier) {
+    return new ReplaySpeed(multiplier);
+  }
+
+  /**
+   * 체결 간격만큼 대기하며 재생하는지 여부
+   */
+  public boolean isPaced() {
+    return !Double.isInfinite(multiplier);
+  }
+}
@@ -0,0 +1,86 @@
+package com.kokimstocktrading.adapter.out.replay;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * <pre>
+ *  리플레이용 가상 시계 - 벽시계 대신 재생 중인 체결 시각을 현재 시각으로 사용
+ *  시간은 앞으로만 흐르며, 시각이 바뀔 때마다 등록된 리스너(가상 시간 스케줄러 등)에 알립니다.
+ * </pre>
+ */
+public final class VirtualClock extends Clock {
+
+  private final AtomicLong epochNanos;
+  private final List<Consumer<Instant>> listeners;
+  private final ZoneId zone;
+
+  public VirtualClock(Instant start, ZoneId zone) {
+    this(new AtomicLong(TimeUnit.SECONDS.toNanos(start.getEpochSecond()) + start.getNano()),
+        new CopyOnWriteArrayList<>(), zone);
+  }
+
+  private VirtualClock(AtomicLong epochNanos, List<Consumer<Instant>> listeners, ZoneId zone) {
+    this.epochNanos = epochNanos;
+    this.listeners = listeners;
+    this.zone = zone;
+  }
+
+  @Override
+  public ZoneId getZone() {
+    return zone;
+  }
+
+  /**
+   * 같은 시각을 공유하는 다른 시간대의 시계
+   */
+  @Override
+  public Clock withZone(ZoneId zone) {
+    return zone.equals(this.zone) ? this : new VirtualClock(epochNanos, listeners, zone);
+  }
+
+  @Override
+  public long millis() {
+    return TimeUnit.NANOSECONDS.toMillis(epochNanos.get());
+  }
+
+  @Override
+  public Instant instant() {
+    return Instant.ofEpochSecond(0, epochNanos.get());
+  }
+
+  public long epochNanos() {
+    return epochNanos.get();
+  }
+
+  /**
+   * 시각 이동 리스너 등록 (이동한 시각으로 호출됨)
+   */
+  public void onAdvance(Consumer<Instant> listener) {
+    listeners.add(listener);
+  }
+
+  public void advanceTo(Instant target) {
+    advanceTo(TimeUnit.SECONDS.toNanos(target.getEpochSecond()) + target.getNano());
+  }
+
+  /**
+   * 지정 시각으로 이동 - 현재보다 이전 시각이면 무시
+   */
+  public void advanceTo(long targetEpochNanos) {
+    long current = epochNanos.get();
+    if (targetEpochNanos <= current || !epochNanos.compareAndSet(current, targetEpochNanos)) {
+      return;
+    }
+    if (!listeners.isEmpty()) {
+      Instant instant = Instant.ofEpochSecond(0, targetEpochNanos);
+      listeners.forEach(listener -> listener.accept(instant));
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.kokimstocktrading.application.candle.port.out;
+
+public interface CloseElapsedBarPort {
+
+  /**
+   * 마감 시각이 지난 진행 중인 봉을 다음 체결을 기다리지 않고 마감 (종가 시계열 구독자에게 마감 알림)
+   *
+   * @param nowMillis 현재 시각 (epoch millis)
+   */
+  void closeElapsedBars(long nowMillis);
+}
@@ -0,0 +1,18 @@
+package com.kokimstocktrading.application.candle.port.out;
+
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.ClosePriceSeries;
+import reactor.core.publisher.Mono;
+
+public interface LoadClosePriceSeriesPort {
+
+  /**
+   * 종목/봉 단위의 공유 종가 시계열 조회 (봉 마감/진행 중인 봉 갱신이 계속 반영됨)
+   *
+   * @param closedBars 필요한 최소 마감 봉 개수
+   */
+  Mono<ClosePriceSeries> loadClosePriceSeries(
+      String stockCode,
+      CandleInterval candleInterval,
+      int closedBars);
+}
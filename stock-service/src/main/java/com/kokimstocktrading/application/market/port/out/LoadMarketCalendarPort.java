@@ -0,0 +1,16 @@
+package com.kokimstocktrading.application.market.port.out;
+
+import com.kokimstocktrading.domain.market.MonthlyOpenDays;
+import java.time.YearMonth;
+import reactor.core.publisher.Mono;
+
+/**
+ * 월 단위 시장 개장일 조회 포트
+ */
+public interface LoadMarketCalendarPort {
+
+  /**
+   * 한 달의 개장일 조회 (원격 호출 한 번)
+   */
+  Mono<MonthlyOpenDays> loadMonthlyOpenDays(YearMonth month);
+}
@@ -0,0 +1,22 @@
+package com.kokimstocktrading.application.market.port.out;
+
+import com.kokimstocktrading.domain.market.TradingCalendar;
+import java.time.LocalDate;
+
+/**
+ * 거래일 달력 조회 포트
+ */
+public interface LoadTradingCalendarPort {
+
+  /**
+   * 현재 거래일 달력 (메모리에 보관된 값을 바로 반환, 블로킹 없음)
+   */
+  TradingCalendar loadTradingCalendar();
+
+  /**
+   * 주어진 날짜부터의 달력이 필요함을 알림 (빠진 달은 백그라운드로 받아 이후 스냅샷에 반영, 블로킹 없음)
+   * 고정된 달력이면 할 일이 없습니다.
+   */
+  default void requestCoverageFrom(LocalDate date) {
+  }
+}
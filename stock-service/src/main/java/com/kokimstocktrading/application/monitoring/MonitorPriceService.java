@@ -1,9 +1,18 @@
 package com.kokimstocktrading.application.monitoring;
 
+import com.kokimstocktrading.application.monitoring.trigger.TriggerDispatcher;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder;
+import com.kokimstocktrading.application.realtime.out.LoadLatestQuotePort;
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
+import com.kokimstocktrading.application.realtime.out.SubscribeOrderBookPort;
 import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
 import com.kokimstocktrading.domain.monitoring.PriceCondition;
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
 import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -15,25 +24,49 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.Disposable;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class MonitorPriceService {
 
+  // 등록 시 바로 확인에 쓰는 마지막 시세의 최대 경과 시간 (지난 장의 시세로 잘못 달성되지 않도록)
+  private static final Duration LATEST_QUOTE_MAX_AGE = Duration.ofMinutes(1);
+
+  // 공유 시세 구독이 끝났을 때 다시 열기까지 대기 시간 (바로 실패하는 구독이 반복되지 않도록)
+  private static final Duration QUOTE_STREAM_REOPEN_DELAY = Duration.ofSeconds(1);
+
   private final SubscribeRealTimeQuotePort subscribeRealTimeQuotePort;
+  private final SubscribeOrderBookPort subscribeOrderBookPort;
+  private final LoadLatestQuotePort loadLatestQuotePort;
+  private final QuoteLatencyRecorder quoteLatencyRecorder;
+  private final TriggerDispatcher triggerDispatcher;
 
-  // 종목별 가격 조건 리스트 저장 (종목코드 -> 조건 리스트)
-  private final Map<String, List<PriceCondition>> stockConditions = new ConcurrentHashMap<>();
+  // 종목별 가격 조건 인덱스 (종목코드 -> 목표가 정렬 인덱스)
+  // 시세 스레드는 락 없이 읽기만 하고, 변경(REST 등록, 동적 조건 갱신, 달성 제거)은 인덱스 객체를 잡고 종목별로 하나씩 수행
+  // (마지막 조건 제거 -> 모니터링 중지와 새 조건 등록 -> 모니터링 시작이 섞여 조건이나 구독이 유실되지 않도록)
+  private final Map<String, PriceLevelIndex> stockConditions = new ConcurrentHashMap<>();
 
   // 조건 ID로 빠른 검색을 위한 맵 (조건ID -> 조건 객체)
   private final Map<UUID, PriceCondition> conditionById = new ConcurrentHashMap<>();
 
-  // 모니터링 구독 관리
-  private final Map<String, Disposable> monitoringSubscriptions = new ConcurrentHashMap<>();
+  // 모든 종목이 공유하는 시세 구독 하나 - 조건이 생기고 사라질 때 종목만 추가/제거 (처음 모니터링할 때 생성)
+  // 시세는 종목코드로 stockConditions 인덱스에 라우팅하므로, 틱 하나는 정확히 한 번 평가됨
+  private RealTimeQuoteStream quoteStream;
+  private Disposable quoteSubscription;
+
+  // 시세 스트림에 추가된 종목 (인덱스 모니터 안에서만 추가/제거)
+  private final Set<String> monitoredStocks = ConcurrentHashMap.newKeySet();
+
+  // 최우선 호가 기준 조건이 있는 종목의 호가잔량 구독 (종목코드 -> 구독)
+  private final Map<String, Disposable> orderBookSubscriptions = new ConcurrentHashMap<>();
+
+  // 종목별 마지막 시세 (시세 공백 복구 시 기준값)
+  private final Map<String, RealTimeQuote> lastQuotes = new ConcurrentHashMap<>();
+
+  // 시세 공백 이후 첫 시세에서 다시 확인할 종목 (종목코드 -> 공백 직전 시세)
+  private final Map<String, RealTimeQuote> feedGapBaselines = new ConcurrentHashMap<>();
 
   /**
    * 가격 조건 등록
@@ -44,14 +77,51 @@ public class MonitorPriceService {
   public PriceCondition registerPriceCondition(PriceCondition condition) {
     String stockCode = condition.getStockCode();
 
-    stockConditions.computeIfAbsent(stockCode, k -> new ArrayList<>()).add(condition);
-    conditionById.put(condition.getId(), condition);
+    while (true) {
+      PriceLevelIndex conditions = stockConditions.computeIfAbsent(stockCode,
+          k -> new PriceLevelIndex());
+      synchronized (conditions) {
+        // 마지막 조건이 빠지면서 방금 폐기된 인덱스 - 새 인덱스로 다시 시도
+        if (conditions.isRetired()) {
+          continue;
+        }
+        // 시세 스레드가 ID 맵으로 달성을 확정하므로 ID 맵에 먼저 넣음
+        conditionById.put(condition.getId(), condition);
+        conditions.add(condition);
+        log.info("가격 조건 등록: {}", condition);
+        startMonitoringLocked(stockCode);
+      }
+      break;
+    }
 
-    log.info("가격 조건 등록: {}", condition);
-    startMonitoring(condition.getStockCode());
+    checkWithLatestQuote(condition);
     return condition;
   }
 
+  /**
+   * 마지막 시세로 새 조건 바로 확인 - 이미 지나간 가격이면 다음 체결을 기다리지 않고 달성 처리
+   */
+  private void checkWithLatestQuote(PriceCondition condition) {
+    RealTimeQuote quote = loadLatestQuotePort.findLatestQuote(condition.getStockCode())
+        .filter(latest -> latest.tradeTimeEpochMillis()
+            >= System.currentTimeMillis() - LATEST_QUOTE_MAX_AGE.toMillis())
+        .orElse(null);
+    // 종가 기준 조건은 봉이 마감될 때만 확인
+    if (quote == null || condition.isBarCloseBased()
+        || !condition.isAchievedBy(quote, quote.currentPrice(), quote.currentPrice())) {
+      return;
+    }
+
+    // 같은 시점에 시세 스레드가 먼저 달성 처리했으면 건너뜀
+    if (!conditionById.remove(condition.getId(), condition)) {
+      return;
+    }
+    log.info("가격 조건 등록 즉시 달성! 조건={}, 마지막 시세={}", condition, quote.currentPrice());
+    if (executeCallbackAsync(condition, quote)) {
+      removeAchievedConditions(condition.getStockCode(), List.of(condition));
+    }
+  }
+
   /**
    * 조건 ID로 조건 삭제
    */
@@ -62,45 +132,73 @@ public class MonitorPriceService {
       return false;
     }
 
-    String stockCode = condition.getStockCode();
-    List<PriceCondition> conditions = stockConditions.get(stockCode);
-
-    if (conditions != null) {
-      boolean removed = conditions.remove(condition);
-      if (removed) {
-        log.info("가격 조건 삭제: {}", condition);
-
-        // 조건이 모두 삭제되면 해당 종목 모니터링 중지
-        if (conditions.isEmpty()) {
-          stockConditions.remove(stockCode);
-          stopMonitoring(stockCode);
-        }
-        return true;
-      }
+    boolean removed = removeFromIndex(condition.getStockCode(), List.of(condition));
+    if (removed) {
+      log.info("가격 조건 삭제: {}", condition);
     }
-
-    return false;
+    return removed;
   }
 
   /**
    * 종목의 모든 조건 삭제
    */
   public int removeAllConditions(String stockCode) {
-    List<PriceCondition> conditions = stockConditions.remove(stockCode);
-    if (conditions == null || conditions.isEmpty()) {
+    PriceLevelIndex index = stockConditions.get(stockCode);
+    if (index == null) {
       return 0;
     }
 
-    // ID 맵에서도 제거
-    for (PriceCondition condition : conditions) {
-      conditionById.remove(condition.getId());
+    List<PriceCondition> conditions;
+    synchronized (index) {
+      if (index.isRetired()) {
+        return 0;
+      }
+      conditions = index.conditions();
+      index.removeAll(conditions);
+      // ID 맵에서도 제거
+      for (PriceCondition condition : conditions) {
+        conditionById.remove(condition.getId());
+      }
+      retire(stockCode, index);
     }
 
-    stopMonitoring(stockCode);
     log.info("종목 {} 모든 조건 삭제: {}개", stockCode, conditions.size());
     return conditions.size();
   }
 
+  /**
+   * 종목 인덱스에서 조건 제거 - 마지막 조건이 빠지면 인덱스를 폐기하고 모니터링 중지
+   *
+   * @return 하나라도 제거되었는지
+   */
+  private boolean removeFromIndex(String stockCode, List<PriceCondition> removing) {
+    PriceLevelIndex conditions = stockConditions.get(stockCode);
+    if (conditions == null) {
+      return false;
+    }
+
+    synchronized (conditions) {
+      boolean removed = false;
+      for (PriceCondition condition : removing) {
+        removed |= conditions.remove(condition);
+      }
+      if (conditions.isEmpty() && !conditions.isRetired()) {
+        retire(stockCode, conditions);
+      }
+      return removed;
+    }
+  }
+
+  /**
+   * 빈 인덱스 폐기 (인덱스 모니터를 잡은 상태에서 호출)
+   * 구독을 먼저 정리한 뒤 맵에서 빼므로, 새 인덱스로 시작된 구독을 이전 인덱스 정리가 해지하지 않음
+   */
+  private void retire(String stockCode, PriceLevelIndex conditions) {
+    conditions.retire();
+    releaseSubscriptions(stockCode);
+    stockConditions.remove(stockCode, conditions);
+  }
+
   /**
    * 조건 ID로 조건 조회
    */
@@ -112,8 +210,8 @@ public class MonitorPriceService {
    * 종목별 조건 리스트 조회
    */
   public List<PriceCondition> getConditions(String stockCode) {
-    List<PriceCondition> conditions = stockConditions.get(stockCode);
-    return conditions != null ? new ArrayList<>(conditions) : new ArrayList<>();
+    PriceLevelIndex conditions = stockConditions.get(stockCode);
+    return conditions != null ? conditions.conditions() : new ArrayList<>();
   }
 
   /**
@@ -127,7 +225,7 @@ public class MonitorPriceService {
    * 종목별 등록된 조건 개수 조회
    */
   public int getConditionCount(String stockCode) {
-    List<PriceCondition> conditions = stockConditions.get(stockCode);
+    PriceLevelIndex conditions = stockConditions.get(stockCode);
     return conditions != null ? conditions.size() : 0;
   }
 
@@ -146,7 +244,7 @@ public class MonitorPriceService {
   }
 
   /**
-   * 모니터링 시작
+   * 모니터링 시작 - 조건이 등록된 모든 종목을 공유 시세 구독에 추가 (이미 있는 종목은 그대로)
    */
   public void startMonitoring() {
     if (stockConditions.isEmpty()) {
@@ -156,125 +254,341 @@ public class MonitorPriceService {
 
     List<String> stockCodes = List.copyOf(stockConditions.keySet());
     log.info("가격 모니터링 시작: 대상 종목={}, 총 조건 수={}", stockCodes, getTotalConditionCount());
-
-    Flux<RealTimeQuote> realTimeQuoteFlux = subscribeRealTimeQuotePort.subscribeStockQuote(
-        stockCodes);
-
-    Disposable subscription = realTimeQuoteFlux
-        .doOnNext(this::checkPriceConditions)
-        .doOnError(error -> log.error("가격 모니터링 중 오류 발생", error))
-        .subscribe();
-
-    // 전체 모니터링 구독 저장
-    monitoringSubscriptions.put("ALL", subscription);
+    stockCodes.forEach(this::startMonitoring);
   }
 
   /**
    * 개별 종목 모니터링 시작
    */
   public void startMonitoring(String stockCode) {
-    if (!stockConditions.containsKey(stockCode)) {
+    PriceLevelIndex conditions = stockConditions.get(stockCode);
+    if (conditions == null) {
       log.warn("종목 {}에 대한 가격 조건이 등록되지 않았습니다.", stockCode);
       return;
     }
 
-    int conditionCount = getConditionCount(stockCode);
-    log.info("개별 가격 모니터링 시작: 종목={}, 조건 수={}", stockCode, conditionCount);
+    synchronized (conditions) {
+      if (!conditions.isRetired()) {
+        startMonitoringLocked(stockCode);
+      }
+    }
+  }
 
-    Flux<RealTimeQuote> realTimeQuoteFlux = subscribeRealTimeQuotePort.subscribeStockQuote(
-        List.of(stockCode));
+  /**
+   * 공유 시세 구독에 종목 추가 (인덱스 모니터를 잡은 상태에서 호출)
+   */
+  private void startMonitoringLocked(String stockCode) {
+    startOrderBookMonitoringIfNeeded(stockCode);
 
-    Disposable subscription = realTimeQuoteFlux
-        .filter(quote -> stockCode.equals(quote.item()))
-        .doOnNext(this::checkPriceConditions)
-        .doOnError(error -> log.error("종목 {} 가격 모니터링 중 오류 발생", stockCode, error))
-        .subscribe();
+    if (!monitoredStocks.add(stockCode)) {
+      log.debug("종목 {}는 이미 모니터링 중입니다.", stockCode);
+      return;
+    }
+
+    log.info("개별 가격 모니터링 시작: 종목={}, 조건 수={}", stockCode, getConditionCount(stockCode));
+    addQuoteStock(stockCode);
+  }
 
-    monitoringSubscriptions.put(stockCode, subscription);
+  private synchronized void addQuoteStock(String stockCode) {
+    quoteStream().addStocks(List.of(stockCode));
+  }
+
+  private synchronized void removeQuoteStock(String stockCode) {
+    quoteStream().removeStocks(List.of(stockCode));
   }
 
   /**
-   * 가격 조건들 체크 (여러 조건 처리)
+   * 공유 시세 구독 (없으면 열고 평가 파이프라인 연결)
+   *
+   * <p>평가는 라우팅 스레드에서 바로 실행되고 요청량이 무제한이므로 지금은 병합이 일어나지 않습니다(모든 체결 평가).
+   * 그래도 CONFLATED 로 여는 이유는, 평가가 밀리는 경우 STRICT 처럼 버퍼 초과로 모니터링 전체가 끊기지 않고
+   * 종목별 최신 시세로 병합되게 하기 위함입니다. 병합된 시세도 lowSinceLastRead/highSinceLastRead 로
+   * 밀린 구간의 가격 범위를 평가하므로 지나간 목표가를 놓치지 않습니다.</p>
+   *
+   * <p>틱 하나의 평가 오류는 checkPriceConditions 에서 처리하므로 구독을 끝내지 않습니다.
+   * 그래도 스트림이 오류/완료로 끝나면 잠시 뒤 새 스트림을 열고 모니터링 중인 종목을 다시 추가합니다.</p>
    */
-  private void checkPriceConditions(RealTimeQuote quote) {
-    String stockCode = quote.item();
-    List<PriceCondition> conditions = stockConditions.get(stockCode);
+  private synchronized RealTimeQuoteStream quoteStream() {
+    if (quoteStream == null) {
+      RealTimeQuoteStream stream = subscribeRealTimeQuotePort.openQuoteStream(
+          QuoteDeliveryMode.CONFLATED);
+      quoteStream = stream;
+      quoteSubscription = stream.quotes()
+          .subscribe(this::checkPriceConditions,
+              error -> {
+                log.error("가격 모니터링 시세 스트림 오류 발생 - 다시 구독합니다.", error);
+                scheduleReopen(stream);
+              },
+              () -> {
+                log.warn("가격 모니터링 시세 스트림 종료 - 다시 구독합니다.");
+                scheduleReopen(stream);
+              });
+    }
+    return quoteStream;
+  }
 
+  private void scheduleReopen(RealTimeQuoteStream terminated) {
+    Mono.delay(QUOTE_STREAM_REOPEN_DELAY).subscribe(ignored -> reopenQuoteStream(terminated));
+  }
+
+  /**
+   * 끝난 공유 시세 구독을 새로 열고 모니터링 중인 종목 복구 (이미 교체/중지되었으면 무시)
+   */
+  private synchronized void reopenQuoteStream(RealTimeQuoteStream terminated) {
+    if (quoteStream != terminated) {
+      return;
+    }
+    quoteStream = null;
+    quoteSubscription = null;
+    if (monitoredStocks.isEmpty()) {
+      return;
+    }
+
+    List<String> stockCodes = List.copyOf(monitoredStocks);
+    quoteStream().addStocks(stockCodes);
+    // 끊겨 있던 동안의 체결도 다음 시세의 고가/저가로 다시 확인
+    recheckAfterFeedGap(stockCodes);
+    log.info("가격 모니터링 시세 스트림 재구독: {}개 종목", stockCodes.size());
+  }
+
+  /**
+   * 최우선 호가 기준 조건이 있으면 호가잔량 구독 시작 - 체결 사이의 호가 변화로도 달성 여부 확인
+   */
+  private void startOrderBookMonitoringIfNeeded(String stockCode) {
+    PriceLevelIndex conditions = stockConditions.get(stockCode);
+    boolean usesOrderBook = conditions != null && conditions.usesOrderBook();
+    Disposable existing = orderBookSubscriptions.get(stockCode);
+    if (!usesOrderBook || (existing != null && !existing.isDisposed())) {
+      return;
+    }
+
+    log.info("호가잔량 모니터링 시작: 종목={}", stockCode);
+    Disposable subscription = subscribeOrderBookPort.subscribeOrderBook(List.of(stockCode))
+        .doOnNext(this::checkOrderBookConditions)
+        .doOnError(error -> log.error("종목 {} 호가잔량 모니터링 중 오류 발생", stockCode, error))
+        .subscribe();
+    orderBookSubscriptions.put(stockCode, subscription);
+  }
+
+  /**
+   * 호가잔량 갱신으로 최우선 호가 기준 조건 체크
+   */
+  private void checkOrderBookConditions(OrderBook orderBook) {
+    String stockCode = orderBook.item();
+    PriceLevelIndex conditions = stockConditions.get(stockCode);
     if (conditions == null || conditions.isEmpty()) {
       return;
     }
 
+    long bestBid = orderBook.bestBid();
+    long bestAsk = orderBook.bestAsk();
+    List<PriceCondition> crossed = new ArrayList<>();
+    conditions.collectCrossedByOrderBook(bestBid, bestAsk, crossed);
+
+    List<PriceCondition> achievedConditions = new ArrayList<>();
+    for (PriceCondition condition : crossed) {
+      if (conditionById.remove(condition.getId(), condition)) {
+        log.info("가격 조건 달성(호가)! 조건={}, 매수호가={}, 매도호가={}", condition, bestBid, bestAsk);
+        if (executeCallbackAsync(condition, null)) {
+          achievedConditions.add(condition);
+        }
+      }
+    }
+
+    if (!achievedConditions.isEmpty()) {
+      removeAchievedConditions(stockCode, achievedConditions);
+    }
+  }
+
+  /**
+   * 가격 조건들 체크 - 틱 하나의 오류는 그 종목만 기록하고 넘어감 (공유 구독이 끝나 전체 종목 모니터링이 멈추지 않도록)
+   */
+  private void checkPriceConditions(RealTimeQuote quote) {
     try {
-      double currentPrice = Double.parseDouble(quote.currentPrice());
+      evaluatePriceConditions(quote);
+    } catch (Exception e) {
+      log.error("종목 {} 가격 조건 확인 중 오류 발생: 시세={}", quote.item(), quote, e);
+    }
+  }
 
-      // 달성된 조건들을 수집
-      List<PriceCondition> achievedConditions = new ArrayList<>();
+  /**
+   * 가격 조건들 체크 (여러 조건 처리)
+   */
+  private void evaluatePriceConditions(RealTimeQuote quote) {
+    long dispatchedNanos = quoteLatencyRecorder.recordDispatched(quote);
+    String stockCode = quote.item();
+    PriceLevelIndex conditions = stockConditions.get(stockCode);
 
-      for (PriceCondition condition : conditions) {
-        if (condition.isAchieved(currentPrice)) {
-          log.info("가격 조건 달성! 조건={}, 현재가={}", condition, currentPrice);
+    if (conditions == null || conditions.isEmpty()) {
+      return;
+    }
 
-          // 콜백을 비동기로 실행 (다른 조건 체크를 blocking하지 않도록)
-          Mono.fromRunnable(condition::executeCallback)
-              .subscribeOn(Schedulers.boundedElastic())
-              .subscribe(
-                  unused -> log.debug("조건 {} 콜백 실행 완료", condition.getId()),
-                  error -> log.error("조건 {} 콜백 실행 중 오류", condition.getId(), error)
-              );
+    // 병합된 시세면 직전 확인 이후 체결가 범위 전체로 판단 (밀린 동안 지나간 가격도 놓치지 않음)
+    long currentPrice = quote.currentPrice();
+    long lowestPrice = quote.lowSinceLastRead();
+    long highestPrice = quote.highSinceLastRead();
 
+    // 시세 공백 이후 첫 시세: 공백 동안 당일 고가/저가가 갱신됐다면 그 가격까지 지나간 것으로 판단
+    RealTimeQuote baseline = feedGapBaselines.isEmpty() ? null : feedGapBaselines.remove(stockCode);
+    if (baseline != null) {
+      if (quote.highPrice() > baseline.highPrice()) {
+        highestPrice = Math.max(highestPrice, quote.highPrice());
+      }
+      if (quote.lowPrice() > 0 && quote.lowPrice() < baseline.lowPrice()) {
+        lowestPrice = Math.min(lowestPrice, quote.lowPrice());
+      }
+      log.info("시세 공백 후 조건 재확인: 종목={}, 범위={}~{}", stockCode, lowestPrice, highestPrice);
+    }
+    lastQuotes.put(stockCode, quote);
+
+    // 목표가를 지난 조건만 인덱스에서 수집 (전체 조건을 순회하지 않음)
+    List<PriceCondition> crossed = new ArrayList<>();
+    conditions.collectCrossed(quote, lowestPrice, highestPrice, crossed);
+    // 종가 기준 조건은 이 체결로 이전 봉의 마감이 확인됐을 때만 그 종가로 확인
+    conditions.collectClosedBars(quote.tradeTimeEpochMillis(), currentPrice, crossed);
+
+    List<PriceCondition> achievedConditions = new ArrayList<>();
+    for (PriceCondition condition : crossed) {
+      // ID 맵에서 먼저 제거한 쪽만 달성 처리 (등록 즉시 확인/삭제와 겹쳐도 콜백은 한 번)
+      if (conditionById.remove(condition.getId(), condition)) {
+        log.info("가격 조건 달성! 조건={}, 현재가={}", condition, currentPrice);
+        if (executeCallbackAsync(condition, quote)) {
           achievedConditions.add(condition);
         }
       }
+    }
+    quoteLatencyRecorder.recordEvaluated(quote, dispatchedNanos);
 
-      // 달성된 조건들 제거
-      if (!achievedConditions.isEmpty()) {
-        conditions.removeAll(achievedConditions);
+    // 달성된 조건들 제거
+    if (!achievedConditions.isEmpty()) {
+      removeAchievedConditions(stockCode, achievedConditions);
+    }
+  }
 
-        // ID 맵에서도 제거
-        for (PriceCondition condition : achievedConditions) {
-          conditionById.remove(condition.getId());
-        }
+  /**
+   * 마감 시각이 지난 봉의 종가로 종가 기준 조건 확인 - 마감 이후 체결이 없어도(장 마감, 체결 없는 분) 봉을 닫음
+   *
+   * @param nowMillis 현재 시각 (epoch millis)
+   */
+  public void closeElapsedBars(long nowMillis) {
+    stockConditions.forEach((stockCode, conditions) -> {
+      if (!conditions.hasBarCloseConditions()) {
+        return;
+      }
 
-        log.info("종목 {} - {}개 조건 달성 후 제거, 남은 조건: {}개",
-            stockCode, achievedConditions.size(), conditions.size());
+      List<PriceCondition> closed = new ArrayList<>();
+      conditions.collectElapsedBars(nowMillis, closed);
 
-        // 모든 조건이 달성되면 해당 종목 모니터링 중지
-        if (conditions.isEmpty()) {
-          stockConditions.remove(stockCode);
-          stopMonitoring(stockCode);
+      List<PriceCondition> achievedConditions = new ArrayList<>();
+      for (PriceCondition condition : closed) {
+        if (conditionById.remove(condition.getId(), condition)) {
+          log.info("가격 조건 달성(종가)! 조건={}", condition);
+          if (executeCallbackAsync(condition, null)) {
+            achievedConditions.add(condition);
+          }
         }
       }
 
-    } catch (NumberFormatException e) {
-      log.warn("가격 파싱 실패: 종목={}, 가격={}", stockCode, quote.currentPrice());
+      if (!achievedConditions.isEmpty()) {
+        removeAchievedConditions(stockCode, achievedConditions);
+      }
+    });
+  }
+
+  /**
+   * 콜백을 비동기로 실행 (다른 조건 체크를 blocking하지 않도록)
+   * 같은 종목의 콜백은 달성 순서대로 실행됨 (TriggerDispatcher)
+   * 실행 요청이 거부되면(overflow 초과, 종료 중) 조건을 ID 맵에 되돌려 다음 시세에서 다시 확인
+   *
+   * @param quote 달성시킨 체결 시세 (호가잔량/봉 마감 시각으로 달성되었으면 null - 지연 기록 생략)
+   * @return 실행 요청이 받아들여졌으면 true (달성 조건으로 제거), 거부되어 조건을 되돌렸으면 false
+   */
+  private boolean executeCallbackAsync(PriceCondition condition, RealTimeQuote quote) {
+    long achievedNanos = System.nanoTime();
+    boolean accepted = triggerDispatcher.dispatch(condition.getStockCode(), condition.getId(),
+        () -> {
+          if (quote != null) {
+            quoteLatencyRecorder.recordCallbackStarted(quote, achievedNanos);
+          }
+          condition.executeCallback();
+        });
+    if (!accepted) {
+      // 인덱스에서는 아직 제거하지 않았으므로 ID 맵만 되돌리면 다시 달성 대상이 됨
+      conditionById.put(condition.getId(), condition);
+      log.warn("조건 콜백 실행이 거부되어 조건을 유지합니다: {}", condition);
+    }
+    return accepted;
+  }
+
+  /**
+   * 달성된 조건을 종목 조건 목록에서 제거 (ID 맵에서는 이미 제거됨)
+   */
+  private void removeAchievedConditions(String stockCode, List<PriceCondition> achievedConditions) {
+    // 모든 조건이 달성되면 해당 종목 모니터링도 중지
+    removeFromIndex(stockCode, achievedConditions);
+    log.info("종목 {} - {}개 조건 달성 후 제거, 남은 조건: {}개",
+        stockCode, achievedConditions.size(), getConditionCount(stockCode));
+  }
+
+  /**
+   * 시세 공백(재연결) 이후 조건 재확인 예약 - 해당 종목의 다음 시세에서 공백 동안의 고가/저가까지 포함해 확인
+   *
+   * @param stockCodes 공백이 발생했던 종목 목록
+   */
+  public void recheckAfterFeedGap(Collection<String> stockCodes) {
+    int scheduled = 0;
+    for (String stockCode : stockCodes) {
+      RealTimeQuote lastQuote = lastQuotes.get(stockCode);
+      if (lastQuote != null && stockConditions.containsKey(stockCode)) {
+        feedGapBaselines.put(stockCode, lastQuote);
+        scheduled++;
+      }
     }
+    log.info("시세 공백 이후 조건 재확인 예약: {}개 종목", scheduled);
   }
 
   /**
    * 특정 종목 모니터링 중지
    */
   public void stopMonitoring(String stockCode) {
-    Disposable subscription = monitoringSubscriptions.remove(stockCode);
-    if (subscription != null && !subscription.isDisposed()) {
-      subscription.dispose();
+    // 조건을 모두 제거하면 인덱스 폐기와 함께 구독도 해지됨
+    removeAllConditions(stockCode);
+  }
+
+  /**
+   * 종목의 시세/호가잔량 구독 해지
+   */
+  private void releaseSubscriptions(String stockCode) {
+    if (monitoredStocks.remove(stockCode)) {
+      removeQuoteStock(stockCode);
       log.info("종목 {} 모니터링 중지", stockCode);
     }
-
-    // 조건들도 제거
-    removeAllConditions(stockCode);
+    Disposable orderBookSubscription = orderBookSubscriptions.remove(stockCode);
+    if (orderBookSubscription != null) {
+      orderBookSubscription.dispose();
+    }
+    lastQuotes.remove(stockCode);
+    feedGapBaselines.remove(stockCode);
   }
 
   /**
    * 전체 모니터링 중지
    */
   public void stopAllMonitoring() {
-    monitoringSubscriptions.values().forEach(subscription -> {
-      if (!subscription.isDisposed()) {
-        subscription.dispose();
+    List.copyOf(stockConditions.keySet()).forEach(this::removeAllConditions);
+    synchronized (this) {
+      if (quoteSubscription != null) {
+        quoteSubscription.dispose();
+        quoteSubscription = null;
+        quoteStream = null;
       }
-    });
+    }
 
-    monitoringSubscriptions.clear();
+    monitoredStocks.clear();
+    orderBookSubscriptions.values().forEach(Disposable::dispose);
+    orderBookSubscriptions.clear();
+    lastQuotes.clear();
+    feedGapBaselines.clear();
     stockConditions.clear();
     conditionById.clear();
     log.info("전체 가격 모니터링 중지");
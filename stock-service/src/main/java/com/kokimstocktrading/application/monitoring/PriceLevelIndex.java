@@ -0,0 +1,355 @@
+package com.kokimstocktrading.application.monitoring;
+
+import com.kokimstocktrading.domain.candle.BarBoundary;
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.monitoring.PriceBasis;
+import com.kokimstocktrading.domain.monitoring.PriceCondition;
+import com.kokimstocktrading.domain.monitoring.TouchDirection;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ *  종목 하나의 가격 조건 인덱스
+ *  기준 가격(PriceBasis)별로 목표가 정렬 집합을 두 개씩 둡니다.
+ *  - FROM_BELOW(상향 돌파): 목표가 오름차순 - 고가 이하인 앞쪽 조건만 달성
+ *  - FROM_ABOVE(하향 돌파): 목표가 내림차순 - 저가 이상인 앞쪽 조건만 달성
+ *  달성된 조건은 항상 정렬 순서의 앞부분이므로, 틱마다 앞에서부터 읽다가 첫 미달성 조건에서 멈춥니다. (O(k + 1))
+ *
+ *  복합 조건은 기준 가격(anchor)으로 체결가 집합에 들어가 기준 가격을 지난 틱에서만 조건식을 평가하고,
+ *  기준 가격이 없는 복합 조건은 별도 집합에 두고 매 체결마다 평가합니다.
+ *
+ *  종가 기준 조건은 봉 단위별 묶음(BarBucket)에 두고, 체결로 진행 중인 봉의 마지막 가격만 갱신하다가
+ *  봉이 마감될 때(다음 봉의 첫 체결, 종가 단일가 체결 또는 마감 시각 경과) 그 종가로 묶음 전체를 한 번만 평가합니다.
+ *  봉 경계는 BarBoundary 를 따르므로 15:30 종가 단일가 체결도 일봉 이상의 종가에 들어갑니다.
+ *
+ *  추가/삭제는 skip list 라 O(log n) 이고 락 없이 읽을 수 있어, 이평선/추세선 갱신이 목표가를 바꾸는 동안에도 틱 평가가 막히지 않습니다.
+ *
+ *  변경(추가/삭제/폐기)은 MonitorPriceService 가 인덱스 객체를 모니터로 잡고 종목별로 한 번에 하나씩만 수행합니다.
+ *  마지막 조건이 빠져 폐기(retire)된 인덱스에는 더 이상 조건을 넣지 않고, 등록 쪽은 새 인덱스를 만들어 다시 시도합니다.
+ * </pre>
+ */
+class PriceLevelIndex {
+
+  private static final Comparator<PriceCondition> BY_ID = Comparator.comparing(
+      PriceCondition::getId);
+  private static final BarBucket[] NO_BAR_BUCKETS = new BarBucket[0];
+
+  private static final Comparator<PriceCondition> ASCENDING = Comparator
+      .comparingLong((PriceCondition condition) -> condition.getTargetPrice())
+      .thenComparing(PriceCondition::getId);
+  private static final Comparator<PriceCondition> DESCENDING = Comparator
+      .comparingLong((PriceCondition condition) -> -condition.getTargetPrice())
+      .thenComparing(PriceCondition::getId);
+
+  /**
+   * 기준 가격 하나의 상향/하향 돌파 조건
+   */
+  private static final class Ladder {
+
+    private final ConcurrentSkipListSet<PriceCondition> rising = new ConcurrentSkipListSet<>(
+        ASCENDING);
+    private final ConcurrentSkipListSet<PriceCondition> falling = new ConcurrentSkipListSet<>(
+        DESCENDING);
+
+    private ConcurrentSkipListSet<PriceCondition> sideOf(PriceCondition condition) {
+      return condition.getTouchDirection() == TouchDirection.FROM_BELOW ? rising : falling;
+    }
+
+    /**
+     * @param quote 복합 조건 평가에 쓸 체결 시세 (호가 기준 집합에는 복합 조건이 없으므로 null 가능)
+     */
+    private void collectCrossed(RealTimeQuote quote, long lowestPrice, long highestPrice,
+        List<PriceCondition> crossed) {
+      for (PriceCondition condition : rising) {
+        if (condition.getTargetPrice() > highestPrice) {
+          break;
+        }
+        addIfAchieved(condition, quote, lowestPrice, highestPrice, crossed);
+      }
+      for (PriceCondition condition : falling) {
+        if (condition.getTargetPrice() < lowestPrice) {
+          break;
+        }
+        addIfAchieved(condition, quote, lowestPrice, highestPrice, crossed);
+      }
+    }
+
+    private static void addIfAchieved(PriceCondition condition, RealTimeQuote quote,
+        long lowestPrice, long highestPrice, List<PriceCondition> crossed) {
+      // 기준 가격을 지난 복합 조건은 나머지 조건식까지 확인
+      if (!condition.isComposite() || condition.isAchievedBy(quote, lowestPrice, highestPrice)) {
+        crossed.add(condition);
+      }
+    }
+
+    private boolean isEmpty() {
+      return rising.isEmpty() && falling.isEmpty();
+    }
+  }
+
+  /**
+   * 봉 단위 하나의 종가 기준 조건과 체결로 만든 진행 중인 봉
+   * 체결(시세 스레드)과 마감 시각 확인(스케줄러)이 겹칠 수 있어 봉 상태는 묶음 객체로 동기화
+   */
+  private static final class BarBucket {
+
+    private final CandleInterval interval;
+    private final ConcurrentSkipListSet<PriceCondition> conditions = new ConcurrentSkipListSet<>(
+        BY_ID);
+    // 진행 중인 봉의 시간 경계 (종가 단일가 여유 포함)
+    private final BarBoundary boundary;
+    // 진행 중인 봉의 마지막 체결가 (진행 중인 봉이 없으면 0)
+    private long lastPrice;
+
+    private BarBucket(CandleInterval interval) {
+      this.interval = interval;
+      this.boundary = new BarBoundary(interval);
+    }
+
+    /**
+     * 체결 반영 - 이 체결 전에 진행 중인 봉이 마감됐거나 이 체결이 종가 단일가 체결이면 그 종가로 달성된 조건 수집
+     */
+    private synchronized void onTrade(long tradeTimeMillis, long price,
+        List<PriceCondition> achieved) {
+      if (lastPrice > 0) {
+        if (boundary.includes(tradeTimeMillis)) {
+          lastPrice = price;
+          closeIfClosingTrade(tradeTimeMillis, achieved);
+          return;
+        }
+        // 주봉 이상의 기간 중 시간외 체결은 봉을 마감시키지 않음
+        if (!boundary.isElapsed(tradeTimeMillis)) {
+          return;
+        }
+        close(achieved);
+      }
+      // 마감된 봉의 남은 시간(정규장 이후 시간외 체결 등)은 종가를 바꾸지 않음
+      if (!boundary.startsNextBar(tradeTimeMillis)) {
+        return;
+      }
+
+      boundary.moveTo(tradeTimeMillis);
+      if (boundary.includes(tradeTimeMillis)) {
+        lastPrice = price;
+        closeIfClosingTrade(tradeTimeMillis, achieved);
+      }
+    }
+
+    /**
+     * 마감 시각(일봉 이상은 종가 단일가 여유)이 지난 진행 중인 봉을 닫고 달성된 조건 수집 (마감 이후 체결이 없을 때)
+     */
+    private synchronized void closeIfElapsed(long nowMillis, List<PriceCondition> achieved) {
+      if (lastPrice > 0 && boundary.isElapsed(nowMillis)) {
+        close(achieved);
+      }
+    }
+
+    private void closeIfClosingTrade(long tradeTimeMillis, List<PriceCondition> achieved) {
+      if (boundary.isClosingTrade(tradeTimeMillis)) {
+        close(achieved);
+      }
+    }
+
+    private void close(List<PriceCondition> achieved) {
+      for (PriceCondition condition : conditions) {
+        if (condition.isAchievedByClose(lastPrice)) {
+          achieved.add(condition);
+        }
+      }
+      lastPrice = 0;
+    }
+  }
+
+  private final Ladder lastPrice = new Ladder();
+  private final Ladder bestBid = new Ladder();
+  private final Ladder bestAsk = new Ladder();
+  // 기준 가격이 없는 복합 조건 (매 체결마다 평가)
+  private final ConcurrentSkipListSet<PriceCondition> unanchored = new ConcurrentSkipListSet<>(
+      BY_ID);
+  // 종가 기준 조건이 있는 봉 단위의 묶음 (추가 시에만 복사해 교체 - 시세 스레드는 락 없이 순회)
+  private volatile BarBucket[] barBuckets = NO_BAR_BUCKETS;
+  private final AtomicInteger size = new AtomicInteger();
+  private volatile boolean retired;
+
+  /**
+   * 조건 추가 (이미 있으면 무시)
+   */
+  boolean add(PriceCondition condition) {
+    ConcurrentSkipListSet<PriceCondition> set = condition.isBarCloseBased()
+        ? barBucketOf(condition.getCloseInterval()).conditions : setOf(condition);
+    boolean added = set.add(condition);
+    if (added) {
+      size.incrementAndGet();
+    }
+    return added;
+  }
+
+  /**
+   * 조건 제거
+   */
+  boolean remove(PriceCondition condition) {
+    boolean removed;
+    if (condition.isBarCloseBased()) {
+      BarBucket bucket = findBarBucket(condition.getCloseInterval());
+      removed = bucket != null && bucket.conditions.remove(condition);
+    } else {
+      removed = setOf(condition).remove(condition);
+    }
+    if (removed) {
+      size.decrementAndGet();
+    }
+    return removed;
+  }
+
+  /**
+   * 여러 조건 제거
+   */
+  void removeAll(Collection<PriceCondition> conditions) {
+    conditions.forEach(this::remove);
+  }
+
+  /**
+   * 체결 시세로 달성된 조건 수집 - 체결가 범위와 체결 시점 최우선 호가 기준 (복합 조건은 조건식까지 확인)
+   *
+   * @param quote        체결 시세 (최우선 호가, 복합 조건 평가에 사용)
+   * @param lowestPrice  직전 확인 이후 최저 체결가
+   * @param highestPrice 직전 확인 이후 최고 체결가
+   * @param crossed      달성 조건을 담을 목록
+   */
+  void collectCrossed(RealTimeQuote quote, long lowestPrice, long highestPrice,
+      List<PriceCondition> crossed) {
+    lastPrice.collectCrossed(quote, lowestPrice, highestPrice, crossed);
+    collectCrossedByOrderBook(quote.bidPrice(), quote.askPrice(), crossed);
+    for (PriceCondition condition : unanchored) {
+      if (condition.isAchievedBy(quote, lowestPrice, highestPrice)) {
+        crossed.add(condition);
+      }
+    }
+  }
+
+  /**
+   * 체결을 봉에 반영하고, 이 체결로 마감이 확인된 봉의 종가로 달성된 종가 기준 조건 수집
+   *
+   * @param tradeTimeMillis 체결 시각 (epoch millis)
+   * @param price           체결가
+   * @param achieved        달성 조건을 담을 목록
+   */
+  void collectClosedBars(long tradeTimeMillis, long price, List<PriceCondition> achieved) {
+    for (BarBucket bucket : barBuckets) {
+      bucket.onTrade(tradeTimeMillis, price, achieved);
+    }
+  }
+
+  /**
+   * 마감 시각이 지난 봉의 종가로 달성된 종가 기준 조건 수집
+   */
+  void collectElapsedBars(long nowMillis, List<PriceCondition> achieved) {
+    for (BarBucket bucket : barBuckets) {
+      bucket.closeIfElapsed(nowMillis, achieved);
+    }
+  }
+
+  /**
+   * 종가 기준 조건 묶음이 있는지
+   */
+  boolean hasBarCloseConditions() {
+    return barBuckets.length > 0;
+  }
+
+  /**
+   * 호가잔량 갱신으로 목표가를 지난 최우선 호가 기준 조건 수집
+   */
+  void collectCrossedByOrderBook(long bidPrice, long askPrice, List<PriceCondition> crossed) {
+    if (bidPrice > 0) {
+      bestBid.collectCrossed(null, bidPrice, bidPrice, crossed);
+    }
+    if (askPrice > 0) {
+      bestAsk.collectCrossed(null, askPrice, askPrice, crossed);
+    }
+  }
+
+  /**
+   * 최우선 호가 기준 조건이 있는지 (호가잔량 구독 필요 여부)
+   */
+  boolean usesOrderBook() {
+    return !bestBid.isEmpty() || !bestAsk.isEmpty();
+  }
+
+  /**
+   * 종목 조건 목록에서 빠진 인덱스로 표시 (이후 추가 금지)
+   */
+  void retire() {
+    retired = true;
+  }
+
+  boolean isRetired() {
+    return retired;
+  }
+
+  int size() {
+    return size.get();
+  }
+
+  boolean isEmpty() {
+    return size.get() == 0;
+  }
+
+  /**
+   * 등록된 모든 조건 (기준 가격, 방향, 목표가 순 - 기준 가격 없는 복합 조건, 종가 기준 조건은 마지막)
+   */
+  List<PriceCondition> conditions() {
+    List<PriceCondition> conditions = new ArrayList<>(size());
+    for (Ladder ladder : List.of(lastPrice, bestBid, bestAsk)) {
+      conditions.addAll(ladder.rising);
+      conditions.addAll(ladder.falling);
+    }
+    conditions.addAll(unanchored);
+    for (BarBucket bucket : barBuckets) {
+      conditions.addAll(bucket.conditions);
+    }
+    return conditions;
+  }
+
+  /**
+   * 봉 단위 묶음 (없으면 생성 - 변경은 인덱스 모니터 안에서만 일어나므로 복사 교체가 겹치지 않음)
+   */
+  private BarBucket barBucketOf(CandleInterval interval) {
+    BarBucket bucket = findBarBucket(interval);
+    if (bucket == null) {
+      bucket = new BarBucket(interval);
+      BarBucket[] buckets = Arrays.copyOf(barBuckets, barBuckets.length + 1);
+      buckets[buckets.length - 1] = bucket;
+      barBuckets = buckets;
+    }
+    return bucket;
+  }
+
+  private BarBucket findBarBucket(CandleInterval interval) {
+    for (BarBucket bucket : barBuckets) {
+      if (bucket.interval == interval) {
+        return bucket;
+      }
+    }
+    return null;
+  }
+
+  private ConcurrentSkipListSet<PriceCondition> setOf(PriceCondition condition) {
+    return condition.isPriceIndexed()
+        ? ladderOf(condition.getPriceBasis()).sideOf(condition) : unanchored;
+  }
+
+  private Ladder ladderOf(PriceBasis priceBasis) {
+    return switch (priceBasis) {
+      case LAST_PRICE -> lastPrice;
+      case BEST_BID -> bestBid;
+      case BEST_ASK -> bestAsk;
+    };
+  }
+}
@@ -1,59 +1,63 @@
 package com.kokimstocktrading.application.monitoring.calculator;
 
-import com.kokimstocktrading.application.candle.port.out.LoadStockCandlePort;
+import com.kokimstocktrading.application.candle.port.out.LoadClosePriceSeriesPort;
 import com.kokimstocktrading.domain.candle.CandleInterval;
-import com.kokimstocktrading.domain.candle.StockCandle;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.time.LocalDateTime;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * 이동평균선과 맞닿을 가격 계산기 현재 시간의 이평선과 맞닿을 가격을 구하는 식 현재가격 + (1 ~ period -1 까지의 가격 합)  = period * 현재 가격 즉
  * 현재가격 = (1 ~ period -1 까지의 가격 합) / (period - 1)
+ * 캔들을 매번 다시 조회하지 않고 종목/봉 단위로 공유되는 종가 시계열의 누적합으로 O(1)에 계산합니다.
+ * 터치 가격은 마감 봉만으로 정해지므로 봉이 마감될 때만 바뀝니다. (일봉이면 장중 내내 같은 값)
  */
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class MovingAverageTouchPriceCalculator {
 
-  private final LoadStockCandlePort loadStockCandlePort;
+  private final LoadClosePriceSeriesPort loadClosePriceSeriesPort;
 
   public Mono<Long> calculateTargetPrice(String stockCode, int period, CandleInterval interval) {
-    return loadStockCandlePort.loadStockCandleListBy(stockCode, interval,
-            LocalDateTime.now(), (long) period)
-        .<Long>handle((candles, sink) -> {
-          if (candles.size() < period - 1) {
+    return loadClosePriceSeriesPort.loadClosePriceSeries(stockCode, interval, period - 1)
+        .<Long>handle((series, sink) -> {
+          int closedCount = series.closedCount();
+          if (closedCount < period - 1) {
             log.warn("이평선 터치 가격 계산을 위한 충분한 캔들 데이터가 없습니다. 요구: {}, 실제: {}",
-                period - 1, candles.size());
+                period - 1, closedCount);
             sink.error(new IllegalStateException(
                 String.format("이평선 터치 가격 계산을 위한 데이터 부족: 요구 %d개, 실제 %d개",
-                    period - 1, candles.size())));
+                    period - 1, closedCount)));
             return;
           }
 
-          // 현재를 제외한 1 ~ period-1까지의 가격 합계
-          List<StockCandle> pastCandles = candles.subList(1, period);
-
-          BigDecimal pastPriceSum = pastCandles.stream()
-              .map(StockCandle::getClosePrice)
-              .map(BigDecimal::valueOf)
-              .reduce(BigDecimal.ZERO, BigDecimal::add);
-
           // 현재가격 = (1 ~ period-1까지의 가격 합) / (period - 1)
-          BigDecimal touchPrice = pastPriceSum.divide(BigDecimal.valueOf(period - 1), 0,
-              RoundingMode.HALF_UP);
+          long touchPrice = series.touchPrice(period);
 
           log.debug("이평선 터치 가격 계산 완료: 종목={}, 기간={}{}, 터치가격={}",
               stockCode, period, interval.getDisplayName(), touchPrice);
 
-          sink.next(touchPrice.longValue());
+          sink.next(touchPrice);
         })
         .doOnError(error -> log.error("이평선 터치 가격 계산 중 오류 발생: 종목={}, 기간={}{}",
             stockCode, period, interval.getDisplayName(), error));
   }
+
+  /**
+   * 봉이 마감될 때마다 다시 계산한 이평선 터치 가격 (봉 마감 스레드에서 발행)
+   */
+  public Flux<Long> touchPriceOnBarClose(String stockCode, int period, CandleInterval interval) {
+    return loadClosePriceSeriesPort.loadClosePriceSeries(stockCode, interval, period - 1)
+        .flatMapMany(series -> Flux.<Long>create(sink -> {
+          Runnable unsubscribe = series.onBarClose(closed -> {
+            if (closed.closedCount() >= period - 1) {
+              sink.next(closed.touchPrice(period));
+            }
+          });
+          sink.onDispose(unsubscribe::run);
+        }));
+  }
 }
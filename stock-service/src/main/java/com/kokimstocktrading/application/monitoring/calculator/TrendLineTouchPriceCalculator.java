@@ -1,11 +1,20 @@
 package com.kokimstocktrading.application.monitoring.calculator;
 
-import com.kokimstocktrading.application.candle.port.out.LoadStockCandlePort;
+import com.kokimstocktrading.application.market.port.out.LoadTradingCalendarPort;
 import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.market.TradingCalendar;
+import com.kokimstocktrading.domain.monitoring.TrendLineCondition;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
@@ -14,6 +23,8 @@ import reactor.core.publisher.Mono;
  * <pre>
  *  추세선과 맞닿을 가격 계산기 현재 시간의 추세선과 맞닿을 가격을 구하는 식
  *  즉 현재가격 = 추세선 시작 날짜 + 현재날짜와 시작날짜 사이의 봉 개수 * 기울기
+ *  봉 개수는 캔들을 내려받아 세지 않고 거래일 달력으로 계산하므로 I/O 가 없는 순수 계산입니다.
+ *  같은 종목/봉 단위 추세선은 달력과 현재 시각을 한 번만 읽어 함께 계산합니다. (calculateTargetPrices)
  * </pre>
  */
 @Component
@@ -21,30 +32,70 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class TrendLineTouchPriceCalculator {
 
-  private final LoadStockCandlePort loadStockCandlePort;
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+  private final LoadTradingCalendarPort loadTradingCalendarPort;
+
+  /**
+   * 현재 시각 기준 (테스트/리플레이에서 가상 시계 사용)
+   */
+  @Setter
+  private Clock clock = Clock.system(KST);
 
   public Mono<Long> calculateTargetPrice(String stockCode, LocalDateTime baseDate, Long basePrice, BigDecimal slope,
       CandleInterval interval) {
-    return loadStockCandlePort.loadStockCandleListBy(stockCode, interval,
-            LocalDateTime.now(), baseDate)
-        .<Long>handle((stockCandleList, sink) -> {
-          if (stockCandleList.isEmpty()) {
-            log.warn("추세선 터치 가격 계산을 위한 충분한 캔들 데이터가 없습니다. 요구: {}, 실제: {}",
-                2, 0);
-            sink.error(new IllegalStateException("추세선 터치 가격 계산을 위한 데이터 부족"));
-            return;
-          }
-
-          // 봉 개수 계산 (현재부터 시작점까지)
-          int candleCount = stockCandleList.size() - 1;
-
-          // 현재 시점의 추세선 가격 = 시작가격 + (봉개수 * 기울기)
-          BigDecimal currentTrendLinePrice = BigDecimal.valueOf(basePrice)
-              .add(slope.multiply(BigDecimal.valueOf(candleCount)));
-
-          sink.next(currentTrendLinePrice.setScale(0, RoundingMode.HALF_UP).longValue());
-        })
+    return Mono.fromCallable(() -> calculateTargetPriceAt(LocalDateTime.now(clock), baseDate,
+            basePrice, slope, interval))
         .doOnError(error -> log.error("추세선 터치 가격 계산 중 오류 발생: 종목={}, 기간={}",
             stockCode, interval.getDisplayName(), error));
   }
+
+  /**
+   * 같은 종목/봉 단위 추세선들의 현재 가격 (조건 ID -> 가격, 계산할 수 없는 조건은 빠짐)
+   */
+  public Mono<Map<UUID, Long>> calculateTargetPrices(String stockCode, CandleInterval interval,
+      List<TrendLineCondition> conditions) {
+    return Mono.fromCallable(() -> {
+      TradingCalendar calendar = loadTradingCalendarPort.loadTradingCalendar();
+      LocalDateTime now = LocalDateTime.now(clock);
+      Map<UUID, Long> prices = new HashMap<>();
+      for (TrendLineCondition condition : conditions) {
+        try {
+          prices.put(condition.getId(), calculateTargetPriceAt(calendar, now,
+              condition.getBaseDate(), condition.getBasePrice(), condition.getSlope(), interval));
+        } catch (IllegalStateException e) {
+          log.warn("추세선 터치 가격 계산 제외: 종목={}, 조건ID={} - {}", stockCode,
+              condition.getId(), e.getMessage());
+        }
+      }
+      return prices;
+    });
+  }
+
+  /**
+   * 주어진 시각의 추세선 가격
+   */
+  public long calculateTargetPriceAt(LocalDateTime now, LocalDateTime baseDate, Long basePrice,
+      BigDecimal slope, CandleInterval interval) {
+    return calculateTargetPriceAt(loadTradingCalendarPort.loadTradingCalendar(), now, baseDate,
+        basePrice, slope, interval);
+  }
+
+  private long calculateTargetPriceAt(TradingCalendar calendar, LocalDateTime now,
+      LocalDateTime baseDate, Long basePrice, BigDecimal slope, CandleInterval interval) {
+    // 시작점 이전 달력이 없으면 백그라운드로 받아 둠 (그 전까지는 설정된 휴장일로 계산)
+    loadTradingCalendarPort.requestCoverageFrom(baseDate.toLocalDate());
+    // 봉 개수 계산 (현재부터 시작점까지)
+    long candleCount = calendar.barIndex(interval, baseDate, now);
+    if (candleCount < 0) {
+      log.warn("추세선 시작 시각 이후 봉이 없습니다: 시작={}, 현재={}", baseDate, now);
+      throw new IllegalStateException("추세선 터치 가격 계산을 위한 데이터 부족");
+    }
+
+    // 현재 시점의 추세선 가격 = 시작가격 + (봉개수 * 기울기)
+    BigDecimal currentTrendLinePrice = BigDecimal.valueOf(basePrice)
+        .add(slope.multiply(BigDecimal.valueOf(candleCount)));
+
+    return currentTrendLinePrice.setScale(0, RoundingMode.HALF_UP).longValue();
+  }
 }
@@ -52,6 +52,11 @@ public interface DynamicCondition<T extends Condition> {
     } else if (interval.equals(Duration.ofHours(1))) {
       // 1시간 간격: 다음 시간의 00분 00초
       nextExecution = now.plusHours(1).truncatedTo(ChronoUnit.HOURS);
+    } else if (Duration.ofDays(1).toMillis() % interval.toMillis() == 0) {
+      // 하루를 나누는 간격(6시간, 24시간 등): 자정부터 센 다음 경계 (같은 간격 조건이 한 시각에 모임)
+      LocalDateTime midnight = now.truncatedTo(ChronoUnit.DAYS);
+      long periods = Duration.between(midnight, now).toMillis() / interval.toMillis() + 1;
+      nextExecution = midnight.plus(interval.multipliedBy(periods));
     } else {
       // 기타 간격: 현재 시각부터 해당 간격만큼 후
       nextExecution = now.plus(interval);
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 /**
  * 동적 가격 조건 관리 서비스 (파사드) - MovingAverageDynamicCondition과 TrendLineDynamicCondition을 조합하여 사용
@@ -62,21 +63,27 @@ public class DynamicConditionService {
   }
 
   /**
-   * 업데이트 간격 제공자 설정 (테스트용) - 이평선과 추세선 모두에 적용
+   * 업데이트 간격 제공자 설정 (테스트용) - 추세선에 적용 (이평선은 봉 마감마다 갱신)
    */
   public void setUpdateIntervalProvider(Function<CandleInterval, Duration> updateIntervalProvider) {
-    movingAverageDynamicCondition.setUpdateIntervalProvider(updateIntervalProvider);
     trendLineDynamicCondition.setUpdateIntervalProvider(updateIntervalProvider);
   }
 
   /**
-   * 초기 지연 계산 제공자 설정 (테스트용) - 이평선과 추세선 모두에 적용
+   * 초기 지연 계산 제공자 설정 (테스트용) - 추세선에 적용 (이평선은 봉 마감마다 갱신)
    */
   public void setInitialDelayProvider(Function<Duration, Long> initialDelayProvider) {
-    movingAverageDynamicCondition.setInitialDelayProvider(initialDelayProvider);
     trendLineDynamicCondition.setInitialDelayProvider(initialDelayProvider);
   }
 
+  /**
+   * 주기적 업데이트 스케줄러 설정 (테스트/리플레이용) - 이평선과 추세선 모두에 적용
+   */
+  public void setUpdateScheduler(Scheduler updateScheduler) {
+    movingAverageDynamicCondition.setUpdateScheduler(updateScheduler);
+    trendLineDynamicCondition.setUpdateScheduler(updateScheduler);
+  }
+
   // ================================ 추세선 조건 관리 ================================
 
   /**
@@ -4,27 +4,26 @@ import com.kokimstocktrading.application.monitoring.MonitorPriceService;
 import com.kokimstocktrading.application.monitoring.calculator.MovingAverageTouchPriceCalculator;
 import com.kokimstocktrading.application.monitoring.event.ConditionSuccessEvent;
 import com.kokimstocktrading.application.monitoring.event.ConditionSuccessEvent.ConditionType;
-import com.kokimstocktrading.domain.candle.CandleInterval;
 import com.kokimstocktrading.domain.monitoring.MovingAverageCondition;
 import com.kokimstocktrading.domain.monitoring.PriceCondition;
-import java.time.Duration;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.function.Function;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import reactor.core.Disposable;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 import reactor.core.scheduler.Schedulers;
 
 /**
  * 이평선 동적 조건 관리 서비스
+ * 이평선 터치 가격은 마감 봉만으로 정해지므로 벽시계 주기 대신 봉 마감 이벤트에만 다시 계산합니다.
+ * (분봉은 매 분 봉 마감마다, 일봉 이상은 다음 봉이 시작될 때 한 번)
  */
 @Service
 @Slf4j
@@ -38,20 +37,14 @@ public class MovingAverageDynamicCondition implements DynamicCondition<MovingAve
   // 등록된 이평선 조건들 (조건 ID -> 이평선 조건)
   private final Map<UUID, MovingAverageCondition> conditions = new ConcurrentHashMap<>();
 
-  // 주기적 업데이트 스케줄러 (조건 ID -> Disposable)
-  private final Map<UUID, Disposable> updateSchedulers = new ConcurrentHashMap<>();
+  // 봉 마감 구독 (조건 ID -> Disposable)
+  private final Map<UUID, Disposable> barCloseSubscriptions = new ConcurrentHashMap<>();
 
   /**
-   * 업데이트 간격 제공자 설정
+   * 업데이트 스케줄러 설정 - 봉 마감(시세 스레드) 이후 가격 조건 교체를 실행 (테스트/리플레이에서 가상 시간 스케줄러 사용)
    */
   @Setter
-  private Function<CandleInterval, Duration> updateIntervalProvider = this::getUpdateInterval;
-
-  /**
-   * 초기 지연 계산 제공자 설정 (테스트용)
-   */
-  @Setter
-  private Function<Duration, Long> initialDelayProvider = this::calculateInitialDelay;
+  private Scheduler updateScheduler = Schedulers.fromExecutor(scheduler);
 
   public MovingAverageDynamicCondition(
       MovingAverageTouchPriceCalculator movingAverageTouchPriceCalculator,
@@ -64,14 +57,19 @@ public class MovingAverageDynamicCondition implements DynamicCondition<MovingAve
 
   @Override
   public Mono<MovingAverageCondition> registerCondition(MovingAverageCondition condition) {
-
-    return initializeCondition(condition, () -> removeCondition(condition.getId()))
-        .doOnSuccess(initializedCondition -> {
+    // 가격 조건이 등록 즉시 달성(마지막 시세로 확인)되면 콜백이 먼저 실행될 수 있으므로 조건을 먼저 저장
+    return Mono.defer(() -> {
           conditions.put(condition.getId(), condition);
-          startPeriodicUpdate(condition);
+          return initializeCondition(condition, () -> removeCondition(condition.getId()));
+        })
+        .doOnSuccess(initializedCondition -> {
+          startBarCloseUpdate(condition);
           log.info("이평선 조건 등록 완료: {}", condition);
         })
-        .doOnError(error -> log.error("이평선 조건 등록 실패: {}", condition, error));
+        .doOnError(error -> {
+          conditions.remove(condition.getId());
+          log.error("이평선 조건 등록 실패: {}", condition, error);
+        });
   }
 
   /**
@@ -103,41 +101,41 @@ public class MovingAverageDynamicCondition implements DynamicCondition<MovingAve
   }
 
   /**
-   * 주기적 이평선 업데이트 시작
+   * 봉 마감 구독 시작 - 봉이 마감될 때마다 새 터치 가격으로 가격 조건 교체
    */
-  private void startPeriodicUpdate(MovingAverageCondition condition) {
-    Duration updateInterval = updateIntervalProvider.apply(condition.getInterval());
-
-    // 정각 실행을 위한 초기 지연 계산
-    long initialDelayMs = initialDelayProvider.apply(updateInterval);
-    long periodMs = updateInterval.toMillis();
-
-    Disposable scheduler = Flux.interval(
-            Duration.ofMillis(initialDelayMs),
-            Duration.ofMillis(periodMs),
-            Schedulers.fromExecutor(this.scheduler)
-        )
-        .flatMap(tick -> updateCondition(condition)
-            .doOnError(error -> log.error("이평선 조건 업데이트 중 오류: {}", condition, error))
-            .onErrorResume(error -> {
-              log.warn("이평선 업데이트 오류, 계속 진행: {}", error.getMessage());
-              return Mono.empty();
-            })
-        )
-        .subscribe();
-
-    updateSchedulers.put(condition.getId(), scheduler);
-    log.info("이평선 주기적 업데이트 시작: 조건={}, 간격={}, 첫 실행까지={}ms",
-        condition.getId(), updateInterval, initialDelayMs);
+  private void startBarCloseUpdate(MovingAverageCondition condition) {
+    Disposable subscription = movingAverageTouchPriceCalculator.touchPriceOnBarClose(
+            condition.getStockCode(), condition.getPeriod(), condition.getInterval())
+        .publishOn(updateScheduler)
+        .concatMap(touchPrice -> updateCondition(condition, touchPrice))
+        .subscribe(
+            unused -> {
+            },
+            error -> log.error("이평선 봉 마감 구독 중 오류: {}", condition, error));
+
+    barCloseSubscriptions.put(condition.getId(), subscription);
+    // 시작 전에 이미 달성되어 삭제된 조건이면 바로 중지
+    if (!conditions.containsKey(condition.getId())) {
+      Disposable removed = barCloseSubscriptions.remove(condition.getId());
+      if (removed != null) {
+        removed.dispose();
+      }
+      return;
+    }
+    log.info("이평선 봉 마감 구독 시작: 조건={}, 봉={}", condition.getId(),
+        condition.getInterval().getDisplayName());
   }
 
   /**
    * 이평선 조건 업데이트 (기존 조건 삭제 후 새 조건 생성)
    */
-  private Mono<Void> updateCondition(MovingAverageCondition condition) {
-    return movingAverageTouchPriceCalculator.calculateTargetPrice(
-            condition.getStockCode(), condition.getPeriod(), condition.getInterval())
-        .flatMap(newMovingAveragePrice -> {
+  private Mono<Void> updateCondition(MovingAverageCondition condition, long newMovingAveragePrice) {
+    return Mono.<Void>fromRunnable(() -> {
+          // 봉 마감 전에 달성되어 삭제된 조건이면 다시 등록하지 않음
+          if (!conditions.containsKey(condition.getId())) {
+            return;
+          }
+
           // 기존 PriceCondition 삭제 (currentPriceConditionId 사용)
           UUID oldConditionId = condition.getCurrentPriceConditionId();
           if (oldConditionId != null) {
@@ -148,33 +146,19 @@ public class MovingAverageDynamicCondition implements DynamicCondition<MovingAve
           // 새로운 PriceCondition 생성
           PriceCondition newPriceCondition = condition.createPriceCondition(newMovingAveragePrice,
               () -> removeCondition(condition.getId()));
-          PriceCondition registered = monitorPriceService.registerPriceCondition(newPriceCondition);
+          PriceCondition registered = monitorPriceService.registerPriceCondition(
+              newPriceCondition);
           condition.setCurrentPriceConditionId(registered.getId());
 
           log.info("이평선 조건 업데이트: 종목={}, 새 이평선가격={}, 새 조건ID={}",
               condition.getStockCode(), newMovingAveragePrice, registered.getId());
-
-          return Mono.<Void>empty();
         })
         .onErrorResume(error -> {
           log.error("이평선 조건 업데이트 실패: {}", condition, error);
-          return Mono.empty(); // 오류 시에도 스케줄러 계속 동작
+          return Mono.empty(); // 오류 시에도 다음 봉 마감에 계속 동작
         });
   }
 
-  /**
-   * 캔들 간격에 따른 업데이트 주기 결정
-   */
-  private Duration getUpdateInterval(CandleInterval interval) {
-    return switch (interval) {
-      case MINUTE -> Duration.ofMinutes(1);   // 1분마다 업데이트
-      case DAY -> Duration.ofHours(1);        // 1시간마다 업데이트 (실시간성 고려)
-      case WEEK -> Duration.ofHours(6);       // 6시간마다 업데이트
-      case MONTH -> Duration.ofHours(24);     // 24시간마다 업데이트
-      case YEAR -> Duration.ofDays(7);        // 7일마다 업데이트
-    };
-  }
-
   @Override
   public boolean removeCondition(UUID conditionId) {
     MovingAverageCondition condition = conditions.remove(conditionId);
@@ -183,10 +167,10 @@ public class MovingAverageDynamicCondition implements DynamicCondition<MovingAve
       return false;
     }
 
-    // 주기적 업데이트 중지
-    Disposable scheduler = updateSchedulers.remove(conditionId);
-    if (scheduler != null && !scheduler.isDisposed()) {
-      scheduler.dispose();
+    // 봉 마감 구독 중지
+    Disposable subscription = barCloseSubscriptions.remove(conditionId);
+    if (subscription != null && !subscription.isDisposed()) {
+      subscription.dispose();
     }
 
     // 현재 활성화된 PriceCondition 삭제 (currentPriceConditionId 사용)
@@ -215,13 +199,13 @@ public class MovingAverageDynamicCondition implements DynamicCondition<MovingAve
   }
 
   public void destroy() {
-    // 먼저 모든 스케줄러 중지
-    updateSchedulers.values().forEach(disposable -> {
+    // 먼저 모든 봉 마감 구독 중지
+    barCloseSubscriptions.values().forEach(disposable -> {
       if (disposable != null && !disposable.isDisposed()) {
         disposable.dispose();
       }
     });
-    updateSchedulers.clear();
+    barCloseSubscriptions.clear();
 
     // 모든 조건 제거
     conditions.clear();
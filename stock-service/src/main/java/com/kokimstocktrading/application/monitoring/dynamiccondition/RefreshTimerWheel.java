@@ -0,0 +1,128 @@
+package com.kokimstocktrading.application.monitoring.dynamiccondition;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ *  계층형 타이머 휠 - 조건마다 타이머를 두지 않고, 갱신 예정 시각을 tick 단위 버킷에 모아 한 번에 꺼냅니다.
+ *  - 4단계 x 64칸: 0단계 한 칸 = 1 tick, 1단계 = 64 tick, 2단계 = 4,096 tick, 3단계 = 262,144 tick
+ *    (tick 1초 기준 약 194일까지 한 번에 배치, 더 먼 항목은 마지막 단계에 두었다가 다시 배치)
+ *  - 윗 단계 칸은 해당 구간에 들어서는 tick 에 아래 단계로 내려 보냄 (cascade)
+ *  - 같은 tick 에 만기된 항목은 한 버킷(배치)으로 돌려주므로, 정각에 맞춘 갱신은 한 번에 처리됩니다.
+ *
+ *  예정 시각은 tick 단위로 올림하므로 예정보다 일찍 꺼내지 않습니다.
+ *  등록(조건 스레드)과 진행(타이머 스레드)이 겹치므로 휠 단위로 동기화합니다.
+ * </pre>
+ *
+ * @param <T> 갱신 대상
+ */
+public class RefreshTimerWheel<T> {
+
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = 4;
+  // 한 번에 배치할 수 있는 최대 tick 간격
+  private static final long MAX_DELTA = 1L << (SLOT_BITS * LEVELS);
+
+  private record Entry<T>(T item, long dueTick) {
+
+  }
+
+  private final long tickMillis;
+  private final List<List<Entry<T>>> slots = new ArrayList<>(LEVELS * SLOTS);
+  // 다음에 처리할 tick
+  private long currentTick;
+  private int size;
+
+  /**
+   * @param tickMillis 버킷 하나의 길이 (ms)
+   * @param nowMillis  현재 시각 (epoch millis)
+   */
+  public RefreshTimerWheel(long tickMillis, long nowMillis) {
+    if (tickMillis <= 0) {
+      throw new IllegalArgumentException("tick 길이는 1ms 이상이어야 합니다: " + tickMillis);
+    }
+    this.tickMillis = tickMillis;
+    this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    for (int i = 0; i < LEVELS * SLOTS; i++) {
+      slots.add(new ArrayList<>());
+    }
+  }
+
+  /**
+   * 예정 시각에 꺼낼 항목 등록 (이미 지난 시각이면 다음 진행 때 꺼냄)
+   */
+  public synchronized void schedule(T item, long dueMillis) {
+    long dueTick = Math.max(Math.floorDiv(dueMillis + tickMillis - 1, tickMillis), currentTick);
+    place(new Entry<>(item, dueTick));
+    size++;
+  }
+
+  /**
+   * 현재 시각까지 만기된 항목을 tick 버킷 단위로 꺼냄 (예정 시각 순)
+   */
+  public synchronized List<List<T>> advanceTo(long nowMillis) {
+    long targetTick = Math.floorDiv(nowMillis, tickMillis);
+    List<List<T>> buckets = new ArrayList<>();
+    while (currentTick <= targetTick) {
+      if (size == 0) {
+        currentTick = targetTick + 1;
+        break;
+      }
+      for (int level = LEVELS - 1; level >= 1; level--) {
+        if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+          cascade(level);
+        }
+      }
+
+      List<Entry<T>> slot = slot(0, (int) (currentTick & SLOT_MASK));
+      if (!slot.isEmpty()) {
+        List<T> bucket = new ArrayList<>(slot.size());
+        for (Entry<T> entry : slot) {
+          bucket.add(entry.item());
+        }
+        slot.clear();
+        size -= bucket.size();
+        buckets.add(bucket);
+      }
+      currentTick++;
+    }
+    return buckets;
+  }
+
+  /**
+   * 등록된 항목 수
+   */
+  public synchronized int size() {
+    return size;
+  }
+
+  private void cascade(int level) {
+    List<Entry<T>> slot = slot(level, (int) ((currentTick >>> (SLOT_BITS * level)) & SLOT_MASK));
+    if (slot.isEmpty()) {
+      return;
+    }
+    List<Entry<T>> entries = new ArrayList<>(slot);
+    slot.clear();
+    entries.forEach(this::place);
+  }
+
+  /**
+   * 남은 tick 간격이 들어가는 가장 낮은 단계의 칸에 배치 (최대 간격보다 먼 항목은 마지막 단계 끝 칸)
+   */
+  private void place(Entry<T> entry) {
+    long placedTick = Math.min(entry.dueTick(), currentTick + MAX_DELTA - 1);
+    long delta = placedTick - currentTick;
+    int level = 0;
+    while (level < LEVELS - 1 && delta >= 1L << (SLOT_BITS * (level + 1))) {
+      level++;
+    }
+    slot(level, (int) ((placedTick >>> (SLOT_BITS * level)) & SLOT_MASK)).add(entry);
+  }
+
+  private List<Entry<T>> slot(int level, int index) {
+    return slots.get(level * SLOTS + index);
+  }
+}
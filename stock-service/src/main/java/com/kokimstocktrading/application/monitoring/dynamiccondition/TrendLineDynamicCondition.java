@@ -8,11 +8,15 @@ import com.kokimstocktrading.domain.candle.CandleInterval;
 import com.kokimstocktrading.domain.monitoring.PriceCondition;
 import com.kokimstocktrading.domain.monitoring.TrendLineCondition;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -21,9 +25,17 @@ import org.springframework.stereotype.Service;
 import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
 /**
- * 추세선 동적 조건 관리 서비스
+ * <pre>
+ *  추세선 동적 조건 관리 서비스
+ *  조건마다 타이머를 두지 않고, 갱신 예정 시각(정각 등)을 하나의 계층형 타이머 휠(RefreshTimerWheel)에 모읍니다.
+ *  - 타이머 하나가 1초마다 휠을 진행시키고, 같은 시각에 만기된 조건은 한 배치로 갱신
+ *  - 배치 안에서는 종목/봉 단위로 묶어 추세선 가격을 한 번에 계산하고, 묶음 사이 동시 실행 수를 제한
+ *  - 삭제된 조건은 휠에서 꺼낼 때 버림 (다시 예약하지 않음)
+ * </pre>
  */
 @Service
 @Slf4j
@@ -37,8 +49,19 @@ public class TrendLineDynamicCondition implements DynamicCondition<TrendLineCond
   // 등록된 추세선 조건들 (조건 ID -> 추세선 조건)
   private final Map<UUID, TrendLineCondition> conditions = new ConcurrentHashMap<>();
 
-  // 주기적 업데이트 스케줄러 (조건 ID -> Disposable)
-  private final Map<UUID, Disposable> updateSchedulers = new ConcurrentHashMap<>();
+  // 휠 진행 간격 (버킷 하나의 길이)
+  private static final long TICK_MILLIS = 1000;
+
+  /**
+   * 휠에 예약된 갱신 - 조건 ID, 예정 시각, 주기 (epoch millis)
+   */
+  private record ScheduledRefresh(UUID conditionId, long dueMillis, long periodMillis) {
+
+  }
+
+  // 갱신 예정 시각 휠과 휠을 진행시키는 타이머 (첫 조건 등록 시 생성)
+  private RefreshTimerWheel<ScheduledRefresh> refreshWheel;
+  private Disposable ticker;
 
   /**
    * 업데이트 간격 제공자 설정
@@ -52,6 +75,18 @@ public class TrendLineDynamicCondition implements DynamicCondition<TrendLineCond
   @Setter
   private Function<Duration, Long> initialDelayProvider = this::calculateInitialDelay;
 
+  /**
+   * 주기적 업데이트 스케줄러 설정 (테스트/리플레이에서 가상 시간 스케줄러 사용)
+   */
+  @Setter
+  private Scheduler updateScheduler = Schedulers.fromExecutor(scheduler);
+
+  /**
+   * 한 배치에서 동시에 갱신할 종목/봉 단위 묶음 수
+   */
+  @Setter
+  private int maxConcurrentRefreshes = 4;
+
   public TrendLineDynamicCondition(
       TrendLineTouchPriceCalculator trendLineTouchPriceCalculator,
       MonitorPriceService monitorPriceService,
@@ -63,14 +98,19 @@ public class TrendLineDynamicCondition implements DynamicCondition<TrendLineCond
 
   @Override
   public Mono<TrendLineCondition> registerCondition(TrendLineCondition condition) {
-
-    return initializeCondition(condition, () -> removeCondition(condition.getId()))
-        .doOnSuccess(unused -> {
+    // 가격 조건이 등록 즉시 달성(마지막 시세로 확인)되면 콜백이 먼저 실행될 수 있으므로 조건을 먼저 저장
+    return Mono.defer(() -> {
           conditions.put(condition.getId(), condition);
+          return initializeCondition(condition, () -> removeCondition(condition.getId()));
+        })
+        .doOnSuccess(initializedCondition -> {
           startPeriodicUpdate(condition);
           log.info("추세선 조건 등록 완료: {}", condition);
         })
-        .doOnError(error -> log.error("추세선 조건 등록 실패: {}", condition, error));
+        .doOnError(error -> {
+          conditions.remove(condition.getId());
+          log.error("추세선 조건 등록 실패: {}", condition, error);
+        });
   }
 
   /**
@@ -103,42 +143,101 @@ public class TrendLineDynamicCondition implements DynamicCondition<TrendLineCond
   }
 
   /**
-   * 주기적 추세선 업데이트 시작
+   * 주기적 추세선 업데이트 시작 - 첫 예정 시각을 휠에 예약
    */
   private void startPeriodicUpdate(TrendLineCondition condition) {
     Duration updateInterval = updateIntervalProvider.apply(condition.getInterval());
 
     // 정각 실행을 위한 초기 지연 계산
     long initialDelayMs = initialDelayProvider.apply(updateInterval);
-    long periodMs = updateInterval.toMillis();
-
-    Disposable scheduler = Flux.interval(
-            Duration.ofMillis(initialDelayMs),
-            Duration.ofMillis(periodMs),
-            reactor.core.scheduler.Schedulers.fromExecutor(this.scheduler)
-        )
-        .flatMap(tick -> updateCondition(condition)
-            .doOnError(error -> log.error("추세선 조건 업데이트 중 오류: {}", condition, error))
-            .onErrorResume(error -> {
-              log.warn("추세선 업데이트 오류, 계속 진행: {}", error.getMessage());
-              return Mono.empty();
-            })
-        )
-        .subscribe();
-
-    updateSchedulers.put(condition.getId(), scheduler);
+    long dueMillis = updateScheduler.now(TimeUnit.MILLISECONDS) + initialDelayMs;
+    refreshWheel().schedule(
+        new ScheduledRefresh(condition.getId(), dueMillis, updateInterval.toMillis()), dueMillis);
+
     log.info("추세선 주기적 업데이트 시작: 조건={}, 간격={}, 첫 실행까지={}ms",
         condition.getId(), updateInterval, initialDelayMs);
   }
 
+  /**
+   * 갱신 예정 시각 휠 (없으면 만들고, 버킷 경계에 맞춰 타이머 시작)
+   */
+  private synchronized RefreshTimerWheel<ScheduledRefresh> refreshWheel() {
+    if (refreshWheel == null) {
+      long now = updateScheduler.now(TimeUnit.MILLISECONDS);
+      refreshWheel = new RefreshTimerWheel<>(TICK_MILLIS, now);
+      ticker = Flux.interval(Duration.ofMillis(TICK_MILLIS - now % TICK_MILLIS),
+              Duration.ofMillis(TICK_MILLIS), updateScheduler)
+          .onBackpressureDrop()
+          .concatMap(tick -> refreshDue())
+          .subscribe(
+              unused -> {
+              },
+              error -> log.error("추세선 갱신 타이머 오류", error));
+    }
+    return refreshWheel;
+  }
+
+  /**
+   * 현재 시각까지 만기된 버킷을 차례로 갱신
+   */
+  private Mono<Void> refreshDue() {
+    long now = updateScheduler.now(TimeUnit.MILLISECONDS);
+    return Flux.fromIterable(refreshWheel.advanceTo(now))
+        .concatMap(bucket -> refreshBucket(bucket, now))
+        .then();
+  }
+
+  /**
+   * 같은 시각에 만기된 조건을 종목/봉 단위로 묶어 갱신하고 다음 예정 시각 예약
+   */
+  private Mono<Void> refreshBucket(List<ScheduledRefresh> bucket, long now) {
+    Map<String, List<TrendLineCondition>> groups = new LinkedHashMap<>();
+    for (ScheduledRefresh refresh : bucket) {
+      TrendLineCondition condition = conditions.get(refresh.conditionId());
+      if (condition == null) {
+        continue;
+      }
+      // 타이머가 밀렸으면 지나간 주기는 건너뜀
+      long nextDue = refresh.dueMillis()
+          + ((now - refresh.dueMillis()) / refresh.periodMillis() + 1) * refresh.periodMillis();
+      refreshWheel.schedule(
+          new ScheduledRefresh(refresh.conditionId(), nextDue, refresh.periodMillis()), nextDue);
+      groups.computeIfAbsent(condition.getStockCode() + ":" + condition.getInterval(),
+          key -> new ArrayList<>()).add(condition);
+    }
+    return Flux.fromIterable(groups.values())
+        .flatMap(this::refreshGroup, maxConcurrentRefreshes)
+        .then();
+  }
+
+  /**
+   * 종목/봉 단위 묶음 갱신 - 추세선 가격을 한 번에 계산한 뒤 조건마다 가격 조건 교체
+   */
+  private Mono<Void> refreshGroup(List<TrendLineCondition> group) {
+    TrendLineCondition first = group.get(0);
+    return trendLineTouchPriceCalculator.calculateTargetPrices(first.getStockCode(),
+            first.getInterval(), group)
+        .flatMapMany(prices -> Flux.fromIterable(group)
+            .filter(condition -> prices.containsKey(condition.getId()))
+            .concatMap(condition -> updateCondition(condition, prices.get(condition.getId()))))
+        .then()
+        .onErrorResume(error -> {
+          log.error("추세선 조건 묶음 업데이트 실패: 종목={}, 봉={}, 조건 {}개",
+              first.getStockCode(), first.getInterval().getDisplayName(), group.size(), error);
+          return Mono.empty(); // 오류 시에도 타이머 계속 동작
+        });
+  }
+
   /**
    * 추세선 조건 업데이트 (기존 조건 삭제 후 새 조건 생성)
    */
-  private Mono<Void> updateCondition(TrendLineCondition condition) {
-    return trendLineTouchPriceCalculator.calculateTargetPrice(
-            condition.getStockCode(), condition.getBaseDate(), condition.getBasePrice(), condition.getSlope(),
-            condition.getInterval())
-        .flatMap(newTrendLinePrice -> {
+  private Mono<Void> updateCondition(TrendLineCondition condition, long newTrendLinePrice) {
+    return Mono.<Void>fromRunnable(() -> {
+          // 갱신 전에 달성되어 삭제된 조건이면 다시 등록하지 않음
+          if (!conditions.containsKey(condition.getId())) {
+            return;
+          }
+
           // 기존 PriceCondition 삭제
           UUID oldConditionId = condition.getCurrentPriceConditionId();
           if (oldConditionId != null) {
@@ -149,17 +248,16 @@ public class TrendLineDynamicCondition implements DynamicCondition<TrendLineCond
           // 새로운 PriceCondition 생성
           PriceCondition newPriceCondition = condition.createPriceCondition(newTrendLinePrice,
               () -> removeCondition(condition.getId()));
-          PriceCondition registered = monitorPriceService.registerPriceCondition(newPriceCondition);
+          PriceCondition registered = monitorPriceService.registerPriceCondition(
+              newPriceCondition);
           condition.setCurrentPriceConditionId(registered.getId());
 
           log.info("추세선 조건 업데이트: 종목={}, 새 추세선가격={}, 새 조건ID={}",
               condition.getStockCode(), newTrendLinePrice, registered.getId());
-
-          return Mono.<Void>empty();
         })
         .onErrorResume(error -> {
           log.error("추세선 조건 업데이트 실패: {}", condition, error);
-          return Mono.empty(); // 오류 시에도 스케줄러 계속 동작
+          return Mono.empty();
         });
   }
 
@@ -184,11 +282,7 @@ public class TrendLineDynamicCondition implements DynamicCondition<TrendLineCond
       return false;
     }
 
-    // 주기적 업데이트 중지
-    Disposable scheduler = updateSchedulers.remove(conditionId);
-    if (scheduler != null && !scheduler.isDisposed()) {
-      scheduler.dispose();
-    }
+    // 휠에 예약된 갱신은 꺼낼 때 버림
 
     // 현재 활성화된 PriceCondition 삭제
     UUID currentPriceConditionId = condition.getCurrentPriceConditionId();
@@ -215,13 +309,12 @@ public class TrendLineDynamicCondition implements DynamicCondition<TrendLineCond
   }
 
   public void destroy() {
-    // 먼저 모든 스케줄러 중지
-    updateSchedulers.values().forEach(disposable -> {
-      if (disposable != null && !disposable.isDisposed()) {
-        disposable.dispose();
+    // 먼저 갱신 타이머 중지
+    synchronized (this) {
+      if (ticker != null && !ticker.isDisposed()) {
+        ticker.dispose();
       }
-    });
-    updateSchedulers.clear();
+    }
 
     // 모든 조건 제거
     conditions.clear();
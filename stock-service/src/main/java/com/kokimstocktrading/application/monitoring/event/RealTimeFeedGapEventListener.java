@@ -0,0 +1,25 @@
+package com.kokimstocktrading.application.monitoring.event;
+
+import com.kokimstocktrading.application.monitoring.MonitorPriceService;
+import com.kokimstocktrading.application.realtime.event.RealTimeFeedGapEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시세 공백 이벤트 리스너 - 재연결로 복구된 종목의 가격 조건을 다시 확인하도록 예약
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class RealTimeFeedGapEventListener {
+
+  private final MonitorPriceService monitorPriceService;
+
+  @EventListener
+  public void handleFeedGapEvent(RealTimeFeedGapEvent event) {
+    log.warn("실시간 시세 공백 발생: {}ms, 종목 {}개", event.gap().toMillis(), event.stockCodes().size());
+    monitorPriceService.recheckAfterFeedGap(event.stockCodes());
+  }
+}
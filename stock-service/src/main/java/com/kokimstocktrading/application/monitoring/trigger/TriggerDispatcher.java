@@ -0,0 +1,249 @@
+package com.kokimstocktrading.application.monitoring.trigger;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ *  조건 달성 콜백 실행기
+ *  종목코드로 stripe 를 골라 stripe 별 bounded 큐에 넣고, stripe 마다 가상 스레드 worker 하나가 순서대로 실행합니다.
+ *  - 같은 종목의 콜백은 달성 순서대로 실행 (같은 stripe 의 다른 종목과 순서를 공유)
+ *  - 시세 스레드는 큐에 넣기만 하므로 Slack/주문 REST 호출이 막혀도 틱 평가는 기다리지 않음
+ *  - 큐가 가득 차면 RejectionPolicy 에 따라 처리 (시세 스레드는 어떤 정책에서도 기다리거나 직접 실행하지 않음)
+ *    기본 OVERFLOW 는 stripe 별 overflow 목록에 이어 붙이고, worker 가 큐 다음으로 순서대로 비움
+ *    overflow 목록까지 가득 차면 버리고 false 를 반환 (호출한 쪽이 조건을 되돌림)
+ *    (종목별 순서를 지키는 정책은 OVERFLOW/DROP 이며, SPILL 은 순서를 포기하는 대신 콜백을 잃지 않음)
+ *
+ *  메트릭: monitoring.trigger.latency(stage=queue|execution), monitoring.trigger.in-flight,
+ *         monitoring.trigger.rejected, monitoring.trigger.overflowed, monitoring.trigger.spilled
+ * </pre>
+ */
+@Component
+@Slf4j
+public class TriggerDispatcher implements DisposableBean {
+
+  private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(5);
+
+  /**
+   * stripe 큐가 가득 찼을 때 처리 방식
+   */
+  public enum RejectionPolicy {
+    OVERFLOW, // stripe 별 overflow 목록에 넣어 큐 다음으로 순서대로 실행, 목록도 가득 차면 버림 (종목별 순서 유지)
+    SPILL,    // 별도 가상 스레드에서 바로 실행 (콜백은 잃지 않지만 같은 종목 순서는 보장하지 않음)
+    DROP      // 실행하지 않고 버림 (오류 로그와 rejected 카운트만 남김)
+  }
+
+  private final RejectionPolicy rejectionPolicy;
+  private final int overflowCapacity;
+  private final Stripe[] stripes;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final Timer queueTimer;
+  private final Timer executionTimer;
+  private final Counter rejectedCounter;
+  private final Counter overflowedCounter;
+  private final Counter spilledCounter;
+  private volatile boolean running = true;
+
+  /**
+   * 큐에 들어간 콜백 하나
+   */
+  private record Trigger(String stockCode, Object triggerId, Runnable callback,
+                         long enqueuedNanos) {
+
+  }
+
+  /**
+   * stripe 하나 - bounded 큐, 큐가 넘쳤을 때 이어 붙이는 overflow 목록, 순서대로 실행하는 가상 스레드 worker
+   *
+   * <p>overflow 목록이 비어 있지 않으면 새 요청도 목록 뒤에 붙이므로, 큐 -> overflow 순으로 꺼내면 요청 순서가 유지됩니다.</p>
+   */
+  private final class Stripe {
+
+    private final BlockingQueue<Trigger> queue;
+    private final Queue<Trigger> overflow = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger overflowSize = new AtomicInteger();
+    private final Thread worker;
+
+    private Stripe(int index, int capacity) {
+      this.queue = new ArrayBlockingQueue<>(capacity);
+      this.worker = Thread.ofVirtual().name("trigger-" + index).start(this::work);
+    }
+
+    /**
+     * 큐 또는 overflow 목록에 추가 (기다리지 않음, 요청 스레드끼리만 짧게 잠금)
+     */
+    private synchronized boolean enqueue(Trigger trigger, boolean useOverflow) {
+      if (overflowSize.get() == 0 && queue.offer(trigger)) {
+        return true;
+      }
+      if (!useOverflow || overflowSize.get() >= overflowCapacity) {
+        return false;
+      }
+      overflow.add(trigger);
+      overflowSize.incrementAndGet();
+      overflowedCounter.increment();
+      return true;
+    }
+
+    private Trigger next() throws InterruptedException {
+      Trigger trigger = queue.poll();
+      if (trigger != null) {
+        return trigger;
+      }
+      trigger = overflow.poll();
+      if (trigger != null) {
+        overflowSize.decrementAndGet();
+        return trigger;
+      }
+      return queue.poll(100, TimeUnit.MILLISECONDS);
+    }
+
+    private void work() {
+      while (running || !queue.isEmpty() || overflowSize.get() > 0) {
+        try {
+          Trigger trigger = next();
+          if (trigger != null) {
+            execute(trigger);
+          }
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+      }
+    }
+  }
+
+  public TriggerDispatcher(MeterRegistry meterRegistry,
+      @Value("${monitoring.trigger.stripes:8}") int stripeCount,
+      @Value("${monitoring.trigger.queue-capacity:1024}") int queueCapacity,
+      @Value("${monitoring.trigger.rejection-policy:OVERFLOW}") RejectionPolicy rejectionPolicy,
+      @Value("${monitoring.trigger.overflow-capacity:65536}") int overflowCapacity) {
+    if (stripeCount <= 0 || queueCapacity <= 0) {
+      throw new IllegalArgumentException(
+          "stripe 수와 큐 크기는 1 이상이어야 합니다: " + stripeCount + ", " + queueCapacity);
+    }
+    this.rejectionPolicy = rejectionPolicy;
+    this.overflowCapacity = Math.max(0, overflowCapacity);
+
+    this.queueTimer = latencyTimer(meterRegistry, "queue");
+    this.executionTimer = latencyTimer(meterRegistry, "execution");
+    this.rejectedCounter = Counter.builder("monitoring.trigger.rejected")
+        .description("큐가 가득 차 버려진 조건 콜백 수")
+        .register(meterRegistry);
+    this.overflowedCounter = Counter.builder("monitoring.trigger.overflowed")
+        .description("큐가 가득 차 overflow 목록에 들어간 조건 콜백 수")
+        .register(meterRegistry);
+    this.spilledCounter = Counter.builder("monitoring.trigger.spilled")
+        .description("큐가 가득 차 별도 스레드에서 실행된 조건 콜백 수")
+        .register(meterRegistry);
+    Gauge.builder("monitoring.trigger.in-flight", inFlight, AtomicInteger::get)
+        .description("대기 중이거나 실행 중인 조건 콜백 수")
+        .register(meterRegistry);
+
+    this.stripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      stripes[i] = new Stripe(i, queueCapacity);
+    }
+    log.info("조건 콜백 실행기 시작: stripe={}, 큐 크기={}, 거부 정책={}", stripeCount, queueCapacity,
+        rejectionPolicy);
+  }
+
+  private static Timer latencyTimer(MeterRegistry meterRegistry, String stage) {
+    return Timer.builder("monitoring.trigger.latency")
+        .description("조건 콜백 큐 대기/실행 시간")
+        .tag("stage", stage)
+        .publishPercentiles(0.5, 0.99)
+        .register(meterRegistry);
+  }
+
+  /**
+   * 조건 콜백 실행 요청 (어떤 정책이든 기다리지 않고 바로 반환)
+   *
+   * @param stockCode 종목코드 (같은 종목은 요청 순서대로 실행)
+   * @param triggerId 로그용 식별자 (조건 ID 등)
+   * @param callback  실행할 콜백
+   * @return 큐/overflow 목록에 들어갔거나 별도 스레드에서 실행되면 true, 버려졌으면 false
+   */
+  public boolean dispatch(String stockCode, Object triggerId, Runnable callback) {
+    Trigger trigger = new Trigger(stockCode, triggerId, callback, System.nanoTime());
+    if (!running) {
+      log.warn("종료 중이라 조건 콜백을 실행하지 않음: 종목={}, 조건={}", stockCode, triggerId);
+      rejectedCounter.increment();
+      return false;
+    }
+
+    inFlight.incrementAndGet();
+    Stripe stripe = stripeOf(stockCode);
+    if (stripe.enqueue(trigger, rejectionPolicy == RejectionPolicy.OVERFLOW)) {
+      return true;
+    }
+
+    if (rejectionPolicy == RejectionPolicy.SPILL) {
+      spilledCounter.increment();
+      log.warn("조건 콜백 큐가 가득 차 별도 스레드에서 실행: 종목={}, 조건={}", stockCode, triggerId);
+      Thread.ofVirtual().name("trigger-spill").start(() -> execute(trigger));
+      return true;
+    }
+
+    inFlight.decrementAndGet();
+    rejectedCounter.increment();
+    log.error("조건 콜백 큐가 가득 차 콜백을 버림: 종목={}, 조건={}", stockCode, triggerId);
+    return false;
+  }
+
+  /**
+   * 대기 중이거나 실행 중인 콜백 수
+   */
+  public int inFlight() {
+    return inFlight.get();
+  }
+
+  private Stripe stripeOf(String stockCode) {
+    return stripes[Math.floorMod(stockCode.hashCode(), stripes.length)];
+  }
+
+  private void execute(Trigger trigger) {
+    long startedNanos = System.nanoTime();
+    queueTimer.record(startedNanos - trigger.enqueuedNanos(), TimeUnit.NANOSECONDS);
+    try {
+      trigger.callback().run();
+      log.debug("조건 {} 콜백 실행 완료", trigger.triggerId());
+    } catch (Exception e) {
+      log.error("조건 {} 콜백 실행 중 오류", trigger.triggerId(), e);
+    } finally {
+      executionTimer.record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+      inFlight.decrementAndGet();
+    }
+  }
+
+  /**
+   * 새 요청을 막고 남은 콜백을 잠시 기다린 뒤 종료
+   */
+  @Override
+  public void destroy() throws InterruptedException {
+    running = false;
+    long deadline = System.nanoTime() + SHUTDOWN_TIMEOUT.toNanos();
+    for (Stripe stripe : stripes) {
+      long remaining = deadline - System.nanoTime();
+      if (remaining <= 0 || !stripe.worker.join(Duration.ofNanos(remaining))) {
+        stripe.worker.interrupt();
+      }
+    }
+    if (inFlight.get() > 0) {
+      log.warn("조건 콜백 실행기 종료: 실행하지 못한 콜백 {}개", inFlight.get());
+    }
+  }
+}
@@ -0,0 +1,22 @@
+package com.kokimstocktrading.application.realtime.event;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 실시간 시세 공백 이벤트 - 연결이 끊겼다가 재연결 및 구독 복구가 끝났을 때 발행 - 공백 동안 놓친 가격 조건을 다시 확인하기 위해 사용
+ */
+public record RealTimeFeedGapEvent(
+    List<String> stockCodes,
+    Instant disconnectedAt,
+    Instant recoveredAt
+) {
+
+  /**
+   * 시세 공백 기간
+   */
+  public Duration gap() {
+    return Duration.between(disconnectedAt, recoveredAt);
+  }
+}
@@ -0,0 +1,203 @@
+package com.kokimstocktrading.application.realtime.latency;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * <pre>
+ *  거래소 체결부터 조건 콜백 실행까지 구간별 지연 히스토그램
+ *  단계별 단조 시각(System.nanoTime)의 차이를 종목 등급(tier)별 Timer 에 기록합니다. (metric: realtime.quote.latency)
+ *
+ *  거래소 -> 수신 구간만 벽시계 기준입니다. 소켓 수신 시각(receivedNanos)을 벽시계로 바꿔 체결시각과 비교하지만,
+ *  키움 체결시간(FID 20)이 초 단위라 최대 1초의 오차가 있어 초 단위 이상의 지연(거래소/증권사 쪽 밀림)을 구분하는 용도입니다.
+ *  그래서 이 구간은 precision=coarse 태그로 구분하고 백분위/히스토그램을 내보내지 않습니다. (건수/평균/최대만)
+ *  수신 시각이 없는 시세(리플레이 등)는 평가/콜백 구간만 기록합니다.
+ * </pre>
+ */
+@Component
+@Slf4j
+public class QuoteLatencyRecorder {
+
+  /**
+   * 지연 측정 구간
+   */
+  public enum Stage {
+    EXCHANGE_TO_RECEIVE(true),      // 거래소 체결시각 -> 소켓 수신 (벽시계, 초 단위 오차)
+    RECEIVE_TO_DECODE(false),       // 소켓 수신 -> 디코딩 완료 (링 버퍼 대기 포함)
+    DECODE_TO_DISPATCH(false),      // 디코딩 완료 -> 구독자 전달 (라우팅/병합 대기 포함)
+    EVALUATION(false),              // 종목 조건 평가 루프
+    EVALUATION_TO_CALLBACK(false),  // 조건 달성 -> 콜백 시작 (콜백 스케줄러 대기)
+    RECEIVE_TO_CALLBACK(false);     // 소켓 수신 -> 콜백 시작 (전체)
+
+    private final boolean coarse;
+
+    Stage(boolean coarse) {
+      this.coarse = coarse;
+    }
+
+    /**
+     * 초 단위 시각으로 잰 구간인지 (백분위 미제공)
+     */
+    public boolean isCoarse() {
+      return coarse;
+    }
+  }
+
+  /**
+   * 종목 등급 - 우선 종목(설정)과 나머지를 분리해 집계
+   */
+  public enum Tier {
+    PRIORITY,
+    STANDARD
+  }
+
+  private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+
+  private final Set<String> prioritySymbols;
+  // [구간][등급] -> Timer
+  private final Timer[][] timers;
+
+  public QuoteLatencyRecorder(MeterRegistry meterRegistry,
+      @Value("${realtime.latency.priority-symbols:}") Set<String> prioritySymbols) {
+    this.prioritySymbols = Set.copyOf(prioritySymbols);
+    this.timers = new Timer[Stage.values().length][Tier.values().length];
+    for (Stage stage : Stage.values()) {
+      for (Tier tier : Tier.values()) {
+        Timer.Builder timer = Timer.builder("realtime.quote.latency")
+            .description("거래소 체결부터 조건 콜백까지 구간별 지연")
+            .tag("stage", stage.name().toLowerCase())
+            .tag("tier", tier.name().toLowerCase())
+            .tag("precision", stage.isCoarse() ? "coarse" : "fine");
+        if (!stage.isCoarse()) {
+          timer.publishPercentiles(PERCENTILES)
+              .publishPercentileHistogram()
+              .minimumExpectedValue(Duration.ofNanos(1_000))
+              .maximumExpectedValue(Duration.ofSeconds(10));
+        }
+        timers[stage.ordinal()][tier.ordinal()] = timer.register(meterRegistry);
+      }
+    }
+    log.info("시세 지연 계측 등록: 우선 종목 {}개", this.prioritySymbols.size());
+  }
+
+  /**
+   * 디코딩 직후 호출 (수신 처리 스레드) - 거래소 -> 수신, 수신 -> 디코딩 구간 기록
+   */
+  public void recordDecoded(RealTimeQuote quote) {
+    if (!quote.hasReceiveTimestamps()) {
+      return;
+    }
+    Tier tier = tierOf(quote);
+    // 디코딩까지 걸린 시간을 빼서 소켓 수신 시각의 벽시계 값으로 환산
+    long receivedEpochMillis = System.currentTimeMillis()
+        - TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - quote.receivedNanos());
+    record(Stage.EXCHANGE_TO_RECEIVE, tier,
+        TimeUnit.MILLISECONDS.toNanos(receivedEpochMillis - quote.tradeTimeEpochMillis()));
+    record(Stage.RECEIVE_TO_DECODE, tier, quote.decodedNanos() - quote.receivedNanos());
+  }
+
+  /**
+   * 구독자가 시세를 받았을 때 호출 - 디코딩 -> 전달 구간 기록
+   *
+   * @return 전달 시각 (평가 시작 시각으로 사용)
+   */
+  public long recordDispatched(RealTimeQuote quote) {
+    long now = System.nanoTime();
+    if (quote.hasReceiveTimestamps()) {
+      record(Stage.DECODE_TO_DISPATCH, tierOf(quote), now - quote.decodedNanos());
+    }
+    return now;
+  }
+
+  /**
+   * 조건 평가가 끝났을 때 호출 - 평가 구간 기록
+   */
+  public void recordEvaluated(RealTimeQuote quote, long evaluationStartNanos) {
+    record(Stage.EVALUATION, tierOf(quote), System.nanoTime() - evaluationStartNanos);
+  }
+
+  /**
+   * 조건 콜백이 시작될 때 호출 (콜백 스레드) - 달성 -> 콜백, 수신 -> 콜백 구간 기록
+   */
+  public void recordCallbackStarted(RealTimeQuote quote, long achievedNanos) {
+    long now = System.nanoTime();
+    Tier tier = tierOf(quote);
+    record(Stage.EVALUATION_TO_CALLBACK, tier, now - achievedNanos);
+    if (quote.hasReceiveTimestamps()) {
+      record(Stage.RECEIVE_TO_CALLBACK, tier, now - quote.receivedNanos());
+    }
+  }
+
+  public Tier tierOf(RealTimeQuote quote) {
+    return prioritySymbols.contains(quote.item()) ? Tier.PRIORITY : Tier.STANDARD;
+  }
+
+  /**
+   * 구간/등급별 지연 요약 (기록이 있는 항목만)
+   */
+  public List<StageSummary> summary() {
+    List<StageSummary> summaries = new ArrayList<>();
+    for (Stage stage : Stage.values()) {
+      for (Tier tier : Tier.values()) {
+        HistogramSnapshot snapshot = timers[stage.ordinal()][tier.ordinal()].takeSnapshot();
+        if (snapshot.count() == 0) {
+          continue;
+        }
+        StageSummary.StageSummaryBuilder summary = StageSummary.builder()
+            .stage(stage)
+            .tier(tier)
+            .coarse(stage.isCoarse())
+            .count(snapshot.count())
+            .meanMicros(snapshot.mean(TimeUnit.MICROSECONDS))
+            .maxMicros(snapshot.max(TimeUnit.MICROSECONDS));
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+          double micros = percentile.value(TimeUnit.MICROSECONDS);
+          if (percentile.percentile() == 0.5) {
+            summary.p50Micros(micros);
+          } else if (percentile.percentile() == 0.99) {
+            summary.p99Micros(micros);
+          } else if (percentile.percentile() == 0.999) {
+            summary.p999Micros(micros);
+          }
+        }
+        summaries.add(summary.build());
+      }
+    }
+    return summaries;
+  }
+
+  private void record(Stage stage, Tier tier, long nanos) {
+    // 벽시계 보정 등으로 음수가 나오면 0으로 기록
+    timers[stage.ordinal()][tier.ordinal()].record(Math.max(0, nanos), TimeUnit.NANOSECONDS);
+  }
+
+  /**
+   * 구간/등급별 지연 요약 (마이크로초, 백분위는 최근 구간 기준 - coarse 구간은 백분위 없이 0)
+   */
+  @Builder
+  public record StageSummary(
+      Stage stage,
+      Tier tier,
+      boolean coarse,
+      long count,
+      double meanMicros,
+      double p50Micros,
+      double p99Micros,
+      double p999Micros,
+      double maxMicros
+  ) {
+
+  }
+}
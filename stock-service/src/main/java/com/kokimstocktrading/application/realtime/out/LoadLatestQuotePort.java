@@ -0,0 +1,30 @@
+package com.kokimstocktrading.application.realtime.out;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface LoadLatestQuotePort {
+
+  /**
+   * 종목의 마지막 수신 시세 조회
+   *
+   * @param stockCode 종목 코드
+   * @return 마지막 시세 (수신한 적이 없으면 empty)
+   */
+  Optional<RealTimeQuote> findLatestQuote(String stockCode);
+
+  /**
+   * 여러 종목의 마지막 수신 시세 조회 (수신한 적이 없는 종목은 제외)
+   *
+   * @param stockCodes 종목 코드 목록
+   * @return 요청 순서대로의 마지막 시세 목록
+   */
+  default List<RealTimeQuote> findLatestQuotes(Collection<String> stockCodes) {
+    return stockCodes.stream()
+        .map(this::findLatestQuote)
+        .flatMap(Optional::stream)
+        .toList();
+  }
+}
@@ -0,0 +1,35 @@
+package com.kokimstocktrading.application.realtime.out;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.Collection;
+import java.util.Set;
+import reactor.core.publisher.Flux;
+
+/**
+ * 구독 종목을 늘리고 줄일 수 있는 실시간 시세 스트림 하나
+ *
+ * <p>종목이 바뀌어도 구독은 그대로 유지되고, 추가/제거한 종목만 라우팅과 외부 등록에 반영됩니다.
+ * 같은 스트림을 두 번 구독할 수는 없습니다.</p>
+ */
+public interface RealTimeQuoteStream {
+
+  /**
+   * 현재 구독 종목의 시세 Flux (구독이 취소되면 모든 종목 해지)
+   */
+  Flux<RealTimeQuote> quotes();
+
+  /**
+   * 구독 종목 추가 (이미 있는 종목은 무시)
+   */
+  void addStocks(Collection<String> stockCodes);
+
+  /**
+   * 구독 종목 제거 (없는 종목은 무시)
+   */
+  void removeStocks(Collection<String> stockCodes);
+
+  /**
+   * 현재 구독 종목 목록
+   */
+  Set<String> stockCodes();
+}
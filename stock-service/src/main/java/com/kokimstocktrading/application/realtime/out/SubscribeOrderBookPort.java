@@ -0,0 +1,25 @@
+package com.kokimstocktrading.application.realtime.out;
+
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import java.util.List;
+import java.util.Optional;
+import reactor.core.publisher.Flux;
+
+public interface SubscribeOrderBookPort {
+
+  /**
+   * 실시간 호가잔량 구독 - 소비가 밀리면 종목별 최신 호가 하나로 병합되어 전달됩니다.
+   *
+   * @param stockCodes 호가를 받을 종목 코드 목록
+   * @return 호가 스냅샷 Flux 스트림 (저장된 호가가 있으면 그 값부터 시작)
+   */
+  Flux<OrderBook> subscribeOrderBook(List<String> stockCodes);
+
+  /**
+   * 종목의 마지막 수신 호가 조회
+   *
+   * @param stockCode 종목 코드
+   * @return 마지막 호가 (수신한 적이 없으면 empty)
+   */
+  Optional<OrderBook> findOrderBook(String stockCode);
+}
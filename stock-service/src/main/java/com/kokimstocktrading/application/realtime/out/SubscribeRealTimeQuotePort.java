@@ -1,5 +1,6 @@
 package com.kokimstocktrading.application.realtime.out;
 
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
 import com.kokimstocktrading.domain.realtime.RealTimeQuote;
 import java.util.List;
 import reactor.core.publisher.Flux;
@@ -14,6 +15,39 @@ public interface SubscribeRealTimeQuotePort {
    */
   Flux<RealTimeQuote> subscribeStockQuote(List<String> stockCodes);
 
+  /**
+   * 전달 방식을 지정한 실시간 주식 시세 구독 (병합을 지원하지 않는 구현은 모든 시세를 전달)
+   *
+   * @param stockCodes   실시간 시세를 받을 종목 코드 목록
+   * @param deliveryMode 전달 방식
+   * @return 실시간 시세 Flux 스트림
+   */
+  default Flux<RealTimeQuote> subscribeStockQuote(List<String> stockCodes,
+      QuoteDeliveryMode deliveryMode) {
+    return subscribeStockQuote(stockCodes);
+  }
+
+  /**
+   * 종목별 최신 시세 하나씩으로 시작하는 실시간 주식 시세 구독 (SSE 등 화면 초기값용)
+   * 최신 시세를 보관하지 않는 구현은 스냅샷 없이 구독합니다.
+   *
+   * @param stockCodes   실시간 시세를 받을 종목 코드 목록
+   * @param deliveryMode 전달 방식
+   * @return 최신 시세(수신한 종목만) 후 실시간 시세가 이어지는 Flux 스트림
+   */
+  default Flux<RealTimeQuote> subscribeStockQuoteWithSnapshot(List<String> stockCodes,
+      QuoteDeliveryMode deliveryMode) {
+    return subscribeStockQuote(stockCodes, deliveryMode);
+  }
+
+  /**
+   * 종목을 나중에 늘리고 줄일 수 있는 시세 스트림 열기 (모니터링 엔진처럼 구독 하나로 여러 종목을 받는 곳에서 사용)
+   *
+   * @param deliveryMode 전달 방식
+   * @return 종목이 비어 있는 시세 스트림
+   */
+  RealTimeQuoteStream openQuoteStream(QuoteDeliveryMode deliveryMode);
+
   /**
    * 실시간 시세 구독 해지
    *
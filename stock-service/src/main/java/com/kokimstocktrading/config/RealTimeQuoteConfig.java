@@ -0,0 +1,38 @@
+package com.kokimstocktrading.config;
+
+import com.kokimstocktrading.adapter.out.journal.TickJournalWriter;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class RealTimeQuoteConfig {
+
+  /**
+   * 실시간 시세 경로에서 공유하는 종목코드 <-> 심볼 ID 테이블
+   */
+  @Bean
+  public StockSymbolRegistry stockSymbolRegistry() {
+    return new StockSymbolRegistry();
+  }
+
+  /**
+   * 수신 체결 저널 (realtime.journal.enabled=true 일 때만)
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(name = "realtime.journal.enabled", havingValue = "true")
+  public TickJournalWriter tickJournalWriter(
+      StockSymbolRegistry stockSymbolRegistry,
+      MeterRegistry meterRegistry,
+      @Value("${realtime.journal.directory:./data/tick-journal}") String directory,
+      @Value("${realtime.journal.staging-size:65536}") int stagingSize,
+      @Value("${realtime.journal.segment-size-mb:64}") long segmentSizeMb,
+      @Value("${realtime.journal.commit-interval-ms:100}") long commitIntervalMillis) {
+    return new TickJournalWriter(Path.of(directory), stockSymbolRegistry, stagingSize,
+        segmentSizeMb * 1024 * 1024, commitIntervalMillis, meterRegistry);
+  }
+}
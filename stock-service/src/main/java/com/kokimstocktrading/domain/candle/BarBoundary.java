@@ -0,0 +1,97 @@
+package com.kokimstocktrading.domain.candle;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * <pre>
+ *  진행 중인 봉 하나의 시간 경계 - 체결이 어느 봉에 들어가는지, 봉이 언제 마감되는지 판단합니다.
+ *  - 분봉: [시작, 다음 분) 의 체결을 넣고, 다음 분이 되면 마감
+ *  - 일/주/월/년봉: 정규장 마감(15:30) 종가 단일가 체결은 마감 시각 이후로 찍혀 도착할 수 있어(랜덤 엔드 포함)
+ *    마감 시각부터 CLOSING_AUCTION_GRACE 안에 찍힌 체결까지 봉에 넣고, 그 체결(종가)로 봉을 마감합니다.
+ *    종가 체결이 오지 않으면 여유 시간이 지난 뒤 마감하며, 그 이후 체결(시간외)은 봉에 넣지 않습니다.
+ *    주/월/년봉은 기간 중 매일 같은 시각 이후의 시간외 체결을 넣지 않습니다.
+ *
+ *  체결 스레드와 마감 확인 스레드가 겹칠 수 있으므로 소유 객체가 동기화합니다.
+ * </pre>
+ */
+public final class BarBoundary {
+
+  // 종가 단일가 체결을 기다리는 여유 (마감 시각 이후, 시간외 종가 매매 시작 전)
+  public static final Duration CLOSING_AUCTION_GRACE = Duration.ofMinutes(1);
+
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+  private static final long DAY_MILLIS = Duration.ofDays(1).toMillis();
+  // KST 는 일광절약시간이 없으므로 고정 오프셋으로 하루 중 시각 계산
+  private static final long KST_OFFSET_MILLIS = Duration.ofHours(9).toMillis();
+  // 하루 중 일봉 이상에 넣는 마지막 체결 시각(미포함) - 정규장 마감 + 종가 단일가 여유
+  private static final long SESSION_CUTOFF_OF_DAY_MILLIS =
+      CandleInterval.REGULAR_SESSION_CLOSE.toSecondOfDay() * 1000L
+          + CLOSING_AUCTION_GRACE.toMillis();
+
+  private final CandleInterval interval;
+  // 진행 중인 봉의 마감 시각, 봉에 넣는 마지막 체결 시각(미포함), 다음 봉 시작 시각 (epoch millis)
+  private long closeAtMillis;
+  private long cutoffAtMillis;
+  private long nextOpenAtMillis;
+
+  public BarBoundary(CandleInterval interval) {
+    this.interval = interval;
+  }
+
+  /**
+   * 체결이 진행 중인 봉 이후의 봉에 속하는지 (경계를 아직 정하지 않았으면 true)
+   */
+  public boolean startsNextBar(long tradeTimeMillis) {
+    return tradeTimeMillis >= nextOpenAtMillis;
+  }
+
+  /**
+   * 주어진 시각이 속한 봉으로 경계 이동
+   */
+  public void moveTo(long epochMillis) {
+    moveTo(LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), KST));
+  }
+
+  /**
+   * 주어진 시각이 속한 봉으로 경계 이동
+   */
+  public void moveTo(LocalDateTime time) {
+    closeAtMillis = toEpochMillis(interval.closeTimeOf(time));
+    cutoffAtMillis = interval == CandleInterval.MINUTE
+        ? closeAtMillis : closeAtMillis + CLOSING_AUCTION_GRACE.toMillis();
+    nextOpenAtMillis = toEpochMillis(interval.nextOpenTimeOf(time));
+  }
+
+  /**
+   * 진행 중인 봉에 넣을 체결인지 (종가 단일가 여유 안의 체결 포함)
+   */
+  public boolean includes(long tradeTimeMillis) {
+    if (tradeTimeMillis >= cutoffAtMillis) {
+      return false;
+    }
+    return interval == CandleInterval.MINUTE
+        || Math.floorMod(tradeTimeMillis + KST_OFFSET_MILLIS, DAY_MILLIS)
+        < SESSION_CUTOFF_OF_DAY_MILLIS;
+  }
+
+  /**
+   * 봉을 마감시키는 체결인지 - 마감 시각 이후 여유 안에 찍힌 종가 단일가 체결
+   */
+  public boolean isClosingTrade(long tradeTimeMillis) {
+    return tradeTimeMillis >= closeAtMillis && tradeTimeMillis < cutoffAtMillis;
+  }
+
+  /**
+   * 체결 없이도 봉을 마감할 시각이 지났는지 (일봉 이상은 종가 단일가 여유까지 기다림)
+   */
+  public boolean isElapsed(long nowMillis) {
+    return nowMillis >= cutoffAtMillis;
+  }
+
+  private static long toEpochMillis(LocalDateTime time) {
+    return time.atZone(KST).toInstant().toEpochMilli();
+  }
+}
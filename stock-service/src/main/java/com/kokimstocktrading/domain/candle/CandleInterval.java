@@ -1,5 +1,11 @@
 package com.kokimstocktrading.domain.candle;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
 import lombok.Getter;
 
 public enum CandleInterval {
@@ -11,10 +17,66 @@ public enum CandleInterval {
 
   ;
 
+  // 정규장 마감 시각 - 일/주/월/년봉의 종가가 정해지는 시각
+  public static final LocalTime REGULAR_SESSION_CLOSE = LocalTime.of(15, 30);
+
   @Getter
   private final String displayName;
 
   CandleInterval(String displayName) {
     this.displayName = displayName;
   }
+
+  /**
+   * 주어진 시각이 속한 봉의 시작 시각
+   */
+  public LocalDateTime openTimeOf(LocalDateTime time) {
+    LocalDate date = time.toLocalDate();
+    return switch (this) {
+      case MINUTE -> time.truncatedTo(ChronoUnit.MINUTES);
+      case DAY -> date.atStartOfDay();
+      case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)).atStartOfDay();
+      case MONTH -> date.withDayOfMonth(1).atStartOfDay();
+      case YEAR -> date.withDayOfYear(1).atStartOfDay();
+    };
+  }
+
+  /**
+   * 주어진 시각이 속한 봉 다음 봉의 시작 시각
+   */
+  public LocalDateTime nextOpenTimeOf(LocalDateTime time) {
+    LocalDateTime openTime = openTimeOf(time);
+    return switch (this) {
+      case MINUTE -> openTime.plusMinutes(1);
+      case DAY -> openTime.plusDays(1);
+      case WEEK -> openTime.plusWeeks(1);
+      case MONTH -> openTime.plusMonths(1);
+      case YEAR -> openTime.plusYears(1);
+    };
+  }
+
+  /**
+   * 주어진 시각이 속한 봉의 마감 시각 - 분봉은 다음 분, 나머지는 기간 마지막 평일의 정규장 마감
+   * (휴장일은 고려하지 않음)
+   */
+  public LocalDateTime closeTimeOf(LocalDateTime time) {
+    LocalDateTime openTime = openTimeOf(time);
+    LocalDate openDate = openTime.toLocalDate();
+    return switch (this) {
+      case MINUTE -> openTime.plusMinutes(1);
+      case DAY -> openDate.atTime(REGULAR_SESSION_CLOSE);
+      case WEEK -> openDate.plusDays(4).atTime(REGULAR_SESSION_CLOSE);
+      case MONTH -> lastWeekdayOnOrBefore(openDate.with(TemporalAdjusters.lastDayOfMonth()))
+          .atTime(REGULAR_SESSION_CLOSE);
+      case YEAR -> lastWeekdayOnOrBefore(openDate.with(TemporalAdjusters.lastDayOfYear()))
+          .atTime(REGULAR_SESSION_CLOSE);
+    };
+  }
+
+  private static LocalDate lastWeekdayOnOrBefore(LocalDate date) {
+    while (date.getDayOfWeek() == DayOfWeek.SATURDAY || date.getDayOfWeek() == DayOfWeek.SUNDAY) {
+      date = date.minusDays(1);
+    }
+    return date;
+  }
 }
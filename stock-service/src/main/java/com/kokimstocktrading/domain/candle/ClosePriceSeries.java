@@ -0,0 +1,147 @@
+package com.kokimstocktrading.domain.candle;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import lombok.Getter;
+
+/**
+ * <pre>
+ *  종목/봉 단위 하나의 종가 시계열 - 마감 봉 종가의 누적합(prefix sum)을 보관해 임의 기간의 합을 O(1)로 계산합니다.
+ *  같은 종목/봉 단위의 이평선 조건은 모두 이 시계열 하나를 공유합니다.
+ *  - 봉 마감: append (누적합 한 칸 추가, 보관 개수를 넘으면 가장 오래된 봉부터 버림)
+ *  - 진행 중인 봉 갱신: updateForming (누적합은 그대로, 진행 중인 봉 종가만 교체)
+ *  마감 봉만으로 정해지는 값(이평선 터치 가격)은 봉 사이에 변하지 않으므로, 구독자는 봉 마감(onBarClose)에만 다시 계산하면 됩니다.
+ *
+ *  시세 스레드(갱신)와 조건 스레드(조회)가 겹치므로 시계열 단위로 동기화합니다.
+ * </pre>
+ */
+public class ClosePriceSeries {
+
+  @Getter
+  private final String stockCode;
+  @Getter
+  private final CandleInterval interval;
+
+  // 누적합 링 - prefixSums[i % length] = 첫 마감 봉부터 i 개 마감 봉 종가 합 (최근 length - 1 개 구간만 유효)
+  private long[] prefixSums = new long[1];
+  // 지금까지 추가된 마감 봉 수
+  private long appendedCount;
+  // 진행 중인 봉 종가 (없으면 0)
+  private long formingClose;
+  // 봉 마감 구독자 (마감 봉을 추가한 스레드에서 잠금 밖에서 호출)
+  private final List<Consumer<ClosePriceSeries>> barCloseListeners =
+      new CopyOnWriteArrayList<>();
+
+  public ClosePriceSeries(String stockCode, CandleInterval interval) {
+    this.stockCode = stockCode;
+    this.interval = interval;
+  }
+
+  /**
+   * 마감 봉 종가로 다시 채움
+   *
+   * @param closesOldestFirst 오래된 봉부터 정렬된 마감 봉 종가
+   * @param formingClose      진행 중인 봉 종가 (없으면 0)
+   * @param capacity          보관할 최소 마감 봉 개수
+   */
+  public synchronized void reset(long[] closesOldestFirst, long formingClose, int capacity) {
+    prefixSums = new long[Math.max(capacity, closesOldestFirst.length) + 1];
+    appendedCount = 0;
+    for (long close : closesOldestFirst) {
+      appendClose(close);
+    }
+    this.formingClose = formingClose;
+  }
+
+  /**
+   * 봉 마감 - 마감 종가를 추가하고 진행 중인 봉을 비운 뒤 구독자에게 알림
+   */
+  public void append(long close) {
+    synchronized (this) {
+      appendClose(close);
+      formingClose = 0;
+    }
+    for (Consumer<ClosePriceSeries> listener : barCloseListeners) {
+      listener.accept(this);
+    }
+  }
+
+  /**
+   * 봉 마감 구독
+   *
+   * @return 구독 해제
+   */
+  public Runnable onBarClose(Consumer<ClosePriceSeries> listener) {
+    barCloseListeners.add(listener);
+    return () -> barCloseListeners.remove(listener);
+  }
+
+  /**
+   * 진행 중인 봉 종가 갱신
+   */
+  public synchronized void updateForming(long close) {
+    formingClose = close;
+  }
+
+  /**
+   * 보관 중인 마감 봉 개수
+   */
+  public synchronized int closedCount() {
+    return (int) Math.min(appendedCount, prefixSums.length - 1);
+  }
+
+  /**
+   * 최근 마감 봉 count 개의 종가 합
+   */
+  public synchronized long sumOfLastClosed(int count) {
+    if (count < 0 || count > closedCount()) {
+      throw new IllegalArgumentException(
+          String.format("보관 중인 마감 봉보다 많은 구간입니다: 요청 %d개, 보관 %d개", count, closedCount()));
+    }
+    int length = prefixSums.length;
+    return prefixSums[(int) (appendedCount % length)]
+        - prefixSums[(int) ((appendedCount - count) % length)];
+  }
+
+  /**
+   * 이평선과 맞닿을 가격 - 현재가격 + (최근 마감 봉 period - 1 개 종가 합) = period * 현재가격 이므로
+   * 현재가격 = (최근 마감 봉 period - 1 개 종가 합) / (period - 1), 반올림
+   */
+  public synchronized long touchPrice(int period) {
+    int count = period - 1;
+    if (count <= 0) {
+      throw new IllegalArgumentException("이평선 기간은 2 이상이어야 합니다: " + period);
+    }
+    if (closedCount() < count) {
+      throw new IllegalStateException(
+          String.format("이평선 터치 가격 계산을 위한 데이터 부족: 요구 %d개, 실제 %d개",
+              count, closedCount()));
+    }
+    return divideHalfUp(sumOfLastClosed(count), count);
+  }
+
+  /**
+   * 진행 중인 봉까지 포함한 period 이평선 (진행 중인 봉이 없으면 마감 봉만), 반올림
+   */
+  public synchronized long movingAverage(int period) {
+    if (period <= 0) {
+      throw new IllegalArgumentException("이평선 기간은 1 이상이어야 합니다: " + period);
+    }
+    if (formingClose > 0) {
+      return divideHalfUp(formingClose + sumOfLastClosed(period - 1), period);
+    }
+    return divideHalfUp(sumOfLastClosed(period), period);
+  }
+
+  private void appendClose(long close) {
+    int length = prefixSums.length;
+    prefixSums[(int) ((appendedCount + 1) % length)] =
+        prefixSums[(int) (appendedCount % length)] + close;
+    appendedCount++;
+  }
+
+  private static long divideHalfUp(long sum, int count) {
+    return (2 * sum + count) / (2L * count);
+  }
+}
@@ -0,0 +1,39 @@
+package com.kokimstocktrading.domain.market;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 한 달의 개장일 비트맵 (bit d-1 이 1 이면 d일 개장)
+ */
+public record MonthlyOpenDays(YearMonth month, int openDayBits) {
+
+  /**
+   * 개장일 목록으로 생성
+   */
+  public static MonthlyOpenDays of(YearMonth month, Iterable<Integer> openDays) {
+    int bits = 0;
+    for (int day : openDays) {
+      bits |= 1 << (day - 1);
+    }
+    return new MonthlyOpenDays(month, bits);
+  }
+
+  public boolean isOpen(int dayOfMonth) {
+    return (openDayBits >>> (dayOfMonth - 1) & 1) != 0;
+  }
+
+  /**
+   * 개장하지 않는 평일 (공휴일, 임시 휴장일 등)
+   */
+  public Stream<LocalDate> weekdayHolidays() {
+    return IntStream.rangeClosed(1, month.lengthOfMonth())
+        .filter(day -> !isOpen(day))
+        .mapToObj(month::atDay)
+        .filter(date -> date.getDayOfWeek() != DayOfWeek.SATURDAY
+            && date.getDayOfWeek() != DayOfWeek.SUNDAY);
+  }
+}
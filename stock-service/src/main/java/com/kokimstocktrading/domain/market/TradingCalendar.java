@@ -0,0 +1,284 @@
+package com.kokimstocktrading.domain.market;
+
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * <pre>
+ *  KRX 거래일/정규장 달력 - 두 시각 사이에 시작한 봉 개수를 캔들 조회 없이 계산합니다.
+ *  - 거래일: 평일 중 휴장일이 아닌 날 (하루 조회는 비트셋 O(1), 평일 수는 산술, 휴장일 수는 정렬된 배열 이진 탐색)
+ *  - 정규장: 기본 09:00 ~ 15:30, 새해 첫 거래일 10:00 개장, 수능일 등은 특별 정규장으로 지정
+ *  - 1분봉은 접속 매매 시간의 분과 종가 체결 1개(종가 단일가 10분은 봉 없음), 일봉은 거래일,
+ *    주/월/년봉은 거래일이 하루라도 있는 기간만 셉니다.
+ *    (한 달/한 해 전체가 휴장인 경우는 없으므로 월/년봉은 기간 수로 계산)
+ *
+ *  불변 객체이므로 여러 스레드에서 그대로 공유합니다.
+ * </pre>
+ */
+public final class TradingCalendar {
+
+  // 1970-01-05 (월요일) - 평일 수 계산 기준
+  private static final long MONDAY_EPOCH_DAY = 4;
+
+  // 평일 휴장일 (epoch day 오름차순)
+  private final long[] weekdayHolidays;
+  // 평일 휴장일 비트셋 (bit i = 첫 휴장일 + i 일)
+  private final long firstHolidayDay;
+  private final BitSet holidayBits = new BitSet();
+  // 거래일이 하루도 없는 주의 월요일 (epoch day 오름차순)
+  private final long[] closedWeeks;
+  // 특별 정규장 (거래일만)
+  private final NavigableMap<LocalDate, TradingSession> specialSessions;
+
+  public TradingCalendar(Collection<LocalDate> holidays,
+      Map<LocalDate, TradingSession> specialSessions) {
+    this.weekdayHolidays = holidays.stream()
+        .filter(TradingCalendar::isWeekday)
+        .mapToLong(LocalDate::toEpochDay)
+        .distinct()
+        .sorted()
+        .toArray();
+    this.firstHolidayDay = weekdayHolidays.length > 0 ? weekdayHolidays[0] : 0;
+    for (long day : weekdayHolidays) {
+      holidayBits.set((int) (day - firstHolidayDay));
+    }
+    this.closedWeeks = Arrays.stream(weekdayHolidays)
+        .map(day -> day - Math.floorMod(day - MONDAY_EPOCH_DAY, 7))
+        .distinct()
+        .filter(monday -> countHolidays(monday, monday + 4) == 5)
+        .toArray();
+    this.specialSessions = new TreeMap<>(specialSessions);
+    this.specialSessions.keySet().removeIf(date -> !isTradingDay(date));
+  }
+
+  /**
+   * 휴장일 없이 평일만 거래일인 달력
+   */
+  public static TradingCalendar weekdaysOnly() {
+    return new TradingCalendar(List.of(), Map.of());
+  }
+
+  public boolean isTradingDay(LocalDate date) {
+    long offset = date.toEpochDay() - firstHolidayDay;
+    return isWeekday(date)
+        && (offset < 0 || offset > Integer.MAX_VALUE || !holidayBits.get((int) offset));
+  }
+
+  /**
+   * 주어진 날의 정규장 (휴장일이면 null)
+   */
+  public TradingSession sessionOf(LocalDate date) {
+    if (!isTradingDay(date)) {
+      return null;
+    }
+    TradingSession special = specialSessions.get(date);
+    if (special != null) {
+      return special;
+    }
+    return date.equals(firstTradingDayOf(date.getYear()))
+        ? TradingSession.NEW_YEAR_OPENING : TradingSession.REGULAR;
+  }
+
+  /**
+   * 주어진 시각이 정규장 안인지
+   */
+  public boolean isWithinSession(LocalDateTime time) {
+    TradingSession session = sessionOf(time.toLocalDate());
+    LocalTime localTime = time.toLocalTime();
+    return session != null && !localTime.isBefore(session.open())
+        && localTime.isBefore(session.close());
+  }
+
+  /**
+   * 주어진 분에 시작하는 1분봉이 있는지 (휴장일, 장 밖, 종가 단일가 시간이면 false)
+   */
+  public boolean opensMinuteBar(LocalDateTime minute) {
+    TradingSession session = sessionOf(minute.toLocalDate());
+    return session != null && minute.getSecond() == 0 && minute.getNano() == 0
+        && session.opensMinuteBarAt(minute.toLocalTime());
+  }
+
+  /**
+   * from 이상 to 이하에 시작한 봉 개수
+   */
+  public long countBars(CandleInterval interval, LocalDateTime from, LocalDateTime to) {
+    if (to.isBefore(from)) {
+      return 0;
+    }
+    return switch (interval) {
+      case MINUTE -> countMinuteBars(from, to);
+      case DAY -> {
+        LocalDate first = from.toLocalTime().equals(LocalTime.MIDNIGHT)
+            ? from.toLocalDate() : from.toLocalDate().plusDays(1);
+        yield countTradingDays(first, to.toLocalDate());
+      }
+      case WEEK -> {
+        long count = countPeriods(interval, from, to);
+        if (count == 0) {
+          yield 0;
+        }
+        long firstMonday = firstPeriodOpen(interval, from).toLocalDate().toEpochDay();
+        yield count - countInRange(closedWeeks, firstMonday, firstMonday + 7 * (count - 1));
+      }
+      case MONTH, YEAR -> countPeriods(interval, from, to);
+    };
+  }
+
+  /**
+   * 기준 시각 봉부터 현재 시각 봉까지의 봉 간격 (기준 봉이 0, 기준 이후 봉이 없으면 -1)
+   */
+  public long barIndex(CandleInterval interval, LocalDateTime base, LocalDateTime now) {
+    return countBars(interval, base, now) - 1;
+  }
+
+  /**
+   * first ~ last (포함) 사이 거래일 수
+   */
+  public long countTradingDays(LocalDate first, LocalDate last) {
+    if (last.isBefore(first)) {
+      return 0;
+    }
+    long firstDay = first.toEpochDay();
+    long lastDay = last.toEpochDay();
+    return weekdaysBefore(lastDay + 1) - weekdaysBefore(firstDay)
+        - countHolidays(firstDay, lastDay);
+  }
+
+  private long countMinuteBars(LocalDateTime from, LocalDateTime to) {
+    LocalDate firstDate = from.toLocalDate();
+    LocalDate lastDate = to.toLocalDate();
+    if (firstDate.equals(lastDate)) {
+      return countMinutesWithin(firstDate, from, to);
+    }
+    LocalDate fullFirst = firstDate.plusDays(1);
+    LocalDate fullLast = lastDate.minusDays(1);
+    return countMinutesWithin(firstDate, from, firstDate.atTime(LocalTime.MAX))
+        + countMinutesWithin(lastDate, lastDate.atStartOfDay(), to)
+        + countTradingDays(fullFirst, fullLast) * TradingSession.REGULAR.minutes()
+        + specialSessionMinutes(fullFirst, fullLast);
+  }
+
+  /**
+   * 하루 안에서 from 이상 to 이하에 시작한 1분봉 개수
+   */
+  private long countMinutesWithin(LocalDate date, LocalDateTime from, LocalDateTime to) {
+    TradingSession session = sessionOf(date);
+    if (session == null) {
+      return 0;
+    }
+    LocalDateTime firstBar = from.truncatedTo(ChronoUnit.MINUTES);
+    if (firstBar.isBefore(from)) {
+      firstBar = firstBar.plusMinutes(1);
+    }
+    LocalDateTime last = to.truncatedTo(ChronoUnit.MINUTES);
+
+    // 접속 매매 분
+    LocalDateTime open = date.atTime(session.open());
+    LocalDateTime lastContinuous = date.atTime(session.continuousClose()).minusMinutes(1);
+    LocalDateTime first = firstBar.isAfter(open) ? firstBar : open;
+    LocalDateTime lastWithin = last.isAfter(lastContinuous) ? lastContinuous : last;
+    long count = lastWithin.isBefore(first)
+        ? 0 : ChronoUnit.MINUTES.between(first, lastWithin) + 1;
+
+    // 종가 체결 봉
+    LocalDateTime closingBar = date.atTime(session.close());
+    if (!closingBar.isBefore(firstBar) && !closingBar.isAfter(last)) {
+      count++;
+    }
+    return count;
+  }
+
+  /**
+   * first ~ last 사이 거래일 중 정규장 길이가 기본과 다른 날의 1분봉 개수 차이 합
+   */
+  private long specialSessionMinutes(LocalDate first, LocalDate last) {
+    if (last.isBefore(first)) {
+      return 0;
+    }
+    long regular = TradingSession.REGULAR.minutes();
+    long delta = 0;
+    for (TradingSession session : specialSessions.subMap(first, true, last, true).values()) {
+      delta += session.minutes() - regular;
+    }
+    for (int year = first.getYear(); year <= last.getYear(); year++) {
+      LocalDate opening = firstTradingDayOf(year);
+      if (!opening.isBefore(first) && !opening.isAfter(last)
+          && !specialSessions.containsKey(opening)) {
+        delta += TradingSession.NEW_YEAR_OPENING.minutes() - regular;
+      }
+    }
+    return delta;
+  }
+
+  /**
+   * from 이상 to 이하에 시작한 주/월/년 기간 수
+   */
+  private static long countPeriods(CandleInterval interval, LocalDateTime from,
+      LocalDateTime to) {
+    LocalDateTime first = firstPeriodOpen(interval, from);
+    LocalDateTime last = interval.openTimeOf(to);
+    if (last.isBefore(first)) {
+      return 0;
+    }
+    ChronoUnit unit = switch (interval) {
+      case WEEK -> ChronoUnit.WEEKS;
+      case MONTH -> ChronoUnit.MONTHS;
+      case YEAR -> ChronoUnit.YEARS;
+      default -> throw new IllegalArgumentException("기간 단위 봉이 아닙니다: " + interval);
+    };
+    return unit.between(first, last) + 1;
+  }
+
+  private static LocalDateTime firstPeriodOpen(CandleInterval interval, LocalDateTime from) {
+    LocalDateTime open = interval.openTimeOf(from);
+    return open.equals(from) ? open : interval.nextOpenTimeOf(from);
+  }
+
+  private LocalDate firstTradingDayOf(int year) {
+    LocalDate date = LocalDate.of(year, 1, 1);
+    while (!isTradingDay(date)) {
+      date = date.plusDays(1);
+    }
+    return date;
+  }
+
+  private long countHolidays(long firstDay, long lastDay) {
+    return countInRange(weekdayHolidays, firstDay, lastDay);
+  }
+
+  /**
+   * 정렬된 배열에서 first 이상 last 이하 값 개수
+   */
+  private static long countInRange(long[] sorted, long first, long last) {
+    return insertionPoint(sorted, last + 1) - insertionPoint(sorted, first);
+  }
+
+  private static int insertionPoint(long[] sorted, long value) {
+    int index = Arrays.binarySearch(sorted, value);
+    return index >= 0 ? index : -index - 1;
+  }
+
+  /**
+   * 기준 월요일부터 epochDay 전날까지의 평일 수 (epochDay 가 기준보다 앞이면 음수)
+   */
+  private static long weekdaysBefore(long epochDay) {
+    long days = epochDay - MONDAY_EPOCH_DAY;
+    return Math.floorDiv(days, 7) * 5 + Math.min(Math.floorMod(days, 7), 5);
+  }
+
+  private static boolean isWeekday(LocalDate date) {
+    DayOfWeek dayOfWeek = date.getDayOfWeek();
+    return dayOfWeek != DayOfWeek.SATURDAY && dayOfWeek != DayOfWeek.SUNDAY;
+  }
+}
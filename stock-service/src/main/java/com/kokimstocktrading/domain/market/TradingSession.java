@@ -0,0 +1,54 @@
+package com.kokimstocktrading.domain.market;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * <pre>
+ *  하루 정규장 시간
+ *  - open 이상 (close - 종가 단일가 시간) 미만: 접속 매매, 분마다 1분봉이 생김
+ *  - 마감 전 종가 단일가 시간(10분)에는 체결이 없고, close 시각의 종가 체결이 1분봉 하나가 됨
+ *    (정규장 09:00 ~ 15:30 은 09:00 ~ 15:19 의 380개 + 15:30 1개 = 381개)
+ * </pre>
+ */
+public record TradingSession(LocalTime open, LocalTime close) {
+
+  // 종가 단일가 매매 시간 (접속 매매 없음)
+  public static final Duration CLOSING_AUCTION = Duration.ofMinutes(10);
+
+  // 정규장 09:00 ~ 15:30
+  public static final TradingSession REGULAR = new TradingSession(LocalTime.of(9, 0),
+      LocalTime.of(15, 30));
+  // 새해 첫 거래일 10:00 개장
+  public static final TradingSession NEW_YEAR_OPENING = new TradingSession(LocalTime.of(10, 0),
+      LocalTime.of(15, 30));
+
+  public TradingSession {
+    if (open == null || close == null || !open.isBefore(close.minus(CLOSING_AUCTION))) {
+      throw new IllegalArgumentException(
+          "정규장 시작은 종가 단일가 시작보다 빨라야 합니다: " + open + " ~ " + close);
+    }
+  }
+
+  /**
+   * 접속 매매 종료(종가 단일가 시작) 시각
+   */
+  public LocalTime continuousClose() {
+    return close.minus(CLOSING_AUCTION);
+  }
+
+  /**
+   * 주어진 분에 시작하는 1분봉이 있는지 (접속 매매 시간의 분 또는 종가 체결 시각)
+   */
+  public boolean opensMinuteBarAt(LocalTime minute) {
+    return minute.equals(close)
+        || (!minute.isBefore(open) && minute.isBefore(continuousClose()));
+  }
+
+  /**
+   * 정규장 1분봉 개수 (접속 매매 분 + 종가 체결 1개)
+   */
+  public long minutes() {
+    return Duration.between(open, continuousClose()).toMinutes() + 1;
+  }
+}
@@ -0,0 +1,215 @@
+package com.kokimstocktrading.domain.monitoring;
+
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.AccumulatedVolume;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.And;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.ChangeRate;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.Comparison;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.Not;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.Or;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.PriceLevel;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.TimeOfDay;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * <pre>
+ *  컴파일된 복합 조건 - 조건식 트리를 후위 표기 명령 배열(opcode + 피연산자)로 평탄화한 것
+ *  평가 시 트리를 따라가지 않고 배열을 한 번 순회하며, 중간 결과는 long 하나를 비트 스택으로 씁니다. (객체 생성 없음)
+ *  - 단말 조건: 시세의 primitive 필드와 비교해 결과 비트를 push
+ *  - AND/OR(n): 위쪽 n 비트를 꺼내 결합한 결과를 push, NOT: 맨 위 비트 반전
+ *
+ *  최상위가 가격 조건이거나 최상위 AND 에 가격 조건이 있으면 그 가격을 기준(anchor)으로 가격 인덱스에 넣습니다.
+ *  기준 가격에 닿기 전에는 조건 전체가 참일 수 없으므로, 기준 가격을 지난 틱에서만 평가하면 됩니다.
+ * </pre>
+ */
+public final class CompiledCondition {
+
+  // 비트 스택 깊이 한도 (long 하나)
+  static final int MAX_STACK_DEPTH = 63;
+
+  private static final long KST_OFFSET_SECONDS = 9 * 60 * 60;
+  private static final long SECONDS_PER_DAY = 24 * 60 * 60;
+
+  private static final byte PRICE_AT_LEAST = 0;
+  private static final byte PRICE_AT_MOST = 1;
+  private static final byte CHANGE_RATE_AT_LEAST = 2;
+  private static final byte CHANGE_RATE_AT_MOST = 3;
+  private static final byte VOLUME_AT_LEAST = 4;
+  private static final byte VOLUME_AT_MOST = 5;
+  private static final byte TIME_BETWEEN = 6;
+  private static final byte AND = 7;
+  private static final byte OR = 8;
+  private static final byte NOT = 9;
+
+  private final ConditionExpression expression;
+  private final byte[] opcodes;
+  private final long[] operands;
+  private final PriceLevel anchor;
+
+  private CompiledCondition(ConditionExpression expression, byte[] opcodes, long[] operands,
+      PriceLevel anchor) {
+    this.expression = expression;
+    this.opcodes = opcodes;
+    this.operands = operands;
+    this.anchor = anchor;
+  }
+
+  /**
+   * 조건식 검증 및 컴파일
+   *
+   * @throws IllegalArgumentException 조건식이 너무 깊거나 넓어 평가 스택에 들어가지 않을 때
+   */
+  static CompiledCondition compile(ConditionExpression expression) {
+    if (expression == null) {
+      throw new IllegalArgumentException("조건식은 필수입니다");
+    }
+    Emitter emitter = new Emitter();
+    emitter.emit(expression);
+    return new CompiledCondition(expression,
+        Arrays.copyOf(emitter.opcodes, emitter.size),
+        Arrays.copyOf(emitter.operands, emitter.size),
+        anchorOf(expression));
+  }
+
+  /**
+   * 시세로 조건 평가
+   *
+   * @param lowestPrice  직전 확인 이후 최저 체결가
+   * @param highestPrice 직전 확인 이후 최고 체결가
+   * @param quote        등락률/누적 거래량/체결 시각을 읽을 시세
+   */
+  public boolean matches(long lowestPrice, long highestPrice, RealTimeQuote quote) {
+    long stack = 0L;
+    for (int pc = 0; pc < opcodes.length; pc++) {
+      long operand = operands[pc];
+      stack = switch (opcodes[pc]) {
+        case PRICE_AT_LEAST -> push(stack, highestPrice >= operand);
+        case PRICE_AT_MOST -> push(stack, lowestPrice <= operand);
+        case CHANGE_RATE_AT_LEAST -> push(stack, quote.changeRateBasisPoints() >= operand);
+        case CHANGE_RATE_AT_MOST -> push(stack, quote.changeRateBasisPoints() <= operand);
+        case VOLUME_AT_LEAST -> push(stack, quote.accumulatedVolume() >= operand);
+        case VOLUME_AT_MOST -> push(stack, quote.accumulatedVolume() <= operand);
+        case TIME_BETWEEN -> {
+          long secondsOfDay = secondsOfDay(quote.tradeTimeEpochMillis());
+          yield push(stack, secondsOfDay >= (operand >>> 32) && secondsOfDay < (int) operand);
+        }
+        case AND -> {
+          long mask = mask(operand);
+          yield push(stack >>> operand, (stack & mask) == mask);
+        }
+        case OR -> push(stack >>> operand, (stack & mask(operand)) != 0);
+        case NOT -> stack ^ 1L;
+        default -> throw new IllegalStateException("알 수 없는 명령: " + opcodes[pc]);
+      };
+    }
+    return (stack & 1L) != 0;
+  }
+
+  /**
+   * 가격 인덱스 기준 조건 (없으면 null - 매 틱 평가)
+   */
+  public PriceLevel anchor() {
+    return anchor;
+  }
+
+  public ConditionExpression expression() {
+    return expression;
+  }
+
+  /**
+   * 명령 수
+   */
+  public int size() {
+    return opcodes.length;
+  }
+
+  @Override
+  public String toString() {
+    return expression.toString();
+  }
+
+  private static long push(long stack, boolean value) {
+    return (stack << 1) | (value ? 1L : 0L);
+  }
+
+  private static long mask(long count) {
+    return (1L << count) - 1;
+  }
+
+  private static long secondsOfDay(long epochMillis) {
+    return Math.floorMod(epochMillis / 1000 + KST_OFFSET_SECONDS, SECONDS_PER_DAY);
+  }
+
+  private static PriceLevel anchorOf(ConditionExpression expression) {
+    if (expression instanceof PriceLevel priceLevel) {
+      return priceLevel;
+    }
+    if (expression instanceof And and) {
+      for (ConditionExpression operand : and.operands()) {
+        if (operand instanceof PriceLevel priceLevel) {
+          return priceLevel;
+        }
+      }
+    }
+    return null;
+  }
+
+  /**
+   * 후위 표기 명령 생성 (컴파일 시에만 사용)
+   */
+  private static final class Emitter {
+
+    private byte[] opcodes = new byte[16];
+    private long[] operands = new long[16];
+    private int size;
+    private int depth;
+
+    private void emit(ConditionExpression expression) {
+      switch (expression) {
+        case PriceLevel(TouchDirection direction, long price) -> leaf(
+            direction == TouchDirection.FROM_BELOW ? PRICE_AT_LEAST : PRICE_AT_MOST, price);
+        case ChangeRate(Comparison comparison, int basisPoints) -> leaf(
+            comparison == Comparison.AT_LEAST ? CHANGE_RATE_AT_LEAST : CHANGE_RATE_AT_MOST,
+            basisPoints);
+        case AccumulatedVolume(Comparison comparison, long volume) -> leaf(
+            comparison == Comparison.AT_LEAST ? VOLUME_AT_LEAST : VOLUME_AT_MOST, volume);
+        case TimeOfDay(var from, var to) ->
+            leaf(TIME_BETWEEN, ((long) from.toSecondOfDay() << 32) | to.toSecondOfDay());
+        case And(var children) -> combine(AND, children);
+        case Or(var children) -> combine(OR, children);
+        case Not(var operand) -> {
+          emit(operand);
+          append(NOT, 0);
+        }
+      }
+    }
+
+    private void leaf(byte opcode, long operand) {
+      if (++depth > MAX_STACK_DEPTH) {
+        throw new IllegalArgumentException(
+            "조건식이 너무 복잡합니다 (동시에 평가할 조건 " + MAX_STACK_DEPTH + "개 초과)");
+      }
+      append(opcode, operand);
+    }
+
+    private void combine(byte opcode, List<ConditionExpression> children) {
+      for (ConditionExpression child : children) {
+        emit(child);
+      }
+      // 하위 결과 n 개를 꺼내고 결과 하나를 넣음
+      depth -= children.size() - 1;
+      append(opcode, children.size());
+    }
+
+    private void append(byte opcode, long operand) {
+      if (size == opcodes.length) {
+        opcodes = Arrays.copyOf(opcodes, size * 2);
+        operands = Arrays.copyOf(operands, size * 2);
+      }
+      opcodes[size] = opcode;
+      operands[size] = operand;
+      size++;
+    }
+  }
+}
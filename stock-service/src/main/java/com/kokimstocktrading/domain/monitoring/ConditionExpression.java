@@ -0,0 +1,160 @@
+package com.kokimstocktrading.domain.monitoring;
+
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * <pre>
+ *  복합 조건식 - 가격/등락률/누적 거래량/시간대 조건을 AND/OR/NOT 으로 조합
+ *  예) and(priceAtLeast(75_000), volumeAtLeast(1_000_000), between(09:00, 10:00), not(changeRateAtLeast(2_500)))
+ *
+ *  생성 시점에 각 항을 검증하고, compile() 로 평탄화된 평가 프로그램(CompiledCondition)으로 변환해 사용합니다.
+ * </pre>
+ */
+public sealed interface ConditionExpression {
+
+  /**
+   * 비교 방향
+   */
+  enum Comparison {
+    AT_LEAST,   // 기준값 이상
+    AT_MOST     // 기준값 이하
+  }
+
+  /**
+   * 체결가 조건 - FROM_BELOW: 직전 확인 이후 고가가 기준가 이상, FROM_ABOVE: 저가가 기준가 이하
+   */
+  record PriceLevel(TouchDirection direction, long price) implements ConditionExpression {
+
+    public PriceLevel {
+      if (direction == null) {
+        throw new IllegalArgumentException("가격 조건의 방향은 필수입니다");
+      }
+      if (price <= 0) {
+        throw new IllegalArgumentException("가격 조건의 기준가는 0보다 커야 합니다");
+      }
+    }
+  }
+
+  /**
+   * 전일 대비 등락률 조건 (basis point, 1% = 100)
+   */
+  record ChangeRate(Comparison comparison, int basisPoints) implements ConditionExpression {
+
+    public ChangeRate {
+      if (comparison == null) {
+        throw new IllegalArgumentException("등락률 조건의 비교 방향은 필수입니다");
+      }
+    }
+  }
+
+  /**
+   * 당일 누적 거래량 조건
+   */
+  record AccumulatedVolume(Comparison comparison, long volume) implements ConditionExpression {
+
+    public AccumulatedVolume {
+      if (comparison == null) {
+        throw new IllegalArgumentException("거래량 조건의 비교 방향은 필수입니다");
+      }
+      if (volume < 0) {
+        throw new IllegalArgumentException("거래량 조건의 기준값은 0 이상이어야 합니다");
+      }
+    }
+  }
+
+  /**
+   * 체결 시각(KST) 조건 - [from, to) 구간 (자정을 넘는 구간은 지원하지 않음)
+   */
+  record TimeOfDay(LocalTime from, LocalTime to) implements ConditionExpression {
+
+    public TimeOfDay {
+      if (from == null || to == null || !from.isBefore(to)) {
+        throw new IllegalArgumentException("시간대 조건은 시작 시각이 종료 시각보다 앞서야 합니다");
+      }
+    }
+  }
+
+  record And(List<ConditionExpression> operands) implements ConditionExpression {
+
+    public And {
+      operands = requireOperands(operands, "AND");
+    }
+  }
+
+  record Or(List<ConditionExpression> operands) implements ConditionExpression {
+
+    public Or {
+      operands = requireOperands(operands, "OR");
+    }
+  }
+
+  record Not(ConditionExpression operand) implements ConditionExpression {
+
+    public Not {
+      if (operand == null) {
+        throw new IllegalArgumentException("NOT 조건의 대상은 필수입니다");
+      }
+    }
+  }
+
+  static ConditionExpression priceAtLeast(long price) {
+    return new PriceLevel(TouchDirection.FROM_BELOW, price);
+  }
+
+  static ConditionExpression priceAtMost(long price) {
+    return new PriceLevel(TouchDirection.FROM_ABOVE, price);
+  }
+
+  static ConditionExpression changeRateAtLeast(int basisPoints) {
+    return new ChangeRate(Comparison.AT_LEAST, basisPoints);
+  }
+
+  static ConditionExpression changeRateAtMost(int basisPoints) {
+    return new ChangeRate(Comparison.AT_MOST, basisPoints);
+  }
+
+  static ConditionExpression volumeAtLeast(long volume) {
+    return new AccumulatedVolume(Comparison.AT_LEAST, volume);
+  }
+
+  static ConditionExpression volumeAtMost(long volume) {
+    return new AccumulatedVolume(Comparison.AT_MOST, volume);
+  }
+
+  static ConditionExpression between(LocalTime from, LocalTime to) {
+    return new TimeOfDay(from, to);
+  }
+
+  static ConditionExpression and(ConditionExpression... operands) {
+    return new And(Arrays.asList(operands));
+  }
+
+  static ConditionExpression or(ConditionExpression... operands) {
+    return new Or(Arrays.asList(operands));
+  }
+
+  static ConditionExpression not(ConditionExpression operand) {
+    return new Not(operand);
+  }
+
+  /**
+   * 검증 후 평가 프로그램으로 변환
+   */
+  default CompiledCondition compile() {
+    return CompiledCondition.compile(this);
+  }
+
+  private static List<ConditionExpression> requireOperands(List<ConditionExpression> operands,
+      String operator) {
+    if (operands == null || operands.isEmpty()) {
+      throw new IllegalArgumentException(operator + " 조건에는 하나 이상의 하위 조건이 필요합니다");
+    }
+    if (operands.stream().anyMatch(Objects::isNull)) {
+      throw new IllegalArgumentException(operator + " 조건의 하위 조건에 null 이 있습니다");
+    }
+    return List.copyOf(operands);
+  }
+}
@@ -0,0 +1,38 @@
+package com.kokimstocktrading.domain.monitoring;
+
+import lombok.Getter;
+
+/**
+ * 가격 조건을 판단할 기준 가격
+ */
+@Getter
+public enum PriceBasis {
+
+  /**
+   * 체결가 (0B 주식체결)
+   */
+  LAST_PRICE("체결가"),
+
+  /**
+   * 최우선 매수호가 (체결 시점 호가 + 0D 호가잔량)
+   */
+  BEST_BID("최우선 매수호가"),
+
+  /**
+   * 최우선 매도호가 (체결 시점 호가 + 0D 호가잔량)
+   */
+  BEST_ASK("최우선 매도호가");
+
+  private final String displayName;
+
+  PriceBasis(String displayName) {
+    this.displayName = displayName;
+  }
+
+  /**
+   * 호가잔량 구독이 필요한 기준인지
+   */
+  public boolean usesOrderBook() {
+    return this != LAST_PRICE;
+  }
+}
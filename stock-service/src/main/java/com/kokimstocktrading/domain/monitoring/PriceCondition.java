@@ -1,11 +1,19 @@
 package com.kokimstocktrading.domain.monitoring;
 
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.PriceLevel;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
 import java.util.Objects;
 import java.util.UUID;
 import lombok.Getter;
 
 /**
  * 가격 조건 도메인 모델
+ *
+ * <p>복합 조건(composite)은 조건식을 컴파일해 함께 보관합니다. 조건식의 기준 가격(anchor)이 있으면 그 가격이 목표가가 되고,
+ * 없으면 목표가 없이 매 체결마다 조건식을 평가합니다.</p>
+ *
+ * <p>종가 기준 조건(closeInterval 지정)은 체결마다 확인하지 않고, 해당 봉이 마감될 때 그 봉의 종가로만 판단합니다.</p>
  */
 public class PriceCondition {
 
@@ -16,10 +24,18 @@ public class PriceCondition {
   private final String stockCode;
   @Getter
   private final Long targetPrice;
+  @Getter
   private final TouchDirection touchDirection;
+  @Getter
+  private final PriceBasis priceBasis;
   private final Runnable callback;
   @Getter
   private final String description;
+  // 복합 조건식 (단일 가격 조건이면 null)
+  private final CompiledCondition expression;
+  // 종가 기준 봉 단위 (현재가 기준이면 null)
+  @Getter
+  private final CandleInterval closeInterval;
 
   public PriceCondition(UUID id, String stockCode, Long targetPrice, Runnable callback,
       TouchDirection touchDirection) {
@@ -28,10 +44,22 @@ public class PriceCondition {
 
   public PriceCondition(UUID id, String stockCode, Long targetPrice, TouchDirection touchDirection,
       Runnable callback, String description) {
+    this(id, stockCode, targetPrice, touchDirection, PriceBasis.LAST_PRICE, callback, description);
+  }
+
+  public PriceCondition(UUID id, String stockCode, Long targetPrice, TouchDirection touchDirection,
+      PriceBasis priceBasis, Runnable callback, String description) {
+    this(id, stockCode, targetPrice, touchDirection, priceBasis, callback, description, null,
+        null);
+  }
+
+  private PriceCondition(UUID id, String stockCode, Long targetPrice,
+      TouchDirection touchDirection, PriceBasis priceBasis, Runnable callback, String description,
+      CompiledCondition expression, CandleInterval closeInterval) {
     if (stockCode == null || stockCode.trim().isEmpty()) {
       throw new IllegalArgumentException("종목코드는 필수입니다");
     }
-    if (targetPrice == null || targetPrice <= 0) {
+    if (expression == null && (targetPrice == null || targetPrice <= 0)) {
       throw new IllegalArgumentException("목표가격은 0보다 커야 합니다");
     }
     if (callback == null) {
@@ -40,26 +68,141 @@ public class PriceCondition {
 
     this.id = id;
     this.touchDirection = touchDirection;
+    this.priceBasis = priceBasis != null ? priceBasis : PriceBasis.LAST_PRICE;
     this.stockCode = stockCode;
     this.targetPrice = targetPrice;
     this.callback = callback;
     this.description = description != null ? description :
         String.format("%s %d원 도달", stockCode, targetPrice);
+    this.expression = expression;
+    this.closeInterval = closeInterval;
+  }
+
+  /**
+   * 복합 조건 생성 - 조건식을 검증/컴파일하고, 기준 가격이 있으면 그 가격으로 가격 인덱스에 들어감
+   *
+   * @throws IllegalArgumentException 조건식이 올바르지 않을 때
+   */
+  public static PriceCondition composite(UUID id, String stockCode,
+      ConditionExpression expression, Runnable callback, String description) {
+    CompiledCondition compiled = CompiledCondition.compile(expression);
+    PriceLevel anchor = compiled.anchor();
+    return new PriceCondition(id, stockCode,
+        anchor != null ? anchor.price() : null,
+        anchor != null ? anchor.direction() : null,
+        PriceBasis.LAST_PRICE, callback,
+        description != null ? description : stockCode + " " + expression,
+        compiled, null);
+  }
+
+  /**
+   * 종가 기준 조건 생성 - 봉이 마감될 때 그 봉의 종가가 목표가에 도달했는지로 판단
+   *
+   * @param closeInterval 종가를 볼 봉 단위 (1분봉, 일봉, 주봉 ...)
+   * @throws IllegalArgumentException 봉 단위가 없을 때
+   */
+  public static PriceCondition onBarClose(UUID id, String stockCode, Long targetPrice,
+      TouchDirection touchDirection, CandleInterval closeInterval, Runnable callback,
+      String description) {
+    if (closeInterval == null) {
+      throw new IllegalArgumentException("종가 기준 봉 단위는 필수입니다");
+    }
+    return new PriceCondition(id, stockCode, targetPrice, touchDirection, PriceBasis.LAST_PRICE,
+        callback, description != null ? description
+        : String.format("%s %s봉 종가 %d원 도달", stockCode, closeInterval.getDisplayName(),
+            targetPrice),
+        null, closeInterval);
+  }
+
+  /**
+   * 복합 조건인지 여부
+   */
+  public boolean isComposite() {
+    return expression != null;
+  }
+
+  /**
+   * 종가 기준 조건인지 여부 (봉 마감 시에만 평가)
+   */
+  public boolean isBarCloseBased() {
+    return closeInterval != null;
+  }
+
+  /**
+   * 목표가로 가격 인덱스에 넣을 수 있는지 (기준 가격이 없는 복합 조건은 false)
+   */
+  public boolean isPriceIndexed() {
+    return targetPrice != null;
   }
 
   /**
    * 현재 가격이 목표 가격에 도달했는지 확인
    */
-  public boolean isAchieved(double currentPrice) {
+  public boolean isAchieved(long currentPrice) {
+    return isAchievedWithin(currentPrice, currentPrice);
+  }
+
+  /**
+   * 가격 범위(저가~고가) 안에서 목표 가격에 도달했는지 확인 (시세 공백 복구 시 사용)
+   */
+  public boolean isAchievedWithin(long lowestPrice, long highestPrice) {
+    if (expression != null) {
+      throw new IllegalStateException("복합 조건은 isAchievedBy 로 확인해야 합니다");
+    }
     if (touchDirection == TouchDirection.FROM_BELOW) {
-      return currentPrice >= targetPrice;
+      return highestPrice >= targetPrice;
     }
     if (touchDirection == TouchDirection.FROM_ABOVE) {
-      return currentPrice <= targetPrice;
+      return lowestPrice <= targetPrice;
     }
     throw new IllegalArgumentException("지원하지 않는 TouchDirection 입니다");
   }
 
+  /**
+   * 체결 시세로 목표 가격에 도달했는지 확인 - 기준 가격(체결가 범위 / 체결 시점 최우선 호가)에 따라 판단
+   *
+   * @param lowestPrice  직전 확인 이후 최저 체결가
+   * @param highestPrice 직전 확인 이후 최고 체결가
+   * @param bestBid      최우선 매수호가 (없으면 0)
+   * @param bestAsk      최우선 매도호가 (없으면 0)
+   */
+  public boolean isAchievedByQuote(long lowestPrice, long highestPrice, long bestBid,
+      long bestAsk) {
+    return switch (priceBasis) {
+      case LAST_PRICE -> isAchievedWithin(lowestPrice, highestPrice);
+      case BEST_BID -> bestBid > 0 && isAchieved(bestBid);
+      case BEST_ASK -> bestAsk > 0 && isAchieved(bestAsk);
+    };
+  }
+
+  /**
+   * 체결 시세로 조건 달성 여부 확인 - 복합 조건은 조건식 전체, 단일 조건은 기준 가격으로 판단
+   *
+   * @param quote        체결 시세
+   * @param lowestPrice  직전 확인 이후 최저 체결가
+   * @param highestPrice 직전 확인 이후 최고 체결가
+   */
+  public boolean isAchievedBy(RealTimeQuote quote, long lowestPrice, long highestPrice) {
+    if (expression != null) {
+      return expression.matches(lowestPrice, highestPrice, quote);
+    }
+    return isAchievedByQuote(lowestPrice, highestPrice, quote.bidPrice(), quote.askPrice());
+  }
+
+  /**
+   * 마감된 봉의 종가로 목표 가격에 도달했는지 확인 (종가 기준 조건)
+   */
+  public boolean isAchievedByClose(long closePrice) {
+    return isAchievedWithin(closePrice, closePrice);
+  }
+
+  /**
+   * 호가잔량 갱신으로 목표 가격에 도달했는지 확인 - 체결가 기준 조건은 항상 false
+   */
+  public boolean isAchievedByOrderBook(long bestBid, long bestAsk) {
+    return priceBasis.usesOrderBook() && isAchievedByQuote(0L, 0L, bestBid, bestAsk);
+  }
+
   /**
    * 조건 달성 시 콜백 실행
    */
@@ -91,7 +234,10 @@ public class PriceCondition {
 
   @Override
   public String toString() {
-    return String.format("PriceCondition{id=%s, stockCode='%s', targetPrice=%d, description='%s'}",
-        id, stockCode, targetPrice, description);
+    return String.format(
+        "PriceCondition{id=%s, stockCode='%s', targetPrice=%d, priceBasis=%s, description='%s'%s%s}",
+        id, stockCode, targetPrice, priceBasis, description,
+        expression != null ? ", expression=" + expression : "",
+        closeInterval != null ? ", closeInterval=" + closeInterval : "");
   }
 }
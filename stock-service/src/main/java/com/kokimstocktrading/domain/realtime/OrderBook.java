@@ -0,0 +1,59 @@
+package com.kokimstocktrading.domain.realtime;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import lombok.Builder;
+
+/**
+ * 호가잔량(0D) 스냅샷 - 매도/매수 10단계 호가와 잔량
+ *
+ * <p>수신 경로는 종목별 고정 배열을 제자리에서 갱신하고, 이 객체는 구독자에게 전달하거나 조회할 때만 복사해서 만듭니다.
+ * 배열은 1단계(최우선 호가)부터 순서대로이며, 호가가 없는 단계는 0입니다.</p>
+ */
+@Builder
+public record OrderBook(
+    int symbolId,                 // 심볼 ID (StockSymbolRegistry)
+    String item,                  // 종목코드
+    long[] askPrices,             // 매도호가 1~10
+    long[] askQuantities,         // 매도호가수량 1~10
+    long[] bidPrices,             // 매수호가 1~10
+    long[] bidQuantities,         // 매수호가수량 1~10
+    long totalAskQuantity,        // 매도호가총잔량
+    long totalBidQuantity,        // 매수호가총잔량
+    long quoteTimeEpochMillis,    // 호가시간 (epoch millis)
+    long receivedNanos            // 소켓 수신 시각 (System.nanoTime, 알 수 없으면 0)
+) {
+
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+  /**
+   * 최우선 매도호가 (없으면 0)
+   */
+  public long bestAsk() {
+    return askPrices.length > 0 ? askPrices[0] : 0L;
+  }
+
+  /**
+   * 최우선 매수호가 (없으면 0)
+   */
+  public long bestBid() {
+    return bidPrices.length > 0 ? bidPrices[0] : 0L;
+  }
+
+  /**
+   * 매도/매수 최우선 호가 차이 (한쪽이라도 없으면 0)
+   */
+  public long spread() {
+    long bestAsk = bestAsk();
+    long bestBid = bestBid();
+    return bestAsk > 0 && bestBid > 0 ? bestAsk - bestBid : 0L;
+  }
+
+  /**
+   * 호가시간 (KST)
+   */
+  public LocalDateTime quoteTime() {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(quoteTimeEpochMillis), KST);
+  }
+}
@@ -0,0 +1,17 @@
+package com.kokimstocktrading.domain.realtime;
+
+/**
+ * 실시간 시세 전달 방식 (구독자별로 선택)
+ */
+public enum QuoteDeliveryMode {
+
+  /**
+   * 모든 체결을 빠짐없이 전달 (소비가 느리면 버퍼가 늘어남)
+   */
+  STRICT,
+
+  /**
+   * 소비가 밀리는 동안 종목별 최신 시세만 유지하고, 밀린 구간의 체결가 고가/저가를 함께 전달
+   */
+  CONFLATED
+}
@@ -1,34 +1,96 @@
 package com.kokimstocktrading.domain.realtime;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import lombok.Builder;
 
 /**
  * 주식 시장에서 "quote"는 주로 주식의 현재 가격 정보를 의미합니다. "주식 quote"는 특정 주식의 현재 시세, 매수/매도 호가, 거래량 등 투자 관련 정보를
  * 포괄적으로 나타내는 용어로 사용됩니다.
+ *
+ * <p>수신 시점에 한 번만 숫자로 변환해 두고, 문자열/날짜 표현은 필요할 때(SSE/REST 응답) 계산합니다.
+ * 가격은 키움의 등락 부호(+/-)를 제거한 원 단위 값입니다.</p>
  */
 
-@Builder
+@Builder(toBuilder = true)
 public record RealTimeQuote(
-    String type,
-    String name,
-    String item,
-    String currentPrice,      // 현재가
-    String priceChange,       // 전일대비
-    String changeRate,        // 등락율
-    String askPrice,          // 최우선 매도호가
-    String bidPrice,          // 최우선 매수호가
-    String tradingVolume,     // 거래량
-    String accumulatedVolume, // 누적거래량
-    String accumulatedAmount, // 누적거래대금
-    String openPrice,         // 시가
-    String highPrice,         // 고가
-    String lowPrice,          // 저가
-    LocalDateTime tradeTime   // 체결시간
+    int symbolId,                 // 심볼 ID (StockSymbolRegistry)
+    String item,                  // 종목코드
+    long currentPrice,            // 현재가
+    long priceChange,             // 전일대비 (부호 포함)
+    int changeRateBasisPoints,    // 등락율 (0.01% 단위, -0.24% -> -24)
+    long askPrice,                // 최우선 매도호가
+    long bidPrice,                // 최우선 매수호가
+    long tradingVolume,           // 거래량 (+매수체결, -매도체결)
+    long accumulatedVolume,       // 누적거래량
+    long accumulatedAmount,       // 누적거래대금 (백만원)
+    long openPrice,               // 시가
+    long highPrice,               // 고가
+    long lowPrice,                // 저가
+    long tradeTimeEpochMillis,    // 체결시간 (epoch millis)
+    long intervalHighPrice,       // 병합된 체결들의 최고 체결가 (병합되지 않았으면 0)
+    long intervalLowPrice,        // 병합된 체결들의 최저 체결가 (병합되지 않았으면 0)
+    int conflatedTicks,           // 이 시세에 병합된 이전 체결 수
+    long receivedNanos,           // 소켓 수신 시각 (System.nanoTime, 알 수 없으면 0)
+    long decodedNanos             // 디코딩 완료 시각 (System.nanoTime, 알 수 없으면 0)
 ) {
 
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
   // 값이 정상인지 확인하는 유틸리티 메서드
   public boolean hasValidPrices() {
-    return currentPrice != null;
+    return currentPrice > 0;
+  }
+
+  /**
+   * 수신/디코딩 시각이 기록된 시세인지 (리플레이 등 외부 수신이 아니면 false)
+   */
+  public boolean hasReceiveTimestamps() {
+    return receivedNanos != 0 && decodedNanos != 0;
+  }
+
+  /**
+   * 등락율 (%)
+   */
+  public BigDecimal changeRate() {
+    return BigDecimal.valueOf(changeRateBasisPoints, 2);
+  }
+
+  /**
+   * 체결시간 (KST)
+   */
+  public LocalDateTime tradeTime() {
+    return LocalDateTime.ofInstant(Instant.ofEpochMilli(tradeTimeEpochMillis), KST);
+  }
+
+  /**
+   * 직전 전달 이후 체결가 중 최고가 (병합되지 않았으면 현재가)
+   */
+  public long highSinceLastRead() {
+    return conflatedTicks == 0 ? currentPrice : intervalHighPrice;
+  }
+
+  /**
+   * 직전 전달 이후 체결가 중 최저가 (병합되지 않았으면 현재가)
+   */
+  public long lowSinceLastRead() {
+    return conflatedTicks == 0 ? currentPrice : intervalLowPrice;
+  }
+
+  /**
+   * 아직 전달되지 않은 이전 시세를 이 시세에 병합 - 최신 값은 유지하고 체결가 범위와 거래량을 누적
+   *
+   * @param previous 같은 종목의 전달 대기 중인 이전 시세
+   * @return 병합된 시세
+   */
+  public RealTimeQuote conflateWith(RealTimeQuote previous) {
+    return toBuilder()
+        .intervalHighPrice(Math.max(previous.highSinceLastRead(), currentPrice))
+        .intervalLowPrice(Math.min(previous.lowSinceLastRead(), currentPrice))
+        .tradingVolume(previous.tradingVolume + tradingVolume)
+        .conflatedTicks(previous.conflatedTicks + 1)
+        .build();
   }
 }
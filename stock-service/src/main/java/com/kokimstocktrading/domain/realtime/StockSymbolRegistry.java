@@ -0,0 +1,155 @@
+package com.kokimstocktrading.domain.realtime;
+
+import java.util.Arrays;
+
+/**
+ * <pre>
+ *  종목코드 <-> 정수 심볼 ID 매핑 테이블
+ *  실시간 시세 경로에서 종목코드를 문자열 생성 없이 원본 버퍼에서 바로 찾기 위해 사용합니다.
+ *  ID는 0부터 순서대로 부여되며 프로세스 안에서만 유효합니다.
+ *
+ *  조회는 락 없이 수행되고, 신규 등록(장중 거의 발생하지 않음)만 동기화 후 테이블을 통째로 교체합니다.
+ *  등록된 종목은 지우지 않으므로 등록(idOf)은 검증된 종목코드로 구독할 때만 하고,
+ *  소켓에서 받은 종목코드는 조회(findId)만 합니다. (구독하지 않은 코드로 테이블이 커지지 않도록)
+ * </pre>
+ */
+public class StockSymbolRegistry {
+
+  private static final int INITIAL_CAPACITY = 4096;
+
+  private static final class Table {
+
+    private final int[] slots;      // 해시 슬롯 -> (심볼 ID + 1), 0 = 빈 슬롯
+    private final String[] codes;   // 심볼 ID -> 종목코드
+    private final int size;
+
+    private Table(int[] slots, String[] codes, int size) {
+      this.slots = slots;
+      this.codes = codes;
+      this.size = size;
+    }
+  }
+
+  private volatile Table table = new Table(new int[INITIAL_CAPACITY * 2],
+      new String[INITIAL_CAPACITY], 0);
+
+  /**
+   * 종목코드의 심볼 ID 조회 (없으면 등록 - 구독 경로에서만 사용)
+   */
+  public int idOf(String stockCode) {
+    int hash = hash(stockCode, 0, stockCode.length());
+    int id = find(table, stockCode, 0, stockCode.length(), hash);
+    return id >= 0 ? id : register(stockCode, 0, stockCode.length(), hash);
+  }
+
+  /**
+   * 등록된 심볼 ID 조회 (없으면 -1, 등록하지 않음)
+   */
+  public int findId(String stockCode) {
+    return findId(stockCode, 0, stockCode.length());
+  }
+
+  /**
+   * 버퍼의 [start, end) 구간에 있는 종목코드의 등록된 심볼 ID 조회 (없으면 -1, 등록하지 않음)
+   */
+  public int findId(CharSequence source, int start, int end) {
+    return find(table, source, start, end, hash(source, start, end));
+  }
+
+  /**
+   * 심볼 ID의 종목코드 조회
+   */
+  public String codeOf(int symbolId) {
+    Table current = table;
+    if (symbolId < 0 || symbolId >= current.size) {
+      throw new IllegalArgumentException("등록되지 않은 심볼 ID: " + symbolId);
+    }
+    return current.codes[symbolId];
+  }
+
+  /**
+   * 등록된 심볼 수
+   */
+  public int size() {
+    return table.size;
+  }
+
+  private synchronized int register(CharSequence source, int start, int end, int hash) {
+    Table current = table;
+    int existing = find(current, source, start, end, hash);
+    if (existing >= 0) {
+      return existing;
+    }
+
+    int id = current.size;
+    String[] codes = Arrays.copyOf(current.codes,
+        id < current.codes.length ? current.codes.length : current.codes.length * 2);
+    codes[id] = source.subSequence(start, end).toString().intern();
+
+    int[] slots = codes.length == current.codes.length ? current.slots.clone()
+        : rehash(codes, id, codes.length * 2);
+    insert(slots, hash, id);
+
+    table = new Table(slots, codes, id + 1);
+    return id;
+  }
+
+  private static int[] rehash(String[] codes, int count, int capacity) {
+    int[] slots = new int[capacity];
+    for (int id = 0; id < count; id++) {
+      insert(slots, codes[id].hashCode(), id);
+    }
+    return slots;
+  }
+
+  private static void insert(int[] slots, int hash, int id) {
+    int mask = slots.length - 1;
+    int index = spread(hash) & mask;
+    while (slots[index] != 0) {
+      index = (index + 1) & mask;
+    }
+    slots[index] = id + 1;
+  }
+
+  private static int find(Table current, CharSequence source, int start, int end, int hash) {
+    int[] slots = current.slots;
+    int mask = slots.length - 1;
+    int index = spread(hash) & mask;
+    while (true) {
+      int entry = slots[index];
+      if (entry == 0) {
+        return -1;
+      }
+      if (matches(current.codes[entry - 1], source, start, end)) {
+        return entry - 1;
+      }
+      index = (index + 1) & mask;
+    }
+  }
+
+  private static boolean matches(String code, CharSequence source, int start, int end) {
+    int length = end - start;
+    if (code.length() != length) {
+      return false;
+    }
+    for (int i = 0; i < length; i++) {
+      if (code.charAt(i) != source.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  // String.hashCode와 같은 값 (재해시 시 codes[id].hashCode() 사용)
+  private static int hash(CharSequence source, int start, int end) {
+    int hash = 0;
+    for (int i = start; i < end; i++) {
+      hash = 31 * hash + source.charAt(i);
+    }
+    return hash;
+  }
+
+  private static int spread(int hash) {
+    return hash ^ (hash >>> 16);
+  }
+}
@@ -0,0 +1,158 @@
+package com.kokimstocktrading.adapter.out.external.candle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.ClosePriceSeries;
+import com.kokimstocktrading.domain.candle.StockCandle;
+import com.kokimstocktrading.domain.market.TradingCalendar;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LiveCandleSeriesTest {
+
+  private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 4, 10, 0);
+
+  @DisplayName("seed 된 봉 위에 체결로 1분봉과 당일 일봉을 이어 붙이고, 시간외 체결은 일봉에 넣지 않는다.")
+  @Test
+  void buildsBarsFromTradesOnTopOfSeed() {
+    //given
+    LiveCandleSeries series = new LiveCandleSeries("005930");
+    series.seed(CandleInterval.DAY, List.of(
+            candle(LocalDateTime.of(2025, 3, 4, 0, 0), 70_000L, 70_500L, 69_800L, 70_200L, 1_000L),
+            candle(LocalDateTime.of(2025, 3, 3, 0, 0), 69_000L, 70_100L, 68_900L, 70_000L, 9_000L)),
+        LocalDateTime.of(2025, 3, 3, 0, 0), 300, NOW);
+    series.seed(CandleInterval.MINUTE, List.of(), LocalDateTime.MIN, 300, NOW);
+
+    //when
+    series.onTrade(millis(10, 0, 30), 70_600L, 70_600L, 70_600L, 5_000L);
+    series.onTrade(millis(10, 1, 10), 70_100L, 70_050L, 70_300L, 5_300L);
+    series.onTrade(millis(16, 0, 0), 69_000L, 69_000L, 69_000L, 5_400L);
+
+    //then
+    List<StockCandle> days = series.newestFirst(CandleInterval.DAY, NOW.plusHours(8), 2L);
+    assertThat(days).extracting(StockCandle::getClosePrice).containsExactly(70_100L, 70_000L);
+    assertThat(days.get(0).getHighPrice()).isEqualTo(70_600L);
+    assertThat(days.get(0).getVolume()).isEqualTo(1_300L);
+    assertThat(series.newestFirst(CandleInterval.DAY, NOW, 5L)).isNull();
+
+    List<StockCandle> minutes = series.newestFirst(CandleInterval.MINUTE, NOW.plusHours(8), 10L);
+    assertThat(minutes).extracting(StockCandle::getClosePrice)
+        .containsExactly(69_000L, 70_100L, 70_600L);
+    assertThat(minutes.get(1).getHighPrice()).isEqualTo(70_300L);
+    assertThat(minutes.get(1).getPreviousPrice()).isEqualTo(70_600L);
+    assertThat(minutes).extracting(StockCandle::getVolume).containsExactly(100L, 300L, 0L);
+
+    ClosePriceSeries minuteCloses = series.closePrices(CandleInterval.MINUTE, 2);
+    assertThat(minuteCloses.closedCount()).isEqualTo(2);
+    assertThat(minuteCloses.sumOfLastClosed(2)).isEqualTo(140_700L);
+    assertThat(minuteCloses.movingAverage(3)).isEqualTo(69_900L);
+  }
+
+  @DisplayName("15:30:00 종가 단일가 체결의 가격과 거래량은 일봉/주봉에 들어가고, 그 이후 시간외 체결은 넣지 않는다.")
+  @Test
+  void includesClosingAuctionTradeInSessionBars() {
+    //given
+    LiveCandleSeries series = new LiveCandleSeries("005930");
+    LocalDateTime now = LocalDateTime.of(2025, 3, 4, 15, 0);
+    series.seed(CandleInterval.DAY, List.of(
+            candle(LocalDateTime.of(2025, 3, 4, 0, 0), 70_000L, 70_300L, 69_800L, 70_100L, 4_000L)),
+        LocalDateTime.MIN, 300, now);
+    series.seed(CandleInterval.WEEK, List.of(), LocalDateTime.MIN, 300, now);
+
+    //when
+    series.onTrade(millis(15, 19, 58), 70_000L, 70_000L, 70_000L, 5_000L);
+    // 15:20 ~ 15:30 단일가 매매 후 15:30:00 으로 찍힌 종가 체결
+    series.onTrade(millis(15, 30, 0), 70_400L, 70_400L, 70_400L, 8_000L);
+    series.onTrade(millis(15, 40, 0), 69_000L, 69_000L, 69_000L, 8_500L);
+
+    //then
+    StockCandle day = series.newestFirst(CandleInterval.DAY, now.plusHours(1), 1L).get(0);
+    assertThat(day.getClosePrice()).isEqualTo(70_400L);
+    assertThat(day.getHighPrice()).isEqualTo(70_400L);
+    assertThat(day.getVolume()).isEqualTo(7_000L);
+    StockCandle week = series.newestFirst(CandleInterval.WEEK, now.plusHours(1), 1L).get(0);
+    assertThat(week.getClosePrice()).isEqualTo(70_400L);
+    assertThat(week.getVolume()).isEqualTo(3_000L);
+  }
+
+  @DisplayName("일봉은 다음 날 첫 체결을 기다리지 않고 장 마감 후 마감 확인에서 닫혀 종가 시계열에 반영된다.")
+  @Test
+  void closesDayBarAtSessionEndWithoutNextTrade() {
+    //given
+    LiveCandleSeries series = new LiveCandleSeries("005930");
+    LocalDateTime now = LocalDateTime.of(2025, 3, 4, 15, 0);
+    series.seed(CandleInterval.DAY, List.of(
+            candle(LocalDateTime.of(2025, 3, 4, 0, 0), 70_000L, 70_300L, 69_800L, 70_100L, 4_000L),
+            candle(LocalDateTime.of(2025, 3, 3, 0, 0), 69_000L, 70_100L, 68_900L, 70_000L, 9_000L)),
+        LocalDateTime.MIN, 300, now);
+    series.onTrade(millis(15, 19, 58), 70_200L, 70_200L, 70_200L, 5_000L);
+    ClosePriceSeries closes = series.closePrices(CandleInterval.DAY, 1);
+    List<Long> closedBars = new ArrayList<>();
+    closes.onBarClose(closed -> closedBars.add(closed.sumOfLastClosed(1)));
+
+    //when
+    series.closeElapsed(millis(15, 30, 1));
+    series.closeElapsed(millis(15, 31, 1));
+    // 마감 후 늦게 도착한 종가 체결은 닫힌 봉을 다시 만들지 않음
+    series.onTrade(millis(15, 30, 0), 70_300L, 70_300L, 70_300L, 5_500L);
+
+    //then
+    assertThat(closedBars).containsExactly(70_200L);
+    assertThat(closes.closedCount()).isEqualTo(2);
+    assertThat(series.newestFirst(CandleInterval.DAY, now.plusHours(1), 3L))
+        .extracting(StockCandle::getClosePrice).containsExactly(70_200L, 70_000L);
+  }
+
+  @DisplayName("하루 체결로 만든 1분봉 개수가 달력이 계산한 정규장 1분봉 개수(381)와 같다.")
+  @Test
+  void dayOfMinuteBarsMatchesCalendarCount() {
+    //given
+    LiveCandleSeries series = new LiveCandleSeries("005930");
+    LocalDateTime day = LocalDateTime.of(2025, 3, 4, 0, 0);
+    series.seed(CandleInterval.MINUTE, List.of(), LocalDateTime.MIN, 500, day);
+
+    //when
+    // 09:00 ~ 15:20 접속 매매는 20초마다 체결, 15:20 ~ 15:30 종가 단일가는 체결 없음
+    long volume = 0;
+    for (long t = millis(9, 0, 0); t < millis(15, 20, 0); t += 20_000) {
+      volume += 10;
+      series.onTrade(t, 70_000L, 70_000L, 70_000L, volume);
+    }
+    series.onTrade(millis(15, 30, 0), 70_100L, 70_100L, 70_100L, volume + 500);
+
+    //then
+    List<StockCandle> minutes = series.newestFirst(CandleInterval.MINUTE,
+        day.withHour(23), day);
+    long expected = TradingCalendar.weekdaysOnly()
+        .countBars(CandleInterval.MINUTE, day, day.withHour(23));
+    assertThat(minutes).hasSize(381);
+    assertThat((long) minutes.size()).isEqualTo(expected);
+    assertThat(minutes.get(0).getOpenTime()).isEqualTo(day.withHour(15).withMinute(30));
+    assertThat(minutes.get(1).getOpenTime()).isEqualTo(day.withHour(15).withMinute(19));
+  }
+
+  private static StockCandle candle(LocalDateTime openTime, long open, long high, long low,
+      long close, long volume) {
+    return StockCandle.builder()
+        .code("005930")
+        .candleInterval(CandleInterval.DAY)
+        .openPrice(open)
+        .highPrice(high)
+        .lowPrice(low)
+        .closePrice(close)
+        .currentPrice(close)
+        .volume(volume)
+        .openTime(openTime)
+        .build();
+  }
+
+  private static long millis(int hour, int minute, int second) {
+    return LocalDateTime.of(2025, 3, 4, hour, minute, second).atZone(ZoneId.of("Asia/Seoul"))
+        .toInstant().toEpochMilli();
+  }
+}
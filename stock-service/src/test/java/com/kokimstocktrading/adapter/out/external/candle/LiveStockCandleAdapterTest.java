@@ -0,0 +1,76 @@
+package com.kokimstocktrading.adapter.out.external.candle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
+import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.StockCandle;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class LiveStockCandleAdapterTest {
+
+  @Mock
+  private TossInvestChartClient tossInvestChartClient;
+
+  @Mock
+  private SubscribeRealTimeQuotePort subscribeRealTimeQuotePort;
+
+  @Mock
+  private RealTimeQuoteStream quoteStream;
+
+  @DisplayName("종목/봉 단위를 처음 조회할 때만 원격으로 채우고, 이후 조회는 메모리에서 응답한다.")
+  @Test
+  void seedsOnceAndServesLocally() {
+    //given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    LiveStockCandleAdapter adapter = new LiveStockCandleAdapter(tossInvestChartClient,
+        subscribeRealTimeQuotePort, meterRegistry);
+    List<StockCandle> candles = IntStream.range(0, 300)
+        .mapToObj(i -> StockCandle.builder()
+            .code("005930")
+            .candleInterval(CandleInterval.DAY)
+            .closePrice(70_000L + i)
+            .openTime(LocalDate.of(2024, 1, 1).minusDays(i).atStartOfDay())
+            .build())
+        .toList();
+    given(tossInvestChartClient.loadCandles(eq("005930"), eq(CandleInterval.DAY), any(),
+        eq(300L))).willReturn(Mono.just(candles));
+    given(subscribeRealTimeQuotePort.openQuoteStream(any())).willReturn(quoteStream);
+    given(quoteStream.quotes()).willReturn(Flux.never());
+
+    //when
+    List<StockCandle> first = adapter.loadStockCandleListBy("005930", CandleInterval.DAY,
+        LocalDateTime.now(), 20L).block();
+    List<StockCandle> second = adapter.loadStockCandleListBy("005930", CandleInterval.DAY,
+        LocalDateTime.now(), 60L).block();
+
+    //then
+    assertThat(first).hasSize(20);
+    assertThat(second).hasSize(60);
+    assertThat(second.get(59).getClosePrice()).isEqualTo(70_059L);
+    verify(tossInvestChartClient, times(1)).loadCandles(eq("005930"), eq(CandleInterval.DAY),
+        any(), eq(300L));
+    verify(quoteStream).addStocks(List.of("005930"));
+    assertThat(meterRegistry.counter("candle.remote.requests", "reason", "seed").count())
+        .isEqualTo(1.0);
+    adapter.destroy();
+  }
+}
@@ -0,0 +1,72 @@
+package com.kokimstocktrading.adapter.out.external.config.kiwoom;
+
+import com.google.gson.Gson;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 기존 Gson Map 경로와 스트리밍 디코더 비교 (-prof gc 로 틱당 할당량 확인)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KiwoomRealMessageDecoderBenchmark {
+
+  private static final String[] FIDS = {"10", "11", "12", "13", "14", "15", "16", "17", "18",
+      "20", "27", "28"};
+
+  private final Gson gson = new Gson();
+  private final KiwoomRealMessageDecoder decoder = new KiwoomRealMessageDecoder();
+  private final String message = KiwoomRealMessageDecoderTest.REAL_MESSAGE;
+
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public void gsonMapPath(Blackhole blackhole) {
+    Map<String, Object> response = gson.fromJson(message, Map.class);
+    if (!"REAL".equals(response.get("trnm"))) {
+      return;
+    }
+    for (Map<String, Object> data : (List<Map<String, Object>>) response.get("data")) {
+      Map<String, Object> values = (Map<String, Object>) data.get("values");
+      blackhole.consume(data.get("item"));
+      for (String fid : FIDS) {
+        blackhole.consume(values.get(fid));
+      }
+    }
+  }
+
+  @Benchmark
+  public void streamingDecoder(Blackhole blackhole) {
+    decoder.decode(message, frame -> {
+      blackhole.consume(frame.hasItem());
+      for (int slot = 0; slot < KiwoomRealQuoteFrame.SLOT_COUNT; slot++) {
+        blackhole.consume(frame.hasValue(slot));
+      }
+    });
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(KiwoomRealMessageDecoderBenchmark.class.getSimpleName())
+        .addProfiler(GCProfiler.class)
+        .build()).run();
+  }
+}
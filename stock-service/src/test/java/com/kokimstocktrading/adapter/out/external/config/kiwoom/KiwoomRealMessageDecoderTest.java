@@ -0,0 +1,141 @@
+package com.kokimstocktrading.adapter.out.external.config.kiwoom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class KiwoomRealMessageDecoderTest {
+
+  static final String REAL_MESSAGE = """
+      {"trnm":"REAL","data":[{"type":"0B","name":"주식체결","item":"005930",\
+      "values":{"20":"165208","10":"-20800","11":"-50","12":"-0.24","27":"-20800","28":"-20700",\
+      "15":"+82","13":"30379732","14":"632640","16":"-20850","17":"+21150","18":"-20450",\
+      "25":"5","26":"-1","29":"-1","30":"-1","31":"1.6"}}]}""";
+
+  private final KiwoomRealMessageDecoder decoder = new KiwoomRealMessageDecoder();
+
+  @DisplayName("REAL 메시지의 FID 값을 프레임에 기록한다.")
+  @Test
+  void decodesExecutionFrame() {
+    //given
+    List<String> decoded = new ArrayList<>();
+
+    //when
+    boolean handled = decoder.decode(REAL_MESSAGE, frame -> {
+      assertThat(frame.isType("0B")).isTrue();
+      decoded.add(frame.name());
+      decoded.add(frame.item());
+      decoded.add(frame.text(KiwoomRealQuoteFrame.CURRENT_PRICE));
+      decoded.add(frame.text(KiwoomRealQuoteFrame.CHANGE_RATE));
+      decoded.add(frame.text(KiwoomRealQuoteFrame.TRADING_VOLUME));
+      decoded.add(frame.text(KiwoomRealQuoteFrame.TRADE_TIME));
+      decoded.add(frame.text(KiwoomRealQuoteFrame.BID_PRICE));
+    });
+
+    //then
+    assertThat(handled).isTrue();
+    assertThat(decoded).containsExactly("주식체결", "005930", "-20800", "-0.24", "+82", "165208", "-20700");
+  }
+
+  @DisplayName("프레임의 값을 부호 제거/고정소수점/초 단위 숫자로 읽는다.")
+  @Test
+  void readsNumericValues() {
+    //given
+    StockSymbolRegistry registry = new StockSymbolRegistry();
+    registry.idOf("005930");
+    List<Long> values = new ArrayList<>();
+
+    //when
+    decoder.decode(REAL_MESSAGE, frame -> {
+      values.add((long) frame.symbolId(registry));
+      values.add(frame.absoluteLong(KiwoomRealQuoteFrame.CURRENT_PRICE));
+      values.add(frame.signedLong(KiwoomRealQuoteFrame.PRICE_CHANGE));
+      values.add((long) frame.fixedPoint2(KiwoomRealQuoteFrame.CHANGE_RATE));
+      values.add(frame.signedLong(KiwoomRealQuoteFrame.TRADING_VOLUME));
+      values.add((long) frame.secondsOfDay(KiwoomRealQuoteFrame.TRADE_TIME));
+    });
+
+    //then
+    assertThat(values).containsExactly(0L, 20800L, -50L, -24L, 82L, 16 * 3600 + 52 * 60 + 8L);
+    assertThat(registry.codeOf(0)).isEqualTo("005930");
+  }
+
+  @DisplayName("구독으로 등록되지 않은 종목코드의 프레임은 심볼 ID가 -1이고 심볼 테이블에 등록하지 않는다.")
+  @Test
+  void doesNotRegisterUnknownSymbolFromFrame() {
+    //given
+    StockSymbolRegistry registry = new StockSymbolRegistry();
+    List<Integer> symbolIds = new ArrayList<>();
+
+    //when
+    decoder.decode(REAL_MESSAGE, frame -> symbolIds.add(frame.symbolId(registry)));
+
+    //then
+    assertThat(symbolIds).containsExactly(-1);
+    assertThat(registry.size()).isZero();
+  }
+
+  @DisplayName("data 항목이 여러 개면 항목마다 리스너가 호출된다.")
+  @Test
+  void decodesEveryDataEntry() {
+    //given
+    String message = """
+        { "data" : [ {"type":"0B","item":"005930","values":{"10":"+75000"}},
+                     {"type":"0D","item":"000660","values":{"41":"85100"}} ],
+          "trnm" : "REAL" }""";
+    List<String> items = new ArrayList<>();
+
+    //when
+    boolean handled = decoder.decode(message, frame -> items.add(frame.item()
+        + (frame.isType("0B") ? ":" + frame.text(KiwoomRealQuoteFrame.CURRENT_PRICE) : "")));
+
+    //then
+    assertThat(handled).isTrue();
+    assertThat(items).containsExactly("005930:+75000", "000660");
+  }
+
+  @DisplayName("REAL이 아닌 메시지는 처리하지 않고 false를 반환한다.")
+  @Test
+  void ignoresNonRealMessages() {
+    //given
+    List<String> items = new ArrayList<>();
+
+    //when
+    boolean login = decoder.decode("{\"trnm\":\"LOGIN\",\"return_code\":0,\"return_msg\":\"\"}",
+        frame -> items.add(frame.item()));
+    boolean ping = decoder.decode("{\"trnm\":\"PING\"}", frame -> items.add(frame.item()));
+    boolean reg = decoder.decode("{\"trnm\":\"REG\",\"return_code\":0,\"data\":[]}",
+        frame -> items.add(frame.item()));
+
+    //then
+    assertThat(login).isFalse();
+    assertThat(ping).isFalse();
+    assertThat(reg).isFalse();
+    assertThat(items).isEmpty();
+  }
+
+  @DisplayName("trnm 값만 보고 REAL 메시지인지 빠르게 판별한다.")
+  @Test
+  void detectsRealMessageWithoutDecoding() {
+    //when //then
+    assertThat(KiwoomRealMessageDecoder.isRealMessage(
+        "{\"data\":[{\"item\":\"005930\"}],\"trnm\" : \"REAL\"}")).isTrue();
+    assertThat(KiwoomRealMessageDecoder.isRealMessage("{\"trnm\":\"PING\"}")).isFalse();
+    assertThat(KiwoomRealMessageDecoder.isRealMessage("{\"trnm\":\"REG\"}")).isFalse();
+    assertThat(KiwoomRealMessageDecoder.isRealMessage("not json")).isFalse();
+  }
+
+  @DisplayName("형식이 깨진 메시지는 예외를 던진다.")
+  @Test
+  void rejectsMalformedMessage() {
+    assertThatThrownBy(() -> decoder.decode("{\"trnm\":\"REAL\",\"data\":[{\"item\":\"0059",
+        frame -> {
+        }))
+        .isInstanceOf(IllegalStateException.class);
+  }
+}
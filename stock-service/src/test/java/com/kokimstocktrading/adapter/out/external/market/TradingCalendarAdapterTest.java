@@ -0,0 +1,106 @@
+package com.kokimstocktrading.adapter.out.external.market;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.kokimstocktrading.application.market.port.out.LoadMarketCalendarPort;
+import com.kokimstocktrading.domain.market.MonthlyOpenDays;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import reactor.core.publisher.Mono;
+
+class TradingCalendarAdapterTest {
+
+  private static final String[] HOLIDAYS = {"2026-03-02", "2026-05-05"};
+  private static final String[] SPECIAL_SESSIONS = {"2026-11-19 10:00-16:30"};
+  // KRX 만 알고 있는 임시 휴장일
+  private static final LocalDate TEMPORARY_HOLIDAY = LocalDate.of(2026, 3, 20);
+
+  @TempDir
+  Path directory;
+
+  @DisplayName("KRX 에서 받은 달은 KRX 개장일로 거래일을 판단하고, 저장된 달력으로 KRX 없이 다시 시작한다.")
+  @Test
+  void usesKrxMonthsAndRestartsFromSavedCalendar() {
+    //given
+    String cacheFile = directory.resolve("krx-calendar.txt").toString();
+    LoadMarketCalendarPort krx = mock(LoadMarketCalendarPort.class);
+    given(krx.loadMonthlyOpenDays(any())).willAnswer(
+        invocation -> Mono.just(openWeekdays(invocation.getArgument(0))));
+    TradingCalendarAdapter adapter = new TradingCalendarAdapter(krx, HOLIDAYS, SPECIAL_SESSIONS,
+        cacheFile, 1);
+
+    //when
+    adapter.refresh(LocalDate.of(2026, 3, 10)).block();
+
+    //then
+    assertThat(adapter.loadTradingCalendar().isTradingDay(TEMPORARY_HOLIDAY)).isFalse();
+    // 작년 1월부터 받음
+    verify(krx).loadMonthlyOpenDays(YearMonth.of(2025, 1));
+    verify(krx, never()).loadMonthlyOpenDays(YearMonth.of(2024, 12));
+    // KRX 가 개장이라고 한 날은 설정된 휴장일보다 우선
+    assertThat(adapter.loadTradingCalendar().isTradingDay(LocalDate.of(2026, 3, 2))).isTrue();
+
+    TradingCalendarAdapter restarted = new TradingCalendarAdapter(
+        mock(LoadMarketCalendarPort.class), HOLIDAYS, SPECIAL_SESSIONS, cacheFile, 1);
+    assertThat(restarted.loadTradingCalendar().isTradingDay(TEMPORARY_HOLIDAY)).isFalse();
+    assertThat(restarted.loadTradingCalendar().isTradingDay(LocalDate.of(2026, 3, 2))).isTrue();
+  }
+
+  @DisplayName("KRX 조회가 실패하면 설정된 휴장일로 계속 판단한다.")
+  @Test
+  void keepsConfiguredHolidaysWhenKrxFails() {
+    //given
+    LoadMarketCalendarPort krx = mock(LoadMarketCalendarPort.class);
+    given(krx.loadMonthlyOpenDays(any())).willReturn(
+        Mono.error(new RuntimeException("KRX API 요청 실패")));
+    TradingCalendarAdapter adapter = new TradingCalendarAdapter(krx, HOLIDAYS, SPECIAL_SESSIONS,
+        directory.resolve("krx-calendar.txt").toString(), 1);
+
+    //when
+    adapter.refresh(LocalDate.of(2026, 3, 10)).block();
+
+    //then
+    assertThat(adapter.loadTradingCalendar().isTradingDay(LocalDate.of(2026, 3, 2))).isFalse();
+    assertThat(adapter.loadTradingCalendar().isTradingDay(TEMPORARY_HOLIDAY)).isTrue();
+    assertThat(directory.resolve("krx-calendar.txt")).doesNotExist();
+  }
+
+  @DisplayName("사용 중인 기준 날짜가 받아 둔 달력보다 과거면 그 달부터 받는다.")
+  @Test
+  void backfillsFromEarliestDateInUse() {
+    //given
+    LoadMarketCalendarPort krx = mock(LoadMarketCalendarPort.class);
+    given(krx.loadMonthlyOpenDays(any())).willAnswer(
+        invocation -> Mono.just(openWeekdays(invocation.getArgument(0))));
+    TradingCalendarAdapter adapter = new TradingCalendarAdapter(krx, HOLIDAYS, SPECIAL_SESSIONS,
+        directory.resolve("krx-calendar.txt").toString(), 1);
+
+    //when
+    adapter.requestCoverageFrom(LocalDate.of(2023, 6, 15));
+
+    //then
+    verify(krx).loadMonthlyOpenDays(YearMonth.of(2023, 6));
+    verify(krx, never()).loadMonthlyOpenDays(YearMonth.of(2023, 5));
+  }
+
+  /**
+   * 평일 개장 (임시 휴장일 제외)
+   */
+  private static MonthlyOpenDays openWeekdays(YearMonth month) {
+    return MonthlyOpenDays.of(month, IntStream.rangeClosed(1, month.lengthOfMonth())
+        .filter(day -> month.atDay(day).getDayOfWeek().getValue() <= 5)
+        .filter(day -> !month.atDay(day).equals(TEMPORARY_HOLIDAY))
+        .boxed()
+        .toList());
+  }
+}
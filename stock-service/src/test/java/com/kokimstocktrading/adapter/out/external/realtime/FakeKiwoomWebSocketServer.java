@@ -0,0 +1,96 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.java_websocket.WebSocket;
+import org.java_websocket.framing.CloseFrame;
+import org.java_websocket.handshake.ClientHandshake;
+import org.java_websocket.server.WebSocketServer;
+
+/**
+ * 테스트용 키움 WebSocket 서버 - LOGIN 에 성공 응답하고, 수신한 REG/REMOVE 메시지를 기록
+ */
+class FakeKiwoomWebSocketServer extends WebSocketServer {
+
+  private final CountDownLatch started = new CountDownLatch(1);
+  private final AtomicInteger loginCount = new AtomicInteger();
+  private final List<String> registerMessages = new CopyOnWriteArrayList<>();
+  private final List<String> removeMessages = new CopyOnWriteArrayList<>();
+
+  FakeKiwoomWebSocketServer() {
+    super(new InetSocketAddress("127.0.0.1", 0));
+    setReuseAddr(true);
+  }
+
+  void startAndWait() throws InterruptedException {
+    start();
+    if (!started.await(5, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("테스트 WebSocket 서버 시작 실패");
+    }
+  }
+
+  String uri() {
+    return "ws://127.0.0.1:" + getPort();
+  }
+
+  /**
+   * 모든 클라이언트 연결을 서버 측에서 끊음
+   */
+  void dropAllConnections() {
+    getConnections().forEach(conn -> conn.closeConnection(CloseFrame.ABNORMAL_CLOSE, "drop"));
+  }
+
+  /**
+   * 연결된 모든 클라이언트에게 메시지 전송
+   */
+  void broadcastMessage(String message) {
+    broadcast(message);
+  }
+
+  int loginCount() {
+    return loginCount.get();
+  }
+
+  List<String> registerMessages() {
+    return registerMessages;
+  }
+
+  List<String> removeMessages() {
+    return removeMessages;
+  }
+
+  @Override
+  public void onOpen(WebSocket conn, ClientHandshake handshake) {
+  }
+
+  @Override
+  public void onClose(WebSocket conn, int code, String reason, boolean remote) {
+  }
+
+  @Override
+  public void onMessage(WebSocket conn, String message) {
+    if (message.contains("\"LOGIN\"")) {
+      loginCount.incrementAndGet();
+      conn.send("{\"trnm\":\"LOGIN\",\"return_code\":0,\"return_msg\":\"\"}");
+    } else if (message.contains("\"REG\"")) {
+      registerMessages.add(message);
+      conn.send("{\"trnm\":\"REG\",\"return_code\":0,\"return_msg\":\"\"}");
+    } else if (message.contains("\"REMOVE\"")) {
+      removeMessages.add(message);
+      conn.send("{\"trnm\":\"REMOVE\",\"return_code\":0,\"return_msg\":\"\"}");
+    }
+  }
+
+  @Override
+  public void onError(WebSocket conn, Exception ex) {
+  }
+
+  @Override
+  public void onStart() {
+    started.countDown();
+  }
+}
@@ -0,0 +1,111 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.auth.KiwoomAuthAdapter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class KiwoomRealTimeConnectionPoolTest {
+
+  private final FakeKiwoomWebSocketServer server = new FakeKiwoomWebSocketServer();
+  private KiwoomRealTimeConnectionPool pool;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    server.startAndWait();
+    KiwoomAuthAdapter kiwoomAuthAdapter = mock(KiwoomAuthAdapter.class);
+    when(kiwoomAuthAdapter.getValidToken()).thenReturn(Mono.just("token"));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 연결 2개 x 그룹 2개 x 종목 2개 = 최대 8종목
+    pool = new KiwoomRealTimeConnectionPool(2, 2, 2,
+        index -> new KiwoomRealTimeSession("ws-" + (index + 1), URI.create(server.uri()),
+            kiwoomAuthAdapter, frame -> {
+        }, event -> {
+        }, meterRegistry));
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    pool.shutdown();
+    server.stop(1000);
+  }
+
+  @DisplayName("종목을 앞 연결부터 한도까지 채운 뒤 다음 연결을 열고, 한도를 넘는 종목은 거절한다.")
+  @Test
+  void binPacksStocksWithinLimits() {
+    //given
+    List<String> first = List.of("000001", "000002", "000003");
+    List<String> rest = List.of("000004", "000005", "000006", "000007", "000008", "000009");
+
+    //when
+    List<String> addedFirst = pool.add(first);
+    Map<String, Integer> loadsAfterFirst = pool.connectionLoads();
+    List<String> addedRest = pool.add(rest);
+
+    //then
+    assertThat(addedFirst).containsExactlyElementsOf(first);
+    assertThat(loadsAfterFirst).isEqualTo(Map.of("ws-1", 3));
+    assertThat(addedRest).hasSize(5).doesNotContain("000009");
+    assertThat(pool.connectionLoads()).isEqualTo(Map.of("ws-1", 4, "ws-2", 4));
+    assertThat(pool.groupNumbers()).isEqualTo(Map.of(0, Set.of(1, 2), 1, Set.of(1, 2)));
+    await().atMost(Duration.ofSeconds(5)).until(() -> server.loginCount() == 2);
+  }
+
+  @DisplayName("종목을 제거하면 해당 그룹에만 해지 메시지를 보내고, 비워진 그룹 번호는 재사용한다.")
+  @Test
+  void removesOnlyTouchedGroupAndReusesGroupNumber() {
+    //given
+    pool.add(List.of("000001", "000002", "000003", "000004"));
+    Map<Integer, Set<Integer>> before = pool.groupNumbers();
+
+    //when
+    // ws-1 그룹1 = [000001, 000002] 중 일부, 그룹2 = [000003, 000004] 전체
+    List<String> removed = pool.remove(List.of("000001", "000003", "000004"));
+    List<String> readded = pool.add(List.of("000011", "000012"));
+
+    //then
+    assertThat(removed).containsExactly("000001", "000003", "000004");
+    assertThat(readded).containsExactly("000011", "000012");
+    assertThat(pool.groupNumbers()).isEqualTo(before);
+    assertThat(pool.stockCodes())
+        .containsExactlyInAnyOrder("000002", "000011", "000012");
+    await().atMost(Duration.ofSeconds(5)).until(() -> server.removeMessages().size() == 2);
+    assertThat(server.removeMessages()).anySatisfy(message ->
+        assertThat(message).contains("000001").doesNotContain("000002"));
+  }
+
+  @DisplayName("해지로 조각난 그룹은 압축하면 한 그룹으로 합쳐진다.")
+  @Test
+  void compactsFragmentedGroups() {
+    //given
+    pool.add(List.of("000001", "000002", "000003", "000004", "000005", "000006", "000007",
+        "000008"));
+    // ws-1 그룹1 = [000001], 그룹2 = [000004] 만 남김
+    pool.remove(List.of("000002", "000003"));
+
+    //when
+    int moved = pool.compact();
+
+    //then
+    assertThat(moved).isEqualTo(1);
+    assertThat(pool.groupNumbers()).isEqualTo(Map.of(0, Set.of(2), 1, Set.of(1, 2)));
+    assertThat(pool.connectionLoads()).isEqualTo(Map.of("ws-1", 2, "ws-2", 4));
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+        assertThat(server.removeMessages()).anySatisfy(message ->
+            assertThat(message).contains("\"grp_no\":\"1\"").doesNotContain("item")));
+  }
+}
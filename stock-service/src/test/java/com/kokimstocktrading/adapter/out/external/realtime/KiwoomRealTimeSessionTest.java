@@ -0,0 +1,113 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.auth.KiwoomAuthAdapter;
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.auth.OAuthTokenResponse;
+import com.kokimstocktrading.application.realtime.event.RealTimeFeedGapEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+class KiwoomRealTimeSessionTest {
+
+  private final FakeKiwoomWebSocketServer server = new FakeKiwoomWebSocketServer();
+  private final KiwoomAuthAdapter kiwoomAuthAdapter = mock(KiwoomAuthAdapter.class);
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<RealTimeFeedGapEvent> gapEvents = new CopyOnWriteArrayList<>();
+  private KiwoomRealTimeSession session;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    server.startAndWait();
+    when(kiwoomAuthAdapter.getValidToken()).thenReturn(Mono.just("cached-token"));
+    when(kiwoomAuthAdapter.requestAccessToken()).thenReturn(Mono.just(
+        OAuthTokenResponse.builder().token("new-token").return_code(0).build()));
+    session = new KiwoomRealTimeSession("test", URI.create(server.uri()), kiwoomAuthAdapter,
+        frame -> {
+        }, gapEvents::add, meterRegistry);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    session.shutdown();
+    server.stop(1000);
+  }
+
+  @DisplayName("연결이 끊기면 재연결 후 모든 그룹을 다시 등록하고 시세 공백 이벤트를 발행한다.")
+  @Test
+  void reconnectsAndReplaysGroups() {
+    //given
+    assertThat(session.connect()).isTrue();
+    session.subscribe("1", List.of("005930", "000660"));
+    session.subscribe("2", List.of("035420"));
+    await().atMost(Duration.ofSeconds(5)).until(() -> server.registerMessages().size() == 2);
+
+    //when
+    server.dropAllConnections();
+
+    //then
+    await().atMost(Duration.ofSeconds(10)).until(() -> !gapEvents.isEmpty());
+    await().atMost(Duration.ofSeconds(5)).until(() -> server.registerMessages().size() == 4);
+    assertThat(server.loginCount()).isEqualTo(2);
+    assertThat(gapEvents.get(0).stockCodes())
+        .containsExactlyInAnyOrder("005930", "000660", "035420");
+    assertThat(gapEvents.get(0).gap()).isPositive();
+    assertThat(meterRegistry.get("kiwoom.websocket.reconnect").timer().count()).isEqualTo(1);
+    assertThat(session.isConnected()).isTrue();
+  }
+
+  @DisplayName("연결이 끊긴 동안 등록한 그룹은 재연결 후 등록된다.")
+  @Test
+  void registersGroupsAddedWhileDisconnected() {
+    //given
+    assertThat(session.connect()).isTrue();
+    server.dropAllConnections();
+    await().atMost(Duration.ofSeconds(5)).until(() -> !session.isConnected());
+
+    //when
+    boolean accepted = session.subscribe("7", List.of("005930"));
+
+    //then
+    assertThat(accepted).isTrue();
+    await().atMost(Duration.ofSeconds(10)).untilAsserted(() ->
+        assertThat(server.registerMessages()).anySatisfy(message ->
+            assertThat(message).contains("\"grp_no\":\"7\"").contains("005930")));
+  }
+
+  @DisplayName("다른 스레드가 연결/로그인을 기다리는 동안 연결 요청은 막히지 않고, 그 사이 등록한 그룹은 연결 후 등록된다.")
+  @Test
+  void doesNotHoldLockWhileConnecting() throws Exception {
+    //given
+    when(kiwoomAuthAdapter.getValidToken())
+        .thenReturn(Mono.just("cached-token").delayElement(Duration.ofMillis(1500)));
+    CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(session::connect);
+    Thread.sleep(200);
+
+    //when
+    long startedNanos = System.nanoTime();
+    boolean second = session.connect();
+    long waitedMillis = Duration.ofNanos(System.nanoTime() - startedNanos).toMillis();
+    session.subscribe("3", List.of("005930"));
+
+    //then
+    assertThat(second).isFalse();
+    assertThat(waitedMillis).isLessThan(500);
+    assertThat(first.get(10, TimeUnit.SECONDS)).isTrue();
+    await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+        assertThat(server.registerMessages()).anySatisfy(message ->
+            assertThat(message).contains("\"grp_no\":\"3\"").contains("005930")));
+  }
+}
@@ -0,0 +1,72 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatestQuoteStoreTest {
+
+  @DisplayName("종목별 마지막 시세만 보관하고, 수신한 적 없는 종목은 null 이다.")
+  @Test
+  void keepsLatestQuotePerSymbol() {
+    //given
+    LatestQuoteStore store = new LatestQuoteStore();
+
+    //when
+    store.update(quote(7, 70000L));
+    store.update(quote(7, 70500L));
+
+    //then
+    assertThat(store.get(7).currentPrice()).isEqualTo(70500L);
+    assertThat(store.get(8)).isNull();
+    assertThat(store.get(100_000)).isNull();
+    assertThat(store.get(-1)).isNull();
+  }
+
+  @DisplayName("저장소가 커지는 동안 다른 스레드가 갱신한 시세도 유실되지 않는다.")
+  @Test
+  void doesNotLoseUpdatesWhileGrowing() throws InterruptedException {
+    //given - 두 스레드가 서로 다른 심볼 범위를 채우며 청크 생성/디렉터리 확장을 반복
+    LatestQuoteStore store = new LatestQuoteStore();
+    int symbolsPerThread = 50_000;
+    CountDownLatch start = new CountDownLatch(1);
+    Thread even = new Thread(() -> fill(store, start, 0, symbolsPerThread));
+    Thread odd = new Thread(() -> fill(store, start, 1, symbolsPerThread));
+
+    //when
+    even.start();
+    odd.start();
+    start.countDown();
+    even.join();
+    odd.join();
+
+    //then
+    assertThat(IntStream.range(0, symbolsPerThread * 2)
+        .filter(symbolId -> store.get(symbolId) == null)
+        .count()).isZero();
+  }
+
+  private static void fill(LatestQuoteStore store, CountDownLatch start, int offset, int count) {
+    try {
+      start.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return;
+    }
+    for (int i = 0; i < count; i++) {
+      store.update(quote(i * 2 + offset, 1000L + i));
+    }
+  }
+
+  private static RealTimeQuote quote(int symbolId, long currentPrice) {
+    return RealTimeQuote.builder()
+        .symbolId(symbolId)
+        .item(String.valueOf(symbolId))
+        .currentPrice(currentPrice)
+        .build();
+  }
+}
@@ -0,0 +1,75 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.KiwoomRealMessageDecoder;
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+
+class OrderBookRouterTest {
+
+  private final StockSymbolRegistry registry = new StockSymbolRegistry();
+  private final KiwoomRealMessageDecoder decoder = new KiwoomRealMessageDecoder();
+  private final OrderBookStore store = new OrderBookStore();
+  private final List<String> demandEvents = new ArrayList<>();
+  private final OrderBookRouter router = new OrderBookRouter(
+      symbolId -> store.snapshot(symbolId, registry.codeOf(symbolId)),
+      new RealTimeQuoteRouter.DemandListener() {
+        @Override
+        public void onDemandAdded(int symbolId) {
+          demandEvents.add("+" + symbolId);
+        }
+
+        @Override
+        public void onDemandRemoved(int symbolId) {
+          demandEvents.add("-" + symbolId);
+        }
+      });
+
+  @DisplayName("요청하지 않은 동안의 호가 갱신은 종목별 최신 호가 하나로 병합해 전달한다.")
+  @Test
+  void conflatesUpdatesUntilRequested() {
+    //given
+    int samsung = registry.idOf("005930");
+    int hynix = registry.idOf("000660");
+    List<String> received = new ArrayList<>();
+    BaseSubscriber<OrderBook> subscriber = new BaseSubscriber<>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+      }
+
+      @Override
+      protected void hookOnNext(OrderBook orderBook) {
+        received.add(orderBook.item() + ":" + orderBook.bestAsk());
+      }
+    };
+    router.subscribe(samsung, hynix).subscribe(subscriber);
+
+    //when
+    for (int n = 1; n <= 5; n++) {
+      publish("005930", n);
+    }
+    publish("000660", 9);
+    subscriber.request(10);
+    publish("005930", 6);
+    subscriber.dispose();
+
+    //then
+    assertThat(received).containsExactly("005930:5000", "000660:9000", "005930:6000");
+    assertThat(demandEvents).containsExactly("+" + samsung, "+" + hynix, "-" + samsung, "-" + hynix);
+  }
+
+  private void publish(String item, long n) {
+    decoder.decode(OrderBookStoreTest.depthMessage(item, n), frame -> {
+      int symbolId = frame.symbolId(registry);
+      store.update(symbolId, frame, 0L);
+      router.updated(symbolId);
+    });
+  }
+}
@@ -0,0 +1,104 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.KiwoomRealMessageDecoder;
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderBookStoreTest {
+
+  private final StockSymbolRegistry registry = new StockSymbolRegistry();
+  private final KiwoomRealMessageDecoder decoder = new KiwoomRealMessageDecoder();
+  private final OrderBookStore store = new OrderBookStore();
+
+  @DisplayName("0D 프레임의 10단계 호가와 잔량을 종목 칸에 기록하고 스냅샷으로 복사한다.")
+  @Test
+  void storesTenLevelDepth() {
+    //given
+    String message = depthMessage("005930", 70);
+    registry.idOf("005930");
+
+    //when
+    decoder.decode(message, frame -> store.update(frame.symbolId(registry), frame, 1_000L));
+    OrderBook orderBook = store.snapshot(registry.findId("005930"), "005930");
+
+    //then
+    assertThat(orderBook.bestAsk()).isEqualTo(70_000L);
+    assertThat(orderBook.bestBid()).isEqualTo(69_999L);
+    assertThat(orderBook.spread()).isEqualTo(1L);
+    assertThat(orderBook.askPrices()).hasSize(10).endsWith(70_009L);
+    assertThat(orderBook.bidQuantities()).startsWith(80L).endsWith(89L);
+    assertThat(orderBook.totalAskQuantity()).isEqualTo(490L);
+    assertThat(orderBook.quoteTimeEpochMillis()).isEqualTo(1_000L);
+    assertThat(store.bestAsk(registry.findId("005930"))).isEqualTo(70_000L);
+    assertThat(store.snapshot(registry.idOf("000660"), "000660")).isNull();
+  }
+
+  @DisplayName("갱신 중에 읽어도 서로 다른 갱신의 값이 섞인 스냅샷을 돌려주지 않는다.")
+  @Test
+  void neverReturnsTornSnapshot() throws InterruptedException {
+    //given
+    String[] messages = {depthMessage("005930", 1), depthMessage("005930", 2)};
+    int symbolId = registry.idOf("005930");
+    decoder.decode(messages[0], frame -> store.update(symbolId, frame, 0L));
+    AtomicBoolean running = new AtomicBoolean(true);
+    AtomicInteger reads = new AtomicInteger();
+    AtomicReference<OrderBook> torn = new AtomicReference<>();
+
+    Thread reader = new Thread(() -> {
+      while (running.get()) {
+        OrderBook orderBook = store.snapshot(symbolId, "005930");
+        reads.incrementAndGet();
+        if (!isConsistent(orderBook)) {
+          torn.set(orderBook);
+        }
+      }
+    });
+    reader.start();
+
+    //when
+    for (int i = 0; i < 200_000; i++) {
+      decoder.decode(messages[i & 1], frame -> store.update(symbolId, frame, 0L));
+    }
+    running.set(false);
+    reader.join();
+
+    //then
+    assertThat(reads.get()).isPositive();
+    assertThat(torn.get()).isNull();
+  }
+
+  // 한 메시지의 모든 값은 n 에서 만들어지므로 서로 맞아야 함
+  private static boolean isConsistent(OrderBook orderBook) {
+    long n = orderBook.bestAsk() / 1000;
+    for (int level = 0; level < 10; level++) {
+      if (orderBook.askPrices()[level] != n * 1000 + level
+          || orderBook.bidPrices()[level] != n * 1000 - 1 - level
+          || orderBook.askQuantities()[level] != n + level
+          || orderBook.bidQuantities()[level] != n + 10 + level) {
+        return false;
+      }
+    }
+    return orderBook.totalAskQuantity() == n * 7 && orderBook.totalBidQuantity() == n * 11;
+  }
+
+  static String depthMessage(String item, long n) {
+    StringBuilder values = new StringBuilder("\"21\":\"090001\"");
+    for (int level = 0; level < 10; level++) {
+      values.append(",\"").append(41 + level).append("\":\"+").append(n * 1000 + level).append('"');
+      values.append(",\"").append(51 + level).append("\":\"-").append(n * 1000 - 1 - level)
+          .append('"');
+      values.append(",\"").append(61 + level).append("\":\"").append(n + level).append('"');
+      values.append(",\"").append(71 + level).append("\":\"").append(n + 10 + level).append('"');
+    }
+    values.append(",\"121\":\"").append(n * 7).append("\",\"125\":\"").append(n * 11).append('"');
+    return "{\"trnm\":\"REAL\",\"data\":[{\"type\":\"0D\",\"name\":\"주식호가잔량\",\"item\":\"" + item
+           + "\",\"values\":{" + values + "}}]}";
+  }
+}
@@ -0,0 +1,107 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class RealTimeFrameRingBufferTest {
+
+  @DisplayName("가득 찼을 때 다시 발행하면 버퍼 크기보다 많은 메시지도 발행 순서대로 처리 스레드에 전달한다.")
+  @ParameterizedTest
+  @EnumSource(RealTimeFrameRingBuffer.WaitStrategy.class)
+  void deliversEveryMessageInOrder(RealTimeFrameRingBuffer.WaitStrategy waitStrategy)
+      throws InterruptedException {
+    //given
+    int messageCount = 50_000;
+    List<String> received = new ArrayList<>(messageCount);
+    List<String> threadNames = new ArrayList<>();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RealTimeFrameRingBuffer ringBuffer = new RealTimeFrameRingBuffer("ws-test", 64, waitStrategy,
+        (message, receivedNanos) -> {
+          if (received.isEmpty()) {
+            threadNames.add(Thread.currentThread().getName());
+          }
+          received.add(message);
+        }, meterRegistry);
+
+    //when
+    Thread producer = new Thread(() -> {
+      for (int i = 0; i < messageCount; i++) {
+        while (!ringBuffer.publish(String.valueOf(i))) {
+          Thread.onSpinWait();
+        }
+      }
+    });
+    producer.start();
+    producer.join();
+
+    //then
+    await().atMost(Duration.ofSeconds(10)).until(() -> ringBuffer.depth() == 0);
+    ringBuffer.shutdown();
+    assertThat(received).hasSize(messageCount);
+    assertThat(received.get(0)).isEqualTo("0");
+    assertThat(received.get(messageCount - 1)).isEqualTo(String.valueOf(messageCount - 1));
+    assertThat(received).isSortedAccordingTo((a, b) ->
+        Integer.compare(Integer.parseInt(a), Integer.parseInt(b)));
+    assertThat(threadNames).containsExactly("kiwoom-ws-consumer-ws-test");
+    assertThat(meterRegistry.get("kiwoom.realtime.frame.latency").timer().count())
+        .isEqualTo(messageCount);
+  }
+
+  @DisplayName("처리가 밀려 버퍼가 가득 차면 생산자는 기다리지 않고 메시지를 버리며, 처리 스레드가 버린 개수를 공백으로 알린다.")
+  @Test
+  void dropsWithoutWaitingAndReportsGapWhenFull() throws InterruptedException {
+    //given
+    CountDownLatch handling = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    List<String> received = new CopyOnWriteArrayList<>();
+    List<Long> gaps = new CopyOnWriteArrayList<>();
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    RealTimeFrameRingBuffer ringBuffer = new RealTimeFrameRingBuffer("ws-full", 4,
+        RealTimeFrameRingBuffer.WaitStrategy.BLOCKING,
+        (message, receivedNanos) -> {
+          handling.countDown();
+          try {
+            release.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          received.add(message);
+        },
+        (dropped, firstDroppedAt, reportedAt) -> gaps.add(dropped),
+        meterRegistry);
+    // 첫 메시지를 처리 중인 채로 멈춤 (슬롯 4개 중 1개 점유)
+    ringBuffer.publish("0");
+    assertThat(handling.await(5, TimeUnit.SECONDS)).isTrue();
+
+    //when
+    List<Boolean> published = new ArrayList<>();
+    long start = System.nanoTime();
+    for (int i = 1; i <= 7; i++) {
+      published.add(ringBuffer.publish(String.valueOf(i)));
+    }
+    long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    release.countDown();
+
+    //then
+    assertThat(elapsedMillis).isLessThan(1_000);
+    assertThat(published).containsExactly(true, true, true, false, false, false, false);
+    await().atMost(Duration.ofSeconds(5)).until(() -> !gaps.isEmpty());
+    ringBuffer.shutdown();
+    assertThat(received).containsExactly("0", "1", "2", "3");
+    assertThat(gaps).containsExactly(4L);
+    assertThat(meterRegistry.get("kiwoom.realtime.ring.dropped").counter().count())
+        .isEqualTo(4.0);
+  }
+}
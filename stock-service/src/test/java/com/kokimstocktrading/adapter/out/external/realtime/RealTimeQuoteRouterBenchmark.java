@@ -0,0 +1,110 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 틱 1건 전달 비용 비교: 전역 multicast + filter(List.contains) vs 심볼 ID 라우팅 (2,000종목 / 5,000구독자)
+ *
+ * <p>구독자 구성: 4,000개는 단일 종목(가격 모니터링), 1,000개는 5종목 묶음(SSE 클라이언트)</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RealTimeQuoteRouterBenchmark {
+
+  private static final int SYMBOL_COUNT = 2_000;
+  private static final int SINGLE_SYMBOL_SUBSCRIBERS = 4_000;
+  private static final int MULTI_SYMBOL_SUBSCRIBERS = 1_000;
+  private static final int SYMBOLS_PER_MULTI_SUBSCRIBER = 5;
+
+  private final List<Disposable> subscriptions = new ArrayList<>();
+  private RealTimeQuote[] ticks;
+  private Sinks.Many<RealTimeQuote> globalSink;
+  private RealTimeQuoteRouter router;
+  private long delivered;
+  private int tickIndex;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    ticks = new RealTimeQuote[SYMBOL_COUNT];
+    for (int symbolId = 0; symbolId < SYMBOL_COUNT; symbolId++) {
+      ticks[symbolId] = RealTimeQuote.builder()
+          .symbolId(symbolId)
+          .item(String.format("%06d", symbolId))
+          .currentPrice(10_000L + symbolId)
+          .build();
+    }
+
+    globalSink = Sinks.many().multicast().onBackpressureBuffer();
+    Flux<RealTimeQuote> globalFlux = globalSink.asFlux();
+    router = new RealTimeQuoteRouter();
+
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    for (int i = 0; i < SINGLE_SYMBOL_SUBSCRIBERS + MULTI_SYMBOL_SUBSCRIBERS; i++) {
+      int symbolCount = i < SINGLE_SYMBOL_SUBSCRIBERS ? 1 : SYMBOLS_PER_MULTI_SUBSCRIBER;
+      int[] symbolIds = new int[symbolCount];
+      List<String> stockCodes = new ArrayList<>();
+      for (int j = 0; j < symbolCount; j++) {
+        symbolIds[j] = random.nextInt(SYMBOL_COUNT);
+        stockCodes.add(ticks[symbolIds[j]].item());
+      }
+
+      subscriptions.add(globalFlux.filter(quote -> stockCodes.contains(quote.item()))
+          .subscribe(quote -> delivered++));
+      subscriptions.add(router.subscribe(symbolIds).subscribe(quote -> delivered++));
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    subscriptions.forEach(Disposable::dispose);
+  }
+
+  @Benchmark
+  public long globalMulticastFilter() {
+    globalSink.tryEmitNext(nextTick());
+    return delivered;
+  }
+
+  @Benchmark
+  public long symbolRouter() {
+    router.route(nextTick());
+    return delivered;
+  }
+
+  private RealTimeQuote nextTick() {
+    tickIndex = tickIndex + 1 == SYMBOL_COUNT ? 0 : tickIndex + 1;
+    return ticks[tickIndex];
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(RealTimeQuoteRouterBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
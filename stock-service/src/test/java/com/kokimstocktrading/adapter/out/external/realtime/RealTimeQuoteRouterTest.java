@@ -0,0 +1,253 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.Exceptions;
+import reactor.core.publisher.BaseSubscriber;
+
+class RealTimeQuoteRouterTest {
+
+  private final RealTimeQuoteRouter router = new RealTimeQuoteRouter();
+
+  @DisplayName("시세는 해당 종목을 구독한 구독자에게만 전달된다.")
+  @Test
+  void routesOnlyToSymbolSubscribers() {
+    //given
+    List<String> samsung = new ArrayList<>();
+    List<String> both = new ArrayList<>();
+    router.subscribe(0).subscribe(quote -> samsung.add(quote.item()));
+    router.subscribe(0, 1, 1).subscribe(quote -> both.add(quote.item()));
+
+    //when
+    router.route(quote(0, "005930"));
+    router.route(quote(1, "000660"));
+    router.route(quote(2, "035420"));
+
+    //then
+    assertThat(samsung).containsExactly("005930");
+    assertThat(both).containsExactly("005930", "000660");
+  }
+
+  @DisplayName("종목 구독은 구독을 유지한 채 종목만 추가/제거하고, 취소하면 남은 종목을 모두 해지한다.")
+  @Test
+  void symbolSetSubscriptionChangesSymbolsWithoutResubscribing() {
+    //given
+    List<String> received = new ArrayList<>();
+    RealTimeQuoteRouter.SymbolSetSubscription subscription =
+        router.openSymbolSet(QuoteDeliveryMode.STRICT);
+    subscription.add(0);
+    Disposable disposable = subscription.flux().subscribe(quote -> received.add(quote.item()));
+
+    //when
+    router.route(quote(0, "005930"));
+    subscription.add(1);
+    subscription.add(1);
+    router.route(quote(1, "000660"));
+    subscription.remove(0);
+    router.route(quote(0, "005930"));
+    int hynixSubscribers = router.subscriberCount(1);
+    disposable.dispose();
+
+    //then
+    assertThat(received).containsExactly("005930", "000660");
+    assertThat(hynixSubscribers).isEqualTo(1);
+    assertThat(router.demandedSymbolIds()).isEmpty();
+  }
+
+  @DisplayName("구독을 취소하면 라우팅 테이블에서 제거된다.")
+  @Test
+  void removesSubscriberOnCancel() {
+    //given
+    Disposable first = router.subscribe(5000).subscribe();
+    router.subscribe(5000).subscribe();
+
+    //when
+    first.dispose();
+
+    //then
+    assertThat(router.subscriberCount(5000)).isEqualTo(1);
+  }
+
+  @DisplayName("종목의 첫 구독자와 마지막 구독자 변경만 수요 변경으로 알린다.")
+  @Test
+  void notifiesDemandOnlyOnFirstAndLastSubscriber() {
+    //given
+    List<String> events = new ArrayList<>();
+    RealTimeQuoteRouter countingRouter = new RealTimeQuoteRouter(
+        new RealTimeQuoteRouter.DemandListener() {
+          @Override
+          public void onDemandAdded(int symbolId) {
+            events.add("+" + symbolId);
+          }
+
+          @Override
+          public void onDemandRemoved(int symbolId) {
+            events.add("-" + symbolId);
+          }
+        });
+
+    //when
+    Disposable first = countingRouter.subscribe(7).subscribe();
+    Disposable second = countingRouter.subscribe(7, 8).subscribe();
+    first.dispose();
+    int[] demandedWhileSecondAlive = countingRouter.demandedSymbolIds();
+    second.dispose();
+
+    //then
+    assertThat(events).containsExactly("+7", "+8", "-7", "-8");
+    assertThat(demandedWhileSecondAlive).containsExactly(7, 8);
+    assertThat(countingRouter.demandedSymbolIds()).isEmpty();
+  }
+
+  @DisplayName("병합 구독자는 소비가 밀리는 동안 종목별 최신 시세만 받고, 밀린 구간의 고가/저가를 함께 받는다.")
+  @Test
+  void conflatesLatestQuotePerSymbolWhileSubscriberIsBehind() {
+    //given
+    List<RealTimeQuote> received = new ArrayList<>();
+    BaseSubscriber<RealTimeQuote> slowSubscriber = new BaseSubscriber<>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+        request(1);
+      }
+
+      @Override
+      protected void hookOnNext(RealTimeQuote quote) {
+        received.add(quote);
+      }
+    };
+    router.subscribe(QuoteDeliveryMode.CONFLATED, 0, 1).subscribe(slowSubscriber);
+
+    //when
+    router.route(quote(0, "005930", 70000L));
+    router.route(quote(0, "005930", 70500L));
+    router.route(quote(1, "000660", 180000L));
+    router.route(quote(0, "005930", 69800L));
+    router.route(quote(0, "005930", 70100L));
+    slowSubscriber.request(10);
+
+    //then
+    assertThat(received).extracting(RealTimeQuote::currentPrice)
+        .containsExactly(70000L, 70100L, 180000L);
+    RealTimeQuote conflated = received.get(1);
+    assertThat(conflated.highSinceLastRead()).isEqualTo(70500L);
+    assertThat(conflated.lowSinceLastRead()).isEqualTo(69800L);
+    assertThat(conflated.conflatedTicks()).isEqualTo(2);
+    assertThat(router.conflatedTickCount()).isEqualTo(2);
+  }
+
+  @DisplayName("일반 구독자는 소비가 밀려도 모든 시세를 받는다.")
+  @Test
+  void strictSubscriberReceivesEveryQuote() {
+    //given
+    List<Long> received = new ArrayList<>();
+    BaseSubscriber<RealTimeQuote> slowSubscriber = new BaseSubscriber<>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+        request(1);
+      }
+
+      @Override
+      protected void hookOnNext(RealTimeQuote quote) {
+        received.add(quote.currentPrice());
+      }
+    };
+    router.subscribe(QuoteDeliveryMode.STRICT, 0).subscribe(slowSubscriber);
+
+    //when
+    router.route(quote(0, "005930", 70000L));
+    router.route(quote(0, "005930", 70500L));
+    router.route(quote(0, "005930", 69800L));
+    slowSubscriber.request(10);
+
+    //then
+    assertThat(received).containsExactly(70000L, 70500L, 69800L);
+    assertThat(router.conflatedTickCount()).isZero();
+  }
+
+  @DisplayName("일반 구독자의 밀린 시세가 버퍼 한도를 넘으면 오버플로 오류로 구독이 끝나고 해지된다.")
+  @Test
+  void strictSubscriberOverflowingBufferIsTerminated() {
+    //given
+    RealTimeQuoteRouter boundedRouter = new RealTimeQuoteRouter(
+        new RealTimeQuoteRouter.DemandListener() {
+          @Override
+          public void onDemandAdded(int symbolId) {
+          }
+
+          @Override
+          public void onDemandRemoved(int symbolId) {
+          }
+        }, 2);
+    List<Long> received = new ArrayList<>();
+    List<Throwable> errors = new ArrayList<>();
+    BaseSubscriber<RealTimeQuote> stalledSubscriber = new BaseSubscriber<>() {
+      @Override
+      protected void hookOnSubscribe(Subscription subscription) {
+        request(1);
+      }
+
+      @Override
+      protected void hookOnNext(RealTimeQuote quote) {
+        received.add(quote.currentPrice());
+      }
+
+      @Override
+      protected void hookOnError(Throwable throwable) {
+        errors.add(throwable);
+      }
+    };
+    boundedRouter.subscribe(QuoteDeliveryMode.STRICT, 0).subscribe(stalledSubscriber);
+
+    //when
+    boundedRouter.route(quote(0, "005930", 70000L));
+    boundedRouter.route(quote(0, "005930", 70100L));
+    boundedRouter.route(quote(0, "005930", 70200L));
+    boundedRouter.route(quote(0, "005930", 70300L));
+
+    //then
+    assertThat(received).containsExactly(70000L);
+    assertThat(errors).singleElement()
+        .satisfies(error -> assertThat(Exceptions.isOverflow(error)).isTrue());
+    assertThat(boundedRouter.overflowedSubscriptionCount()).isEqualTo(1);
+    assertThat(boundedRouter.subscriberCount(0)).isZero();
+  }
+
+  @DisplayName("스냅샷을 지정하면 종목별 최신 시세 하나씩을 먼저 받고 실시간 시세가 이어진다.")
+  @Test
+  void seedsSubscriptionWithLatestQuotePerSymbol() {
+    //given
+    LatestQuoteStore latestQuotes = new LatestQuoteStore();
+    latestQuotes.update(quote(0, "005930", 70000L));
+    latestQuotes.update(quote(0, "005930", 70100L));
+    latestQuotes.update(quote(2, "035420", 180000L));
+    List<String> received = new ArrayList<>();
+
+    //when
+    router.subscribe(QuoteDeliveryMode.STRICT, latestQuotes::get, 0, 1)
+        .subscribe(quote -> received.add(quote.item() + ":" + quote.currentPrice()));
+    router.route(quote(1, "000660", 130000L));
+
+    //then - 수신한 적 없는 000660 은 스냅샷 없이 실시간 시세부터, 구독하지 않은 035420 은 제외
+    assertThat(received).containsExactly("005930:70100", "000660:130000");
+  }
+
+  private RealTimeQuote quote(int symbolId, String item) {
+    return quote(symbolId, item, 70000L);
+  }
+
+  private RealTimeQuote quote(int symbolId, String item, long currentPrice) {
+    return RealTimeQuote.builder()
+        .symbolId(symbolId)
+        .item(item)
+        .currentPrice(currentPrice)
+        .build();
+  }
+}
@@ -0,0 +1,104 @@
+package com.kokimstocktrading.adapter.out.external.realtime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.kokimstocktrading.adapter.out.external.config.kiwoom.auth.KiwoomAuthAdapter;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+class RealTimeSubscriptionCoalescerTest {
+
+  private final FakeKiwoomWebSocketServer server = new FakeKiwoomWebSocketServer();
+  private final StockSymbolRegistry registry = new StockSymbolRegistry();
+  private KiwoomRealTimeConnectionPool pool;
+  private RealTimeSubscriptionCoalescer coalescer;
+  private RealTimeQuoteRouter router;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    server.startAndWait();
+    KiwoomAuthAdapter kiwoomAuthAdapter = mock(KiwoomAuthAdapter.class);
+    when(kiwoomAuthAdapter.getValidToken()).thenReturn(Mono.just("token"));
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    pool = new KiwoomRealTimeConnectionPool(1, 2, 10,
+        index -> new KiwoomRealTimeSession("ws-" + (index + 1), URI.create(server.uri()),
+            kiwoomAuthAdapter, frame -> {
+        }, event -> {
+        }, meterRegistry));
+    coalescer = new RealTimeSubscriptionCoalescer(pool, registry, () -> router.demandedSymbolIds(),
+        Duration.ofSeconds(1), Duration.ofHours(1));
+    router = new RealTimeQuoteRouter(coalescer);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    coalescer.shutdown();
+    pool.shutdown();
+    server.stop(1000);
+  }
+
+  @DisplayName("짧은 구간 안의 구독은 한 번의 REG 로 모아서 보내고, 곧바로 해지된 종목은 등록하지 않는다.")
+  @Test
+  void coalescesRegistrationsAndCancelsShortLivedDemand() {
+    //given
+    router.subscribe(registry.idOf("005930")).subscribe();
+    router.subscribe(registry.idOf("000660"), registry.idOf("005930")).subscribe();
+    Disposable shortLived = router.subscribe(registry.idOf("035420")).subscribe();
+
+    //when
+    shortLived.dispose();
+
+    //then
+    await().atMost(Duration.ofSeconds(5)).until(() -> server.registerMessages().size() == 1);
+    assertThat(server.registerMessages().get(0))
+        .contains("005930", "000660")
+        .doesNotContain("035420");
+    assertThat(pool.stockCodes()).containsExactlyInAnyOrder("005930", "000660");
+  }
+
+  @DisplayName("마지막 구독자가 빠진 종목만 키움 구독에서 해지한다.")
+  @Test
+  void removesUpstreamOnlyWhenLastSubscriberLeaves() {
+    //given
+    Disposable monitor = router.subscribe(registry.idOf("005930")).subscribe();
+    Disposable sse = router.subscribe(registry.idOf("005930"), registry.idOf("000660")).subscribe();
+    coalescer.flush();
+
+    //when
+    sse.dispose();
+    coalescer.flush();
+
+    //then
+    assertThat(pool.stockCodes()).containsExactly("005930");
+    monitor.dispose();
+    coalescer.flush();
+    assertThat(pool.stockCodes()).isEmpty();
+  }
+
+  @DisplayName("수요 없이 남은 키움 구독은 정리 주기에 해지된다.")
+  @Test
+  void reconcilesOrphanedUpstreamSubscriptions() {
+    //given
+    router.subscribe(registry.idOf("005930")).subscribe();
+    pool.add(List.of("000660"));
+
+    //when
+    coalescer.maintain();
+
+    //then
+    assertThat(pool.stockCodes()).containsExactly("005930");
+  }
+}
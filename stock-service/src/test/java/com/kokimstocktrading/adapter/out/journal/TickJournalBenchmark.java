@@ -0,0 +1,84 @@
+package com.kokimstocktrading.adapter.out.journal;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 시세 처리 스레드의 저널 기록 비용 (기록 스레드가 동시에 세그먼트에 쓰는 상태)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickJournalBenchmark {
+
+  private static final int SYMBOL_COUNT = 2_000;
+
+  private Path root;
+  private TickJournalWriter writer;
+  private RealTimeQuote[] ticks;
+  private int tickIndex;
+
+  @Setup(Level.Trial)
+  public void setUp() throws IOException {
+    root = Files.createTempDirectory("tick-journal-bench");
+    StockSymbolRegistry registry = new StockSymbolRegistry();
+    ticks = new RealTimeQuote[SYMBOL_COUNT];
+    for (int i = 0; i < SYMBOL_COUNT; i++) {
+      ticks[i] = RealTimeQuote.builder()
+          .symbolId(registry.idOf(String.format("%06d", i)))
+          .currentPrice(10_000L + i)
+          .tradingVolume(i)
+          .tradeTimeEpochMillis(System.currentTimeMillis())
+          .build();
+    }
+    writer = new TickJournalWriter(root, registry, 65_536, 256L * 1024 * 1024, 100,
+        new SimpleMeterRegistry());
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    writer.close();
+    System.out.printf("%n기록 %d건, 누락 %d건%n", writer.writtenCount(), writer.droppedCount());
+    try (Stream<Path> files = Files.walk(root)) {
+      files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+    }
+  }
+
+  @Benchmark
+  public boolean append() {
+    RealTimeQuote tick = ticks[tickIndex];
+    tickIndex = (tickIndex + 1) % SYMBOL_COUNT;
+    return writer.append(tick);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(TickJournalBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
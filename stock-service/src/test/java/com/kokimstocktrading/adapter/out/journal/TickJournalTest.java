@@ -0,0 +1,122 @@
+package com.kokimstocktrading.adapter.out.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TickJournalTest {
+
+  @TempDir
+  Path root;
+
+  private final StockSymbolRegistry registry = new StockSymbolRegistry();
+
+  @DisplayName("기록한 체결을 세그먼트가 넘어가도 기록 순서대로 다시 읽는다.")
+  @Test
+  void readsBackTicksAcrossSegments() throws IOException {
+    //given
+    // 세그먼트당 레코드 100건
+    TickJournalWriter writer = new TickJournalWriter(root, registry, 1024,
+        TickJournalFormat.HEADER_SIZE + 100L * TickJournalFormat.RECORD_SIZE, 10,
+        new SimpleMeterRegistry());
+    int samsung = registry.idOf("005930");
+    int hynix = registry.idOf("000660");
+
+    //when
+    int appended = 0;
+    for (int i = 0; i < 250; i++) {
+      RealTimeQuote quote = RealTimeQuote.builder()
+          .symbolId(i % 2 == 0 ? samsung : hynix)
+          .currentPrice(70000L + i)
+          .tradingVolume(i % 3 == 0 ? -i : i)
+          .tradeTimeEpochMillis(1_700_000_000_000L + i)
+          .build();
+      while (!writer.append(quote)) {
+        Thread.onSpinWait();
+      }
+      appended++;
+    }
+    writer.close();
+
+    //then
+    LocalDate today = LocalDate.now(ZoneId.of("Asia/Seoul"));
+    assertThat(TickJournalReader.availableDays(root)).containsExactly(today);
+    TickJournalReader reader = TickJournalReader.open(root, today);
+    assertThat(reader.tickCount()).isEqualTo(appended);
+
+    List<JournaledTick> ticks = new ArrayList<>();
+    reader.forEach(ticks::add);
+    assertThat(ticks).hasSize(250);
+    assertThat(ticks.get(0).stockCode()).isEqualTo("005930");
+    assertThat(ticks.get(0).price()).isEqualTo(70000L);
+    assertThat(ticks.get(249).stockCode()).isEqualTo("000660");
+    assertThat(ticks.get(249).price()).isEqualTo(70249L);
+    assertThat(ticks.get(3).volume()).isEqualTo(-3L);
+    assertThat(ticks.get(3).tradeTimeEpochMillis()).isEqualTo(1_700_000_000_003L);
+    assertThat(ticks).extracting(JournaledTick::receiveEpochNanos).isSorted();
+    try (Stream<Path> files = Files.list(TickJournalFormat.dayDirectory(root, today))) {
+      assertThat(files.filter(path -> path.toString().endsWith(".dat"))).hasSize(3);
+    }
+  }
+
+  @DisplayName("수신 시각은 기록 시점이 아니라 체결의 소켓 수신 시각으로 남긴다.")
+  @Test
+  void recordsSocketReceiveTimeOfQuote() throws IOException {
+    //given
+    TickJournalWriter writer = new TickJournalWriter(root, registry, 1024, 1024 * 1024, 10,
+        new SimpleMeterRegistry());
+    long receivedNanos = System.nanoTime() - 5_000_000_000L;
+
+    //when
+    for (long offset : new long[]{0, 1_000_000}) {
+      writer.append(RealTimeQuote.builder().symbolId(registry.idOf("005930")).currentPrice(1L)
+          .receivedNanos(receivedNanos + offset)
+          .build());
+    }
+    writer.close();
+
+    //then
+    List<JournaledTick> ticks = new ArrayList<>();
+    TickJournalReader.open(root, LocalDate.now(ZoneId.of("Asia/Seoul"))).forEach(ticks::add);
+    assertThat(ticks).hasSize(2);
+    assertThat(ticks.get(1).receiveEpochNanos() - ticks.get(0).receiveEpochNanos())
+        .isEqualTo(1_000_000L);
+    // 5초 전에 수신한 체결
+    assertThat(ticks.get(0).receiveEpochNanos() / 1_000_000)
+        .isLessThan(System.currentTimeMillis() - 4_000);
+  }
+
+  @DisplayName("commit 되지 않은 레코드는 읽지 않는다.")
+  @Test
+  void readsOnlyCommittedRecords() throws IOException {
+    //given
+    TickJournalWriter writer = new TickJournalWriter(root, registry, 1024, 1024 * 1024,
+        60_000, new SimpleMeterRegistry());
+    writer.append(RealTimeQuote.builder().symbolId(registry.idOf("005930")).currentPrice(1L)
+        .build());
+
+    //when
+    long beforeClose = TickJournalReader.open(root, LocalDate.now(ZoneId.of("Asia/Seoul")))
+        .tickCount();
+    writer.close();
+    long afterClose = TickJournalReader.open(root, LocalDate.now(ZoneId.of("Asia/Seoul")))
+        .tickCount();
+
+    //then
+    assertThat(beforeClose).isZero();
+    assertThat(afterClose).isEqualTo(1);
+  }
+}
@@ -0,0 +1,82 @@
+package com.kokimstocktrading.adapter.out.replay;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.adapter.out.journal.JournaledTick;
+import com.kokimstocktrading.adapter.out.replay.ReplayRealTimeQuoteAdapter.TickSource;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReplayRealTimeQuoteAdapterTest {
+
+  private static final Instant START = Instant.parse("2024-06-03T00:00:00Z");
+
+  @DisplayName("기록된 체결을 순서대로 재생하며 당일 시가/고가/저가와 가상 시계를 갱신한다.")
+  @Test
+  void replayBuildsDayStateAndAdvancesClock() {
+    //given
+    VirtualClock clock = new VirtualClock(START, ZoneId.of("Asia/Seoul"));
+    ReplayRealTimeQuoteAdapter adapter = new ReplayRealTimeQuoteAdapter(
+        ticks("005930", 70_000, 70_500, 69_800, 70_200), ReplaySpeed.MAX, clock,
+        new StockSymbolRegistry());
+    List<RealTimeQuote> received = new ArrayList<>();
+    List<Instant> clockAtQuote = new ArrayList<>();
+    adapter.subscribeStockQuote(List.of("005930")).subscribe(quote -> {
+      received.add(quote);
+      clockAtQuote.add(clock.instant());
+    });
+
+    //when
+    ReplayReport report = adapter.replay();
+
+    //then
+    assertThat(report.ticks()).isEqualTo(4);
+    assertThat(received).extracting(RealTimeQuote::currentPrice)
+        .containsExactly(70_000L, 70_500L, 69_800L, 70_200L);
+    RealTimeQuote last = received.get(3);
+    assertThat(last.openPrice()).isEqualTo(70_000);
+    assertThat(last.highPrice()).isEqualTo(70_500);
+    assertThat(last.lowPrice()).isEqualTo(69_800);
+    assertThat(last.accumulatedVolume()).isEqualTo(40);
+    assertThat(clockAtQuote.get(3)).isEqualTo(START.plusMillis(300));
+  }
+
+  @DisplayName("배속을 지정하면 기록된 체결 간격을 배속만큼 줄여 재생한다.")
+  @Test
+  void pacedReplayFollowsRecordedIntervals() {
+    //given - 100ms 간격 11건 = 1초 구간을 5배속으로 재생
+    long[] prices = new long[11];
+    Arrays.fill(prices, 70_000);
+    ReplayRealTimeQuoteAdapter adapter = new ReplayRealTimeQuoteAdapter(
+        ticks("005930", prices), ReplaySpeed.times(5),
+        new VirtualClock(START, ZoneId.of("Asia/Seoul")), new StockSymbolRegistry());
+
+    //when
+    ReplayReport report = adapter.replay();
+
+    //then
+    assertThat(report.virtualSpan()).isEqualTo(Duration.ofSeconds(1));
+    assertThat(report.elapsed()).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+    assertThat(report.elapsed()).isLessThan(Duration.ofSeconds(1));
+  }
+
+  private static TickSource ticks(String stockCode, long... prices) {
+    long startNanos = TimeUnit.SECONDS.toNanos(START.getEpochSecond());
+    return consumer -> {
+      for (int i = 0; i < prices.length; i++) {
+        long receiveNanos = startNanos + TimeUnit.MILLISECONDS.toNanos(100L * i);
+        consumer.accept(new JournaledTick(0, stockCode, prices[i], 10,
+            TimeUnit.NANOSECONDS.toMillis(receiveNanos), receiveNanos));
+      }
+    };
+  }
+}
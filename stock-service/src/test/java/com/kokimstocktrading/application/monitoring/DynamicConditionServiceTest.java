@@ -4,24 +4,32 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import com.kokimstocktrading.application.candle.port.out.LoadStockCandlePort;
+import com.kokimstocktrading.application.candle.port.out.LoadClosePriceSeriesPort;
 import com.kokimstocktrading.application.monitoring.calculator.MovingAverageTouchPriceCalculator;
 import com.kokimstocktrading.application.monitoring.calculator.TrendLineTouchPriceCalculator;
 import com.kokimstocktrading.application.monitoring.dynamiccondition.DynamicConditionService;
 import com.kokimstocktrading.application.monitoring.dynamiccondition.MovingAverageDynamicCondition;
 import com.kokimstocktrading.application.monitoring.dynamiccondition.TrendLineDynamicCondition;
 import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.ClosePriceSeries;
 import com.kokimstocktrading.domain.candle.StockCandle;
+import com.kokimstocktrading.domain.market.TradingCalendar;
 import com.kokimstocktrading.domain.monitoring.ConditionStatus;
 import com.kokimstocktrading.domain.monitoring.MovingAverageCondition;
+import com.kokimstocktrading.domain.monitoring.PriceCondition;
 import com.kokimstocktrading.domain.monitoring.TouchDirection;
 import com.kokimstocktrading.domain.monitoring.TrendLineCondition;
 import java.math.BigDecimal;
 import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -38,13 +46,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
 class DynamicConditionServiceTest {
 
   @Mock
-  private LoadStockCandlePort loadStockCandlePort;
+  private LoadClosePriceSeriesPort loadClosePriceSeriesPort;
 
   @Mock
   private MonitorPriceService monitorPriceService;
@@ -60,8 +69,10 @@ class DynamicConditionServiceTest {
 
   @BeforeEach
   void setUp() {
-    trendLineTouchPriceCalculator = new TrendLineTouchPriceCalculator(loadStockCandlePort);
-    movingAverageTouchPriceCalculator = new MovingAverageTouchPriceCalculator(loadStockCandlePort);
+    trendLineTouchPriceCalculator = new TrendLineTouchPriceCalculator(
+        TradingCalendar::weekdaysOnly);
+    movingAverageTouchPriceCalculator = new MovingAverageTouchPriceCalculator(
+        loadClosePriceSeriesPort);
     movingAverageDynamicCondition = new MovingAverageDynamicCondition(
         movingAverageTouchPriceCalculator, monitorPriceService, eventPublisher);
     trendLineDynamicCondition = new TrendLineDynamicCondition(trendLineTouchPriceCalculator,
@@ -96,9 +107,9 @@ class DynamicConditionServiceTest {
 
     // Mock 캔들 데이터 생성 (20개, 평균 75000원)
     List<StockCandle> mockCandles = createMockCandles(period, BigDecimal.valueOf(75000));
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq((long) period)))
-        .thenReturn(Mono.just(mockCandles));
+    when(loadClosePriceSeriesPort.loadClosePriceSeries(eq(stockCode), eq(interval),
+        eq(period - 1)))
+        .thenReturn(Mono.just(closePriceSeries(mockCandles)));
 
     // Mock PriceCondition 등록
     when(monitorPriceService.registerPriceCondition(any()))
@@ -138,9 +149,9 @@ class DynamicConditionServiceTest {
         createMockCandle(BigDecimal.valueOf(73000))  // 가장 오래된
     );
 
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq((long) period)))
-        .thenReturn(Mono.just(mockCandles));
+    when(loadClosePriceSeriesPort.loadClosePriceSeries(eq(stockCode), eq(interval),
+        eq(period - 1)))
+        .thenReturn(Mono.just(closePriceSeries(mockCandles)));
 
     //when
     Long movingAverage = movingAverageTouchPriceCalculator
@@ -151,71 +162,49 @@ class DynamicConditionServiceTest {
     assertThat(movingAverage).isEqualTo(80000L);
   }
 
-  @DisplayName("1분 간격 이평선 조건은 매분 00초마다 업데이트된다.")
+  @DisplayName("이평선 조건은 봉이 마감될 때마다 새 터치 가격으로 업데이트된다.")
   @Test
-  public void movingAverageConditionUpdatedAtEveryMinute() {
+  public void movingAverageConditionUpdatedOnBarClose() {
     //given
     String stockCode = "005930";
     int period = 20;
     CandleInterval interval = CandleInterval.MINUTE;
-    AtomicInteger updateCount = new AtomicInteger(0);
-
-    // 첫 번째 호출: 75000원 이평선
-    List<StockCandle> initialCandles = createMockCandles(period, BigDecimal.valueOf(75000));
-    // 두 번째 호출: 76000원 이평선 (업데이트됨)
-    List<StockCandle> updatedCandles = createMockCandles(period, BigDecimal.valueOf(76000));
-
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq((long) period)))
-        .thenReturn(Mono.just(initialCandles))
-        .thenReturn(Mono.just(updatedCandles))
-        .thenReturn(Mono.just(updatedCandles)); // 추가 호출을 위해
-
-    // Mock PriceCondition 등록/삭제
+    List<Long> targetPrices = new ArrayList<>();
+
+    // 마감 봉 19개 75000원 + 진행 중인 봉
+    ClosePriceSeries series = closePriceSeries(
+        createMockCandles(period, BigDecimal.valueOf(75000)));
+    when(loadClosePriceSeriesPort.loadClosePriceSeries(eq(stockCode), eq(interval),
+        eq(period - 1)))
+        .thenReturn(Mono.just(series));
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> {
-          updateCount.incrementAndGet();
-          log.info("이평선 조건 등록/업데이트 - 횟수: {}, 시간: {}",
-              updateCount.get(), LocalDateTime.now());
-          return invocation.getArgument(0);
+          PriceCondition priceCondition = invocation.getArgument(0);
+          targetPrices.add(priceCondition.getTargetPrice());
+          return priceCondition;
         });
     when(monitorPriceService.removePriceCondition(any())).thenReturn(true);
+    dynamicConditionService.setUpdateScheduler(Schedulers.immediate());
 
-    // 테스트용: 즉시 실행 후 1초마다 업데이트
-    dynamicConditionService.setUpdateIntervalProvider(
-        candleInterval -> Duration.ofSeconds(1)
-    );
-    dynamicConditionService.setInitialDelayProvider(
-        duration -> 100L  // 100ms 후 첫 실행
-    );
-
-    //when
     MovingAverageCondition condition = new MovingAverageCondition(
         UUID.randomUUID(), stockCode, period, interval, TouchDirection.FROM_BELOW,
         () -> {
         }, "설명");
-    MovingAverageCondition registeredCondition = dynamicConditionService
-        .registerMovingAverageCondition(condition)
-        .block();
+    dynamicConditionService.registerMovingAverageCondition(condition).block();
 
-    //then
-    assertThat(registeredCondition).isNotNull();
-
-    // 초기 등록으로 1번 호출
-    assertThat(updateCount.get()).isEqualTo(1);
+    //when
+    series.updateForming(76000L);   // 진행 중인 봉 갱신만으로는 바뀌지 않음
+    series.append(76000L);          // (18 * 75000 + 76000) / 19 = 75052.6
+    series.append(77900L);          // (17 * 75000 + 76000 + 77900) / 19 = 75205.3
 
-    // 1초 간격으로 업데이트 확인
-    Awaitility.await()
-        .atMost(Duration.ofSeconds(3))
-        .pollInterval(Duration.ofMillis(100))
-        .until(() -> {
-          int count = updateCount.get();
-          log.info("현재 업데이트 횟수: {}", count);
-          return count >= 3;
-        });
+    //then
+    assertThat(targetPrices).containsExactly(75000L, 75053L, 75205L);
+    verify(loadClosePriceSeriesPort, times(2)).loadClosePriceSeries(eq(stockCode), eq(interval),
+        eq(period - 1));
 
-    assertThat(updateCount.get()).isGreaterThanOrEqualTo(3);
-    log.info("이평선 조건 최종 업데이트 횟수: {}", updateCount.get());
+    dynamicConditionService.removeMovingAverageCondition(condition.getId());
+    series.append(80000L);
+    assertThat(targetPrices).hasSize(3);
   }
 
   @DisplayName("이평선 조건을 삭제할 수 있다.")
@@ -227,9 +216,9 @@ class DynamicConditionServiceTest {
     CandleInterval interval = CandleInterval.DAY;
 
     List<StockCandle> mockCandles = createMockCandles(period, BigDecimal.valueOf(75000));
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq((long) period)))
-        .thenReturn(Mono.just(mockCandles));
+    when(loadClosePriceSeriesPort.loadClosePriceSeries(eq(stockCode), eq(interval),
+        eq(period - 1)))
+        .thenReturn(Mono.just(closePriceSeries(mockCandles)));
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> invocation.getArgument(0));
     when(monitorPriceService.removePriceCondition(any())).thenReturn(true);
@@ -263,12 +252,12 @@ class DynamicConditionServiceTest {
     // 50일 이평선용 데이터 (50개)
     List<StockCandle> mockCandles50 = createMockCandles(50, BigDecimal.valueOf(85000));
 
-    when(loadStockCandlePort.loadStockCandleListBy(eq("005930"), any(CandleInterval.class),
-        any(LocalDateTime.class), eq(20L)))
-        .thenReturn(Mono.just(mockCandles20));
-    when(loadStockCandlePort.loadStockCandleListBy(eq("000660"), any(CandleInterval.class),
-        any(LocalDateTime.class), eq(50L)))
-        .thenReturn(Mono.just(mockCandles50));
+    when(loadClosePriceSeriesPort.loadClosePriceSeries(eq("005930"), any(CandleInterval.class),
+        eq(19)))
+        .thenReturn(Mono.just(closePriceSeries(mockCandles20)));
+    when(loadClosePriceSeriesPort.loadClosePriceSeries(eq("000660"), any(CandleInterval.class),
+        eq(49)))
+        .thenReturn(Mono.just(closePriceSeries(mockCandles50)));
 
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -307,19 +296,6 @@ class DynamicConditionServiceTest {
     CandleInterval interval = CandleInterval.DAY;
     AtomicBoolean triggered = new AtomicBoolean(false);
 
-    // Mock 캔들 데이터 생성 (5개 봉, 시작가 50000원)
-    List<StockCandle> mockCandles = List.of(
-        createMockCandle(BigDecimal.valueOf(50000)), // 시작점 (첫 번째 캔들)
-        createMockCandle(BigDecimal.valueOf(50500)),
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(51500)),
-        createMockCandle(BigDecimal.valueOf(52000))  // 마지막
-    );
-
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq(baseDate)))
-        .thenReturn(Mono.just(mockCandles));
-
     // Mock PriceCondition 등록
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> invocation.getArgument(0));
@@ -346,30 +322,19 @@ class DynamicConditionServiceTest {
   @Test
   public void trendLineTouchPriceCalculationIsAccurate() {
     //given
-    String stockCode = "005930";
-    LocalDateTime baseDate = LocalDateTime.of(2024, 1, 1, 0, 0);
+    LocalDateTime baseDate = LocalDateTime.of(2024, 2, 7, 0, 0);
     Long basePrice = 50000L;
     BigDecimal slope = BigDecimal.valueOf(100); // 봉당 100원씩 상승
     CandleInterval interval = CandleInterval.DAY;
 
-    // 5개 캔들 = 4개 간격, 시작기준가격 50000원
-    // 현재 추세선의 가격 = 50000 + (4 * 100) = 50400원
-    List<StockCandle> mockCandles = List.of(
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(50500)),
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(51500)),
-        createMockCandle(BigDecimal.valueOf(52000))
-    );
-
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq(baseDate)))
-        .thenReturn(Mono.just(mockCandles));
+    // 설 연휴(2/9, 2/12) 휴장 - 2/7, 2/8, 2/13, 2/14, 2/15 = 5개 봉, 4개 간격
+    TradingCalendar calendar = new TradingCalendar(
+        List.of(LocalDate.of(2024, 2, 9), LocalDate.of(2024, 2, 12)), Map.of());
+    TrendLineTouchPriceCalculator calculator = new TrendLineTouchPriceCalculator(() -> calendar);
 
     //when
-    Long trendLinePrice = trendLineTouchPriceCalculator
-        .calculateTargetPrice(stockCode, baseDate, basePrice, slope, interval)
-        .block();
+    long trendLinePrice = calculator.calculateTargetPriceAt(
+        LocalDateTime.of(2024, 2, 15, 10, 0), baseDate, basePrice, slope, interval);
 
     //then
     // 50000 + (4 * 100) = 50400
@@ -386,31 +351,6 @@ class DynamicConditionServiceTest {
     CandleInterval interval = CandleInterval.MINUTE;
     AtomicInteger updateCount = new AtomicInteger(0);
 
-    // 첫 번째 호출: 50400원 추세선
-    List<StockCandle> initialCandles = List.of(
-        createMockCandle(BigDecimal.valueOf(50000)), // 시작점
-        createMockCandle(BigDecimal.valueOf(50500)),
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(51500)),
-        createMockCandle(BigDecimal.valueOf(52000))
-    );
-
-    // 두 번째 호출: 50500원 추세선 (추가 캔들로 인해 변경)
-    List<StockCandle> updatedCandles = List.of(
-        createMockCandle(BigDecimal.valueOf(50000)), // 시작점
-        createMockCandle(BigDecimal.valueOf(50500)),
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(51500)),
-        createMockCandle(BigDecimal.valueOf(52000)),
-        createMockCandle(BigDecimal.valueOf(52500))
-    );
-
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq(baseDate)))
-        .thenReturn(Mono.just(initialCandles))
-        .thenReturn(Mono.just(updatedCandles))
-        .thenReturn(Mono.just(updatedCandles)); // 추가 호출을 위해
-
     // Mock PriceCondition 등록/삭제
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> {
@@ -467,17 +407,6 @@ class DynamicConditionServiceTest {
     BigDecimal slope = BigDecimal.valueOf(100);
     CandleInterval interval = CandleInterval.DAY;
 
-    List<StockCandle> mockCandles = List.of(
-        createMockCandle(BigDecimal.valueOf(50000)), // 시작점
-        createMockCandle(BigDecimal.valueOf(50500)),
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(51500)),
-        createMockCandle(BigDecimal.valueOf(52000))
-    );
-
-    when(loadStockCandlePort.loadStockCandleListBy(eq(stockCode), eq(interval),
-        any(LocalDateTime.class), eq(baseDate)))
-        .thenReturn(Mono.just(mockCandles));
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> invocation.getArgument(0));
     when(monitorPriceService.removePriceCondition(any())).thenReturn(true);
@@ -504,17 +433,6 @@ class DynamicConditionServiceTest {
   @Test
   public void canRemoveAllTrendLineConditions() {
     //given
-    List<StockCandle> mockCandles = List.of(
-        createMockCandle(BigDecimal.valueOf(50000)), // 시작점
-        createMockCandle(BigDecimal.valueOf(50500)),
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(51500)),
-        createMockCandle(BigDecimal.valueOf(52000))
-    );
-
-    when(loadStockCandlePort.loadStockCandleListBy(anyString(), any(CandleInterval.class),
-        any(LocalDateTime.class), any(LocalDateTime.class)))
-        .thenReturn(Mono.just(mockCandles));
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> invocation.getArgument(0));
     when(monitorPriceService.removePriceCondition(any())).thenReturn(true);
@@ -545,20 +463,10 @@ class DynamicConditionServiceTest {
   public void canRemoveAllConditions() {
     //given
     List<StockCandle> mockCandles20 = createMockCandles(20, BigDecimal.valueOf(75000));
-    List<StockCandle> mockCandles5 = List.of(
-        createMockCandle(BigDecimal.valueOf(50000)), // 시작점
-        createMockCandle(BigDecimal.valueOf(50500)),
-        createMockCandle(BigDecimal.valueOf(51000)),
-        createMockCandle(BigDecimal.valueOf(51500)),
-        createMockCandle(BigDecimal.valueOf(52000))
-    );
 
-    when(loadStockCandlePort.loadStockCandleListBy(eq("005930"), any(CandleInterval.class),
-        any(LocalDateTime.class), eq(20L)))
-        .thenReturn(Mono.just(mockCandles20));
-    when(loadStockCandlePort.loadStockCandleListBy(eq("000660"), any(CandleInterval.class),
-        any(LocalDateTime.class), any(LocalDateTime.class)))
-        .thenReturn(Mono.just(mockCandles5));
+    when(loadClosePriceSeriesPort.loadClosePriceSeries(eq("005930"), any(CandleInterval.class),
+        eq(19)))
+        .thenReturn(Mono.just(closePriceSeries(mockCandles20)));
     when(monitorPriceService.registerPriceCondition(any()))
         .thenAnswer(invocation -> invocation.getArgument(0));
     when(monitorPriceService.removePriceCondition(any())).thenReturn(true);
@@ -595,6 +503,19 @@ class DynamicConditionServiceTest {
         .collect(Collectors.toList());
   }
 
+  /**
+   * 최신 봉부터 정렬된 캔들 목록 - 최신 봉은 진행 중인 봉, 나머지는 마감 봉
+   */
+  private ClosePriceSeries closePriceSeries(List<StockCandle> newestFirst) {
+    long[] closes = new long[newestFirst.size() - 1];
+    for (int i = 0; i < closes.length; i++) {
+      closes[i] = newestFirst.get(newestFirst.size() - 1 - i).getClosePrice();
+    }
+    ClosePriceSeries series = new ClosePriceSeries("005930", CandleInterval.MINUTE);
+    series.reset(closes, newestFirst.get(0).getClosePrice(), closes.length);
+    return series;
+  }
+
   private StockCandle createMockCandle(BigDecimal closePrice) {
     return StockCandle.builder()
         .openTime(LocalDateTime.now().minusMinutes(1))
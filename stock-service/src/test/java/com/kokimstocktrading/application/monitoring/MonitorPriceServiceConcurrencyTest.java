@@ -0,0 +1,160 @@
+package com.kokimstocktrading.application.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import com.kokimstocktrading.adapter.out.external.realtime.RealTimeQuoteRouter;
+import com.kokimstocktrading.adapter.out.external.realtime.RouterQuoteStream;
+import com.kokimstocktrading.application.monitoring.trigger.TriggerDispatcher;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder;
+import com.kokimstocktrading.application.realtime.out.LoadLatestQuotePort;
+import com.kokimstocktrading.application.realtime.out.SubscribeOrderBookPort;
+import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
+import com.kokimstocktrading.domain.monitoring.PriceCondition;
+import com.kokimstocktrading.domain.monitoring.TouchDirection;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MonitorPriceServiceConcurrencyTest {
+
+  private static final List<String> STOCK_CODES = List.of("005930", "000660", "035420", "035720");
+  private static final long TICK_PRICE = 70_000L;
+  private static final int WORKERS = 4;
+  private static final int ITERATIONS = 2_000;
+  private static final int TRIGGER_EVERY = 20;
+
+  @Mock
+  private SubscribeRealTimeQuotePort subscribeRealTimeQuotePort;
+
+  @Mock
+  private SubscribeOrderBookPort subscribeOrderBookPort;
+
+  @Mock
+  private LoadLatestQuotePort loadLatestQuotePort;
+
+  private final StockSymbolRegistry stockSymbolRegistry = new StockSymbolRegistry();
+  private final RealTimeQuoteRouter quoteRouter = new RealTimeQuoteRouter();
+  private final AtomicBoolean ticking = new AtomicBoolean(true);
+  private final TriggerDispatcher triggerDispatcher = new TriggerDispatcher(
+      new SimpleMeterRegistry(), 4, 1024, TriggerDispatcher.RejectionPolicy.OVERFLOW, 1000);
+  private ExecutorService executor;
+  private MonitorPriceService monitorPriceService;
+
+  @BeforeEach
+  void setUp() {
+    when(subscribeRealTimeQuotePort.openQuoteStream(any(QuoteDeliveryMode.class)))
+        .thenAnswer(invocation -> new RouterQuoteStream(quoteRouter, stockSymbolRegistry,
+            invocation.getArgument(0)));
+    monitorPriceService = new MonitorPriceService(subscribeRealTimeQuotePort,
+        subscribeOrderBookPort, loadLatestQuotePort,
+        new QuoteLatencyRecorder(new SimpleMeterRegistry(), Set.of()), triggerDispatcher);
+    executor = Executors.newFixedThreadPool(WORKERS + 1);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    ticking.set(false);
+    executor.shutdownNow();
+    executor.awaitTermination(5, TimeUnit.SECONDS);
+    monitorPriceService.stopAllMonitoring();
+    triggerDispatcher.destroy();
+  }
+
+  @DisplayName("등록/삭제/틱 평가가 동시에 일어나도 조건이 유실되지 않고 달성 콜백은 조건마다 한 번만 실행된다.")
+  @Test
+  void registerRemoveAndTickConcurrently() throws Exception {
+    //given
+    Map<UUID, AtomicInteger> triggerCallbacks = new ConcurrentHashMap<>();
+    AtomicInteger lostRemovals = new AtomicInteger();
+    CountDownLatch start = new CountDownLatch(1);
+    executor.submit(() -> {
+      emitTicks(start);
+      return null;
+    });
+
+    //when
+    List<Future<?>> workers = new ArrayList<>();
+    for (int worker = 0; worker < WORKERS; worker++) {
+      String stockCode = STOCK_CODES.get(worker % STOCK_CODES.size());
+      workers.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < ITERATIONS; i++) {
+          // 도달하지 않는 목표가 - 삭제는 항상 성공해야 함
+          PriceCondition churn = monitorPriceService.registerPriceCondition(
+              condition(stockCode, 100_000L, () -> {
+              }));
+          if (!monitorPriceService.removePriceCondition(churn.getId())) {
+            lostRemovals.incrementAndGet();
+          }
+
+          if (i % TRIGGER_EVERY == 0) {
+            AtomicInteger callbackCount = new AtomicInteger();
+            PriceCondition trigger = monitorPriceService.registerPriceCondition(
+                condition(stockCode, TICK_PRICE - 1_000L, callbackCount::incrementAndGet));
+            triggerCallbacks.put(trigger.getId(), callbackCount);
+          }
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> worker : workers) {
+      worker.get(30, TimeUnit.SECONDS);
+    }
+
+    //then
+    Awaitility.await().atMost(Duration.ofSeconds(10)).until(() ->
+        triggerCallbacks.values().stream().allMatch(count -> count.get() >= 1)
+            && monitorPriceService.getTotalConditionCount() == 0);
+    assertThat(lostRemovals).hasValue(0);
+    assertThat(triggerCallbacks).hasSize(WORKERS * (ITERATIONS / TRIGGER_EVERY));
+    assertThat(triggerCallbacks.values()).allMatch(count -> count.get() == 1);
+    assertThat(monitorPriceService.getMonitoringStocks()).isEmpty();
+  }
+
+  private void emitTicks(CountDownLatch start) throws InterruptedException {
+    start.await();
+    while (ticking.get()) {
+      for (String stockCode : STOCK_CODES) {
+        quoteRouter.route(RealTimeQuote.builder()
+            .symbolId(stockSymbolRegistry.idOf(stockCode))
+            .item(stockCode)
+            .currentPrice(TICK_PRICE)
+            .tradeTimeEpochMillis(System.currentTimeMillis())
+            .build());
+      }
+      Thread.onSpinWait();
+    }
+  }
+
+  private static PriceCondition condition(String stockCode, long targetPrice, Runnable callback) {
+    return new PriceCondition(UUID.randomUUID(), stockCode, targetPrice,
+        TouchDirection.FROM_BELOW, callback, "동시성 검증");
+  }
+}
@@ -0,0 +1,227 @@
+package com.kokimstocktrading.application.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.kokimstocktrading.application.monitoring.trigger.TriggerDispatcher;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder;
+import com.kokimstocktrading.application.realtime.out.LoadLatestQuotePort;
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
+import com.kokimstocktrading.application.realtime.out.SubscribeOrderBookPort;
+import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
+import com.kokimstocktrading.domain.monitoring.PriceBasis;
+import com.kokimstocktrading.domain.monitoring.PriceCondition;
+import com.kokimstocktrading.domain.monitoring.TouchDirection;
+import com.kokimstocktrading.domain.realtime.OrderBook;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@ExtendWith(MockitoExtension.class)
+class MonitorPriceServiceTest {
+
+  private static final String STOCK_CODE = "005930";
+
+  @Mock
+  private SubscribeRealTimeQuotePort subscribeRealTimeQuotePort;
+
+  @Mock
+  private SubscribeOrderBookPort subscribeOrderBookPort;
+
+  @Mock
+  private LoadLatestQuotePort loadLatestQuotePort;
+
+  @Mock
+  private RealTimeQuoteStream quoteStream;
+
+  private final TriggerDispatcher triggerDispatcher = new TriggerDispatcher(
+      new SimpleMeterRegistry(), 4, 1024, TriggerDispatcher.RejectionPolicy.OVERFLOW, 1000);
+
+  private MonitorPriceService monitorPriceService;
+
+  @BeforeEach
+  void setUp() {
+    when(subscribeRealTimeQuotePort.openQuoteStream(any(QuoteDeliveryMode.class)))
+        .thenReturn(quoteStream);
+    when(quoteStream.quotes()).thenReturn(Flux.never());
+    monitorPriceService = new MonitorPriceService(subscribeRealTimeQuotePort,
+        subscribeOrderBookPort, loadLatestQuotePort,
+        new QuoteLatencyRecorder(new SimpleMeterRegistry(), Set.of()), triggerDispatcher);
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    monitorPriceService.stopAllMonitoring();
+    triggerDispatcher.destroy();
+  }
+
+  @DisplayName("마지막 시세가 이미 목표 가격을 지났으면 등록 즉시 달성 처리한다.")
+  @Test
+  void achievesImmediatelyWithLatestQuote() {
+    //given
+    AtomicInteger callbackCount = new AtomicInteger();
+    when(loadLatestQuotePort.findLatestQuote(STOCK_CODE))
+        .thenReturn(Optional.of(quote(75_500, System.currentTimeMillis())));
+
+    //when
+    PriceCondition condition = monitorPriceService.registerPriceCondition(
+        condition(75_000L, callbackCount::incrementAndGet));
+
+    //then
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> callbackCount.get() == 1);
+    assertThat(monitorPriceService.getCondition(condition.getId())).isEmpty();
+    assertThat(monitorPriceService.getMonitoringStocks()).doesNotContain(STOCK_CODE);
+  }
+
+  @DisplayName("오래된 마지막 시세나 목표에 못 미친 시세로는 달성 처리하지 않는다.")
+  @Test
+  void ignoresStaleOrUnreachedLatestQuote() {
+    //given
+    AtomicInteger callbackCount = new AtomicInteger();
+    long yesterday = System.currentTimeMillis() - Duration.ofDays(1).toMillis();
+    when(loadLatestQuotePort.findLatestQuote(STOCK_CODE))
+        .thenReturn(Optional.of(quote(75_500, yesterday)))
+        .thenReturn(Optional.of(quote(74_900, System.currentTimeMillis())));
+
+    //when
+    PriceCondition stale = monitorPriceService.registerPriceCondition(
+        condition(75_000L, callbackCount::incrementAndGet));
+    PriceCondition unreached = monitorPriceService.registerPriceCondition(
+        condition(75_000L, callbackCount::incrementAndGet));
+
+    //then
+    assertThat(monitorPriceService.getCondition(stale.getId())).isPresent();
+    assertThat(monitorPriceService.getCondition(unreached.getId())).isPresent();
+    assertThat(callbackCount).hasValue(0);
+  }
+
+  @DisplayName("최우선 매도호가 기준 조건은 호가잔량 갱신으로 달성 처리하고 체결가 기준 조건은 그대로 둔다.")
+  @Test
+  void achievesBestAskConditionFromOrderBook() {
+    //given
+    AtomicInteger callbackCount = new AtomicInteger();
+    long[] askPrices = {74_900L, 75_000L, 75_100L, 0, 0, 0, 0, 0, 0, 0};
+    long[] bidPrices = {74_800L, 74_700L, 74_600L, 0, 0, 0, 0, 0, 0, 0};
+    OrderBook orderBook = OrderBook.builder()
+        .item(STOCK_CODE)
+        .askPrices(askPrices)
+        .askQuantities(new long[10])
+        .bidPrices(bidPrices)
+        .bidQuantities(new long[10])
+        .build();
+    when(subscribeOrderBookPort.subscribeOrderBook(List.of(STOCK_CODE)))
+        .thenReturn(Flux.just(orderBook).concatWith(Flux.never()));
+    PriceCondition lastPrice = monitorPriceService.registerPriceCondition(
+        new PriceCondition(UUID.randomUUID(), STOCK_CODE, 74_950L, TouchDirection.FROM_ABOVE,
+            callbackCount::incrementAndGet, "체결가 하향 돌파"));
+
+    //when
+    PriceCondition bestAsk = monitorPriceService.registerPriceCondition(
+        new PriceCondition(UUID.randomUUID(), STOCK_CODE, 74_950L, TouchDirection.FROM_ABOVE,
+            PriceBasis.BEST_ASK, callbackCount::incrementAndGet, "매도호가 하향 돌파"));
+
+    //then
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> callbackCount.get() == 1);
+    assertThat(monitorPriceService.getCondition(bestAsk.getId())).isEmpty();
+    assertThat(monitorPriceService.getCondition(lastPrice.getId())).isPresent();
+  }
+
+  @DisplayName("콜백 실행 요청이 거부되면 달성된 조건을 버리지 않고 다시 확인 대상으로 되돌린다.")
+  @Test
+  void restoresConditionWhenCallbackIsRejected() throws InterruptedException {
+    //given
+    TriggerDispatcher stoppedDispatcher = new TriggerDispatcher(new SimpleMeterRegistry(), 1, 1,
+        TriggerDispatcher.RejectionPolicy.DROP, 0);
+    stoppedDispatcher.destroy();
+    MonitorPriceService service = new MonitorPriceService(subscribeRealTimeQuotePort,
+        subscribeOrderBookPort, loadLatestQuotePort,
+        new QuoteLatencyRecorder(new SimpleMeterRegistry(), Set.of()), stoppedDispatcher);
+    AtomicInteger callbackCount = new AtomicInteger();
+    when(loadLatestQuotePort.findLatestQuote(STOCK_CODE))
+        .thenReturn(Optional.of(quote(75_500, System.currentTimeMillis())));
+
+    //when
+    PriceCondition condition = service.registerPriceCondition(
+        condition(75_000L, callbackCount::incrementAndGet));
+
+    //then
+    assertThat(callbackCount).hasValue(0);
+    assertThat(service.getCondition(condition.getId())).isPresent();
+    assertThat(service.getConditions(STOCK_CODE)).containsExactly(condition);
+    assertThat(service.getMonitoringStocks()).contains(STOCK_CODE);
+    service.stopAllMonitoring();
+  }
+
+  @DisplayName("한 틱의 조건 확인에서 오류가 나도 공유 시세 구독은 유지되고 다음 틱으로 달성 처리한다.")
+  @Test
+  void keepsMonitoringAfterTickFailure() {
+    //given
+    AtomicInteger callbackCount = new AtomicInteger();
+    RealTimeQuote broken = RealTimeQuote.builder().currentPrice(75_500L).build();
+    when(quoteStream.quotes()).thenReturn(
+        Flux.just(broken, quote(75_500, System.currentTimeMillis())).concatWith(Flux.never()));
+
+    //when
+    PriceCondition condition = monitorPriceService.registerPriceCondition(
+        condition(75_000L, callbackCount::incrementAndGet));
+
+    //then
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> callbackCount.get() == 1);
+    assertThat(monitorPriceService.getCondition(condition.getId())).isEmpty();
+  }
+
+  @DisplayName("공유 시세 스트림이 오류로 끝나면 새 스트림을 열어 모니터링 중인 종목을 다시 구독한다.")
+  @Test
+  void reopensQuoteStreamAfterTermination() {
+    //given
+    AtomicInteger callbackCount = new AtomicInteger();
+    RealTimeQuoteStream reopenedStream = mock(RealTimeQuoteStream.class);
+    when(subscribeRealTimeQuotePort.openQuoteStream(QuoteDeliveryMode.CONFLATED))
+        .thenReturn(quoteStream, reopenedStream);
+    when(quoteStream.quotes()).thenReturn(Flux.error(new IllegalStateException("연결 종료")));
+    when(reopenedStream.quotes()).thenReturn(Flux.<RealTimeQuote>never()
+        .startWith(Mono.delay(Duration.ofMillis(100))
+            .map(ignored -> quote(75_500, System.currentTimeMillis()))));
+
+    //when
+    PriceCondition condition = monitorPriceService.registerPriceCondition(
+        condition(75_000L, callbackCount::incrementAndGet));
+
+    //then
+    Awaitility.await().atMost(Duration.ofSeconds(5)).until(() -> callbackCount.get() == 1);
+    verify(reopenedStream).addStocks(List.of(STOCK_CODE));
+    assertThat(monitorPriceService.getCondition(condition.getId())).isEmpty();
+  }
+
+  private static PriceCondition condition(long targetPrice, Runnable callback) {
+    return new PriceCondition(UUID.randomUUID(), STOCK_CODE, targetPrice,
+        TouchDirection.FROM_BELOW, callback, "목표가 돌파");
+  }
+
+  private static RealTimeQuote quote(long currentPrice, long tradeTimeEpochMillis) {
+    return RealTimeQuote.builder()
+        .item(STOCK_CODE)
+        .currentPrice(currentPrice)
+        .tradeTimeEpochMillis(tradeTimeEpochMillis)
+        .build();
+  }
+}
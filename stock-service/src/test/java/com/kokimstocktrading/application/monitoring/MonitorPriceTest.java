@@ -361,8 +361,7 @@ public class MonitorPriceTest {
     StepVerifier.create(quoteFlux.take(3).timeout(Duration.ofSeconds(10)))
         .assertNext(quote -> {
           assertThat(quote.item()).isEqualTo(stockCode);
-          assertThat(quote.name()).isEqualTo("삼성전자");
-          assertThat(quote.currentPrice()).isNotBlank();
+          assertThat(quote.currentPrice()).isPositive();
           System.out.println("수신된 시세: " + quote);
         })
         .assertNext(quote -> {
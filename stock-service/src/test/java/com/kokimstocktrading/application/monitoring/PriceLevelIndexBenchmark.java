@@ -0,0 +1,124 @@
+package com.kokimstocktrading.application.monitoring;
+
+import com.kokimstocktrading.domain.monitoring.PriceBasis;
+import com.kokimstocktrading.domain.monitoring.PriceCondition;
+import com.kokimstocktrading.domain.monitoring.TouchDirection;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 종목 하나의 틱 평가 비용 - 전체 조건 순회(기존) vs 목표가 정렬 인덱스
+ *
+ * <p>조건은 현재가 위아래로 절반씩 퍼져 있고 틱 가격은 그 사이에서만 움직이므로, 대부분의 틱에서 달성되는 조건은 없습니다.
+ * (실제 장중에도 달성된 조건은 바로 제거되므로 틱 대부분이 이 경우)</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceLevelIndexBenchmark {
+
+  private static final long MID_PRICE = 70_000L;
+  private static final int TICK_COUNT = 1024;
+
+  @Param({"10", "10000"})
+  private int conditionCount;
+
+  private List<PriceCondition> conditionList;
+  private PriceLevelIndex index;
+  private long[] tickPrices;
+  private RealTimeQuote[] tickQuotes;
+  private int tickIndex;
+  private PriceCondition replaced;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    conditionList = new ArrayList<>(conditionCount);
+    index = new PriceLevelIndex();
+    for (int i = 0; i < conditionCount; i++) {
+      boolean rising = i % 2 == 0;
+      long distance = 100L + i;
+      PriceCondition condition = new PriceCondition(UUID.randomUUID(), "005930",
+          rising ? MID_PRICE + distance : MID_PRICE - distance,
+          rising ? TouchDirection.FROM_BELOW : TouchDirection.FROM_ABOVE,
+          PriceBasis.LAST_PRICE, () -> {
+          }, null);
+      conditionList.add(condition);
+      index.add(condition);
+    }
+    replaced = conditionList.get(0);
+
+    tickPrices = new long[TICK_COUNT];
+    tickQuotes = new RealTimeQuote[TICK_COUNT];
+    for (int i = 0; i < TICK_COUNT; i++) {
+      tickPrices[i] = MID_PRICE - 50 + (i * 37L) % 100;
+      tickQuotes[i] = RealTimeQuote.builder().item("005930").currentPrice(tickPrices[i]).build();
+    }
+  }
+
+  @Benchmark
+  public int linearScan() {
+    long price = nextTickPrice();
+    int crossed = 0;
+    for (PriceCondition condition : conditionList) {
+      if (condition.isAchievedByQuote(price, price, 0L, 0L)) {
+        crossed++;
+      }
+    }
+    return crossed;
+  }
+
+  @Benchmark
+  public int priceLevelIndex() {
+    RealTimeQuote quote = tickQuotes[tickIndex];
+    long price = nextTickPrice();
+    List<PriceCondition> crossed = new ArrayList<>();
+    index.collectCrossed(quote, price, price, crossed);
+    return crossed.size();
+  }
+
+  /**
+   * 이평선/추세선 갱신처럼 목표가 하나를 바꾸는 비용 (삭제 + 추가)
+   */
+  @Benchmark
+  public boolean replaceTarget() {
+    index.remove(replaced);
+    replaced = new PriceCondition(UUID.randomUUID(), "005930",
+        replaced.getTargetPrice() + 1, replaced.getTouchDirection(), PriceBasis.LAST_PRICE,
+        () -> {
+        }, null);
+    return index.add(replaced);
+  }
+
+  private long nextTickPrice() {
+    long price = tickPrices[tickIndex];
+    tickIndex = (tickIndex + 1) & (TICK_COUNT - 1);
+    return price;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(PriceLevelIndexBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
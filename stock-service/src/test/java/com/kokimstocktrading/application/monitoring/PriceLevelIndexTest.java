@@ -0,0 +1,184 @@
+package com.kokimstocktrading.application.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression;
+import com.kokimstocktrading.domain.monitoring.PriceBasis;
+import com.kokimstocktrading.domain.monitoring.PriceCondition;
+import com.kokimstocktrading.domain.monitoring.TouchDirection;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceLevelIndexTest {
+
+  private final PriceLevelIndex index = new PriceLevelIndex();
+
+  @DisplayName("체결가 범위가 지나간 목표가의 조건만 수집한다.")
+  @Test
+  void collectsOnlyCrossedLevels() {
+    //given
+    index.add(condition(70_000L, TouchDirection.FROM_BELOW, PriceBasis.LAST_PRICE));
+    index.add(condition(70_500L, TouchDirection.FROM_BELOW, PriceBasis.LAST_PRICE));
+    index.add(condition(71_000L, TouchDirection.FROM_BELOW, PriceBasis.LAST_PRICE));
+    index.add(condition(69_000L, TouchDirection.FROM_ABOVE, PriceBasis.LAST_PRICE));
+    index.add(condition(69_500L, TouchDirection.FROM_ABOVE, PriceBasis.LAST_PRICE));
+    index.add(condition(68_000L, TouchDirection.FROM_ABOVE, PriceBasis.LAST_PRICE));
+    List<PriceCondition> crossed = new ArrayList<>();
+
+    //when
+    index.collectCrossed(quote(70_600L, 0L, 0L, 0, 0L), 69_400L, 70_600L, crossed);
+
+    //then
+    assertThat(crossed).extracting(PriceCondition::getTargetPrice)
+        .containsExactly(70_000L, 70_500L, 69_500L);
+  }
+
+  @DisplayName("최우선 호가 기준 조건은 호가로만 판단하고, 제거된 조건은 수집하지 않는다.")
+  @Test
+  void collectsBidAskConditionsByQuotedPrice() {
+    //given
+    PriceCondition bid = condition(70_000L, TouchDirection.FROM_BELOW, PriceBasis.BEST_BID);
+    PriceCondition ask = condition(70_200L, TouchDirection.FROM_ABOVE, PriceBasis.BEST_ASK);
+    PriceCondition removed = condition(69_000L, TouchDirection.FROM_BELOW, PriceBasis.BEST_BID);
+    index.add(bid);
+    index.add(ask);
+    index.add(removed);
+    index.remove(removed);
+    List<PriceCondition> byTrade = new ArrayList<>();
+    List<PriceCondition> byOrderBook = new ArrayList<>();
+
+    //when
+    index.collectCrossed(quote(70_500L, 69_900L, 70_300L, 0, 0L), 70_500L, 70_500L, byTrade);
+    index.collectCrossedByOrderBook(70_000L, 70_100L, byOrderBook);
+
+    //then
+    assertThat(byTrade).isEmpty();
+    assertThat(byOrderBook).containsExactly(bid, ask);
+    assertThat(index.size()).isEqualTo(2);
+    assertThat(index.usesOrderBook()).isTrue();
+  }
+
+  @DisplayName("복합 조건은 기준 가격을 지났을 때 조건식까지 만족해야 수집하고, 기준 가격이 없으면 매 체결마다 평가한다.")
+  @Test
+  void collectsCompositeConditionsOnlyWhenExpressionMatches() {
+    //given
+    PriceCondition anchored = PriceCondition.composite(UUID.randomUUID(), "005930",
+        ConditionExpression.and(ConditionExpression.priceAtLeast(70_000L),
+            ConditionExpression.volumeAtLeast(1_000_000L)), () -> {
+        }, null);
+    PriceCondition unanchored = PriceCondition.composite(UUID.randomUUID(), "005930",
+        ConditionExpression.or(ConditionExpression.changeRateAtLeast(300),
+            ConditionExpression.changeRateAtMost(-300)), () -> {
+        }, null);
+    index.add(anchored);
+    index.add(unanchored);
+    List<PriceCondition> lowVolume = new ArrayList<>();
+    List<PriceCondition> highVolume = new ArrayList<>();
+
+    //when
+    index.collectCrossed(quote(70_100L, 0L, 0L, 120, 500_000L), 70_100L, 70_100L, lowVolume);
+    index.collectCrossed(quote(70_100L, 0L, 0L, -350, 1_200_000L), 70_100L, 70_100L,
+        highVolume);
+
+    //then
+    assertThat(lowVolume).isEmpty();
+    assertThat(highVolume).containsExactly(anchored, unanchored);
+    assertThat(index.conditions()).containsExactly(anchored, unanchored);
+    assertThat(index.remove(unanchored)).isTrue();
+    assertThat(index.size()).isEqualTo(1);
+  }
+
+  @DisplayName("종가 기준 조건은 봉이 마감될 때 그 봉의 종가로만 평가하고, 장 마감 이후 체결은 일봉 종가에 넣지 않는다.")
+  @Test
+  void evaluatesBarCloseConditionsOnlyAtClose() {
+    //given
+    PriceCondition minuteClose = PriceCondition.onBarClose(UUID.randomUUID(), "005930", 70_000L,
+        TouchDirection.FROM_BELOW, CandleInterval.MINUTE, () -> {
+        }, null);
+    PriceCondition dayClose = PriceCondition.onBarClose(UUID.randomUUID(), "005930", 70_000L,
+        TouchDirection.FROM_BELOW, CandleInterval.DAY, () -> {
+        }, null);
+    index.add(minuteClose);
+    index.add(dayClose);
+    List<PriceCondition> intraBar = new ArrayList<>();
+    List<PriceCondition> nextMinute = new ArrayList<>();
+    List<PriceCondition> sessionClose = new ArrayList<>();
+
+    //when
+    // 09:00 분봉: 70,500 을 찍었지만 69,900 으로 마감
+    index.collectClosedBars(millis(9, 0, 10), 70_500L, intraBar);
+    index.collectClosedBars(millis(9, 0, 50), 69_900L, intraBar);
+    // 09:01 첫 체결로 09:00 분봉 마감 확인 (종가 69,900 - 미달성)
+    index.collectClosedBars(millis(9, 1, 5), 69_950L, nextMinute);
+    index.collectClosedBars(millis(15, 29, 59), 70_200L, nextMinute);
+    // 장 마감 이후 시간외 체결은 일봉 종가를 바꾸지 않음
+    index.collectElapsedBars(millis(15, 30, 1), sessionClose);
+    index.collectClosedBars(millis(16, 10, 0), 69_000L, sessionClose);
+    index.collectElapsedBars(millis(16, 11, 0), sessionClose);
+
+    //then
+    assertThat(intraBar).isEmpty();
+    assertThat(nextMinute).isEmpty();
+    assertThat(sessionClose).containsExactly(minuteClose, dayClose);
+    assertThat(index.conditions()).containsExactly(minuteClose, dayClose);
+    assertThat(index.hasBarCloseConditions()).isTrue();
+  }
+
+  @DisplayName("15:30:00 종가 단일가 체결은 일봉 종가에 들어가고, 마감 확인은 종가 체결을 기다렸다가 그 가격으로 평가한다.")
+  @Test
+  void includesClosingAuctionPrintInSessionBar() {
+    //given
+    PriceCondition dayClose = PriceCondition.onBarClose(UUID.randomUUID(), "005930", 70_000L,
+        TouchDirection.FROM_BELOW, CandleInterval.DAY, () -> {
+        }, null);
+    index.add(dayClose);
+    List<PriceCondition> beforeAuction = new ArrayList<>();
+    List<PriceCondition> auction = new ArrayList<>();
+    List<PriceCondition> afterGrace = new ArrayList<>();
+
+    //when
+    // 15:20 접속매매 마지막 체결 69,900 이후 단일가 매매
+    index.collectClosedBars(millis(15, 19, 58), 69_900L, beforeAuction);
+    // 15:30:01 마감 확인 - 종가 체결 전이므로 봉을 닫지 않음
+    index.collectElapsedBars(millis(15, 30, 1), beforeAuction);
+    // 15:30:00 으로 찍힌 종가 단일가 체결 70,100 으로 일봉 마감
+    index.collectClosedBars(millis(15, 30, 0), 70_100L, auction);
+    index.collectElapsedBars(millis(15, 31, 1), afterGrace);
+
+    //then
+    assertThat(beforeAuction).isEmpty();
+    assertThat(auction).containsExactly(dayClose);
+    assertThat(afterGrace).isEmpty();
+  }
+
+  private static long millis(int hour, int minute, int second) {
+    return LocalDateTime.of(2025, 3, 4, hour, minute, second).atZone(ZoneId.of("Asia/Seoul"))
+        .toInstant().toEpochMilli();
+  }
+
+  private static RealTimeQuote quote(long price, long bidPrice, long askPrice,
+      int changeRateBasisPoints, long accumulatedVolume) {
+    return RealTimeQuote.builder()
+        .item("005930")
+        .currentPrice(price)
+        .bidPrice(bidPrice)
+        .askPrice(askPrice)
+        .changeRateBasisPoints(changeRateBasisPoints)
+        .accumulatedVolume(accumulatedVolume)
+        .build();
+  }
+
+  private static PriceCondition condition(long targetPrice, TouchDirection direction,
+      PriceBasis priceBasis) {
+    return new PriceCondition(UUID.randomUUID(), "005930", targetPrice, direction, priceBasis,
+        () -> {
+        }, null);
+  }
+}
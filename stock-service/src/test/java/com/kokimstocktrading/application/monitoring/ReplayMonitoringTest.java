@@ -0,0 +1,288 @@
+package com.kokimstocktrading.application.monitoring;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.kokimstocktrading.adapter.out.external.candle.LiveStockCandleAdapter;
+import com.kokimstocktrading.adapter.out.external.candle.TossInvestChartClient;
+import com.kokimstocktrading.adapter.out.journal.JournaledTick;
+import com.kokimstocktrading.adapter.out.replay.ReplayRealTimeQuoteAdapter;
+import com.kokimstocktrading.adapter.out.replay.ReplayRealTimeQuoteAdapter.TickSource;
+import com.kokimstocktrading.adapter.out.replay.ReplayReport;
+import com.kokimstocktrading.adapter.out.replay.ReplaySpeed;
+import com.kokimstocktrading.adapter.out.replay.VirtualClock;
+import com.kokimstocktrading.application.monitoring.calculator.MovingAverageTouchPriceCalculator;
+import com.kokimstocktrading.application.monitoring.calculator.TrendLineTouchPriceCalculator;
+import com.kokimstocktrading.application.monitoring.dynamiccondition.DynamicConditionService;
+import com.kokimstocktrading.application.monitoring.dynamiccondition.MovingAverageDynamicCondition;
+import com.kokimstocktrading.application.monitoring.dynamiccondition.TrendLineDynamicCondition;
+import com.kokimstocktrading.application.monitoring.trigger.TriggerDispatcher;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder.Stage;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder.StageSummary;
+import com.kokimstocktrading.application.realtime.out.SubscribeOrderBookPort;
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.StockCandle;
+import com.kokimstocktrading.domain.market.TradingCalendar;
+import com.kokimstocktrading.domain.monitoring.ConditionStatus;
+import com.kokimstocktrading.domain.monitoring.MovingAverageCondition;
+import com.kokimstocktrading.domain.monitoring.PriceCondition;
+import com.kokimstocktrading.domain.monitoring.TouchDirection;
+import com.kokimstocktrading.domain.monitoring.TrendLineCondition;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import reactor.core.publisher.Mono;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+/**
+ * 기록된 하루치 체결을 리플레이하며 모니터링 서비스(가격/이평선/추세선 조건)를 그대로 실행하는 테스트
+ */
+@Slf4j
+@ExtendWith(MockitoExtension.class)
+class ReplayMonitoringTest {
+
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+  private static final LocalDate TRADING_DAY = LocalDate.of(2024, 6, 3);
+  private static final LocalTime MARKET_OPEN = LocalTime.of(9, 0);
+  private static final LocalTime MARKET_CLOSE = LocalTime.of(15, 30);
+  private static final long TICK_INTERVAL_MILLIS = 100;
+
+  private static final String RISING_STOCK = "005930";    // 70,000 -> 80,000
+  private static final String FALLING_STOCK = "000660";   // 60,000 -> 50,000
+  private static final String SIDEWAYS_STOCK = "035720";  // 40,000 -> 46,000
+  private static final List<LocalDate> HOLIDAYS_2024 = List.of(LocalDate.of(2024, 2, 9),
+      LocalDate.of(2024, 2, 12), LocalDate.of(2024, 3, 1), LocalDate.of(2024, 4, 10),
+      LocalDate.of(2024, 5, 1), LocalDate.of(2024, 5, 6), LocalDate.of(2024, 5, 15));
+
+  @Mock
+  private TossInvestChartClient tossInvestChartClient;
+
+  @Mock
+  private ApplicationEventPublisher eventPublisher;
+
+  @Mock
+  private SubscribeOrderBookPort subscribeOrderBookPort;
+
+  private VirtualClock clock;
+  private VirtualTimeScheduler virtualTimeScheduler;
+  private ReplayRealTimeQuoteAdapter replayAdapter;
+  private QuoteLatencyRecorder quoteLatencyRecorder;
+  private SimpleMeterRegistry candleMeterRegistry;
+  private LiveStockCandleAdapter liveStockCandleAdapter;
+  private final TriggerDispatcher triggerDispatcher = new TriggerDispatcher(
+      new SimpleMeterRegistry(), 4, 1024, TriggerDispatcher.RejectionPolicy.OVERFLOW, 1000);
+  private MonitorPriceService monitorPriceService;
+  private DynamicConditionService dynamicConditionService;
+
+  @BeforeEach
+  void setUp() {
+    ZonedDateTime open = ZonedDateTime.of(TRADING_DAY, MARKET_OPEN, KST);
+    clock = new VirtualClock(open.toInstant(), KST);
+
+    // 가상 시간 스케줄러를 장 시작 시각에 맞추고, 이후에는 리플레이 시계를 따라 이동
+    virtualTimeScheduler = VirtualTimeScheduler.create();
+    virtualTimeScheduler.advanceTimeTo(open.toInstant());
+    clock.onAdvance(virtualTimeScheduler::advanceTimeTo);
+
+    replayAdapter = new ReplayRealTimeQuoteAdapter(syntheticDay(), ReplaySpeed.MAX, clock,
+        new StockSymbolRegistry());
+    quoteLatencyRecorder = new QuoteLatencyRecorder(new SimpleMeterRegistry(), Set.of());
+    monitorPriceService = new MonitorPriceService(replayAdapter, subscribeOrderBookPort,
+        replayAdapter, quoteLatencyRecorder, triggerDispatcher);
+
+    // 이평선 종가 시계열은 리플레이 체결로 봉을 이어 붙이는 실제 캔들 어댑터에서 받음
+    candleMeterRegistry = new SimpleMeterRegistry();
+    liveStockCandleAdapter = new LiveStockCandleAdapter(tossInvestChartClient, replayAdapter,
+        candleMeterRegistry);
+    // 추세선 봉 개수는 2024년 KRX 휴장일 달력으로 리플레이 시각까지 계산
+    TrendLineTouchPriceCalculator trendLineTouchPriceCalculator = new TrendLineTouchPriceCalculator(
+        () -> new TradingCalendar(HOLIDAYS_2024, Map.of()));
+    trendLineTouchPriceCalculator.setClock(clock);
+    dynamicConditionService = new DynamicConditionService(
+        new MovingAverageDynamicCondition(
+            new MovingAverageTouchPriceCalculator(liveStockCandleAdapter), monitorPriceService,
+            eventPublisher),
+        new TrendLineDynamicCondition(
+            trendLineTouchPriceCalculator, monitorPriceService,
+            eventPublisher));
+    dynamicConditionService.setUpdateScheduler(virtualTimeScheduler);
+    // 정각 실행 지연도 벽시계 대신 리플레이 시계 기준
+    dynamicConditionService.setInitialDelayProvider(
+        interval -> interval.toMillis() - clock.millis() % interval.toMillis());
+  }
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    dynamicConditionService.removeAllConditions();
+    dynamicConditionService.destroy();
+    liveStockCandleAdapter.destroy();
+    replayAdapter.complete();
+    virtualTimeScheduler.dispose();
+    triggerDispatcher.destroy();
+  }
+
+  @DisplayName("하루치 체결을 최대 속도로 리플레이하면 가격/이평선/추세선 조건이 그대로 동작한다.")
+  @Test
+  void replayFullTradingDayThroughMonitoringServices() {
+    //given
+    AtomicBoolean priceTriggered = new AtomicBoolean(false);
+    AtomicReference<Instant> movingAverageTriggeredAt = new AtomicReference<>();
+    AtomicBoolean trendLineTriggered = new AtomicBoolean(false);
+
+    // 전일까지 1분봉 20개 = 75,000원 (이후 봉은 리플레이 체결로 마감될 때마다 이어 붙음)
+    when(tossInvestChartClient.loadCandles(eq(RISING_STOCK), eq(CandleInterval.MINUTE),
+        any(LocalDateTime.class), eq(300L)))
+        .thenReturn(Mono.just(createCandles(20, 75_000)));
+
+    // 추세선 = 44,800원 + 102봉(2024-01-02 ~ 06-03 거래일 103일) * 100원 = 55,000원
+    LocalDateTime baseDate = LocalDateTime.of(2024, 1, 2, 0, 0);
+
+    monitorPriceService.registerPriceCondition(new PriceCondition(UUID.randomUUID(),
+        SIDEWAYS_STOCK, 45_000L, TouchDirection.FROM_BELOW, () -> priceTriggered.set(true),
+        "45,000원 돌파"));
+    dynamicConditionService.registerMovingAverageCondition(new MovingAverageCondition(
+        UUID.randomUUID(), RISING_STOCK, 20, CandleInterval.MINUTE, TouchDirection.FROM_BELOW,
+        () -> movingAverageTriggeredAt.set(clock.instant()), "20분 이평선 돌파")).block();
+    dynamicConditionService.registerTrendLineCondition(new TrendLineCondition(
+        UUID.randomUUID(), FALLING_STOCK, baseDate, 44_800L, BigDecimal.valueOf(100),
+        CandleInterval.DAY, TouchDirection.FROM_ABOVE, () -> trendLineTriggered.set(true),
+        "추세선 지지", ConditionStatus.START)).block();
+
+    //when
+    ReplayReport report = replayAdapter.replay();
+    log.info("하루치 리플레이: {}", report);
+
+    //then
+    assertThat(report.ticks()).isEqualTo(3 * ticksPerSymbol());
+    assertThat(report.virtualSpan()).isGreaterThan(Duration.ofHours(6));
+    assertThat(report.elapsed()).isLessThan(Duration.ofSeconds(30));
+    assertThat(clock.instant())
+        .isAfter(ZonedDateTime.of(TRADING_DAY, LocalTime.of(15, 29), KST).toInstant());
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> {
+          assertThat(priceTriggered).isTrue();
+          assertThat(movingAverageTriggeredAt.get()).isNotNull();
+          assertThat(trendLineTriggered).isTrue();
+        });
+    // 이평선은 1분봉이 마감될 때마다 다시 계산되어, 고정 75,000원(약 12:15)보다 훨씬 이른
+    // 전일 봉이 빠지는 20분 안에 돌파되고, 원격 조회는 seed 한 번뿐
+    assertThat(movingAverageTriggeredAt.get())
+        .isBefore(ZonedDateTime.of(TRADING_DAY, LocalTime.of(9, 20), KST).toInstant());
+    assertThat(candleMeterRegistry.get("candle.remote.requests").counters())
+        .extracting(counter -> counter.getId().getTag("reason") + "=" + (long) counter.count())
+        .containsExactlyInAnyOrder("seed=1", "fallback=0");
+    // 리플레이 시세에는 수신 시각이 없으므로 평가/콜백 구간만 집계됨
+    assertThat(quoteLatencyRecorder.summary()).extracting(StageSummary::stage)
+        .contains(Stage.EVALUATION, Stage.EVALUATION_TO_CALLBACK)
+        .doesNotContain(Stage.RECEIVE_TO_DECODE, Stage.RECEIVE_TO_CALLBACK);
+  }
+
+  @DisplayName("같은 종목을 여러 번 모니터링 시작해도 시세 구독은 하나이고 틱마다 한 번만 평가한다.")
+  @Test
+  void evaluatesEachTickOnceWithSharedSubscription() {
+    //given
+    int ticksPerSymbol = 100;
+    ReplayRealTimeQuoteAdapter replayAdapter = new ReplayRealTimeQuoteAdapter(consumer -> {
+      for (int i = 0; i < ticksPerSymbol; i++) {
+        long receiveNanos = (1_700_000_000_000L + i) * 1_000_000L;
+        consumer.accept(new JournaledTick(0, RISING_STOCK, 70_000L + i, 10, 0, receiveNanos));
+        consumer.accept(new JournaledTick(1, FALLING_STOCK, 60_000L - i, 10, 0, receiveNanos));
+      }
+    }, ReplaySpeed.MAX, new VirtualClock(Instant.EPOCH, KST),
+        new StockSymbolRegistry());
+    QuoteLatencyRecorder recorder = new QuoteLatencyRecorder(new SimpleMeterRegistry(), Set.of());
+    MonitorPriceService service = new MonitorPriceService(replayAdapter, subscribeOrderBookPort,
+        replayAdapter, recorder, triggerDispatcher);
+    for (String stockCode : List.of(RISING_STOCK, FALLING_STOCK, RISING_STOCK)) {
+      service.registerPriceCondition(new PriceCondition(UUID.randomUUID(), stockCode, 999_000L,
+          TouchDirection.FROM_BELOW, () -> {
+          }, "도달하지 않는 목표가"));
+    }
+    service.startMonitoring();
+    service.startMonitoring(RISING_STOCK);
+
+    //when
+    replayAdapter.replay();
+
+    //then
+    assertThat(recorder.summary())
+        .filteredOn(summary -> summary.stage() == Stage.EVALUATION)
+        .extracting(StageSummary::count)
+        .containsExactly(2L * ticksPerSymbol);
+    service.stopAllMonitoring();
+    replayAdapter.complete();
+  }
+
+  private static long ticksPerSymbol() {
+    return Duration.between(MARKET_OPEN, MARKET_CLOSE).toMillis() / TICK_INTERVAL_MILLIS;
+  }
+
+  /**
+   * 세 종목이 100ms 마다 번갈아 체결되는 하루치 기록 (가격은 장중 선형 변화)
+   */
+  private static TickSource syntheticDay() {
+    long openNanos = TimeUnit.SECONDS.toNanos(
+        ZonedDateTime.of(TRADING_DAY, MARKET_OPEN, KST).toEpochSecond());
+    long ticks = ticksPerSymbol();
+
+    return consumer -> {
+      for (long i = 0; i < ticks; i++) {
+        long receiveNanos = openNanos + TimeUnit.MILLISECONDS.toNanos(i * TICK_INTERVAL_MILLIS);
+        emit(consumer, 0, RISING_STOCK, 70_000 + 10_000 * i / ticks, receiveNanos);
+        emit(consumer, 1, FALLING_STOCK, 60_000 - 10_000 * i / ticks, receiveNanos + 1_000);
+        emit(consumer, 2, SIDEWAYS_STOCK, 40_000 + 6_000 * i / ticks, receiveNanos + 2_000);
+      }
+    };
+  }
+
+  private static void emit(Consumer<JournaledTick> consumer, int symbolId, String stockCode,
+      long price, long receiveNanos) {
+    consumer.accept(new JournaledTick(symbolId, stockCode, price, 10,
+        TimeUnit.NANOSECONDS.toMillis(receiveNanos), receiveNanos));
+  }
+
+  private static List<StockCandle> createCandles(int count, long closePrice) {
+    return Stream.generate(() -> StockCandle.builder()
+            .openTime(LocalDateTime.of(TRADING_DAY, MARKET_OPEN))
+            .openPrice(closePrice)
+            .highPrice(closePrice + 100)
+            .lowPrice(closePrice - 100)
+            .closePrice(closePrice)
+            .volume(1000L)
+            .build())
+        .limit(count)
+        .collect(Collectors.toList());
+  }
+}
@@ -0,0 +1,87 @@
+package com.kokimstocktrading.application.monitoring.calculator;
+
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import com.kokimstocktrading.domain.candle.ClosePriceSeries;
+import com.kokimstocktrading.domain.candle.StockCandle;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 이평선 조건 하나의 갱신 비용 - 캔들 목록을 받아 BigDecimal 로 합산(기존) vs 공유 종가 시계열의 누적합(봉 마감 갱신)
+ *
+ * <p>기존 방식은 캔들 조회(원격 또는 메모리) 비용이 별도로 더해지고, 갱신 횟수도 벽시계 주기(분봉 하루 1440번,
+ * 일봉 하루 24번)였던 반면 봉 마감 갱신은 체결이 있는 봉 마감 수(분봉 최대 381번, 일봉 1번)만큼입니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MovingAverageRefreshBenchmark {
+
+  @Param({"20", "120"})
+  private int period;
+
+  private List<StockCandle> newestFirst;
+  private ClosePriceSeries series;
+  private long nextClose;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    LocalDateTime now = LocalDateTime.of(2025, 3, 4, 10, 0);
+    newestFirst = IntStream.range(0, period)
+        .mapToObj(i -> StockCandle.builder()
+            .closePrice(70_000L + (i * 37L) % 1_000)
+            .openTime(now.minusMinutes(i))
+            .build())
+        .toList();
+
+    series = new ClosePriceSeries("005930", CandleInterval.MINUTE);
+    series.reset(newestFirst.subList(1, period).reversed().stream()
+        .mapToLong(StockCandle::getClosePrice).toArray(), 70_000L, 300);
+    nextClose = 70_000L;
+  }
+
+  @Benchmark
+  public long bigDecimalSum() {
+    BigDecimal pastPriceSum = newestFirst.subList(1, period).stream()
+        .map(StockCandle::getClosePrice)
+        .map(BigDecimal::valueOf)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+    return pastPriceSum.divide(BigDecimal.valueOf(period - 1), 0, RoundingMode.HALF_UP)
+        .longValue();
+  }
+
+  @Benchmark
+  public long prefixSumOnBarClose() {
+    nextClose = nextClose == 71_000L ? 70_000L : nextClose + 1;
+    series.append(nextClose);
+    return series.touchPrice(period);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(MovingAverageRefreshBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}
@@ -0,0 +1,60 @@
+package com.kokimstocktrading.application.monitoring.dynamiccondition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RefreshTimerWheelTest {
+
+  private static final long TICK = 1000;
+  private static final long HOUR = Duration.ofHours(1).toMillis();
+  // 2024-06-03 09:00:00.300 KST
+  private static final long NOW = 1_717_372_800_300L;
+
+  @DisplayName("같은 정각에 예정된 갱신은 한 버킷으로, 예정 시각 순서대로 꺼낸다.")
+  @Test
+  void bucketsRefreshesDueAtTheSameAlignedTime() {
+    //given
+    RefreshTimerWheel<String> wheel = new RefreshTimerWheel<>(TICK, NOW);
+    long nextHour = NOW - NOW % HOUR + HOUR;
+    wheel.schedule("일봉-1", nextHour);
+    wheel.schedule("일봉-2", nextHour);
+    wheel.schedule("분봉", NOW + 59_700);
+    wheel.schedule("주봉", nextHour + 5 * HOUR);
+
+    //when & then
+    assertThat(wheel.advanceTo(NOW + 59_000)).isEmpty();
+    assertThat(wheel.advanceTo(NOW + 60_000)).containsExactly(List.of("분봉"));
+    assertThat(wheel.advanceTo(nextHour - 1)).isEmpty();
+    assertThat(wheel.advanceTo(nextHour)).containsExactly(List.of("일봉-1", "일봉-2"));
+    assertThat(wheel.advanceTo(nextHour + 6 * HOUR)).containsExactly(List.of("주봉"));
+    assertThat(wheel.size()).isZero();
+  }
+
+  @DisplayName("최대 배치 간격보다 먼 갱신도 예정 시각보다 일찍 꺼내지 않는다.")
+  @Test
+  void neverFiresBeforeDueTimeEvenBeyondWheelSpan() {
+    //given
+    RefreshTimerWheel<String> wheel = new RefreshTimerWheel<>(TICK, NOW);
+    long alignedNow = NOW - NOW % TICK;
+    long weekLater = alignedNow + Duration.ofDays(7).toMillis();
+    long farAway = alignedNow + Duration.ofDays(400).toMillis();
+    wheel.schedule("연봉", farAway);
+    wheel.schedule("월봉", weekLater);
+    wheel.schedule("지난 예정", NOW - HOUR);
+
+    //when & then
+    assertThat(wheel.advanceTo(NOW)).containsExactly(List.of("지난 예정"));
+    assertThat(wheel.advanceTo(weekLater - TICK)).isEmpty();
+    assertThat(wheel.advanceTo(weekLater)).containsExactly(List.of("월봉"));
+    assertThat(wheel.advanceTo(farAway - TICK)).isEmpty();
+    assertThat(wheel.advanceTo(farAway)).containsExactly(List.of("연봉"));
+    // 예정 시각은 tick 단위로 올림
+    wheel.schedule("올림", farAway + 1);
+    assertThat(wheel.advanceTo(farAway + TICK - 1)).isEmpty();
+    assertThat(wheel.advanceTo(farAway + TICK)).containsExactly(List.of("올림"));
+  }
+}
@@ -1,21 +1,27 @@
 package com.kokimstocktrading.application.monitoring.mock;
 
+import com.kokimstocktrading.application.realtime.out.RealTimeQuoteStream;
 import com.kokimstocktrading.application.realtime.out.SubscribeRealTimeQuotePort;
+import com.kokimstocktrading.domain.realtime.QuoteDeliveryMode;
 import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import com.kokimstocktrading.domain.realtime.StockSymbolRegistry;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Sinks;
 
@@ -25,6 +31,8 @@ public class MockRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort {
   private final Map<String, StockPriceInfo> stockPriceMap = new ConcurrentHashMap<>();
   private final Map<List<String>, Sinks.Many<RealTimeQuote>> subscriptionMap = new ConcurrentHashMap<>();
   private final Map<String, PriceScenario> priceScenarios = new ConcurrentHashMap<>();
+  private final List<MockQuoteStream> quoteStreams = new CopyOnWriteArrayList<>();
+  private final StockSymbolRegistry stockSymbolRegistry = new StockSymbolRegistry();
 
   // 주식 가격 정보를 관리하는 내부 클래스
   private static class StockPriceInfo {
@@ -154,6 +162,66 @@ public class MockRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort {
     return sink.asFlux();
   }
 
+  @Override
+  public RealTimeQuoteStream openQuoteStream(QuoteDeliveryMode deliveryMode) {
+    MockQuoteStream stream = new MockQuoteStream();
+    quoteStreams.add(stream);
+    return stream;
+  }
+
+  /**
+   * 종목을 늘리고 줄일 수 있는 Mock 시세 스트림 - 1초마다 현재 종목의 시나리오 시세 생성
+   */
+  private class MockQuoteStream implements RealTimeQuoteStream {
+
+    private final Set<String> stockCodes = ConcurrentHashMap.newKeySet();
+    private final Sinks.Many<RealTimeQuote> sink = Sinks.many().multicast().onBackpressureBuffer();
+    private final Disposable generation;
+
+    private MockQuoteStream() {
+      this.generation = Flux.interval(java.time.Duration.ofSeconds(1))
+          .doOnNext(tick -> stockCodes.forEach(this::emit))
+          .subscribe();
+    }
+
+    private void complete() {
+      generation.dispose();
+      sink.tryEmitComplete();
+    }
+
+    private void emit(String stockCode) {
+      RealTimeQuote quote = generateScenarioBasedQuote(stockCode);
+      if (quote != null) {
+        sink.tryEmitNext(quote);
+      }
+    }
+
+    @Override
+    public Flux<RealTimeQuote> quotes() {
+      return sink.asFlux();
+    }
+
+    @Override
+    public void addStocks(Collection<String> codes) {
+      for (String stockCode : codes) {
+        stockPriceMap.computeIfAbsent(stockCode, MockRealTimeQuoteAdapter.this::createRandomStockInfo);
+        stockCodes.add(stockCode);
+      }
+      log.info("Mock 시세 스트림 종목 추가: {}", codes);
+    }
+
+    @Override
+    public void removeStocks(Collection<String> codes) {
+      stockCodes.removeAll(codes);
+      log.info("Mock 시세 스트림 종목 제거: {}", codes);
+    }
+
+    @Override
+    public Set<String> stockCodes() {
+      return Set.copyOf(stockCodes);
+    }
+  }
+
   private StockPriceInfo createRandomStockInfo(String stockCode) {
     // 1,000원 ~ 100,000원 사이의 랜덤 기준가
     BigDecimal basePrice = BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(1000, 100000))
@@ -222,21 +290,20 @@ public class MockRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort {
     priceInfo.accumulatedAmount = priceInfo.accumulatedAmount.add(tradeAmount);
 
     return RealTimeQuote.builder()
-        .type("0B")
-        .name(getStockName(stockCode))
+        .symbolId(stockSymbolRegistry.idOf(stockCode))
         .item(stockCode)
-        .currentPrice(newPrice.toString())
-        .priceChange(priceChange.toString())
-        .changeRate(String.format("%.2f", changeRate))
-        .askPrice(askPrice.toString())
-        .bidPrice(bidPrice.toString())
-        .tradingVolume(String.valueOf(tradingVolume))
-        .accumulatedVolume(String.valueOf(priceInfo.accumulatedVolume))
-        .accumulatedAmount(priceInfo.accumulatedAmount.toString())
-        .openPrice(priceInfo.openPrice.toString())
-        .highPrice(priceInfo.highPrice.toString())
-        .lowPrice(priceInfo.lowPrice.toString())
-        .tradeTime(LocalDateTime.now())
+        .currentPrice(newPrice.longValue())
+        .priceChange(priceChange.longValue())
+        .changeRateBasisPoints((int) Math.round(changeRate * 100))
+        .askPrice(askPrice.longValue())
+        .bidPrice(bidPrice.longValue())
+        .tradingVolume(tradingVolume)
+        .accumulatedVolume(priceInfo.accumulatedVolume)
+        .accumulatedAmount(priceInfo.accumulatedAmount.longValue())
+        .openPrice(priceInfo.openPrice.longValue())
+        .highPrice(priceInfo.highPrice.longValue())
+        .lowPrice(priceInfo.lowPrice.longValue())
+        .tradeTimeEpochMillis(System.currentTimeMillis())
         .build();
   }
 
@@ -282,35 +349,23 @@ public class MockRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort {
     priceInfo.accumulatedAmount = priceInfo.accumulatedAmount.add(tradeAmount);
 
     return RealTimeQuote.builder()
-        .type("0B")
-        .name(getStockName(stockCode))
+        .symbolId(stockSymbolRegistry.idOf(stockCode))
         .item(stockCode)
-        .currentPrice(newPrice.toString())
-        .priceChange(priceChange.toString())
-        .changeRate(String.format("%.2f", changeRate))
-        .askPrice(askPrice.toString())
-        .bidPrice(bidPrice.toString())
-        .tradingVolume(String.valueOf(tradingVolume))
-        .accumulatedVolume(String.valueOf(priceInfo.accumulatedVolume))
-        .accumulatedAmount(priceInfo.accumulatedAmount.toString())
-        .openPrice(priceInfo.openPrice.toString())
-        .highPrice(priceInfo.highPrice.toString())
-        .lowPrice(priceInfo.lowPrice.toString())
-        .tradeTime(LocalDateTime.now())
+        .currentPrice(newPrice.longValue())
+        .priceChange(priceChange.longValue())
+        .changeRateBasisPoints((int) Math.round(changeRate * 100))
+        .askPrice(askPrice.longValue())
+        .bidPrice(bidPrice.longValue())
+        .tradingVolume(tradingVolume)
+        .accumulatedVolume(priceInfo.accumulatedVolume)
+        .accumulatedAmount(priceInfo.accumulatedAmount.longValue())
+        .openPrice(priceInfo.openPrice.longValue())
+        .highPrice(priceInfo.highPrice.longValue())
+        .lowPrice(priceInfo.lowPrice.longValue())
+        .tradeTimeEpochMillis(System.currentTimeMillis())
         .build();
   }
 
-  private String getStockName(String stockCode) {
-    Map<String, String> stockNames = Map.of(
-        "005930", "삼성전자",
-        "000660", "SK하이닉스",
-        "035420", "NAVER",
-        "051910", "LG화학",
-        "006400", "삼성SDI"
-    );
-    return stockNames.getOrDefault(stockCode, "테스트주식_" + stockCode);
-  }
-
   @Override
   public boolean unsubscribeStockQuote(List<String> stockCodes) {
     Sinks.Many<RealTimeQuote> sink = subscriptionMap.remove(stockCodes);
@@ -326,6 +381,8 @@ public class MockRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort {
   public boolean unsubscribeAllStockQuotes() {
     subscriptionMap.values().forEach(sink -> sink.tryEmitComplete());
     subscriptionMap.clear();
+    quoteStreams.forEach(MockQuoteStream::complete);
+    quoteStreams.clear();
     log.info("Mock 모든 실시간 시세 구독 해지");
     return true;
   }
@@ -352,6 +409,9 @@ public class MockRealTimeQuoteAdapter implements SubscribeRealTimeQuotePort {
               entry.getValue().tryEmitNext(quote);
             }
           });
+      quoteStreams.stream()
+          .filter(stream -> stream.stockCodes.contains(stockCode))
+          .forEach(stream -> stream.emit(stockCode));
     }
   }
 
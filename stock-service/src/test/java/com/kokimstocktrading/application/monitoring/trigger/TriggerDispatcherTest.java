@@ -0,0 +1,119 @@
+package com.kokimstocktrading.application.monitoring.trigger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.application.monitoring.trigger.TriggerDispatcher.RejectionPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TriggerDispatcherTest {
+
+  private static final String STOCK_CODE = "005930";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CountDownLatch release = new CountDownLatch(1);
+  private TriggerDispatcher dispatcher;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    release.countDown();
+    dispatcher.destroy();
+  }
+
+  @DisplayName("앞선 콜백이 막혀 있어도 요청은 바로 반환되고, 같은 종목 콜백은 요청 순서대로 실행된다.")
+  @Test
+  void keepsOrderPerSymbolWithoutBlockingCaller() {
+    //given
+    dispatcher = new TriggerDispatcher(meterRegistry, 1, 256, RejectionPolicy.OVERFLOW, 1000);
+    List<Integer> executed = new CopyOnWriteArrayList<>();
+    dispatcher.dispatch(STOCK_CODE, 0, () -> {
+      awaitRelease();
+      executed.add(0);
+    });
+
+    //when
+    IntStream.rangeClosed(1, 100).forEach(order ->
+        dispatcher.dispatch(STOCK_CODE, order, () -> executed.add(order)));
+    int inFlightWhileBlocked = dispatcher.inFlight();
+    release.countDown();
+
+    //then
+    assertThat(inFlightWhileBlocked).isEqualTo(101);
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> executed.size() == 101);
+    assertThat(executed).containsExactlyElementsOf(IntStream.rangeClosed(0, 100).boxed().toList());
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> dispatcher.inFlight() == 0);
+    assertThat(meterRegistry.get("monitoring.trigger.latency").tag("stage", "execution").timer()
+        .count()).isEqualTo(101);
+  }
+
+  @DisplayName("DROP 정책이면 큐가 가득 찼을 때 콜백을 버리고 거부 수를 기록한다.")
+  @Test
+  void dropsTriggerWhenQueueIsFull() {
+    //given
+    dispatcher = new TriggerDispatcher(meterRegistry, 1, 1, RejectionPolicy.DROP, 0);
+    dispatcher.dispatch(STOCK_CODE, "running", this::awaitRelease);
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() ->
+        meterRegistry.get("monitoring.trigger.latency").tag("stage", "queue").timer().count() == 1);
+    dispatcher.dispatch(STOCK_CODE, "queued", () -> {
+    });
+
+    //when
+    boolean accepted = dispatcher.dispatch(STOCK_CODE, "rejected", () -> {
+    });
+
+    //then
+    assertThat(accepted).isFalse();
+    assertThat(dispatcher.inFlight()).isEqualTo(2);
+    assertThat(meterRegistry.get("monitoring.trigger.rejected").counter().count()).isEqualTo(1);
+  }
+
+  @DisplayName("OVERFLOW 정책이면 큐가 가득 찼을 때 기다리지 않고 overflow 목록에 넣어 순서대로 실행하고, 목록도 가득 차면 버린다.")
+  @Test
+  void overflowsWithoutBlockingThenDropsWhenOverflowIsFull() {
+    //given
+    dispatcher = new TriggerDispatcher(meterRegistry, 1, 1, RejectionPolicy.OVERFLOW, 2);
+    List<String> executed = new CopyOnWriteArrayList<>();
+    dispatcher.dispatch(STOCK_CODE, "running", () -> {
+      awaitRelease();
+      executed.add("running");
+    });
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() ->
+        meterRegistry.get("monitoring.trigger.latency").tag("stage", "queue").timer().count() == 1);
+    dispatcher.dispatch(STOCK_CODE, "queued", () -> executed.add("queued"));
+
+    //when
+    long start = System.nanoTime();
+    boolean first = dispatcher.dispatch(STOCK_CODE, "overflow-1", () -> executed.add("overflow-1"));
+    boolean second = dispatcher.dispatch(STOCK_CODE, "overflow-2", () -> executed.add("overflow-2"));
+    boolean dropped = dispatcher.dispatch(STOCK_CODE, "dropped", () -> executed.add("dropped"));
+    long elapsedMillis = Duration.ofNanos(System.nanoTime() - start).toMillis();
+    release.countDown();
+
+    //then
+    assertThat(elapsedMillis).isLessThan(1_000);
+    assertThat(first).isTrue();
+    assertThat(second).isTrue();
+    assertThat(dropped).isFalse();
+    Awaitility.await().atMost(Duration.ofSeconds(2)).until(() -> executed.size() == 4);
+    assertThat(executed).containsExactly("running", "queued", "overflow-1", "overflow-2");
+    assertThat(meterRegistry.get("monitoring.trigger.overflowed").counter().count()).isEqualTo(2);
+    assertThat(meterRegistry.get("monitoring.trigger.rejected").counter().count()).isEqualTo(1);
+    assertThat(meterRegistry.get("monitoring.trigger.spilled").counter().count()).isZero();
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
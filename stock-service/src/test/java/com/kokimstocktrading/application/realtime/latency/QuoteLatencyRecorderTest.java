@@ -0,0 +1,90 @@
+package com.kokimstocktrading.application.realtime.latency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder.Stage;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder.StageSummary;
+import com.kokimstocktrading.application.realtime.latency.QuoteLatencyRecorder.Tier;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class QuoteLatencyRecorderTest {
+
+  @DisplayName("수신부터 콜백까지 구간별 지연을 종목 등급별로 집계한다.")
+  @Test
+  void recordsStagesPerTier() {
+    //given
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    QuoteLatencyRecorder recorder = new QuoteLatencyRecorder(meterRegistry, Set.of("005930"));
+    long receivedNanos = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(3);
+    RealTimeQuote priorityQuote = quote("005930", receivedNanos);
+    RealTimeQuote standardQuote = quote("035720", receivedNanos);
+
+    //when
+    for (RealTimeQuote quote : List.of(priorityQuote, standardQuote)) {
+      recorder.recordDecoded(quote);
+      long dispatchedNanos = recorder.recordDispatched(quote);
+      recorder.recordEvaluated(quote, dispatchedNanos);
+    }
+    recorder.recordCallbackStarted(priorityQuote, System.nanoTime());
+
+    //then
+    List<StageSummary> summary = recorder.summary();
+    assertThat(summary).filteredOn(stage -> stage.tier() == Tier.STANDARD)
+        .extracting(StageSummary::stage)
+        .containsExactly(Stage.EXCHANGE_TO_RECEIVE, Stage.RECEIVE_TO_DECODE,
+            Stage.DECODE_TO_DISPATCH, Stage.EVALUATION);
+    assertThat(summary).filteredOn(stage -> stage.tier() == Tier.PRIORITY)
+        .extracting(StageSummary::stage)
+        .containsExactly(Stage.values());
+
+    StageSummary receiveToDecode = summary.stream()
+        .filter(stage -> stage.stage() == Stage.RECEIVE_TO_DECODE && stage.tier() == Tier.PRIORITY)
+        .findFirst().orElseThrow();
+    assertThat(receiveToDecode.count()).isEqualTo(1);
+    assertThat(receiveToDecode.maxMicros()).isGreaterThanOrEqualTo(1_000);
+    assertThat(meterRegistry.find("realtime.quote.latency")
+        .tags("stage", "receive_to_callback", "tier", "priority").timer()).isNotNull();
+
+    // 거래소 -> 수신은 디코딩 시각이 아니라 수신 시각 기준 (체결 500ms 후, 디코딩 3ms 전 수신)
+    StageSummary exchangeToReceive = summary.stream()
+        .filter(stage -> stage.stage() == Stage.EXCHANGE_TO_RECEIVE && stage.tier() == Tier.PRIORITY)
+        .findFirst().orElseThrow();
+    assertThat(exchangeToReceive.coarse()).isTrue();
+    assertThat(exchangeToReceive.maxMicros()).isBetween(400_000.0, 499_000.0);
+    assertThat(exchangeToReceive.p99Micros()).isZero();
+    assertThat(meterRegistry.find("realtime.quote.latency")
+        .tags("stage", "exchange_to_receive", "precision", "coarse").timer()).isNotNull();
+  }
+
+  @DisplayName("수신 시각이 없는 시세는 평가 구간만 기록한다.")
+  @Test
+  void quoteWithoutReceiveTimestampsRecordsEvaluationOnly() {
+    //given
+    QuoteLatencyRecorder recorder = new QuoteLatencyRecorder(new SimpleMeterRegistry(), Set.of());
+    RealTimeQuote replayed = quote("005930", 0);
+
+    //when
+    recorder.recordDecoded(replayed);
+    recorder.recordEvaluated(replayed, recorder.recordDispatched(replayed));
+
+    //then
+    assertThat(recorder.summary()).extracting(StageSummary::stage)
+        .containsExactly(Stage.EVALUATION);
+  }
+
+  private static RealTimeQuote quote(String stockCode, long receivedNanos) {
+    return RealTimeQuote.builder()
+        .item(stockCode)
+        .currentPrice(70_000)
+        .tradeTimeEpochMillis(System.currentTimeMillis() - 500)
+        .receivedNanos(receivedNanos)
+        .decodedNanos(receivedNanos == 0 ? 0 : System.nanoTime())
+        .build();
+  }
+}
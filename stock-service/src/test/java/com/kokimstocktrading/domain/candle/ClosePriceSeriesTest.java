@@ -0,0 +1,51 @@
+package com.kokimstocktrading.domain.candle;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClosePriceSeriesTest {
+
+  @DisplayName("보관 개수를 넘겨 봉이 마감되어도 최근 봉 구간 합과 이평선 터치 가격을 누적합으로 구한다.")
+  @Test
+  void keepsPrefixSumsOverRollingWindow() {
+    //given
+    ClosePriceSeries series = new ClosePriceSeries("005930", CandleInterval.DAY);
+    series.reset(new long[]{73_000L, 77_000L, 83_000L}, 87_000L, 4);
+
+    //when
+    series.append(87_000L);
+    series.append(90_000L);
+    series.updateForming(91_000L);
+
+    //then
+    assertThat(series.closedCount()).isEqualTo(4);
+    assertThat(series.sumOfLastClosed(4)).isEqualTo(77_000L + 83_000L + 87_000L + 90_000L);
+    assertThat(series.touchPrice(4)).isEqualTo(86_667L);
+    assertThat(series.movingAverage(3)).isEqualTo(89_333L);
+    assertThatThrownBy(() -> series.touchPrice(6)).isInstanceOf(IllegalStateException.class);
+  }
+
+  @DisplayName("임의 기간의 합이 직접 더한 값과 같다.")
+  @Test
+  void sumMatchesDirectSummation() {
+    //given
+    long[] closes = LongStream.rangeClosed(1, 500).map(i -> 50_000L + (i * 37) % 1_000).toArray();
+    ClosePriceSeries series = new ClosePriceSeries("005930", CandleInterval.MINUTE);
+    series.reset(new long[0], 0L, 300);
+
+    //when
+    for (long close : closes) {
+      series.append(close);
+    }
+
+    //then
+    for (int count = 0; count <= 300; count += 7) {
+      long expected = LongStream.of(closes).skip(closes.length - count).sum();
+      assertThat(series.sumOfLastClosed(count)).isEqualTo(expected);
+    }
+  }
+}
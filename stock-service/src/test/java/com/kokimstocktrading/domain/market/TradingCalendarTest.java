@@ -0,0 +1,93 @@
+package com.kokimstocktrading.domain.market;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.kokimstocktrading.domain.candle.CandleInterval;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TradingCalendarTest {
+
+  // 2025 설 연휴(1/27 ~ 1/30) 와 수능일(11/13 10:00 ~ 16:30)
+  private final TradingCalendar calendar = new TradingCalendar(
+      List.of(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 27), LocalDate.of(2025, 1, 28),
+          LocalDate.of(2025, 1, 29), LocalDate.of(2025, 1, 30), LocalDate.of(2025, 1, 25)),
+      Map.of(LocalDate.of(2025, 11, 13),
+          new TradingSession(LocalTime.of(10, 0), LocalTime.of(16, 30))));
+
+  @DisplayName("일/주/월봉 개수를 휴장일을 빼고 계산한다.")
+  @Test
+  void countsDailyAndPeriodBarsSkippingHolidays() {
+    //given
+    LocalDateTime base = LocalDateTime.of(2025, 1, 20, 0, 0);
+    LocalDateTime now = LocalDateTime.of(2025, 2, 4, 11, 0);
+
+    //when & then
+    // 1/20 ~ 1/24 (5일) + 1/31 + 2/3 ~ 2/4 = 8일
+    assertThat(calendar.countBars(CandleInterval.DAY, base, now)).isEqualTo(8);
+    assertThat(calendar.barIndex(CandleInterval.DAY, base, now)).isEqualTo(7);
+    // 시작 시각이 봉 중간이면 그 봉은 세지 않음
+    assertThat(calendar.countBars(CandleInterval.DAY, base.plusHours(9), now)).isEqualTo(7);
+    // 1/20 주, 1/27 주(1/31 거래), 2/3 주
+    assertThat(calendar.countBars(CandleInterval.WEEK, base, now)).isEqualTo(3);
+    assertThat(calendar.countBars(CandleInterval.MONTH, LocalDateTime.of(2024, 11, 1, 0, 0),
+        now)).isEqualTo(4);
+    assertThat(calendar.countBars(CandleInterval.DAY, now, base)).isZero();
+  }
+
+  @DisplayName("1분봉 개수를 접속 매매 분과 종가 체결 봉으로 계산하고, 새해 첫 거래일과 특별 정규장을 반영한다.")
+  @Test
+  void countsMinuteBarsWithinSessions() {
+    //given
+    LocalDateTime base = LocalDateTime.of(2024, 12, 31, 15, 0);
+    LocalDateTime now = LocalDateTime.of(2025, 1, 3, 9, 10, 30);
+
+    //when & then
+    // 12/31 15:00 ~ 15:19 (20) + 15:30 (1) + 1/2 10:00 ~ 15:19 (320) + 15:30 (1)
+    // + 1/3 09:00 ~ 09:10 (11)
+    assertThat(calendar.countBars(CandleInterval.MINUTE, base, now)).isEqualTo(353);
+    assertThat(calendar.sessionOf(LocalDate.of(2025, 1, 2)))
+        .isEqualTo(TradingSession.NEW_YEAR_OPENING);
+    assertThat(calendar.countBars(CandleInterval.MINUTE,
+        LocalDateTime.of(2025, 11, 12, 0, 0), LocalDateTime.of(2025, 11, 14, 23, 0)))
+        .isEqualTo(381 + 381 + 381);
+    // 종가 단일가 시간(15:20 ~ 15:29)에는 1분봉이 없음
+    assertThat(calendar.countBars(CandleInterval.MINUTE,
+        LocalDateTime.of(2025, 11, 12, 15, 20), LocalDateTime.of(2025, 11, 12, 15, 29, 59)))
+        .isZero();
+    assertThat(calendar.countBars(CandleInterval.MINUTE,
+        LocalDateTime.of(2025, 11, 12, 15, 20), LocalDateTime.of(2025, 11, 12, 15, 30)))
+        .isEqualTo(1);
+    assertThat(calendar.isWithinSession(LocalDateTime.of(2025, 11, 13, 16, 0))).isTrue();
+  }
+
+  @DisplayName("긴 구간의 봉 개수가 하루씩 센 값과 같다.")
+  @Test
+  void matchesDayByDayCount() {
+    //given
+    LocalDateTime base = LocalDateTime.of(2024, 12, 2, 13, 17, 20);
+    LocalDateTime now = LocalDateTime.of(2025, 12, 1, 10, 5);
+
+    //when
+    long minutes = calendar.countBars(CandleInterval.MINUTE, base, now);
+    long days = calendar.countBars(CandleInterval.DAY, base, now);
+
+    //then
+    long expectedMinutes = Stream.iterate(base.withSecond(0).plusMinutes(1),
+            time -> !time.isAfter(now), time -> time.plusMinutes(1))
+        .filter(calendar::opensMinuteBar)
+        .count();
+    long expectedDays = Stream.iterate(base.toLocalDate().plusDays(1),
+            date -> !date.isAfter(now.toLocalDate()), date -> date.plusDays(1))
+        .filter(calendar::isTradingDay)
+        .count();
+    assertThat(minutes).isEqualTo(expectedMinutes);
+    assertThat(days).isEqualTo(expectedDays);
+  }
+}
@@ -0,0 +1,74 @@
+package com.kokimstocktrading.domain.monitoring;
+
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.and;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.between;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.changeRateAtLeast;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.not;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.or;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.priceAtLeast;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.volumeAtLeast;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class CompiledConditionTest {
+
+  @DisplayName("AND/OR/NOT 조합을 시세 필드로 평가하고, 최상위 AND 의 가격 조건을 기준 가격으로 삼는다.")
+  @Test
+  void evaluatesCompositeExpression() {
+    //given
+    CompiledCondition condition = and(
+        priceAtLeast(70_000L),
+        or(changeRateAtLeast(200), volumeAtLeast(1_000_000L)),
+        not(between(LocalTime.of(15, 20), LocalTime.of(15, 30)))).compile();
+
+    //when & then
+    assertThat(condition.size()).isEqualTo(7);
+    assertThat(condition.anchor()).isEqualTo(
+        new ConditionExpression.PriceLevel(TouchDirection.FROM_BELOW, 70_000L));
+    assertThat(condition.matches(69_900L, 70_100L, quote(250, 10L, LocalTime.of(10, 0))))
+        .isTrue();
+    assertThat(condition.matches(69_500L, 69_900L, quote(250, 10L, LocalTime.of(10, 0))))
+        .isFalse();
+    assertThat(condition.matches(70_100L, 70_100L, quote(100, 10L, LocalTime.of(10, 0))))
+        .isFalse();
+    assertThat(condition.matches(70_100L, 70_100L, quote(100, 2_000_000L, LocalTime.of(10, 0))))
+        .isTrue();
+    assertThat(condition.matches(70_100L, 70_100L, quote(250, 10L, LocalTime.of(15, 25))))
+        .isFalse();
+  }
+
+  @DisplayName("빈 조합, 잘못된 시간 구간, 평가 스택을 넘는 조건식은 거부한다.")
+  @Test
+  void rejectsInvalidExpressions() {
+    //given
+    ConditionExpression[] wide = new ConditionExpression[CompiledCondition.MAX_STACK_DEPTH + 1];
+    for (int i = 0; i < wide.length; i++) {
+      wide[i] = priceAtLeast(1_000L + i);
+    }
+
+    //when & then
+    assertThatThrownBy(() -> and()).isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> between(LocalTime.of(15, 0), LocalTime.of(9, 0)))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThatThrownBy(() -> or(wide).compile()).isInstanceOf(IllegalArgumentException.class);
+    assertThat(or(and(wide[0], wide[1]), not(wide[2])).compile().anchor()).isNull();
+  }
+
+  private static RealTimeQuote quote(int changeRateBasisPoints, long accumulatedVolume,
+      LocalTime tradeTime) {
+    return RealTimeQuote.builder()
+        .item("005930")
+        .changeRateBasisPoints(changeRateBasisPoints)
+        .accumulatedVolume(accumulatedVolume)
+        .tradeTimeEpochMillis(LocalDateTime.of(2025, 3, 4, tradeTime.getHour(),
+            tradeTime.getMinute()).atZone(ZoneId.of("Asia/Seoul")).toInstant().toEpochMilli())
+        .build();
+  }
+}
@@ -0,0 +1,134 @@
+package com.kokimstocktrading.domain.monitoring;
+
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.and;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.between;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.changeRateAtLeast;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.changeRateAtMost;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.not;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.or;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.priceAtLeast;
+import static com.kokimstocktrading.domain.monitoring.ConditionExpression.volumeAtLeast;
+
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.AccumulatedVolume;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.And;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.ChangeRate;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.Comparison;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.Not;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.Or;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.PriceLevel;
+import com.kokimstocktrading.domain.monitoring.ConditionExpression.TimeOfDay;
+import com.kokimstocktrading.domain.realtime.RealTimeQuote;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 복합 조건 하나의 틱당 평가 비용 - 조건식 트리 순회(레코드 패턴 매칭) vs 컴파일된 명령 배열
+ *
+ * <p>-prof gc 로 실행하면 컴파일된 평가의 할당량(0 B/op)도 확인할 수 있습니다.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CompositeConditionBenchmark {
+
+  private static final int TICK_COUNT = 1024;
+  private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+  private ConditionExpression expression;
+  private CompiledCondition compiled;
+  private RealTimeQuote[] ticks;
+  private int tickIndex;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    expression = and(
+        priceAtLeast(70_000L),
+        or(changeRateAtLeast(200), changeRateAtMost(-200), volumeAtLeast(5_000_000L)),
+        between(LocalTime.of(9, 0), LocalTime.of(15, 20)),
+        not(volumeAtLeast(50_000_000L)));
+    compiled = expression.compile();
+
+    long open = LocalTime.of(9, 0).atDate(LocalDate.of(2025, 3, 4)).atZone(KST)
+        .toInstant().toEpochMilli();
+    ticks = new RealTimeQuote[TICK_COUNT];
+    for (int i = 0; i < TICK_COUNT; i++) {
+      ticks[i] = RealTimeQuote.builder()
+          .item("005930")
+          .currentPrice(69_950L + (i * 37L) % 100)
+          .changeRateBasisPoints((i * 13) % 500 - 250)
+          .accumulatedVolume(1_000_000L + i * 10_000L)
+          .tradeTimeEpochMillis(open + i * 20_000L)
+          .build();
+    }
+  }
+
+  @Benchmark
+  public boolean treeWalk() {
+    RealTimeQuote quote = nextTick();
+    return evaluate(expression, quote.currentPrice(), quote.currentPrice(), quote);
+  }
+
+  @Benchmark
+  public boolean compiled() {
+    RealTimeQuote quote = nextTick();
+    return compiled.matches(quote.currentPrice(), quote.currentPrice(), quote);
+  }
+
+  private RealTimeQuote nextTick() {
+    RealTimeQuote quote = ticks[tickIndex];
+    tickIndex = (tickIndex + 1) & (TICK_COUNT - 1);
+    return quote;
+  }
+
+  /**
+   * 비교 기준 - 조건식 트리를 재귀로 따라가며 평가
+   */
+  private static boolean evaluate(ConditionExpression expression, long lowestPrice,
+      long highestPrice, RealTimeQuote quote) {
+    return switch (expression) {
+      case PriceLevel(var direction, var price) -> direction == TouchDirection.FROM_BELOW
+          ? highestPrice >= price : lowestPrice <= price;
+      case ChangeRate(var comparison, var basisPoints) -> comparison == Comparison.AT_LEAST
+          ? quote.changeRateBasisPoints() >= basisPoints
+          : quote.changeRateBasisPoints() <= basisPoints;
+      case AccumulatedVolume(var comparison, var volume) -> comparison == Comparison.AT_LEAST
+          ? quote.accumulatedVolume() >= volume : quote.accumulatedVolume() <= volume;
+      case TimeOfDay(var from, var to) -> {
+        LocalTime time = Instant.ofEpochMilli(quote.tradeTimeEpochMillis()).atZone(KST)
+            .toLocalTime();
+        yield !time.isBefore(from) && time.isBefore(to);
+      }
+      case And(var operands) -> operands.stream()
+          .allMatch(operand -> evaluate(operand, lowestPrice, highestPrice, quote));
+      case Or(var operands) -> operands.stream()
+          .anyMatch(operand -> evaluate(operand, lowestPrice, highestPrice, quote));
+      case Not(var operand) -> !evaluate(operand, lowestPrice, highestPrice, quote);
+    };
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder()
+        .include(CompositeConditionBenchmark.class.getSimpleName())
+        .build()).run();
+  }
+}